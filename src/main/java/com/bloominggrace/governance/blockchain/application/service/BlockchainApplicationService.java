@@ -1,5 +1,6 @@
 package com.bloominggrace.governance.blockchain.application.service;
 
+import com.bloominggrace.governance.blockchain.domain.service.AsyncBlockchainClient;
 import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
 import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
 import com.bloominggrace.governance.wallet.application.service.WalletServiceFactory;
@@ -9,7 +10,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.math.BigInteger;
 
 @Service
@@ -33,6 +39,17 @@ public class BlockchainApplicationService {
         return new BigDecimal(blockchainClient.getTokenBalance(tokenAddress, walletAddress));
     }
 
+    /**
+     * 여러 지갑의 토큰 잔액을 한 번에 조회합니다. 조회에 실패한 지갑의 잔액은 null입니다.
+     */
+    public Map<String, BigDecimal> getTokenBalances(List<String> walletAddresses, String tokenAddress, NetworkType networkType) {
+        BlockchainClient blockchainClient = blockchainClientFactory.getClient(networkType);
+        Map<String, BigDecimal> balances = new LinkedHashMap<>();
+        blockchainClient.getTokenBalances(tokenAddress, walletAddresses)
+            .forEach((walletAddress, balance) -> balances.put(walletAddress, balance == null ? null : new BigDecimal(balance)));
+        return balances;
+    }
+
     /**
      * 트랜잭션을 조회합니다.
      */
@@ -46,7 +63,15 @@ public class BlockchainApplicationService {
      */
     public Optional<String> getTransactionReceipt(String txHash, NetworkType networkType) {
         BlockchainClient blockchainClient = blockchainClientFactory.getClient(networkType);
-        return Optional.of(blockchainClient.getTransactionReceipt(txHash));
+        return Optional.ofNullable(blockchainClient.getTransactionReceipt(txHash));
+    }
+
+    /**
+     * 여러 트랜잭션의 영수증을 한 번에 조회합니다.
+     */
+    public Map<String, String> getTransactionReceipts(List<String> txHashes, NetworkType networkType) {
+        BlockchainClient blockchainClient = blockchainClientFactory.getClient(networkType);
+        return blockchainClient.getTransactionReceipts(txHashes);
     }
 
     /**
@@ -73,6 +98,14 @@ public class BlockchainApplicationService {
         return blockchainClient.getNonce(address);
     }
 
+    /**
+     * 여러 계정의 nonce를 한 번에 조회합니다. 조회에 실패한 계정의 nonce는 null입니다.
+     */
+    public Map<String, String> getNonces(List<String> addresses, NetworkType networkType) {
+        BlockchainClient blockchainClient = blockchainClientFactory.getClient(networkType);
+        return blockchainClient.getNonces(addresses);
+    }
+
     /**
      * 최신 블록 번호를 조회합니다.
      */
@@ -104,4 +137,86 @@ public class BlockchainApplicationService {
         BlockchainClient blockchainClient = blockchainClientFactory.getClient(networkType);
         return blockchainClient.getBlockByNumber(blockNumber);
     }
+
+    // ===== 비동기 조회 =====
+
+    /**
+     * 잔액을 비동기로 조회합니다.
+     */
+    public CompletableFuture<BigDecimal> getBalanceAsync(String address, NetworkType networkType) {
+        return withAsyncClient(networkType,
+            client -> client.getBalance(address),
+            client -> client.getBalance(address))
+            .thenApply(BigDecimal::new);
+    }
+
+    /**
+     * 토큰 잔액을 비동기로 조회합니다.
+     */
+    public CompletableFuture<BigDecimal> getTokenBalanceAsync(String walletAddress, String tokenAddress, NetworkType networkType) {
+        return withAsyncClient(networkType,
+            client -> client.getTokenBalance(tokenAddress, walletAddress),
+            client -> client.getTokenBalance(tokenAddress, walletAddress))
+            .thenApply(BigDecimal::new);
+    }
+
+    /**
+     * 가스 가격을 비동기로 조회합니다.
+     */
+    public CompletableFuture<BigDecimal> getGasPriceAsync(NetworkType networkType) {
+        return withAsyncClient(networkType,
+            AsyncBlockchainClient::getGasPrice,
+            BlockchainClient::getGasPrice)
+            .thenApply(BigDecimal::new);
+    }
+
+    /**
+     * 계정의 nonce를 비동기로 조회합니다.
+     */
+    public CompletableFuture<String> getNonceAsync(String address, NetworkType networkType) {
+        return withAsyncClient(networkType,
+            client -> client.getNonce(address),
+            client -> client.getNonce(address));
+    }
+
+    /**
+     * 최신 블록 번호를 비동기로 조회합니다.
+     */
+    public CompletableFuture<String> getLatestBlockNumberAsync(NetworkType networkType) {
+        return withAsyncClient(networkType,
+            AsyncBlockchainClient::getLatestBlockNumber,
+            BlockchainClient::getLatestBlockNumber);
+    }
+
+    /**
+     * 블록 번호로 블록 정보를 비동기로 조회합니다.
+     */
+    public CompletableFuture<String> getBlockByNumberAsync(String blockNumber, NetworkType networkType) {
+        return withAsyncClient(networkType,
+            client -> client.getBlockByNumber(blockNumber),
+            client -> client.getBlockByNumber(blockNumber));
+    }
+
+    /**
+     * 트랜잭션 영수증을 비동기로 조회합니다.
+     */
+    public CompletableFuture<Optional<String>> getTransactionReceiptAsync(String txHash, NetworkType networkType) {
+        return withAsyncClient(networkType,
+            client -> client.getTransactionReceipt(txHash),
+            client -> client.getTransactionReceipt(txHash))
+            .thenApply(Optional::ofNullable);
+    }
+
+    /**
+     * 비동기 클라이언트가 있으면 사용하고, 없으면 동기 클라이언트 결과를 완료된 Future로 감쌉니다.
+     */
+    private <T> CompletableFuture<T> withAsyncClient(NetworkType networkType,
+                                                     Function<AsyncBlockchainClient, CompletableFuture<T>> asyncOperation,
+                                                     Function<BlockchainClient, T> syncOperation) {
+        Optional<AsyncBlockchainClient> asyncClient = blockchainClientFactory.getAsyncClient(networkType);
+        if (asyncClient.isPresent()) {
+            return asyncOperation.apply(asyncClient.get());
+        }
+        return CompletableFuture.completedFuture(syncOperation.apply(blockchainClientFactory.getClient(networkType)));
+    }
 } 
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.bloominggrace.governance.blockchain.application.service;
 
+import com.bloominggrace.governance.blockchain.domain.service.AsyncBlockchainClient;
 import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -16,18 +18,25 @@ import java.util.stream.Collectors;
 public class BlockchainClientFactory {
     
     private final Map<NetworkType, BlockchainClient> blockchainClients;
+    private final Map<NetworkType, AsyncBlockchainClient> asyncBlockchainClients;
     
     /**
      * 생성자를 통해 주입받은 BlockchainClient 리스트를 Map으로 변환하여 초기화합니다.
      * 
      * @param clients BlockchainClient 구현체들의 리스트
+     * @param asyncClients AsyncBlockchainClient 구현체들의 리스트
      */
-    public BlockchainClientFactory(List<BlockchainClient> clients) {
+    public BlockchainClientFactory(List<BlockchainClient> clients, List<AsyncBlockchainClient> asyncClients) {
         this.blockchainClients = clients.stream()
             .collect(Collectors.toMap(
                 BlockchainClient::getNetworkType,
                 Function.identity()
             ));
+        this.asyncBlockchainClients = asyncClients.stream()
+            .collect(Collectors.toMap(
+                AsyncBlockchainClient::getNetworkType,
+                Function.identity()
+            ));
     }
     
     /**
@@ -44,4 +53,15 @@ public class BlockchainClientFactory {
         }
         return client;
     }
+    
+    /**
+     * 네트워크 타입에 해당하는 AsyncBlockchainClient를 반환합니다.
+     * 비동기 구현이 없는 네트워크는 빈 Optional을 반환하므로 호출자가 동기 클라이언트로 대체해야 합니다.
+     * 
+     * @param networkType 네트워크 타입
+     * @return 해당 네트워크의 AsyncBlockchainClient
+     */
+    public Optional<AsyncBlockchainClient> getAsyncClient(NetworkType networkType) {
+        return Optional.ofNullable(asyncBlockchainClients.get(networkType));
+    }
 } 
\ No newline at end of file
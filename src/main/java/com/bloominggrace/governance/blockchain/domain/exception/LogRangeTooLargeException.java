@@ -0,0 +1,25 @@
+package com.bloominggrace.governance.blockchain.domain.exception;
+
+/**
+ * eth_getLogs 요청의 블록 범위나 결과 수가 노드 제한을 넘었을 때 발생하는 예외
+ * 같은 범위로 다시 시도해도 실패하므로 호출자는 범위를 줄여 다시 조회해야 합니다.
+ */
+public class LogRangeTooLargeException extends RuntimeException {
+
+    private final long fromBlock;
+    private final long toBlock;
+
+    public LogRangeTooLargeException(long fromBlock, long toBlock, String message) {
+        super("Log query for blocks " + fromBlock + "-" + toBlock + " is too large: " + message);
+        this.fromBlock = fromBlock;
+        this.toBlock = toBlock;
+    }
+
+    public long getFromBlock() {
+        return fromBlock;
+    }
+
+    public long getToBlock() {
+        return toBlock;
+    }
+}
@@ -0,0 +1,13 @@
+package com.bloominggrace.governance.blockchain.domain.exception;
+
+/**
+ * 노드가 "nonce too low"로 트랜잭션을 거부했을 때 발생하는 예외
+ * 로컬 nonce가 체인보다 뒤처졌다는 뜻이므로 호출자는 nonce를 다시 동기화해야 합니다.
+ * 같은 요청을 새 nonce로 다시 서명하면 이전 트랜잭션과 이중 전송될 수 있으므로 재시도는 호출자(아웃박스 등)가 판단합니다.
+ */
+public class NonceTooLowException extends RuntimeException {
+
+    public NonceTooLowException(String message) {
+        super(message);
+    }
+}
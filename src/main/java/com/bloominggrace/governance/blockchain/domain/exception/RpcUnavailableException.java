@@ -0,0 +1,17 @@
+package com.bloominggrace.governance.blockchain.domain.exception;
+
+/**
+ * RPC 엔드포인트를 사용할 수 없을 때 발생하는 예외
+ * 서킷 브레이커가 열려 있거나, 동시성 한도를 초과했거나, 재시도 예산이 소진된 경우에 발생합니다.
+ * 호출자는 기본값("0", null)으로 대체하지 말고 실패로 처리해야 합니다.
+ */
+public class RpcUnavailableException extends RuntimeException {
+
+    public RpcUnavailableException(String message) {
+        super(message);
+    }
+
+    public RpcUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
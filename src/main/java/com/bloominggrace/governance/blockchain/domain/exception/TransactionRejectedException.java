@@ -0,0 +1,12 @@
+package com.bloominggrace.governance.blockchain.domain.exception;
+
+/**
+ * 노드가 트랜잭션을 받지 않고 거부했을 때 발생하는 예외 (오류 응답 또는 해시 없음)
+ * 전파되지 않은 트랜잭션이므로 호출자는 발급받은 nonce를 반납할 수 있습니다.
+ */
+public class TransactionRejectedException extends RuntimeException {
+
+    public TransactionRejectedException(String message) {
+        super(message);
+    }
+}
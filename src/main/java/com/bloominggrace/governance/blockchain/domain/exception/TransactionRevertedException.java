@@ -0,0 +1,36 @@
+package com.bloominggrace.governance.blockchain.domain.exception;
+
+/**
+ * 브로드캐스트 전 시뮬레이션(eth_call)에서 트랜잭션이 revert될 것으로 확인되었을 때 발생하는 예외
+ * 같은 상태에서 다시 시도해도 실패하므로 호출자는 재시도하지 말고 사유를 사용자에게 전달해야 합니다.
+ */
+public class TransactionRevertedException extends RuntimeException {
+
+    private final String reason;
+    private final String errorName;
+    private final String revertData;
+
+    /**
+     * @param reason 디코딩된 revert 사유
+     * @param errorName 컨트랙트 에러 이름 (Error, Panic, 커스텀 에러 이름, 알 수 없으면 null)
+     * @param revertData 노드가 반환한 원본 revert 데이터 (없으면 null)
+     */
+    public TransactionRevertedException(String reason, String errorName, String revertData) {
+        super("Transaction would revert: " + reason);
+        this.reason = reason;
+        this.errorName = errorName;
+        this.revertData = revertData;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public String getErrorName() {
+        return errorName;
+    }
+
+    public String getRevertData() {
+        return revertData;
+    }
+}
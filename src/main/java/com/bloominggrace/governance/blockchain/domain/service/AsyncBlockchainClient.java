@@ -0,0 +1,94 @@
+package com.bloominggrace.governance.blockchain.domain.service;
+
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 블록체인 네트워크와 비동기로 통신하는 인터페이스
+ * 응답을 기다리는 동안 호출 스레드를 점유하지 않으며, 결과는 CompletableFuture로 조합합니다.
+ * RPC 에러나 통신 오류는 기본값 대신 예외로 완료된 Future로 전달됩니다.
+ */
+public interface AsyncBlockchainClient {
+
+    /**
+     * 블록체인 네트워크 타입을 반환합니다.
+     */
+    NetworkType getNetworkType();
+
+    /**
+     * 가스 가격을 조회합니다.
+     * @return 가스 가격 (wei 단위)
+     */
+    CompletableFuture<String> getGasPrice();
+
+    /**
+     * 계정의 nonce를 조회합니다.
+     * @param address 계정 주소
+     * @return nonce 값
+     */
+    CompletableFuture<String> getNonce(String address);
+
+    /**
+     * 계정 잔액을 조회합니다.
+     * @param address 계정 주소
+     * @return 잔액 (wei 단위)
+     */
+    CompletableFuture<String> getBalance(String address);
+
+    /**
+     * 토큰 잔액을 조회합니다.
+     * @param tokenAddress 토큰 컨트랙트 주소
+     * @param walletAddress 지갑 주소
+     * @return 토큰 잔액
+     */
+    CompletableFuture<String> getTokenBalance(String tokenAddress, String walletAddress);
+
+    /**
+     * 트랜잭션을 브로드캐스트합니다.
+     * @param signedTransaction 서명된 트랜잭션 (hex 문자열)
+     * @return 트랜잭션 해시
+     */
+    CompletableFuture<String> broadcastTransaction(String signedTransaction);
+
+    /**
+     * 트랜잭션 영수증을 조회합니다.
+     * @param transactionHash 트랜잭션 해시
+     * @return 트랜잭션 영수증 정보 (아직 채굴되지 않았으면 null)
+     */
+    CompletableFuture<String> getTransactionReceipt(String transactionHash);
+
+    /**
+     * 블록 번호로 블록 정보를 조회합니다.
+     * @param blockNumber 블록 번호
+     * @return 블록 정보
+     */
+    CompletableFuture<String> getBlockByNumber(String blockNumber);
+
+    /**
+     * 최신 블록 번호를 조회합니다.
+     * @return 최신 블록 번호
+     */
+    CompletableFuture<String> getLatestBlockNumber();
+
+    /**
+     * 블록의 타임스탬프를 조회합니다.
+     * @param blockNumber 블록 번호 (null이면 최신 블록)
+     * @return 블록 타임스탬프 (Unix timestamp)
+     */
+    CompletableFuture<Long> getBlockTimestamp(String blockNumber);
+
+    /**
+     * 서명 전 트랜잭션을 pending 블록 기준으로 실행해 봅니다 (브로드캐스트 전 revert 확인용).
+     * @param fromAddress 발신자 주소
+     * @param toAddress 컨트랙트 주소
+     * @param value 전송 금액 (wei)
+     * @param data 0x 접두사가 붙은 호출 데이터
+     * @return 실행 결과 데이터 (revert되면 TransactionRevertedException으로 완료)
+     */
+    default CompletableFuture<String> simulateCall(String fromAddress, String toAddress, BigInteger value, String data) {
+        return CompletableFuture.failedFuture(
+            new UnsupportedOperationException("simulateCall is not supported for " + getNetworkType()));
+    }
+}
@@ -3,6 +3,9 @@ package com.bloominggrace.governance.blockchain.domain.service;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 
 import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 블록체인 네트워크와의 통신을 담당하는 인터페이스
@@ -108,4 +111,80 @@ public interface BlockchainClient {
      * @return 블록 타임스탬프 (Unix timestamp)
      */
     Long getBlockTimestamp(String blockNumber);
+    
+    /**
+     * 여러 지갑의 토큰 잔액을 한 번에 조회합니다.
+     * 기본 구현은 단건 조회를 반복하며, 배치 요청을 지원하는 네트워크는 재정의합니다.
+     * @param tokenAddress 토큰 컨트랙트 주소
+     * @param walletAddresses 지갑 주소 목록
+     * @return 지갑 주소별 토큰 잔액 (요청 순서 유지, 조회에 실패한 지갑은 null)
+     */
+    default Map<String, String> getTokenBalances(String tokenAddress, List<String> walletAddresses) {
+        Map<String, String> balances = new LinkedHashMap<>();
+        for (String walletAddress : walletAddresses) {
+            balances.put(walletAddress, getTokenBalance(tokenAddress, walletAddress));
+        }
+        return balances;
+    }
+    
+    /**
+     * 여러 트랜잭션의 영수증을 한 번에 조회합니다.
+     * @param transactionHashes 트랜잭션 해시 목록
+     * @return 트랜잭션 해시별 영수증 정보 (요청 순서 유지, 영수증이 없으면 null)
+     */
+    default Map<String, String> getTransactionReceipts(List<String> transactionHashes) {
+        Map<String, String> receipts = new LinkedHashMap<>();
+        for (String transactionHash : transactionHashes) {
+            receipts.put(transactionHash, getTransactionReceipt(transactionHash));
+        }
+        return receipts;
+    }
+    
+    /**
+     * 노드가 보유한 트랜잭션 본문을 조회합니다 (멤풀 대기 중인 트랜잭션 포함, 수수료 상향 교체용).
+     * @param transactionHash 트랜잭션 해시
+     * @return 트랜잭션 정보 JSON (노드에 없으면 null)
+     */
+    default String getTransactionByHash(String transactionHash) {
+        throw new UnsupportedOperationException("getTransactionByHash is not supported for " + getNetworkType());
+    }
+    
+    /**
+     * 서명 전 트랜잭션을 pending 블록 기준으로 실행해 봅니다 (브로드캐스트 전 revert 확인용).
+     * @param fromAddress 발신자 주소
+     * @param toAddress 컨트랙트 주소
+     * @param value 전송 금액 (wei)
+     * @param data 0x 접두사가 붙은 호출 데이터
+     * @return 실행 결과 데이터
+     * @throws com.bloominggrace.governance.blockchain.domain.exception.TransactionRevertedException 실행이 revert되는 경우
+     */
+    default String simulateCall(String fromAddress, String toAddress, BigInteger value, String data) {
+        throw new UnsupportedOperationException("simulateCall is not supported for " + getNetworkType());
+    }
+    
+    /**
+     * 블록 범위의 컨트랙트 이벤트 로그를 조회합니다.
+     * @param addresses 컨트랙트 주소 목록
+     * @param topics0 이벤트 시그니처 토픽 목록 (하나라도 일치하면 포함)
+     * @param fromBlock 시작 블록 (포함)
+     * @param toBlock 끝 블록 (포함)
+     * @return 로그 JSON 배열
+     * @throws com.bloominggrace.governance.blockchain.domain.exception.LogRangeTooLargeException 노드의 범위/결과 수 제한을 넘은 경우
+     */
+    default String getLogs(List<String> addresses, List<String> topics0, long fromBlock, long toBlock) {
+        throw new UnsupportedOperationException("getLogs is not supported for " + getNetworkType());
+    }
+    
+    /**
+     * 여러 계정의 nonce를 한 번에 조회합니다.
+     * @param addresses 계정 주소 목록
+     * @return 계정 주소별 nonce 값 (요청 순서 유지, 조회에 실패한 계정은 null)
+     */
+    default Map<String, String> getNonces(List<String> addresses) {
+        Map<String, String> nonces = new LinkedHashMap<>();
+        for (String address : addresses) {
+            nonces.put(address, getNonce(address));
+        }
+        return nonces;
+    }
 } 
\ No newline at end of file
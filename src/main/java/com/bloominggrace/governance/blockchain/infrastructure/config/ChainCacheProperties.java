@@ -0,0 +1,53 @@
+package com.bloominggrace.governance.blockchain.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 불변 체인 데이터 캐시 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "blockchain.chain-cache")
+public class ChainCacheProperties {
+
+    /**
+     * 메모리 캐시 최대 크기 (JSON 문자열 기준 바이트 수)
+     */
+    private long maximumWeightBytes = 64L * 1024 * 1024;
+
+    /**
+     * 영수증/상태를 캐시하기 위한 최소 확인 블록 수
+     */
+    private int confirmationDepth = 12;
+
+    /**
+     * 디스크 계층 디렉터리 (비어 있으면 디스크 계층 미사용)
+     */
+    private String diskPath = "";
+
+    public long getMaximumWeightBytes() {
+        return maximumWeightBytes;
+    }
+
+    public void setMaximumWeightBytes(long maximumWeightBytes) {
+        this.maximumWeightBytes = maximumWeightBytes;
+    }
+
+    public int getConfirmationDepth() {
+        return confirmationDepth;
+    }
+
+    public void setConfirmationDepth(int confirmationDepth) {
+        this.confirmationDepth = confirmationDepth;
+    }
+
+    public String getDiskPath() {
+        return diskPath;
+    }
+
+    public void setDiskPath(String diskPath) {
+        this.diskPath = diskPath;
+    }
+}
@@ -0,0 +1,118 @@
+package com.bloominggrace.governance.blockchain.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 멈춘 트랜잭션 수수료 상향 교체 설정
+ * 대상 네트워크는 blockchain.confirmation.networks (확인 추적 대상)를 따릅니다.
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "blockchain.fee-bump")
+public class FeeBumpProperties {
+
+    /**
+     * 노드 멤풀의 교체 허용 최소 상향 비율 (%)
+     */
+    public static final double MIN_BUMP_PERCENT = 10.0;
+
+    /**
+     * 수수료 상향 교체 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 멈춘 트랜잭션을 점검하는 주기 (ms)
+     */
+    private long checkIntervalMs = 30000;
+
+    /**
+     * 브로드캐스트(또는 마지막 교체) 후 영수증 없이 이 시간이 지나면 멈춘 것으로 판단 (ms)
+     */
+    private long stuckAfterMs = 180000;
+
+    /**
+     * 교체 시 수수료 상향 비율 (%, 최소 10)
+     */
+    private double bumpPercent = 12.5;
+
+    /**
+     * 트랜잭션 하나당 최대 교체 횟수
+     */
+    private int maxReplacements = 5;
+
+    /**
+     * 교체 트랜잭션의 최대 가스 가격 (gwei, maxFeePerGas 또는 gasPrice 상한)
+     */
+    private long maxFeePerGasGwei = 500;
+
+    /**
+     * 한 번의 점검에서 교체하는 최대 트랜잭션 수
+     */
+    private int maxPerCycle = 20;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getCheckIntervalMs() {
+        return checkIntervalMs;
+    }
+
+    public void setCheckIntervalMs(long checkIntervalMs) {
+        this.checkIntervalMs = checkIntervalMs;
+    }
+
+    public long getStuckAfterMs() {
+        return stuckAfterMs;
+    }
+
+    public void setStuckAfterMs(long stuckAfterMs) {
+        this.stuckAfterMs = stuckAfterMs;
+    }
+
+    public double getBumpPercent() {
+        return bumpPercent;
+    }
+
+    public void setBumpPercent(double bumpPercent) {
+        this.bumpPercent = bumpPercent;
+    }
+
+    public int getMaxReplacements() {
+        return maxReplacements;
+    }
+
+    public void setMaxReplacements(int maxReplacements) {
+        this.maxReplacements = maxReplacements;
+    }
+
+    public long getMaxFeePerGasGwei() {
+        return maxFeePerGasGwei;
+    }
+
+    public void setMaxFeePerGasGwei(long maxFeePerGasGwei) {
+        this.maxFeePerGasGwei = maxFeePerGasGwei;
+    }
+
+    public int getMaxPerCycle() {
+        return maxPerCycle;
+    }
+
+    public void setMaxPerCycle(int maxPerCycle) {
+        this.maxPerCycle = maxPerCycle;
+    }
+
+    /**
+     * 실제 적용할 상향 비율 (노드가 거부하지 않도록 최소 10%)
+     */
+    public double effectiveBumpPercent() {
+        return Math.max(MIN_BUMP_PERCENT, bumpPercent);
+    }
+}
@@ -0,0 +1,105 @@
+package com.bloominggrace.governance.blockchain.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가스비 오라클 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "blockchain.fee-oracle")
+public class FeeOracleProperties {
+
+    /**
+     * eth_gasPrice / eth_feeHistory 샘플링 주기 (ms)
+     */
+    private long refreshIntervalMs = 6000;
+
+    /**
+     * eth_feeHistory로 조회할 최근 블록 수
+     */
+    private int blockCount = 20;
+
+    /**
+     * SLOW 등급 우선순위 수수료 백분위수 (0~100)
+     */
+    private double slowPercentile = 10;
+
+    /**
+     * STANDARD 등급 우선순위 수수료 백분위수 (0~100)
+     */
+    private double standardPercentile = 50;
+
+    /**
+     * FAST 등급 우선순위 수수료 백분위수 (0~100)
+     */
+    private double fastPercentile = 90;
+
+    /**
+     * maxFeePerGas 계산 시 다음 블록 base fee에 곱하는 배수 (base fee 급등 대비)
+     */
+    private int baseFeeMultiplier = 2;
+
+    /**
+     * 샘플을 그대로 사용할 수 있는 최대 지연 (ms), 넘으면 기본 가스 가격 사용
+     */
+    private long maxStalenessMs = 60000;
+
+    public long getRefreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    public void setRefreshIntervalMs(long refreshIntervalMs) {
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    public void setBlockCount(int blockCount) {
+        this.blockCount = blockCount;
+    }
+
+    public double getSlowPercentile() {
+        return slowPercentile;
+    }
+
+    public void setSlowPercentile(double slowPercentile) {
+        this.slowPercentile = slowPercentile;
+    }
+
+    public double getStandardPercentile() {
+        return standardPercentile;
+    }
+
+    public void setStandardPercentile(double standardPercentile) {
+        this.standardPercentile = standardPercentile;
+    }
+
+    public double getFastPercentile() {
+        return fastPercentile;
+    }
+
+    public void setFastPercentile(double fastPercentile) {
+        this.fastPercentile = fastPercentile;
+    }
+
+    public int getBaseFeeMultiplier() {
+        return baseFeeMultiplier;
+    }
+
+    public void setBaseFeeMultiplier(int baseFeeMultiplier) {
+        this.baseFeeMultiplier = baseFeeMultiplier;
+    }
+
+    public long getMaxStalenessMs() {
+        return maxStalenessMs;
+    }
+
+    public void setMaxStalenessMs(long maxStalenessMs) {
+        this.maxStalenessMs = maxStalenessMs;
+    }
+}
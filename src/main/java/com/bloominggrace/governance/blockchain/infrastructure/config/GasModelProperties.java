@@ -0,0 +1,133 @@
+package com.bloominggrace.governance.blockchain.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가스 한도 모델 설정
+ * 확정 영수증의 gasUsed를 호출 형태(컨트랙트, 함수 셀렉터, 호출 데이터 길이)별로 학습하고,
+ * 학습 전에는 캐시된 eth_estimateGas 결과를 사용합니다.
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "blockchain.gas-model")
+public class GasModelProperties {
+
+    /**
+     * 가스 한도 모델 사용 여부 (끄면 고정 가스 한도 사용)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 가스 한도로 사용할 gasUsed 백분위수 (0~1)
+     */
+    private double percentile = 0.95;
+
+    /**
+     * 백분위수 / 추정값에 더하는 안전 여유 (%)
+     */
+    private double marginPercent = 20.0;
+
+    /**
+     * 학습값을 사용하기 위한 호출 형태별 최소 영수증 수
+     */
+    private int minSamples = 5;
+
+    /**
+     * 호출 형태별로 보관할 최근 gasUsed 샘플 수
+     */
+    private int windowSize = 64;
+
+    /**
+     * 학습할 호출 형태 최대 개수
+     */
+    private int maxShapes = 1000;
+
+    /**
+     * eth_estimateGas 결과 캐시 유지 시간 (ms)
+     */
+    private long estimateTtlMs = 3600000;
+
+    /**
+     * 영수증을 기다리는 브로드캐스트 트랜잭션의 호출 형태 보관 시간 (ms)
+     */
+    private long pendingTtlMs = 3600000;
+
+    /**
+     * 영수증을 기다리는 브로드캐스트 트랜잭션 최대 개수
+     */
+    private int maxPending = 10000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(double percentile) {
+        this.percentile = percentile;
+    }
+
+    public double getMarginPercent() {
+        return marginPercent;
+    }
+
+    public void setMarginPercent(double marginPercent) {
+        this.marginPercent = marginPercent;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public void setMinSamples(int minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public int getMaxShapes() {
+        return maxShapes;
+    }
+
+    public void setMaxShapes(int maxShapes) {
+        this.maxShapes = maxShapes;
+    }
+
+    public long getEstimateTtlMs() {
+        return estimateTtlMs;
+    }
+
+    public void setEstimateTtlMs(long estimateTtlMs) {
+        this.estimateTtlMs = estimateTtlMs;
+    }
+
+    public long getPendingTtlMs() {
+        return pendingTtlMs;
+    }
+
+    public void setPendingTtlMs(long pendingTtlMs) {
+        this.pendingTtlMs = pendingTtlMs;
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    public void setMaxPending(int maxPending) {
+        this.maxPending = maxPending;
+    }
+}
@@ -0,0 +1,53 @@
+package com.bloominggrace.governance.blockchain.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 체인 헤드 트래커 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "blockchain.head-tracker")
+public class HeadTrackerProperties {
+
+    /**
+     * 백그라운드 폴링 주기 (ms)
+     */
+    private long pollIntervalMs = 2000;
+
+    /**
+     * 메모리의 헤드를 그대로 사용할 수 있는 최대 지연 (ms), 넘으면 노드에서 다시 조회
+     */
+    private long maxStalenessMs = 15000;
+
+    /**
+     * 링 버퍼에 보관할 최근 블록 헤더 수
+     */
+    private int historySize = 64;
+
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    public void setPollIntervalMs(long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    public long getMaxStalenessMs() {
+        return maxStalenessMs;
+    }
+
+    public void setMaxStalenessMs(long maxStalenessMs) {
+        this.maxStalenessMs = maxStalenessMs;
+    }
+
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    public void setHistorySize(int historySize) {
+        this.historySize = historySize;
+    }
+}
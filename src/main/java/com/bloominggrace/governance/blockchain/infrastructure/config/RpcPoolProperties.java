@@ -0,0 +1,249 @@
+package com.bloominggrace.governance.blockchain.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RPC 엔드포인트 풀 설정
+ * 엔드포인트 목록은 네트워크별 rpc-urls 설정을 사용합니다.
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "blockchain.rpc-pool")
+public class RpcPoolProperties {
+
+    /**
+     * 헤지 요청을 보낼 기준 지연 백분위수 (0~1)
+     */
+    private double hedgePercentile = 0.95;
+
+    /**
+     * 헤지 요청 최소 대기 시간 (ms)
+     */
+    private long hedgeMinDelayMs = 50;
+
+    /**
+     * 헤지 요청 최대 대기 시간 (ms)
+     */
+    private long hedgeMaxDelayMs = 2000;
+
+    /**
+     * 동기 조회의 헤지/페일오버 요청을 실행하는 스레드 수
+     */
+    private int hedgeThreads = 32;
+
+    /**
+     * 헤지 실행기 대기열 크기 (가득 차면 요청 스레드가 직접 실행)
+     */
+    private int hedgeQueueCapacity = 256;
+
+    /**
+     * 엔드포인트별로 보관할 최근 지연 샘플 수
+     */
+    private int latencyWindowSize = 128;
+
+    /**
+     * 지연/에러율 EWMA 가중치 (0~1, 클수록 최근 값 반영이 빠름)
+     */
+    private double ewmaAlpha = 0.2;
+
+    /**
+     * 엔드포인트별 초기 동시 요청 한도
+     */
+    private int limiterInitialLimit = 20;
+
+    /**
+     * 엔드포인트별 최소 동시 요청 한도
+     */
+    private int limiterMinLimit = 1;
+
+    /**
+     * 엔드포인트별 최대 동시 요청 한도
+     */
+    private int limiterMaxLimit = 200;
+
+    /**
+     * 실패 시 동시 요청 한도 감소 비율 (0~1)
+     */
+    private double limiterBackoffRatio = 0.9;
+
+    /**
+     * 서킷을 여는 연속 실패 횟수
+     */
+    private int circuitFailureThreshold = 5;
+
+    /**
+     * 서킷이 열린 뒤 시험 요청을 허용하기까지의 대기 시간 (ms)
+     */
+    private long circuitOpenMs = 10000;
+
+    /**
+     * 재시도 가능한 오류에 대한 최대 시도 횟수 (최초 요청 포함)
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 재시도 백오프 기본 대기 시간 (ms)
+     */
+    private long retryBaseDelayMs = 100;
+
+    /**
+     * 재시도 백오프 최대 대기 시간 (ms)
+     */
+    private long retryMaxDelayMs = 2000;
+
+    /**
+     * 요청 대비 허용되는 재시도 비율
+     */
+    private double retryBudgetRatio = 0.1;
+
+    /**
+     * 재시도 예산 최대 토큰 수 (순간 허용 재시도 수)
+     */
+    private int retryBudgetMaxTokens = 20;
+
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+
+    public void setHedgePercentile(double hedgePercentile) {
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    public long getHedgeMinDelayMs() {
+        return hedgeMinDelayMs;
+    }
+
+    public void setHedgeMinDelayMs(long hedgeMinDelayMs) {
+        this.hedgeMinDelayMs = hedgeMinDelayMs;
+    }
+
+    public long getHedgeMaxDelayMs() {
+        return hedgeMaxDelayMs;
+    }
+
+    public void setHedgeMaxDelayMs(long hedgeMaxDelayMs) {
+        this.hedgeMaxDelayMs = hedgeMaxDelayMs;
+    }
+
+    public int getHedgeThreads() {
+        return hedgeThreads;
+    }
+
+    public void setHedgeThreads(int hedgeThreads) {
+        this.hedgeThreads = hedgeThreads;
+    }
+
+    public int getHedgeQueueCapacity() {
+        return hedgeQueueCapacity;
+    }
+
+    public void setHedgeQueueCapacity(int hedgeQueueCapacity) {
+        this.hedgeQueueCapacity = hedgeQueueCapacity;
+    }
+
+    public int getLatencyWindowSize() {
+        return latencyWindowSize;
+    }
+
+    public void setLatencyWindowSize(int latencyWindowSize) {
+        this.latencyWindowSize = latencyWindowSize;
+    }
+
+    public double getEwmaAlpha() {
+        return ewmaAlpha;
+    }
+
+    public void setEwmaAlpha(double ewmaAlpha) {
+        this.ewmaAlpha = ewmaAlpha;
+    }
+
+    public int getLimiterInitialLimit() {
+        return limiterInitialLimit;
+    }
+
+    public void setLimiterInitialLimit(int limiterInitialLimit) {
+        this.limiterInitialLimit = limiterInitialLimit;
+    }
+
+    public int getLimiterMinLimit() {
+        return limiterMinLimit;
+    }
+
+    public void setLimiterMinLimit(int limiterMinLimit) {
+        this.limiterMinLimit = limiterMinLimit;
+    }
+
+    public int getLimiterMaxLimit() {
+        return limiterMaxLimit;
+    }
+
+    public void setLimiterMaxLimit(int limiterMaxLimit) {
+        this.limiterMaxLimit = limiterMaxLimit;
+    }
+
+    public double getLimiterBackoffRatio() {
+        return limiterBackoffRatio;
+    }
+
+    public void setLimiterBackoffRatio(double limiterBackoffRatio) {
+        this.limiterBackoffRatio = limiterBackoffRatio;
+    }
+
+    public int getCircuitFailureThreshold() {
+        return circuitFailureThreshold;
+    }
+
+    public void setCircuitFailureThreshold(int circuitFailureThreshold) {
+        this.circuitFailureThreshold = circuitFailureThreshold;
+    }
+
+    public long getCircuitOpenMs() {
+        return circuitOpenMs;
+    }
+
+    public void setCircuitOpenMs(long circuitOpenMs) {
+        this.circuitOpenMs = circuitOpenMs;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getRetryBaseDelayMs() {
+        return retryBaseDelayMs;
+    }
+
+    public void setRetryBaseDelayMs(long retryBaseDelayMs) {
+        this.retryBaseDelayMs = retryBaseDelayMs;
+    }
+
+    public long getRetryMaxDelayMs() {
+        return retryMaxDelayMs;
+    }
+
+    public void setRetryMaxDelayMs(long retryMaxDelayMs) {
+        this.retryMaxDelayMs = retryMaxDelayMs;
+    }
+
+    public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    public void setRetryBudgetRatio(double retryBudgetRatio) {
+        this.retryBudgetRatio = retryBudgetRatio;
+    }
+
+    public int getRetryBudgetMaxTokens() {
+        return retryBudgetMaxTokens;
+    }
+
+    public void setRetryBudgetMaxTokens(int retryBudgetMaxTokens) {
+        this.retryBudgetMaxTokens = retryBudgetMaxTokens;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bloominggrace.governance.blockchain.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 브로드캐스트 전 트랜잭션 시뮬레이션 설정
+ * 같은 블록 안의 동일한 호출은 시뮬레이션 결과를 재사용합니다.
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "blockchain.simulation")
+public class SimulationProperties {
+
+    /**
+     * 브로드캐스트 전 eth_call 시뮬레이션 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 메모이즈할 시뮬레이션 결과 최대 개수
+     */
+    private int maxEntries = 1000;
+
+    /**
+     * 시뮬레이션 결과 보관 시간 (ms). 결과는 블록 번호별로 구분되므로 메모리 상한 용도입니다.
+     */
+    private long ttlMs = 60000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+}
@@ -0,0 +1,96 @@
+package com.bloominggrace.governance.blockchain.infrastructure.config;
+
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 트랜잭션 확인 추적기 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "blockchain.confirmation")
+public class TransactionConfirmationProperties {
+
+    /**
+     * 미확인 트랜잭션 영수증을 조회하는 주기 (ms)
+     */
+    private long pollIntervalMs = 5000;
+
+    /**
+     * 확인으로 간주하는 블록 깊이 (영수증이 포함된 블록 포함)
+     */
+    private int depth = 12;
+
+    /**
+     * DB에서 미확인 트랜잭션 목록을 다시 불러오는 주기 (ms)
+     */
+    private long resyncIntervalMs = 60000;
+
+    /**
+     * 영수증 없이 이 시간이 지나면 드롭된 것으로 보고 실패 처리 (ms)
+     */
+    private long dropTimeoutMs = 3600000;
+
+    /**
+     * 네트워크별 한 번의 배치 호출에서 조회하는 최대 영수증 수
+     */
+    private int batchSize = 200;
+
+    /**
+     * 추적 대상 네트워크 (영수증 형식이 EVM JSON-RPC인 네트워크만 지원, 그 외 네트워크의 교환은 브로드캐스트 시점에 완료)
+     */
+    private List<NetworkType> networks = new ArrayList<>(List.of(NetworkType.ETHEREUM));
+
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    public void setPollIntervalMs(long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public long getResyncIntervalMs() {
+        return resyncIntervalMs;
+    }
+
+    public void setResyncIntervalMs(long resyncIntervalMs) {
+        this.resyncIntervalMs = resyncIntervalMs;
+    }
+
+    public long getDropTimeoutMs() {
+        return dropTimeoutMs;
+    }
+
+    public void setDropTimeoutMs(long dropTimeoutMs) {
+        this.dropTimeoutMs = dropTimeoutMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public List<NetworkType> getNetworks() {
+        return networks;
+    }
+
+    public void setNetworks(List<NetworkType> networks) {
+        this.networks = networks;
+    }
+}
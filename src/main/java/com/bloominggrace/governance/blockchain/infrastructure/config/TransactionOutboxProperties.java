@@ -0,0 +1,105 @@
+package com.bloominggrace.governance.blockchain.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 트랜잭션 아웃박스 브로드캐스터 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "blockchain.outbox")
+public class TransactionOutboxProperties {
+
+    /**
+     * 서명/브로드캐스트를 수행하는 워커 스레드 수
+     */
+    private int workers = 4;
+
+    /**
+     * 대기 중인 의도를 조회하는 주기 (ms)
+     */
+    private long pollIntervalMs = 500;
+
+    /**
+     * 한 번의 조회에서 가져오는 최대 의도 수 (유휴 워커 수를 넘지 않음)
+     */
+    private int batchSize = 20;
+
+    /**
+     * 최대 시도 횟수 (최초 시도 포함)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 재시도 백오프 기본 대기 시간 (ms)
+     */
+    private long retryBaseDelayMs = 2000;
+
+    /**
+     * 재시도 백오프 최대 대기 시간 (ms)
+     */
+    private long retryMaxDelayMs = 60000;
+
+    /**
+     * 워커의 의도 점유 유지 시간 (ms), 만료되면 다른 워커가 다시 처리
+     */
+    private long lockMs = 120000;
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    public void setPollIntervalMs(long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getRetryBaseDelayMs() {
+        return retryBaseDelayMs;
+    }
+
+    public void setRetryBaseDelayMs(long retryBaseDelayMs) {
+        this.retryBaseDelayMs = retryBaseDelayMs;
+    }
+
+    public long getRetryMaxDelayMs() {
+        return retryMaxDelayMs;
+    }
+
+    public void setRetryMaxDelayMs(long retryMaxDelayMs) {
+        this.retryMaxDelayMs = retryMaxDelayMs;
+    }
+
+    public long getLockMs() {
+        return lockMs;
+    }
+
+    public void setLockMs(long lockMs) {
+        this.lockMs = lockMs;
+    }
+}
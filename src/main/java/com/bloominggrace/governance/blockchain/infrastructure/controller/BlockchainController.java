@@ -1,15 +1,24 @@
 package com.bloominggrace.governance.blockchain.infrastructure.controller;
 
 import com.bloominggrace.governance.blockchain.application.service.BlockchainApplicationService;
+import com.bloominggrace.governance.blockchain.domain.exception.RpcUnavailableException;
 import com.bloominggrace.governance.blockchain.infrastructure.controller.dto.BlockchainResponse;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/blockchain/{networkType}")
@@ -17,6 +26,11 @@ import java.util.Optional;
 @Slf4j
 public class BlockchainController {
 
+    /**
+     * 대량 잔액 조회 요청당 최대 지갑 수
+     */
+    private static final int MAX_BULK_BALANCE_WALLETS = 5000;
+
     private final BlockchainApplicationService blockchainApplicationService;
     private final ObjectMapper objectMapper;
 
@@ -64,6 +78,9 @@ public class BlockchainController {
      * 공통 에러 처리 메서드
      */
     private ResponseEntity<BlockchainResponse<String>> handleError(Exception e) {
+        if (e instanceof RpcUnavailableException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(BlockchainResponse.error(e.getMessage()));
+        }
         if (e instanceof IllegalArgumentException) {
             return ResponseEntity.badRequest().body(BlockchainResponse.error("Invalid network type"));
         }
@@ -84,6 +101,34 @@ public class BlockchainController {
         }
     }
 
+    /**
+     * 네트워크 타입 변환 및 비동기 공통 처리
+     * RPC 응답을 기다리는 동안 요청 스레드를 반환합니다.
+     */
+    private CompletableFuture<ResponseEntity<BlockchainResponse<String>>> executeAsyncWithNetworkType(String networkType,
+                                                                                                   java.util.function.Function<NetworkType, CompletableFuture<String>> operation) {
+        NetworkType type;
+        try {
+            type = NetworkType.valueOf(networkType.toUpperCase());
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(handleError(e));
+        }
+        
+        try {
+            return operation.apply(type)
+                .thenApply(result -> handleResponse(result, type))
+                .exceptionally(e -> handleError(unwrap(e)));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(handleError(e));
+        }
+    }
+
+    private Exception unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause() : throwable;
+        return cause instanceof Exception ? (Exception) cause : new RuntimeException(cause);
+    }
+
     /**
      * 잔액을 조회합니다.
      * 
@@ -92,10 +137,10 @@ public class BlockchainController {
      * @return 잔액
      */
     @GetMapping("/balance")
-    public ResponseEntity<BlockchainResponse<String>> getBalance(@RequestParam String address,
-                                                                @PathVariable String networkType) {
-        return executeWithNetworkType(networkType, 
-            type -> blockchainApplicationService.getBalance(address, type).toString());
+    public CompletableFuture<ResponseEntity<BlockchainResponse<String>>> getBalance(@RequestParam String address,
+                                                                                   @PathVariable String networkType) {
+        return executeAsyncWithNetworkType(networkType, 
+            type -> blockchainApplicationService.getBalanceAsync(address, type).thenApply(BigDecimal::toString));
     }
 
     /**
@@ -107,11 +152,48 @@ public class BlockchainController {
      * @return 토큰 잔액
      */
     @GetMapping("/token-balance")
-    public ResponseEntity<BlockchainResponse<String>> getTokenBalance(@RequestParam String walletAddress,
-                                                                     @RequestParam String tokenAddress,
-                                                                     @PathVariable String networkType) {
-        return executeWithNetworkType(networkType, 
-            type -> blockchainApplicationService.getTokenBalance(walletAddress, tokenAddress, type).toString());
+    public CompletableFuture<ResponseEntity<BlockchainResponse<String>>> getTokenBalance(@RequestParam String walletAddress,
+                                                                                        @RequestParam String tokenAddress,
+                                                                                        @PathVariable String networkType) {
+        return executeAsyncWithNetworkType(networkType, 
+            type -> blockchainApplicationService.getTokenBalanceAsync(walletAddress, tokenAddress, type).thenApply(BigDecimal::toString));
+    }
+
+    /**
+     * 여러 지갑의 토큰 잔액을 한 번에 조회합니다.
+     * Ethereum은 Multicall3 aggregate3로 묶어 조회합니다.
+     * 
+     * @param request 토큰 컨트랙트 주소와 지갑 주소 목록
+     * @param networkType 네트워크 타입
+     * @return 지갑 주소별 토큰 잔액 (요청 순서 유지, 조회에 실패한 지갑은 null)
+     */
+    @PostMapping("/token-balances")
+    public ResponseEntity<BlockchainResponse<Map<String, String>>> getTokenBalances(@RequestBody TokenBalancesRequest request,
+                                                                                   @PathVariable String networkType) {
+        NetworkType type;
+        try {
+            type = NetworkType.valueOf(networkType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(BlockchainResponse.error("Invalid network type"));
+        }
+        if (request.tokenAddress() == null || request.walletAddresses() == null || request.walletAddresses().isEmpty()) {
+            return ResponseEntity.badRequest().body(BlockchainResponse.error("tokenAddress and walletAddresses are required"));
+        }
+        if (request.walletAddresses().size() > MAX_BULK_BALANCE_WALLETS) {
+            return ResponseEntity.badRequest().body(BlockchainResponse.error(
+                "Too many wallet addresses (max " + MAX_BULK_BALANCE_WALLETS + ")"));
+        }
+
+        try {
+            Map<String, String> balances = new LinkedHashMap<>();
+            blockchainApplicationService.getTokenBalances(request.walletAddresses(), request.tokenAddress(), type)
+                .forEach((walletAddress, balance) -> balances.put(walletAddress, balance == null ? null : balance.toString()));
+            return ResponseEntity.ok(BlockchainResponse.success(balances));
+        } catch (RpcUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(BlockchainResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(BlockchainResponse.error(e.getMessage()));
+        }
     }
 
     /**
@@ -169,9 +251,9 @@ public class BlockchainController {
      * @return 가스 가격
      */
     @GetMapping("/gas-price")
-    public ResponseEntity<BlockchainResponse<String>> getGasPrice(@PathVariable String networkType) {
-        return executeWithNetworkType(networkType, 
-            type -> blockchainApplicationService.getGasPrice(type).toString());
+    public CompletableFuture<ResponseEntity<BlockchainResponse<String>>> getGasPrice(@PathVariable String networkType) {
+        return executeAsyncWithNetworkType(networkType, 
+            type -> blockchainApplicationService.getGasPriceAsync(type).thenApply(BigDecimal::toString));
     }
 
     /**
@@ -182,10 +264,10 @@ public class BlockchainController {
      * @return nonce 값
      */
     @GetMapping("/nonce")
-    public ResponseEntity<BlockchainResponse<String>> getNonce(@RequestParam String address,
-                                                              @PathVariable String networkType) {
-        return executeWithNetworkType(networkType, 
-            type -> blockchainApplicationService.getNonce(address, type));
+    public CompletableFuture<ResponseEntity<BlockchainResponse<String>>> getNonce(@RequestParam String address,
+                                                                                 @PathVariable String networkType) {
+        return executeAsyncWithNetworkType(networkType, 
+            type -> blockchainApplicationService.getNonceAsync(address, type));
     }
 
     /**
@@ -195,9 +277,9 @@ public class BlockchainController {
      * @return 최신 블록 번호
      */
     @GetMapping("/latest-block-number")
-    public ResponseEntity<BlockchainResponse<String>> getLatestBlockNumber(@PathVariable String networkType) {
-        return executeWithNetworkType(networkType, 
-            type -> blockchainApplicationService.getLatestBlockNumber(type));
+    public CompletableFuture<ResponseEntity<BlockchainResponse<String>>> getLatestBlockNumber(@PathVariable String networkType) {
+        return executeAsyncWithNetworkType(networkType, 
+            type -> blockchainApplicationService.getLatestBlockNumberAsync(type));
     }
 
     /**
@@ -242,17 +324,16 @@ public class BlockchainController {
      * @return 블록 정보
      */
     @GetMapping("/block-by-number")
-    public ResponseEntity<BlockchainResponse<String>> getBlockByNumber(@RequestParam String blockNumber,
-                                                                      @PathVariable String networkType) {
-        try {
-            NetworkType type = NetworkType.valueOf(networkType.toUpperCase());
-            String block = blockchainApplicationService.getBlockByNumber(blockNumber, type);
-            String parsedResponse = parseResponseByNetwork(block, type);
-            return ResponseEntity.ok(BlockchainResponse.success(parsedResponse));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(BlockchainResponse.error("Invalid network type"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(BlockchainResponse.error(e.getMessage()));
-        }
+    public CompletableFuture<ResponseEntity<BlockchainResponse<String>>> getBlockByNumber(@RequestParam String blockNumber,
+                                                                                         @PathVariable String networkType) {
+        return executeAsyncWithNetworkType(networkType, 
+            type -> blockchainApplicationService.getBlockByNumberAsync(blockNumber, type));
     }
+
+    // ===== DTO 클래스들 =====
+
+    public record TokenBalancesRequest(
+        String tokenAddress,
+        List<String> walletAddresses
+    ) {}
 } 
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.bloominggrace.governance.blockchain.infrastructure.controller;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 아웃박스 추적 API
+ * 수수료 충전, 제안 브로드캐스트, 투표, 교환 처리 API가 반환한 추적 ID로 진행 상태를 조회합니다.
+ */
+@RestController
+@RequestMapping("/api/transaction-intents")
+@RequiredArgsConstructor
+public class TransactionIntentController {
+
+    private final TransactionOutbox transactionOutbox;
+
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<TransactionIntentResponse> getTransactionIntent(@PathVariable UUID trackingId) {
+        return transactionOutbox.findIntent(trackingId)
+            .map(TransactionIntentResponse::from)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // ===== DTO 클래스들 =====
+
+    public record TransactionIntentResponse(
+        UUID trackingId,
+        String intentType,
+        String networkType,
+        String status,
+        int attempts,
+        String transactionHash,
+        String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+        static TransactionIntentResponse from(TransactionIntent intent) {
+            return new TransactionIntentResponse(
+                intent.getId(),
+                intent.getIntentType().name(),
+                intent.getNetworkType().name(),
+                intent.getStatus().name(),
+                intent.getAttempts(),
+                intent.getTransactionHash(),
+                intent.getLastError(),
+                intent.getCreatedAt(),
+                intent.getUpdatedAt()
+            );
+        }
+    }
+}
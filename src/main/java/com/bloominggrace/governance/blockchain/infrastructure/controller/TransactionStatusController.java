@@ -0,0 +1,51 @@
+package com.bloominggrace.governance.blockchain.infrastructure.controller;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.Transaction;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 확인 상태 조회 API
+ * 확인 추적기가 기록한 상태(PENDING/CONFIRMED/FAILED)를 DB에서 바로 반환하므로 노드를 호출하지 않습니다.
+ */
+@RestController
+@RequestMapping("/api/transactions")
+@RequiredArgsConstructor
+public class TransactionStatusController {
+
+    private final TransactionRepository transactionRepository;
+
+    @GetMapping("/{transactionHash}")
+    public ResponseEntity<TransactionStatusResponse> getTransactionStatus(@PathVariable String transactionHash) {
+        return transactionRepository.findByTransactionHash(transactionHash)
+            .map(TransactionStatusResponse::from)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // ===== DTO 클래스들 =====
+
+    public record TransactionStatusResponse(
+        String transactionHash,
+        String networkType,
+        String transactionType,
+        String status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+        static TransactionStatusResponse from(Transaction transaction) {
+            return new TransactionStatusResponse(
+                transaction.getTransactionHash(),
+                transaction.getNetworkType().name(),
+                transaction.getTransactionType().name(),
+                transaction.getStatus().name(),
+                transaction.getCreatedAt(),
+                transaction.getUpdatedAt()
+            );
+        }
+    }
+}
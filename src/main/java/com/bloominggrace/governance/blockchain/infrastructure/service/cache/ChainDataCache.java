@@ -0,0 +1,119 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.cache;
+
+import com.bloominggrace.governance.blockchain.infrastructure.config.ChainCacheProperties;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 불변 체인 데이터 read-through 캐시
+ * 해시로 조회한 블록, 확인 깊이를 넘은 트랜잭션의 영수증/상태처럼 다시 바뀌지 않는 데이터만 저장합니다.
+ * 메모리 계층은 Caffeine(W-TinyLFU)으로 JSON 크기 기준 가중치 제한을 두고,
+ * blockchain.chain-cache.disk-path가 설정되면 디스크 계층을 함께 사용합니다.
+ *
+ * 메트릭: cache.gets/puts/evictions (cache=chain-data), chain.cache.disk.hits
+ */
+@Slf4j
+@Component
+public class ChainDataCache {
+
+    private static final String CACHE_NAME = "chain-data";
+
+    /**
+     * 캐시 영역
+     */
+    public enum Region {
+        BLOCK_BY_HASH, RECEIPT, TRANSACTION_STATUS;
+
+        String directory() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Cache<String, String> memory;
+    private final DiskCacheTier disk;
+    private final Counter diskHits;
+
+    public ChainDataCache(ChainCacheProperties properties, MeterRegistry meterRegistry) {
+        this.memory = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaximumWeightBytes())
+            .<String, String>weigher((key, value) -> key.length() + value.length())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, CACHE_NAME);
+        this.diskHits = Counter.builder("chain.cache.disk.hits")
+            .description("Chain data cache hits served from the disk tier")
+            .register(meterRegistry);
+        this.disk = createDiskTier(properties.getDiskPath());
+    }
+
+    /**
+     * 캐시된 값을 조회합니다. 메모리에 없으면 디스크 계층을 확인하고 메모리로 올립니다.
+     */
+    public Optional<String> get(NetworkType networkType, Region region, String id) {
+        String normalizedId = normalize(id);
+        String key = key(networkType, region, normalizedId);
+        String value = memory.getIfPresent(key);
+        if (value != null) {
+            return Optional.of(value);
+        }
+        if (disk == null) {
+            return Optional.empty();
+        }
+        Optional<String> stored = disk.get(directory(networkType, region), normalizedId);
+        stored.ifPresent(found -> {
+            diskHits.increment();
+            memory.put(key, found);
+        });
+        return stored;
+    }
+
+    /**
+     * 값을 저장합니다. 호출자는 다시 바뀌지 않는(확정된) 값만 저장해야 합니다.
+     */
+    public void put(NetworkType networkType, Region region, String id, String value) {
+        if (value == null) {
+            return;
+        }
+        String normalizedId = normalize(id);
+        memory.put(key(networkType, region, normalizedId), value);
+        if (disk != null) {
+            disk.put(directory(networkType, region), normalizedId, value);
+        }
+    }
+
+    private static DiskCacheTier createDiskTier(String diskPath) {
+        if (diskPath == null || diskPath.isBlank()) {
+            return null;
+        }
+        try {
+            log.info("Chain data cache disk tier enabled at {}", diskPath);
+            return new DiskCacheTier(Path.of(diskPath));
+        } catch (IOException e) {
+            log.warn("Failed to initialize chain cache disk tier at {}, using memory only: {}", diskPath, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String normalize(String id) {
+        return id.toLowerCase(Locale.ROOT);
+    }
+
+    private static String key(NetworkType networkType, Region region, String id) {
+        return networkType.name() + ':' + region.name() + ':' + id;
+    }
+
+    private static String directory(NetworkType networkType, Region region) {
+        return networkType.name().toLowerCase(Locale.ROOT) + "/" + region.directory();
+    }
+}
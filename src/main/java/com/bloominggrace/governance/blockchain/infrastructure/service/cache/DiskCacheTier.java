@@ -0,0 +1,67 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 체인 데이터 캐시의 디스크 계층
+ * 엔트리를 영역별 디렉터리에 "식별자.json" 파일로 저장해 재시작 후에도 재사용합니다.
+ * 크기 제한이 없으므로 디렉터리는 운영에서 주기적으로 정리해야 합니다.
+ */
+@Slf4j
+public class DiskCacheTier {
+
+    /**
+     * 파일 이름으로 안전하게 쓸 수 있는 식별자 (hex 해시)
+     */
+    private static final Pattern SAFE_ID = Pattern.compile("^0x[0-9a-f]{1,128}$");
+
+    private final Path root;
+
+    public DiskCacheTier(Path root) throws IOException {
+        this.root = Files.createDirectories(root);
+    }
+
+    public Optional<String> get(String region, String id) {
+        Path file = resolve(region, id);
+        if (file == null || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("Failed to read chain cache file {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String region, String id, String value) {
+        Path file = resolve(region, id);
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            // 임시 파일에 쓴 뒤 이동해 부분적으로 기록된 파일을 읽지 않도록 합니다.
+            Path temp = Files.createTempFile(file.getParent(), "entry", ".tmp");
+            Files.writeString(temp, value, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write chain cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path resolve(String region, String id) {
+        if (!SAFE_ID.matcher(id).matches()) {
+            return null;
+        }
+        return root.resolve(region).resolve(id + ".json");
+    }
+}
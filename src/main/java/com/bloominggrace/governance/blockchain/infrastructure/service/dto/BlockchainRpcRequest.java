@@ -36,4 +36,13 @@ public class BlockchainRpcRequest {
                 .id(1)
                 .build();
     }
+    
+    public static BlockchainRpcRequest of(String method, List<Object> params, int id) {
+        return BlockchainRpcRequest.builder()
+                .jsonrpc("2.0")
+                .method(method)
+                .params(params)
+                .id(id)
+                .build();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.dto;
+
+import java.math.BigInteger;
+
+/**
+ * Ethereum 블록 헤더
+ * 트랜잭션 목록은 디코딩하지 않고 개수만 보관합니다.
+ *
+ * @param number 블록 번호 (pending 블록이면 null)
+ * @param hash 블록 해시 (pending 블록이면 null)
+ * @param parentHash 부모 블록 해시
+ * @param timestamp 블록 타임스탬프 (Unix timestamp)
+ * @param gasLimit 블록 가스 한도
+ * @param gasUsed 블록 가스 사용량
+ * @param baseFeePerGas 기본 수수료 (EIP-1559 이전 블록이면 null)
+ * @param transactionCount 블록에 포함된 트랜잭션 수
+ */
+public record EthBlockHeader(
+    Long number,
+    String hash,
+    String parentHash,
+    Long timestamp,
+    BigInteger gasLimit,
+    BigInteger gasUsed,
+    BigInteger baseFeePerGas,
+    int transactionCount
+) {
+}
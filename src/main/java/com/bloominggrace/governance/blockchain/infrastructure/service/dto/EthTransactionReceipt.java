@@ -0,0 +1,32 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.dto;
+
+import java.math.BigInteger;
+
+/**
+ * Ethereum 트랜잭션 영수증
+ * 로그 목록은 디코딩하지 않고 개수만 보관합니다.
+ *
+ * @param transactionHash 트랜잭션 해시
+ * @param blockHash 포함된 블록 해시
+ * @param blockNumber 포함된 블록 번호
+ * @param from 발신자 주소
+ * @param to 수신자 주소 (컨트랙트 생성이면 null)
+ * @param contractAddress 생성된 컨트랙트 주소 (컨트랙트 생성이 아니면 null)
+ * @param success 실행 성공 여부 (status 0x1)
+ * @param gasUsed 가스 사용량
+ * @param effectiveGasPrice 실제 적용된 가스 가격
+ * @param logCount 발생한 로그 수
+ */
+public record EthTransactionReceipt(
+    String transactionHash,
+    String blockHash,
+    Long blockNumber,
+    String from,
+    String to,
+    String contractAddress,
+    boolean success,
+    BigInteger gasUsed,
+    BigInteger effectiveGasPrice,
+    int logCount
+) {
+}
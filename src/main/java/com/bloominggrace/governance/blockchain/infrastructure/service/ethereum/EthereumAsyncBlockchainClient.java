@@ -0,0 +1,242 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.ethereum;
+
+import com.bloominggrace.governance.blockchain.domain.exception.NonceTooLowException;
+import com.bloominggrace.governance.blockchain.domain.exception.TransactionRejectedException;
+import com.bloominggrace.governance.blockchain.domain.exception.TransactionRevertedException;
+import com.bloominggrace.governance.blockchain.domain.service.AsyncBlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcRequest;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcResponse;
+import com.bloominggrace.governance.blockchain.infrastructure.service.head.ChainHead;
+import com.bloominggrace.governance.blockchain.infrastructure.service.head.ChainHeadTracker;
+import com.bloominggrace.governance.blockchain.infrastructure.service.head.ChainHeadTrackerRegistry;
+import com.bloominggrace.governance.blockchain.infrastructure.service.rpc.RpcEndpointPool;
+import com.bloominggrace.governance.blockchain.infrastructure.service.rpc.RpcEndpointPoolFactory;
+import com.bloominggrace.governance.blockchain.infrastructure.service.rpc.RpcErrorClassifier;
+import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
+import com.bloominggrace.governance.shared.blockchain.util.HexQuantity;
+import com.bloominggrace.governance.shared.blockchain.util.JsonRpcClient;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.web3j.crypto.Hash;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Ethereum 비동기 블록체인 클라이언트 구현체
+ * HttpClient.sendAsync 기반의 JSON-RPC 호출로 스레드를 점유하지 않고 Ethereum RPC와 통신
+ */
+@Slf4j
+@Service("ethereumAsyncBlockchainClient")
+public class EthereumAsyncBlockchainClient implements AsyncBlockchainClient {
+
+    private static final TypeReference<BlockchainRpcResponse<String>> STRING_RESPONSE =
+        new TypeReference<BlockchainRpcResponse<String>>() {};
+
+    private final JsonRpcClient jsonRpcClient;
+    private final RpcEndpointPool rpcEndpointPool;
+    private final ChainHeadTrackerRegistry headTrackerRegistry;
+
+    public EthereumAsyncBlockchainClient(RpcEndpointPoolFactory rpcEndpointPoolFactory,
+                                        ChainHeadTrackerRegistry headTrackerRegistry,
+                                        JsonRpcClient jsonRpcClient) {
+        this.rpcEndpointPool = rpcEndpointPoolFactory.getPool(NetworkType.ETHEREUM);
+        this.headTrackerRegistry = headTrackerRegistry;
+        this.jsonRpcClient = jsonRpcClient;
+    }
+
+    @Override
+    public NetworkType getNetworkType() {
+        return NetworkType.ETHEREUM;
+    }
+
+    @Override
+    public CompletableFuture<String> getGasPrice() {
+        return call(EthereumConstants.RpcMethods.GET_GAS_PRICE, Arrays.asList(), STRING_RESPONSE)
+            .thenApply(this::hexToDecimal);
+    }
+
+    @Override
+    public CompletableFuture<String> getNonce(String address) {
+        return call(EthereumConstants.RpcMethods.GET_TRANSACTION_COUNT, Arrays.asList(address, EthereumConstants.RpcParams.PENDING), STRING_RESPONSE)
+            .thenApply(this::hexToDecimal);
+    }
+
+    @Override
+    public CompletableFuture<String> getBalance(String address) {
+        return call(EthereumConstants.RpcMethods.GET_BALANCE, Arrays.asList(address, EthereumConstants.RpcParams.LATEST), STRING_RESPONSE)
+            .thenApply(this::hexToDecimal);
+    }
+
+    @Override
+    public CompletableFuture<String> getTokenBalance(String tokenAddress, String walletAddress) {
+        Map<String, String> transaction = Map.of(
+            "to", tokenAddress,
+            "data", EthereumConstants.Token.BALANCE_OF_SELECTOR + padLeft(walletAddress.substring(2), 64)
+        );
+        return call(EthereumConstants.RpcMethods.CALL, Arrays.asList(transaction, EthereumConstants.RpcParams.LATEST), STRING_RESPONSE)
+            .thenApply(this::hexToDecimal);
+    }
+
+    @Override
+    public CompletableFuture<String> broadcastTransaction(String signedTransaction) {
+        if (signedTransaction == null || !signedTransaction.startsWith("0x")) {
+            return CompletableFuture.failedFuture(
+                new IllegalArgumentException("Signed transaction must start with 0x: " + signedTransaction));
+        }
+        // 쓰기 요청은 헤지하지 않고, 페일오버 시에도 같은 서명 페이로드를 그대로 재전송합니다.
+        BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.SEND_RAW_TRANSACTION, Arrays.asList(signedTransaction));
+        return rpcEndpointPool.writeAsync(url -> jsonRpcClient.sendRequestAsync(url, request, STRING_RESPONSE))
+            .thenApply(response -> {
+                if (response.hasError() && isAlreadyKnown(response.getError().getMessage())) {
+                    String transactionHash = Hash.sha3(signedTransaction);
+                    log.info("Transaction already known by node, using local hash: {}", transactionHash);
+                    return transactionHash;
+                }
+                if (response.hasError() && RpcErrorClassifier.isNonceTooLow(response.getError().getMessage())) {
+                    throw new NonceTooLowException(response.getError().getMessage());
+                }
+                if (response.hasError()) {
+                    log.error("{} failed: {}", EthereumConstants.RpcMethods.SEND_RAW_TRANSACTION, response.getError().getMessage());
+                    throw new TransactionRejectedException("Transaction broadcast failed: " + response.getError().getMessage());
+                }
+                log.info("Transaction broadcast successful. Hash: {}", response.getResult());
+                return response.getResult();
+            });
+    }
+
+    @Override
+    public CompletableFuture<String> getTransactionReceipt(String transactionHash) {
+        return callRaw(EthereumConstants.RpcMethods.GET_TRANSACTION_RECEIPT, Arrays.asList(transactionHash));
+    }
+
+    @Override
+    public CompletableFuture<String> getBlockByNumber(String blockNumber) {
+        return callRaw(EthereumConstants.RpcMethods.GET_BLOCK_BY_NUMBER, Arrays.asList(blockNumber, false));
+    }
+
+    @Override
+    public CompletableFuture<String> getLatestBlockNumber() {
+        Optional<ChainHead> head = freshHead();
+        if (head.isPresent()) {
+            return CompletableFuture.completedFuture(String.valueOf(head.get().number()));
+        }
+        return call(EthereumConstants.RpcMethods.GET_BLOCK_NUMBER, Arrays.asList(), STRING_RESPONSE)
+            .thenApply(this::hexToDecimal);
+    }
+
+    @Override
+    public CompletableFuture<Long> getBlockTimestamp(String blockNumber) {
+        // blockNumber가 null이면 최신 블록 사용 (헤드 트래커 우선)
+        if (blockNumber == null || blockNumber.isEmpty()) {
+            Optional<ChainHead> head = freshHead();
+            if (head.isPresent()) {
+                return CompletableFuture.completedFuture(head.get().timestamp());
+            }
+        }
+        String targetBlock = (blockNumber == null || blockNumber.isEmpty()) ?
+            EthereumConstants.RpcParams.LATEST : blockNumber;
+
+        // 트랜잭션 목록은 디코딩하지 않고 블록 헤더만 읽습니다.
+        BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_BLOCK_BY_NUMBER, Arrays.asList(targetBlock, false));
+        return result(EthereumConstants.RpcMethods.GET_BLOCK_BY_NUMBER,
+                rpcEndpointPool.readAsync(url -> jsonRpcClient.sendRequestStreamingAsync(url, request, EthereumResultDecoders::blockHeader)))
+            .thenApply(block -> {
+                if (block == null || block.timestamp() == null) {
+                    throw new IllegalStateException("Block timestamp not found for block: " + targetBlock);
+                }
+                return block.timestamp();
+            });
+    }
+
+    @Override
+    public CompletableFuture<String> simulateCall(String fromAddress, String toAddress, BigInteger value, String data) {
+        Map<String, String> transaction = new LinkedHashMap<>();
+        transaction.put("from", fromAddress);
+        transaction.put("to", toAddress);
+        transaction.put("value", "0x" + (value == null ? BigInteger.ZERO : value).toString(16));
+        transaction.put("data", data);
+        BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.CALL,
+            Arrays.asList(transaction, EthereumConstants.RpcParams.PENDING));
+        return rpcEndpointPool.readAsync(url -> jsonRpcClient.sendRequestAsync(url, request, STRING_RESPONSE))
+            .thenApply(response -> {
+                if (response.hasError()) {
+                    String message = response.getError().getMessage();
+                    String revertData = response.getError().getData();
+                    if (RpcErrorClassifier.isExecutionReverted(message) || (revertData != null && revertData.startsWith("0x"))) {
+                        RevertReasonDecoder.Decoded decoded = RevertReasonDecoder.decode(revertData, message);
+                        throw new TransactionRevertedException(decoded.reason(), decoded.errorName(), revertData);
+                    }
+                    throw new IllegalStateException("Call simulation failed: " + message);
+                }
+                return response.getResult();
+            });
+    }
+
+    /**
+     * JSON-RPC 요청을 비동기로 전송하고 result를 반환합니다.
+     * RPC 에러 응답은 예외로 완료됩니다.
+     */
+    private <T> CompletableFuture<T> call(String method, List<Object> params, TypeReference<BlockchainRpcResponse<T>> typeReference) {
+        BlockchainRpcRequest request = BlockchainRpcRequest.of(method, params);
+        return result(method, rpcEndpointPool.readAsync(url -> jsonRpcClient.sendRequestAsync(url, request, typeReference)));
+    }
+
+    /**
+     * JSON-RPC 요청을 비동기로 전송하고 result JSON을 Map으로 디코딩하지 않고 그대로 문자열로 반환합니다.
+     * result가 null이면 null로 완료됩니다.
+     */
+    private CompletableFuture<String> callRaw(String method, List<Object> params) {
+        BlockchainRpcRequest request = BlockchainRpcRequest.of(method, params);
+        return result(method, rpcEndpointPool.readAsync(url -> jsonRpcClient.sendRequestRawAsync(url, request)))
+            .thenApply(raw -> raw == null ? null : new String(raw, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 응답의 result를 반환합니다. RPC 에러 응답은 예외로 완료됩니다.
+     */
+    private <T> CompletableFuture<T> result(String method, CompletableFuture<BlockchainRpcResponse<T>> responseFuture) {
+        return responseFuture
+            .thenApply(response -> {
+                if (response.hasError()) {
+                    log.error("{} failed: {}", method, response.getError().getMessage());
+                    throw new IllegalStateException(method + " failed: " + response.getError().getMessage());
+                }
+                return response.getResult();
+            });
+    }
+
+    /**
+     * 헤드 트래커의 허용 지연 안의 최신 헤드를 반환합니다.
+     */
+    private Optional<ChainHead> freshHead() {
+        return headTrackerRegistry.find(NetworkType.ETHEREUM).flatMap(ChainHeadTracker::fresh);
+    }
+
+    /**
+     * 노드가 이미 보유한 트랜잭션이라는 에러인지 확인합니다.
+     */
+    private boolean isAlreadyKnown(String errorMessage) {
+        if (errorMessage == null) {
+            return false;
+        }
+        String message = errorMessage.toLowerCase();
+        return message.contains("already known") || message.contains("known transaction");
+    }
+
+    private String hexToDecimal(String hex) {
+        return HexQuantity.toDecimalString(hex);
+    }
+
+    private String padLeft(String value, int length) {
+        return String.format("%" + length + "s", value).replace(' ', '0');
+    }
+}
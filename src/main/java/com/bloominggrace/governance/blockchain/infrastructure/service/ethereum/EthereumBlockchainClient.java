@@ -1,20 +1,44 @@
 package com.bloominggrace.governance.blockchain.infrastructure.service.ethereum;
 
+import com.bloominggrace.governance.blockchain.domain.exception.LogRangeTooLargeException;
+import com.bloominggrace.governance.blockchain.domain.exception.NonceTooLowException;
+import com.bloominggrace.governance.blockchain.domain.exception.RpcUnavailableException;
+import com.bloominggrace.governance.blockchain.domain.exception.TransactionRejectedException;
+import com.bloominggrace.governance.blockchain.domain.exception.TransactionRevertedException;
 import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.config.ChainCacheProperties;
 import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcRequest;
 import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcResponse;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.EthBlockHeader;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.EthTransactionReceipt;
+import com.bloominggrace.governance.blockchain.infrastructure.service.cache.ChainDataCache;
+import com.bloominggrace.governance.blockchain.infrastructure.service.head.ChainHead;
+import com.bloominggrace.governance.blockchain.infrastructure.service.head.ChainHeadTracker;
+import com.bloominggrace.governance.blockchain.infrastructure.service.head.ChainHeadTrackerRegistry;
+import com.bloominggrace.governance.blockchain.infrastructure.service.rpc.RpcEndpointPool;
+import com.bloominggrace.governance.blockchain.infrastructure.service.rpc.RpcEndpointPoolFactory;
+import com.bloominggrace.governance.blockchain.infrastructure.service.rpc.RpcErrorClassifier;
 import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
+import com.bloominggrace.governance.shared.blockchain.util.HexQuantity;
 import com.bloominggrace.governance.shared.blockchain.util.JsonRpcClient;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.web3j.crypto.Hash;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Ethereum 블록체인 클라이언트 구현체
@@ -24,18 +48,34 @@ import java.util.Map;
 @Service("ethereumBlockchainClient")
 public class EthereumBlockchainClient implements BlockchainClient {
     
+    private static final TypeReference<BlockchainRpcResponse<String>> STRING_RESPONSE =
+        new TypeReference<BlockchainRpcResponse<String>>() {};
+    private static final TypeReference<List<BlockchainRpcResponse<String>>> STRING_BATCH_RESPONSE =
+        new TypeReference<List<BlockchainRpcResponse<String>>>() {};
+    
     private final JsonRpcClient jsonRpcClient;
     private final ObjectMapper objectMapper;
-    private final String rpcUrl;
+    private final RpcEndpointPool rpcEndpointPool;
+    private final ChainHeadTracker headTracker;
+    private final ChainDataCache chainDataCache;
+    private final int confirmationDepth;
+    private final EthereumMulticallClient multicallClient;
 
-    public EthereumBlockchainClient(@Value("${blockchain.ethereum.rpc-url}") String rpcUrl,
+    public EthereumBlockchainClient(RpcEndpointPoolFactory rpcEndpointPoolFactory,
+                                   ChainHeadTrackerRegistry headTrackerRegistry,
+                                   ChainDataCache chainDataCache,
+                                   ChainCacheProperties chainCacheProperties,
+                                   EthereumMulticallClient multicallClient,
                                    JsonRpcClient jsonRpcClient,
                                    ObjectMapper objectMapper) {
-        this.rpcUrl = rpcUrl;
+        this.rpcEndpointPool = rpcEndpointPoolFactory.getPool(NetworkType.ETHEREUM);
         this.jsonRpcClient = jsonRpcClient;
         this.objectMapper = objectMapper;
-        log.info("EthereumBlockchainClient initialized with RPC URL: {}", rpcUrl);
-        log.info("Configuration check - rpcUrl value: '{}'", rpcUrl);
+        this.multicallClient = multicallClient;
+        this.chainDataCache = chainDataCache;
+        this.confirmationDepth = chainCacheProperties.getConfirmationDepth();
+        this.headTracker = headTrackerRegistry.register(NetworkType.ETHEREUM, this::fetchLatestHead);
+        log.info("EthereumBlockchainClient initialized with RPC pool: {}", rpcEndpointPool.getName());
     }
     
     @Override
@@ -46,22 +86,12 @@ public class EthereumBlockchainClient implements BlockchainClient {
     @Override
     public String getLatestBlockHash() {
         try {
-            BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_BLOCK_BY_NUMBER, Arrays.asList(EthereumConstants.RpcParams.LATEST, false));
-            BlockchainRpcResponse<Map<String, Object>> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<Map<String, Object>>>() {});
-            
-            if (response.hasError()) {
-                log.error("Failed to get latest block hash: {}", response.getError().getMessage());
-                return null;
-            }
-            
-            if (response.getResult() == null) {
-                log.error("Received null result from Ethereum RPC");
-                return null;
-            }
-            
-            String hash = (String) response.getResult().get("hash");
-            log.info("Successfully got latest block hash: {}", hash);
+            // 헤드 트래커에서 제공 (허용 지연을 넘은 경우에만 노드 조회)
+            String hash = headTracker.current().hash();
+            log.debug("Latest block hash: {}", hash);
             return hash;
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting latest block hash: {}", e.getMessage(), e);
             return null;
@@ -72,7 +102,7 @@ public class EthereumBlockchainClient implements BlockchainClient {
     public String getGasPrice() {
         try {
             BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_GAS_PRICE, Arrays.asList());
-            BlockchainRpcResponse<String> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<String>>() {});
+            BlockchainRpcResponse<String> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequest(url, request, STRING_RESPONSE));
             
             if (response.hasError()) {
                 log.error("Failed to get gas price: {}", response.getError().getMessage());
@@ -81,6 +111,8 @@ public class EthereumBlockchainClient implements BlockchainClient {
             
             // Hex를 decimal로 변환
             return new BigInteger(response.getResult().substring(2), 16).toString();
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting gas price", e);
             return "0";
@@ -97,7 +129,7 @@ public class EthereumBlockchainClient implements BlockchainClient {
             );
             
             BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.ESTIMATE_GAS, Arrays.asList(transaction));
-            BlockchainRpcResponse<String> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<String>>() {});
+            BlockchainRpcResponse<String> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequest(url, request, STRING_RESPONSE));
             
             if (response.hasError()) {
                 log.error("Gas estimation error: {}", response.getError().getMessage());
@@ -106,6 +138,8 @@ public class EthereumBlockchainClient implements BlockchainClient {
             
             // Hex를 decimal로 변환
             return new BigInteger(response.getResult().substring(2), 16).toString();
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error estimating gas", e);
             return "0";
@@ -116,7 +150,7 @@ public class EthereumBlockchainClient implements BlockchainClient {
     public String getNonce(String address) {
         try {
             BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_TRANSACTION_COUNT, Arrays.asList(address, EthereumConstants.RpcParams.PENDING));
-            BlockchainRpcResponse<String> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<String>>() {});
+            BlockchainRpcResponse<String> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequest(url, request, STRING_RESPONSE));
             
             if (response.hasError()) {
                 log.error("Failed to get nonce: {}", response.getError().getMessage());
@@ -124,6 +158,8 @@ public class EthereumBlockchainClient implements BlockchainClient {
             }
             
             return new BigInteger(response.getResult().substring(2), 16).toString();
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting nonce for address: {}", address, e);
             return "0";
@@ -134,7 +170,7 @@ public class EthereumBlockchainClient implements BlockchainClient {
     public String getBalance(String address) {
         try {
             BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_BALANCE, Arrays.asList(address, EthereumConstants.RpcParams.LATEST));
-            BlockchainRpcResponse<String> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<String>>() {});
+            BlockchainRpcResponse<String> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequest(url, request, STRING_RESPONSE));
             
             if (response.hasError()) {
                 log.error("Failed to get balance: {}", response.getError().getMessage());
@@ -143,6 +179,8 @@ public class EthereumBlockchainClient implements BlockchainClient {
             
             // Hex를 decimal로 변환 (Wei 단위)
             return new BigInteger(response.getResult().substring(2), 16).toString();
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting balance for address: {}", address, e);
             return "0";
@@ -155,7 +193,6 @@ public class EthereumBlockchainClient implements BlockchainClient {
             log.info("=== EthereumBlockchainClient.getTokenBalance Debug ===");
             log.info("Token Address: {}", tokenAddress);
             log.info("Wallet Address: {}", walletAddress);
-            log.info("RPC URL: {}", rpcUrl);
             
             // ERC20 balanceOf 함수 호출
             String balanceOfData = EthereumConstants.Token.BALANCE_OF_SELECTOR + padLeft(walletAddress.substring(2), 64);
@@ -169,15 +206,9 @@ public class EthereumBlockchainClient implements BlockchainClient {
             
             BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.CALL, Arrays.asList(transaction, EthereumConstants.RpcParams.LATEST));
             log.info("RPC Request: {}", request);
+
             
-            // 직접 curl 명령어 출력 (디버깅용)
-            String curlCommand = String.format(
-                "curl -X POST %s -H \"Content-Type: application/json\" -d '{\"jsonrpc\":\"2.0\",\"method\":\"eth_call\",\"params\":[{\"to\":\"%s\",\"data\":\"%s\"},\"latest\"],\"id\":1}'",
-                rpcUrl, tokenAddress, balanceOfData
-            );
-            log.info("Equivalent curl command: {}", curlCommand);
-            
-            BlockchainRpcResponse<String> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<String>>() {});
+            BlockchainRpcResponse<String> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequest(url, request, STRING_RESPONSE));
             log.info("RPC Response: {}", response);
             
             if (response.hasError()) {
@@ -203,6 +234,8 @@ public class EthereumBlockchainClient implements BlockchainClient {
             log.info("=== End Debug ===");
             
             return balance;
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting token balance for token: {} wallet: {}", tokenAddress, walletAddress, e);
             return "0";
@@ -214,7 +247,6 @@ public class EthereumBlockchainClient implements BlockchainClient {
         try {
             log.info("=== Ethereum Transaction Broadcast Debug ===");
             log.info("Broadcasting Ethereum raw transaction: {}", signedTransaction);
-            log.info("RPC URL: {}", rpcUrl);
             log.info("Network ID: {}", EthereumConstants.Network.NETWORK_NAME);
             log.info("Chain ID: {}", EthereumConstants.Network.CHAIN_ID);
 
@@ -235,14 +267,28 @@ public class EthereumBlockchainClient implements BlockchainClient {
             log.info("RPC Request: {}", request);
             
             log.info("Sending request to RPC endpoint...");
-            BlockchainRpcResponse<String> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<String>>() {});
+            // 페일오버 시에도 같은 서명 페이로드를 그대로 재전송합니다.
+            BlockchainRpcResponse<String> response = rpcEndpointPool.write(url -> jsonRpcClient.sendRequest(url, request, STRING_RESPONSE));
             log.info("RPC Response: {}", response);
             
+            if (response.hasError() && isAlreadyKnown(response.getError().getMessage())) {
+                // 이전 시도(페일오버 전 엔드포인트)에서 이미 전파된 트랜잭션이므로 로컬에서 계산한 해시를 반환합니다.
+                String transactionHash = Hash.sha3(signedTransaction);
+                log.info("Transaction already known by node, using local hash: {}", transactionHash);
+                return transactionHash;
+            }
+            
+            if (response.hasError() && RpcErrorClassifier.isNonceTooLow(response.getError().getMessage())) {
+                log.warn("Transaction rejected, nonce too low: {}", response.getError().getMessage());
+                throw new NonceTooLowException(response.getError().getMessage());
+            }
+            
             if (response.hasError()) {
                 log.error("Transaction broadcast error: {}", response.getError().getMessage());
                 log.error("Error details: {}", response.getError());
                 log.error("Error code: {}", response.getError().getCode());
-                return null;
+                // 노드가 응답으로 거부한 트랜잭션은 전파되지 않았으므로 통신 오류(null 반환)와 구분합니다.
+                throw new TransactionRejectedException("Transaction broadcast failed: " + response.getError().getMessage());
             }
             
             String transactionHash = response.getResult();
@@ -251,6 +297,8 @@ public class EthereumBlockchainClient implements BlockchainClient {
             
             return transactionHash;
 
+        } catch (RpcUnavailableException | NonceTooLowException | TransactionRejectedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("=== Ethereum Transaction Broadcast Exception ===");
             log.error("Error broadcasting transaction", e);
@@ -263,9 +311,13 @@ public class EthereumBlockchainClient implements BlockchainClient {
     
     @Override
     public String getTransactionStatus(String transactionHash) {
+        Optional<String> cached = chainDataCache.get(NetworkType.ETHEREUM, ChainDataCache.Region.TRANSACTION_STATUS, transactionHash);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
         try {
             BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_TRANSACTION_RECEIPT, Arrays.asList(transactionHash));
-            BlockchainRpcResponse<Map<String, Object>> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<Map<String, Object>>>() {});
+            BlockchainRpcResponse<EthTransactionReceipt> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequestStreaming(url, request, EthereumResultDecoders::transactionReceipt));
             
             if (response.hasError()) {
                 log.error("Failed to get transaction status: {}", response.getError().getMessage());
@@ -276,12 +328,13 @@ public class EthereumBlockchainClient implements BlockchainClient {
                 return "PENDING";
             }
             
-            String status = (String) response.getResult().get("status");
-            if ("0x1".equals(status)) {
-                return "CONFIRMED";
-            } else {
-                return "FAILED";
+            String status = response.getResult().success() ? "CONFIRMED" : "FAILED";
+            if (isFinalized(response.getResult().blockNumber())) {
+                chainDataCache.put(NetworkType.ETHEREUM, ChainDataCache.Region.TRANSACTION_STATUS, transactionHash, status);
             }
+            return status;
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting transaction status for hash: {}", transactionHash, e);
             return "FAILED";
@@ -290,34 +343,131 @@ public class EthereumBlockchainClient implements BlockchainClient {
     
     @Override
     public String getTransactionReceipt(String transactionHash) {
+        Optional<String> cached = chainDataCache.get(NetworkType.ETHEREUM, ChainDataCache.Region.RECEIPT, transactionHash);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
         try {
             BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_TRANSACTION_RECEIPT, Arrays.asList(transactionHash));
-            BlockchainRpcResponse<Map<String, Object>> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<Map<String, Object>>>() {});
+            BlockchainRpcResponse<byte[]> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequestRaw(url, request));
             
             if (response.hasError()) {
                 log.error("Failed to get transaction receipt: {}", response.getError().getMessage());
                 return null;
             }
             
-            return objectMapper.writeValueAsString(response.getResult());
+            String receipt = toJsonString(response.getResult());
+            if (receipt != null && isFinalized(receiptBlockNumber(receipt))) {
+                chainDataCache.put(NetworkType.ETHEREUM, ChainDataCache.Region.RECEIPT, transactionHash, receipt);
+            }
+            return receipt;
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting transaction receipt for hash: {}", transactionHash, e);
             return null;
         }
     }
     
+    @Override
+    public String getTransactionByHash(String transactionHash) {
+        // 멤풀 대기 중인 트랜잭션은 내용이 바뀔 수 있으므로 캐시하지 않습니다.
+        BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_TRANSACTION_BY_HASH, Arrays.asList(transactionHash));
+        BlockchainRpcResponse<byte[]> response;
+        try {
+            response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequestRaw(url, request));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to get transaction " + transactionHash, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while getting transaction " + transactionHash, e);
+        }
+        if (response.hasError()) {
+            throw new IllegalStateException("Failed to get transaction " + transactionHash + ": " + response.getError().getMessage());
+        }
+        String transaction = toJsonString(response.getResult());
+        return transaction == null || "null".equals(transaction) ? null : transaction;
+    }
+    
+    @Override
+    public String simulateCall(String fromAddress, String toAddress, BigInteger value, String data) {
+        Map<String, String> transaction = new LinkedHashMap<>();
+        transaction.put("from", fromAddress);
+        transaction.put("to", toAddress);
+        transaction.put("value", "0x" + (value == null ? BigInteger.ZERO : value).toString(16));
+        transaction.put("data", data);
+        BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.CALL,
+            Arrays.asList(transaction, EthereumConstants.RpcParams.PENDING));
+        BlockchainRpcResponse<String> response;
+        try {
+            response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequest(url, request, STRING_RESPONSE));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to simulate call to " + toAddress, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while simulating call to " + toAddress, e);
+        }
+        if (response.hasError()) {
+            String message = response.getError().getMessage();
+            String revertData = response.getError().getData();
+            if (RpcErrorClassifier.isExecutionReverted(message) || (revertData != null && revertData.startsWith("0x"))) {
+                RevertReasonDecoder.Decoded decoded = RevertReasonDecoder.decode(revertData, message);
+                throw new TransactionRevertedException(decoded.reason(), decoded.errorName(), revertData);
+            }
+            throw new IllegalStateException("Call simulation failed: " + message);
+        }
+        return response.getResult();
+    }
+    
+    @Override
+    public String getLogs(List<String> addresses, List<String> topics0, long fromBlock, long toBlock) {
+        Map<String, Object> filter = new LinkedHashMap<>();
+        filter.put("fromBlock", "0x" + Long.toHexString(fromBlock));
+        filter.put("toBlock", "0x" + Long.toHexString(toBlock));
+        filter.put("address", addresses);
+        filter.put("topics", List.of(topics0));
+        BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_LOGS, Arrays.asList(filter));
+        BlockchainRpcResponse<byte[]> response;
+        try {
+            response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequestRaw(url, request));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to get logs for blocks " + fromBlock + "-" + toBlock, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while getting logs for blocks " + fromBlock + "-" + toBlock, e);
+        }
+        if (response.hasError()) {
+            String message = response.getError().getMessage();
+            if (RpcErrorClassifier.isLogRangeTooLarge(message)) {
+                throw new LogRangeTooLargeException(fromBlock, toBlock, message);
+            }
+            throw new IllegalStateException("Failed to get logs for blocks " + fromBlock + "-" + toBlock + ": " + message);
+        }
+        String logs = toJsonString(response.getResult());
+        return logs == null || "null".equals(logs) ? "[]" : logs;
+    }
+    
     @Override
     public String getBlockByHash(String blockHash) {
+        // 해시로 식별되는 블록 내용은 바뀌지 않으므로 항상 캐시합니다.
+        Optional<String> cached = chainDataCache.get(NetworkType.ETHEREUM, ChainDataCache.Region.BLOCK_BY_HASH, blockHash);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
         try {
             BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_BLOCK_BY_HASH, Arrays.asList(blockHash, false));
-            BlockchainRpcResponse<Map<String, Object>> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<Map<String, Object>>>() {});
+            BlockchainRpcResponse<byte[]> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequestRaw(url, request));
             
             if (response.hasError()) {
                 log.error("Failed to get block by hash: {}", response.getError().getMessage());
                 return null;
             }
             
-            return objectMapper.writeValueAsString(response.getResult());
+            String block = toJsonString(response.getResult());
+            chainDataCache.put(NetworkType.ETHEREUM, ChainDataCache.Region.BLOCK_BY_HASH, blockHash, block);
+            return block;
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting block by hash: {}", blockHash, e);
             return null;
@@ -328,15 +478,16 @@ public class EthereumBlockchainClient implements BlockchainClient {
     public String getBlockByNumber(String blockNumber) {
         try {
             BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_BLOCK_BY_NUMBER, Arrays.asList(blockNumber, false));
-            BlockchainRpcResponse<Map<String, Object>> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<Map<String, Object>>>() {
-            });
+            BlockchainRpcResponse<byte[]> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequestRaw(url, request));
 
             if (response.hasError()) {
                 log.error("Failed to get block by number: {}", response.getError().getMessage());
                 return null;
             }
 
-            return objectMapper.writeValueAsString(response.getResult());
+            return toJsonString(response.getResult());
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting block by number: {}", blockNumber, e);
             return null;
@@ -346,28 +497,12 @@ public class EthereumBlockchainClient implements BlockchainClient {
     @Override
     public String getLatestBlockNumber() {
         try {
-            log.info("Requesting latest block number from: {}", rpcUrl);
-            
-            BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_BLOCK_NUMBER, Arrays.asList());
-            log.debug("Sending request: {}", request);
-            
-            BlockchainRpcResponse<String> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<String>>() {});
-            log.debug("Received response: {}", response);
-            
-            if (response.hasError()) {
-                log.error("Failed to get latest block number: {}", response.getError().getMessage());
-                return "0";
-            }
-            
-            if (response.getResult() == null) {
-                log.error("Received null result from Ethereum RPC");
-                return "0";
-            }
-            
-            // Hex를 decimal로 변환
-            String result = new BigInteger(response.getResult().substring(2), 16).toString();
-            log.info("Successfully got latest block number: {}", result);
+            // 헤드 트래커에서 제공 (허용 지연을 넘은 경우에만 노드 조회)
+            String result = String.valueOf(headTracker.current().number());
+            log.debug("Latest block number: {}", result);
             return result;
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting latest block number: {}", e.getMessage(), e);
             return "0";
@@ -379,37 +514,28 @@ public class EthereumBlockchainClient implements BlockchainClient {
         try {
             log.info("Getting block timestamp for block: {}", blockNumber);
             
-            // blockNumber가 null이면 최신 블록 사용
-            String targetBlock = (blockNumber == null || blockNumber.isEmpty()) ? 
-                EthereumConstants.RpcParams.LATEST : blockNumber;
-            
-            BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_BLOCK_BY_NUMBER,
-                Arrays.asList(targetBlock, false));
-            BlockchainRpcResponse<Map<String, Object>> response = jsonRpcClient.sendRequest(rpcUrl, request,
-                new TypeReference<BlockchainRpcResponse<Map<String, Object>>>() {});
-            
-            if (response.hasError()) {
-                log.error("Failed to get block timestamp: {}", response.getError().getMessage());
-                return null;
+            // blockNumber가 null이면 헤드 트래커의 최신 블록 사용
+            if (blockNumber == null || blockNumber.isEmpty()) {
+                return headTracker.current().timestamp();
             }
             
-            Map<String, Object> block = response.getResult();
+            EthBlockHeader block = getBlockHeader(blockNumber);
             if (block == null) {
                 log.error("Received null block from Ethereum RPC");
                 return null;
             }
             
-            String timestampHex = (String) block.get("timestamp");
-            if (timestampHex == null) {
+            Long timestamp = block.timestamp();
+            if (timestamp == null) {
                 log.error("Block timestamp is null");
                 return null;
             }
             
-            // Hex를 decimal로 변환하여 Unix timestamp 반환
-            Long timestamp = new BigInteger(timestampHex.substring(2), 16).longValue();
-            log.info("Block timestamp: {} (block: {})", timestamp, targetBlock);
+            log.info("Block timestamp: {} (block: {})", timestamp, blockNumber);
             return timestamp;
             
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting block timestamp: {}", e.getMessage(), e);
             return null;
@@ -418,6 +544,241 @@ public class EthereumBlockchainClient implements BlockchainClient {
 
 
 
+    @Override
+    public Map<String, String> getTokenBalances(String tokenAddress, List<String> walletAddresses) {
+        List<Multicall3Codec.Call> calls = new ArrayList<>(walletAddresses.size());
+        for (String walletAddress : walletAddresses) {
+            String data = EthereumConstants.Token.BALANCE_OF_SELECTOR + padLeft(walletAddress.substring(2), 64);
+            calls.add(new Multicall3Codec.Call(tokenAddress, data, true));
+        }
+        
+        try {
+            // Multicall3 aggregate3로 여러 balanceOf를 eth_call 하나에 묶어 조회
+            List<Multicall3Codec.Result> results = multicallClient.aggregate(calls);
+            Map<String, String> balances = new LinkedHashMap<>();
+            for (int i = 0; i < walletAddresses.size(); i++) {
+                BigInteger balance = results.get(i).firstWordAsUint();
+                if (balance == null) {
+                    // 실패한 조회를 0 잔액으로 바꾸지 않고 null로 전달해 호출자가 판단하게 합니다.
+                    log.error("Token balance query failed for wallet {}", walletAddresses.get(i));
+                }
+                balances.put(walletAddresses.get(i), balance == null ? null : balance.toString());
+            }
+            return balances;
+        } catch (RpcUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Multicall balance query failed, falling back to batched eth_call: {}", e.getMessage());
+            return getTokenBalancesByBatch(tokenAddress, walletAddresses);
+        }
+    }
+    
+    /**
+     * 지갑별 balanceOf eth_call을 JSON-RPC 배치로 조회합니다 (Multicall3를 사용할 수 없는 경우).
+     */
+    private Map<String, String> getTokenBalancesByBatch(String tokenAddress, List<String> walletAddresses) {
+        List<BlockchainRpcRequest> requests = new ArrayList<>(walletAddresses.size());
+        for (String walletAddress : walletAddresses) {
+            Map<String, String> transaction = Map.of(
+                "to", tokenAddress,
+                "data", EthereumConstants.Token.BALANCE_OF_SELECTOR + padLeft(walletAddress.substring(2), 64)
+            );
+            requests.add(BlockchainRpcRequest.of(EthereumConstants.RpcMethods.CALL, Arrays.asList(transaction, EthereumConstants.RpcParams.LATEST)));
+        }
+        
+        Map<String, String> balances = new LinkedHashMap<>();
+        try {
+            List<BlockchainRpcResponse<String>> responses = rpcEndpointPool.read(url -> jsonRpcClient.sendBatchRequest(url, requests, STRING_BATCH_RESPONSE));
+            for (int i = 0; i < walletAddresses.size(); i++) {
+                BlockchainRpcResponse<String> response = responses.get(i);
+                if (response.hasError()) {
+                    log.error("Token balance query error for wallet {}: {}", walletAddresses.get(i), response.getError().getMessage());
+                    balances.put(walletAddresses.get(i), null);
+                    continue;
+                }
+                balances.put(walletAddresses.get(i), hexToDecimal(response.getResult()));
+            }
+        } catch (RpcUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error getting token balances for token: {} ({} wallets)", tokenAddress, walletAddresses.size(), e);
+            walletAddresses.forEach(walletAddress -> balances.putIfAbsent(walletAddress, null));
+        }
+        return balances;
+    }
+    
+    @Override
+    public Map<String, String> getTransactionReceipts(List<String> transactionHashes) {
+        List<BlockchainRpcRequest> requests = new ArrayList<>(transactionHashes.size());
+        for (String transactionHash : transactionHashes) {
+            requests.add(BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_TRANSACTION_RECEIPT, Arrays.asList(transactionHash)));
+        }
+        
+        Map<String, String> receipts = new LinkedHashMap<>();
+        try {
+            // 영수증 JSON을 Map으로 디코딩했다가 다시 직렬화하지 않고 result 바이트를 그대로 사용합니다.
+            List<BlockchainRpcResponse<byte[]>> responses = rpcEndpointPool.read(url -> jsonRpcClient.sendBatchRequestRaw(url, requests));
+            for (int i = 0; i < transactionHashes.size(); i++) {
+                BlockchainRpcResponse<byte[]> response = responses.get(i);
+                if (response.hasError()) {
+                    log.error("Failed to get transaction receipt for hash {}: {}", transactionHashes.get(i), response.getError().getMessage());
+                    receipts.put(transactionHashes.get(i), null);
+                    continue;
+                }
+                receipts.put(transactionHashes.get(i), toJsonString(response.getResult()));
+            }
+        } catch (RpcUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error getting transaction receipts ({} hashes)", transactionHashes.size(), e);
+            transactionHashes.forEach(transactionHash -> receipts.putIfAbsent(transactionHash, null));
+        }
+        return receipts;
+    }
+    
+    @Override
+    public Map<String, String> getNonces(List<String> addresses) {
+        List<BlockchainRpcRequest> requests = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            requests.add(BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_TRANSACTION_COUNT, Arrays.asList(address, EthereumConstants.RpcParams.PENDING)));
+        }
+        
+        Map<String, String> nonces = new LinkedHashMap<>();
+        try {
+            List<BlockchainRpcResponse<String>> responses = rpcEndpointPool.read(url -> jsonRpcClient.sendBatchRequest(url, requests, STRING_BATCH_RESPONSE));
+            for (int i = 0; i < addresses.size(); i++) {
+                BlockchainRpcResponse<String> response = responses.get(i);
+                if (response.hasError()) {
+                    log.error("Failed to get nonce for address {}: {}", addresses.get(i), response.getError().getMessage());
+                    nonces.put(addresses.get(i), null);
+                    continue;
+                }
+                nonces.put(addresses.get(i), hexToDecimal(response.getResult()));
+            }
+        } catch (RpcUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error getting nonces ({} addresses)", addresses.size(), e);
+            addresses.forEach(address -> nonces.putIfAbsent(address, null));
+        }
+        return nonces;
+    }
+
+    /**
+     * 헤드 트래커가 사용하는 최신 블록 헤더 조회 함수입니다.
+     * @throws IllegalStateException 조회에 실패한 경우
+     */
+    private ChainHead fetchLatestHead() {
+        BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_BLOCK_BY_NUMBER, Arrays.asList(EthereumConstants.RpcParams.LATEST, false));
+        BlockchainRpcResponse<EthBlockHeader> response;
+        try {
+            response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequestStreaming(url, request, EthereumResultDecoders::blockHeader));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to fetch latest block header: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching latest block header", e);
+        }
+        if (response.hasError()) {
+            throw new IllegalStateException("Failed to fetch latest block header: " + response.getError().getMessage());
+        }
+        EthBlockHeader header = response.getResult();
+        if (header == null || header.number() == null) {
+            throw new IllegalStateException("Received null latest block header from Ethereum RPC");
+        }
+        return new ChainHead(header.number(), header.hash(), header.parentHash(),
+            header.timestamp() == null ? 0L : header.timestamp(), System.currentTimeMillis());
+    }
+
+    /**
+     * 블록 헤더를 조회합니다. 트랜잭션 목록은 디코딩하지 않습니다.
+     * @param blockNumber 블록 번호 (hex) 또는 블록 태그
+     * @return 블록 헤더 (조회 실패 시 null)
+     */
+    public EthBlockHeader getBlockHeader(String blockNumber) {
+        try {
+            BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_BLOCK_BY_NUMBER, Arrays.asList(blockNumber, false));
+            BlockchainRpcResponse<EthBlockHeader> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequestStreaming(url, request, EthereumResultDecoders::blockHeader));
+            
+            if (response.hasError()) {
+                log.error("Failed to get block header: {}", response.getError().getMessage());
+                return null;
+            }
+            
+            return response.getResult();
+        } catch (RpcUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error getting block header: {}", blockNumber, e);
+            return null;
+        }
+    }
+    
+    /**
+     * 트랜잭션 영수증을 타입으로 조회합니다. 로그 목록은 디코딩하지 않습니다.
+     * @param transactionHash 트랜잭션 해시
+     * @return 트랜잭션 영수증 (아직 채굴되지 않았거나 조회 실패 시 null)
+     */
+    public EthTransactionReceipt getReceipt(String transactionHash) {
+        try {
+            BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_TRANSACTION_RECEIPT, Arrays.asList(transactionHash));
+            BlockchainRpcResponse<EthTransactionReceipt> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequestStreaming(url, request, EthereumResultDecoders::transactionReceipt));
+            
+            if (response.hasError()) {
+                log.error("Failed to get transaction receipt: {}", response.getError().getMessage());
+                return null;
+            }
+            
+            return response.getResult();
+        } catch (RpcUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error getting transaction receipt for hash: {}", transactionHash, e);
+            return null;
+        }
+    }
+
+    /**
+     * 노드가 이미 보유한 트랜잭션이라는 에러인지 확인합니다.
+     */
+    private boolean isAlreadyKnown(String errorMessage) {
+        if (errorMessage == null) {
+            return false;
+        }
+        String message = errorMessage.toLowerCase();
+        return message.contains("already known") || message.contains("known transaction");
+    }
+
+    /**
+     * 블록이 확인 깊이 이상 쌓여 재구성 위험이 없는지 확인합니다.
+     * 헤드 트래커에 최신 헤드가 없으면 확정되지 않은 것으로 봅니다.
+     */
+    private boolean isFinalized(Long blockNumber) {
+        if (blockNumber == null) {
+            return false;
+        }
+        return headTracker.fresh()
+            .map(head -> head.number() - blockNumber >= confirmationDepth)
+            .orElse(false);
+    }
+
+    private Long receiptBlockNumber(String receiptJson) {
+        try {
+            JsonNode blockNumber = objectMapper.readTree(receiptJson).path("blockNumber");
+            return blockNumber.isTextual() ? HexQuantity.toLong(blockNumber.asText()) : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String toJsonString(byte[] rawResult) {
+        return rawResult == null ? null : new String(rawResult, StandardCharsets.UTF_8);
+    }
+
+    private String hexToDecimal(String hex) {
+        return HexQuantity.toDecimalString(hex);
+    }
+
     private String padLeft(String value, int length) {
         return String.format("%" + length + "s", value).replace(' ', '0');
     }
@@ -437,7 +798,7 @@ public class EthereumBlockchainClient implements BlockchainClient {
             );
             
             BlockchainRpcRequest request = BlockchainRpcRequest.of(EthereumConstants.RpcMethods.CALL, Arrays.asList(transaction, EthereumConstants.RpcParams.LATEST));
-            BlockchainRpcResponse<String> response = jsonRpcClient.sendRequest(rpcUrl, request, new TypeReference<BlockchainRpcResponse<String>>() {});
+            BlockchainRpcResponse<String> response = rpcEndpointPool.read(url -> jsonRpcClient.sendRequest(url, request, STRING_RESPONSE));
             
             if (response.hasError()) {
                 log.error("Error calling proposalCount(): {}", response.getError().getMessage());
@@ -455,6 +816,8 @@ public class EthereumBlockchainClient implements BlockchainClient {
             
             return proposalCount;
             
+        } catch (RpcUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error calling proposalCount() function: {}", e.getMessage(), e);
             return BigInteger.ZERO;
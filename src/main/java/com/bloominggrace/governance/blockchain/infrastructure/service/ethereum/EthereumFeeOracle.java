@@ -0,0 +1,121 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.ethereum;
+
+import com.bloominggrace.governance.blockchain.domain.exception.RpcUnavailableException;
+import com.bloominggrace.governance.blockchain.infrastructure.config.FeeOracleProperties;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcRequest;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcResponse;
+import com.bloominggrace.governance.blockchain.infrastructure.service.fee.FeeHistoryEstimator;
+import com.bloominggrace.governance.blockchain.infrastructure.service.fee.FeeSpeed;
+import com.bloominggrace.governance.blockchain.infrastructure.service.fee.FeeSuggestion;
+import com.bloominggrace.governance.blockchain.infrastructure.service.rpc.RpcEndpointPool;
+import com.bloominggrace.governance.blockchain.infrastructure.service.rpc.RpcEndpointPoolFactory;
+import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
+import com.bloominggrace.governance.shared.blockchain.util.HexQuantity;
+import com.bloominggrace.governance.shared.blockchain.util.JsonRpcClient;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Ethereum 가스비 오라클
+ * 백그라운드에서 eth_gasPrice와 eth_feeHistory를 하나의 배치로 샘플링하고 등급별 제안을 메모리에 보관합니다.
+ * 트랜잭션 생성 경로는 current()로 마지막 샘플만 읽으므로 RPC 호출이 없습니다.
+ */
+@Slf4j
+@Component
+public class EthereumFeeOracle {
+
+    private static final TypeReference<List<BlockchainRpcResponse<Object>>> OBJECT_BATCH_RESPONSE =
+        new TypeReference<List<BlockchainRpcResponse<Object>>>() {};
+
+    private final RpcEndpointPool rpcEndpointPool;
+    private final JsonRpcClient jsonRpcClient;
+    private final FeeOracleProperties properties;
+    private final AtomicReference<FeeSuggestion> latest = new AtomicReference<>();
+
+    public EthereumFeeOracle(RpcEndpointPoolFactory rpcEndpointPoolFactory,
+                             JsonRpcClient jsonRpcClient,
+                             FeeOracleProperties properties) {
+        this.rpcEndpointPool = rpcEndpointPoolFactory.getPool(NetworkType.ETHEREUM);
+        this.jsonRpcClient = jsonRpcClient;
+        this.properties = properties;
+    }
+
+    /**
+     * 허용 지연 안의 마지막 가스비 제안을 반환합니다.
+     * @return 샘플이 없거나 오래된 경우 empty
+     */
+    public Optional<FeeSuggestion> current() {
+        FeeSuggestion suggestion = latest.get();
+        if (suggestion == null || System.currentTimeMillis() - suggestion.observedAtMillis() > properties.getMaxStalenessMs()) {
+            return Optional.empty();
+        }
+        return Optional.of(suggestion);
+    }
+
+    /**
+     * 지정한 등급의 수수료를 반환합니다.
+     */
+    public Optional<FeeSuggestion.Tier> suggest(FeeSpeed speed) {
+        return current().map(suggestion -> suggestion.tier(speed));
+    }
+
+    /**
+     * 가스비를 다시 샘플링합니다. 실패하면 이전 샘플을 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${blockchain.fee-oracle.refresh-interval-ms:6000}")
+    public void refresh() {
+        try {
+            List<Object> percentiles = List.of(
+                properties.getSlowPercentile(), properties.getStandardPercentile(), properties.getFastPercentile());
+            List<BlockchainRpcRequest> requests = List.of(
+                BlockchainRpcRequest.of(EthereumConstants.RpcMethods.GET_GAS_PRICE, Arrays.asList()),
+                BlockchainRpcRequest.of(EthereumConstants.RpcMethods.FEE_HISTORY,
+                    Arrays.asList("0x" + Integer.toHexString(properties.getBlockCount()), EthereumConstants.RpcParams.LATEST, percentiles))
+            );
+            List<BlockchainRpcResponse<Object>> responses =
+                rpcEndpointPool.read(url -> jsonRpcClient.sendBatchRequest(url, requests, OBJECT_BATCH_RESPONSE));
+
+            BlockchainRpcResponse<Object> gasPriceResponse = responses.get(0);
+            BlockchainRpcResponse<Object> feeHistoryResponse = responses.get(1);
+            BigInteger gasPrice = gasPriceResponse.hasError() || gasPriceResponse.getResult() == null
+                ? null
+                : HexQuantity.toBigInteger((String) gasPriceResponse.getResult());
+
+            List<String> baseFees = List.of();
+            List<List<String>> reward = List.of();
+            if (feeHistoryResponse.hasError()) {
+                log.warn("{} failed, using {} only: {}", EthereumConstants.RpcMethods.FEE_HISTORY,
+                    EthereumConstants.RpcMethods.GET_GAS_PRICE, feeHistoryResponse.getError().getMessage());
+            } else if (feeHistoryResponse.getResult() instanceof Map<?, ?> feeHistory) {
+                baseFees = castList(feeHistory.get("baseFeePerGas"));
+                reward = castList(feeHistory.get("reward"));
+            }
+
+            FeeSuggestion suggestion = FeeHistoryEstimator.estimate(
+                baseFees, reward, gasPrice, properties.getBaseFeeMultiplier(), System.currentTimeMillis());
+            latest.set(suggestion);
+            log.debug("[FeeOracle] baseFee={} gasPrice={} tips(slow/standard/fast)={}/{}/{}",
+                suggestion.baseFeePerGas(), suggestion.gasPrice(), suggestion.slow().maxPriorityFeePerGas(),
+                suggestion.standard().maxPriorityFeePerGas(), suggestion.fast().maxPriorityFeePerGas());
+        } catch (RpcUnavailableException e) {
+            log.warn("[FeeOracle] RPC unavailable, keeping previous sample: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("[FeeOracle] Failed to refresh fee suggestion: {}", e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castList(Object value) {
+        return value instanceof List<?> list ? (List<T>) list : List.of();
+    }
+}
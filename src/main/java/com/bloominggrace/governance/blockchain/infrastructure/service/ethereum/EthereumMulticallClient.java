@@ -0,0 +1,85 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.ethereum;
+
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcRequest;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcResponse;
+import com.bloominggrace.governance.blockchain.infrastructure.service.rpc.RpcEndpointPool;
+import com.bloominggrace.governance.blockchain.infrastructure.service.rpc.RpcEndpointPoolFactory;
+import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
+import com.bloominggrace.governance.shared.blockchain.util.JsonRpcClient;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multicall3 집계 클라이언트
+ * 여러 (target, calldata) view 호출을 aggregate3 eth_call 하나로 묶어 실행합니다.
+ * 호출 수가 많으면 청크로 나누고, 청크들은 하나의 JSON-RPC 배치로 전송합니다.
+ */
+@Slf4j
+@Component
+public class EthereumMulticallClient {
+
+    private static final TypeReference<List<BlockchainRpcResponse<String>>> STRING_BATCH_RESPONSE =
+        new TypeReference<List<BlockchainRpcResponse<String>>>() {};
+
+    private final RpcEndpointPool rpcEndpointPool;
+    private final JsonRpcClient jsonRpcClient;
+    private final String multicallAddress;
+    private final int maxCallsPerAggregate;
+
+    public EthereumMulticallClient(RpcEndpointPoolFactory rpcEndpointPoolFactory,
+                                   JsonRpcClient jsonRpcClient,
+                                   @Value("${blockchain.ethereum.multicall.address:" + EthereumConstants.Contracts.MULTICALL3_ADDRESS + "}") String multicallAddress,
+                                   @Value("${blockchain.ethereum.multicall.max-calls-per-aggregate:500}") int maxCallsPerAggregate) {
+        this.rpcEndpointPool = rpcEndpointPoolFactory.getPool(NetworkType.ETHEREUM);
+        this.jsonRpcClient = jsonRpcClient;
+        this.multicallAddress = multicallAddress;
+        this.maxCallsPerAggregate = Math.max(1, maxCallsPerAggregate);
+    }
+
+    /**
+     * view 호출들을 집계해 실행합니다.
+     * @param calls 호출 목록
+     * @return 호출 순서와 같은 순서의 결과 목록
+     * @throws IOException 통신 오류
+     * @throws IllegalStateException aggregate3 호출 자체가 실패한 경우 (allowFailure=false 호출의 revert 등)
+     * @throws IllegalArgumentException 반환 데이터를 디코딩할 수 없는 경우 (Multicall3 미배포 등)
+     */
+    public List<Multicall3Codec.Result> aggregate(List<Multicall3Codec.Call> calls) throws IOException, InterruptedException {
+        if (calls.isEmpty()) {
+            return List.of();
+        }
+
+        List<BlockchainRpcRequest> requests = new ArrayList<>();
+        for (int from = 0; from < calls.size(); from += maxCallsPerAggregate) {
+            List<Multicall3Codec.Call> chunk = calls.subList(from, Math.min(from + maxCallsPerAggregate, calls.size()));
+            Map<String, String> transaction = Map.of(
+                "to", multicallAddress,
+                "data", Multicall3Codec.encodeAggregate3(chunk)
+            );
+            requests.add(BlockchainRpcRequest.of(EthereumConstants.RpcMethods.CALL, Arrays.asList(transaction, EthereumConstants.RpcParams.LATEST)));
+        }
+        log.debug("Aggregating {} calls into {} aggregate3 eth_call(s)", calls.size(), requests.size());
+
+        List<BlockchainRpcResponse<String>> responses = rpcEndpointPool.read(url -> jsonRpcClient.sendBatchRequest(url, requests, STRING_BATCH_RESPONSE));
+        List<Multicall3Codec.Result> results = new ArrayList<>(calls.size());
+        for (BlockchainRpcResponse<String> response : responses) {
+            if (response.hasError()) {
+                throw new IllegalStateException("aggregate3 eth_call failed: " + response.getError().getMessage());
+            }
+            results.addAll(Multicall3Codec.decodeAggregate3(response.getResult()));
+        }
+        if (results.size() != calls.size()) {
+            throw new IllegalStateException("aggregate3 returned " + results.size() + " results for " + calls.size() + " calls");
+        }
+        return results;
+    }
+}
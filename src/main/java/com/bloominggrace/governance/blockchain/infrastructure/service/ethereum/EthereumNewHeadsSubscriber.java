@@ -0,0 +1,163 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.ethereum;
+
+import com.bloominggrace.governance.blockchain.infrastructure.service.head.ChainHead;
+import com.bloominggrace.governance.blockchain.infrastructure.service.head.ChainHeadTracker;
+import com.bloominggrace.governance.blockchain.infrastructure.service.head.ChainHeadTrackerRegistry;
+import com.bloominggrace.governance.shared.blockchain.util.HexQuantity;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ethereum newHeads 구독
+ * blockchain.ethereum.ws-url이 설정되어 있으면 WebSocket으로 eth_subscribe("newHeads")를 구독해 헤드 트래커를 갱신합니다.
+ * 연결이 끊기면 재연결하며, 그동안은 트래커의 백그라운드 폴링이 헤드를 갱신합니다.
+ */
+@Slf4j
+@Component
+public class EthereumNewHeadsSubscriber {
+
+    private static final long RECONNECT_DELAY_SECONDS = 5;
+
+    private final String wsUrl;
+    private final ChainHeadTrackerRegistry headTrackerRegistry;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ScheduledExecutorService reconnectScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "eth-new-heads");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile WebSocket webSocket;
+    private volatile boolean stopped;
+
+    public EthereumNewHeadsSubscriber(@Value("${blockchain.ethereum.ws-url:}") String wsUrl,
+                                      ChainHeadTrackerRegistry headTrackerRegistry,
+                                      ObjectMapper objectMapper) {
+        this.wsUrl = wsUrl;
+        this.headTrackerRegistry = headTrackerRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (wsUrl == null || wsUrl.isBlank()) {
+            log.info("Ethereum ws-url not configured, head tracker uses polling only");
+            return;
+        }
+        connect();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        reconnectScheduler.shutdownNow();
+        WebSocket current = webSocket;
+        if (current != null) {
+            current.abort();
+        }
+    }
+
+    private void connect() {
+        if (stopped) {
+            return;
+        }
+        Optional<ChainHeadTracker> tracker = headTrackerRegistry.find(NetworkType.ETHEREUM);
+        if (tracker.isEmpty()) {
+            log.warn("Ethereum head tracker not registered, newHeads subscription skipped");
+            return;
+        }
+
+        httpClient.newWebSocketBuilder()
+            .buildAsync(URI.create(wsUrl), new NewHeadsListener(tracker.get()))
+            .whenComplete((socket, error) -> {
+                if (error != null) {
+                    log.warn("Failed to connect to {}: {}", wsUrl, error.getMessage());
+                    scheduleReconnect();
+                    return;
+                }
+                webSocket = socket;
+                socket.sendText("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"eth_subscribe\",\"params\":[\"newHeads\"]}", true);
+                log.info("Subscribed to Ethereum newHeads via {}", wsUrl);
+            });
+    }
+
+    private void scheduleReconnect() {
+        if (!stopped) {
+            reconnectScheduler.schedule(this::connect, RECONNECT_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * eth_subscription 알림을 헤드로 변환해 트래커에 반영하는 리스너
+     */
+    private final class NewHeadsListener implements WebSocket.Listener {
+
+        private final ChainHeadTracker tracker;
+        private final StringBuilder message = new StringBuilder();
+
+        private NewHeadsListener(ChainHeadTracker tracker) {
+            this.tracker = tracker;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            message.append(data);
+            if (last) {
+                handle(message.toString());
+                message.setLength(0);
+            }
+            socket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+            log.warn("newHeads subscription closed ({}): {}", statusCode, reason);
+            scheduleReconnect();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void onError(WebSocket socket, Throwable error) {
+            log.warn("newHeads subscription error: {}", error.getMessage());
+            scheduleReconnect();
+        }
+
+        private void handle(String text) {
+            try {
+                JsonNode header = objectMapper.readTree(text).path("params").path("result");
+                if (!header.hasNonNull("number")) {
+                    // 구독 응답 등 헤더가 아닌 메시지
+                    return;
+                }
+                tracker.update(new ChainHead(
+                    HexQuantity.toLong(header.path("number").asText()),
+                    header.path("hash").asText(null),
+                    header.path("parentHash").asText(null),
+                    HexQuantity.toLong(header.path("timestamp").asText()),
+                    System.currentTimeMillis()
+                ));
+            } catch (Exception e) {
+                log.warn("Failed to handle newHeads message: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.ethereum;
+
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.EthBlockHeader;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.EthTransactionReceipt;
+import com.bloominggrace.governance.shared.blockchain.util.HexQuantity;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import static com.bloominggrace.governance.shared.blockchain.util.JsonRpcResponseDecoder.countArrayElements;
+import static com.bloominggrace.governance.shared.blockchain.util.JsonRpcResponseDecoder.textOrNull;
+
+/**
+ * Ethereum JSON-RPC result 스트리밍 디코더 모음
+ * 필요한 필드만 읽고 트랜잭션/로그 목록 같은 큰 배열은 내용을 건너뜁니다.
+ */
+public final class EthereumResultDecoders {
+
+    private EthereumResultDecoders() {
+        // 유틸리티 클래스는 인스턴스화 불가
+    }
+
+    /**
+     * eth_getBlockBy* 결과를 블록 헤더로 디코딩합니다.
+     */
+    public static EthBlockHeader blockHeader(JsonParser parser) throws IOException {
+        expectObject(parser);
+
+        Long number = null;
+        String hash = null;
+        String parentHash = null;
+        Long timestamp = null;
+        BigInteger gasLimit = null;
+        BigInteger gasUsed = null;
+        BigInteger baseFeePerGas = null;
+        int transactionCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "number":
+                    number = quantityAsLong(parser);
+                    break;
+                case "hash":
+                    hash = textOrNull(parser);
+                    break;
+                case "parentHash":
+                    parentHash = textOrNull(parser);
+                    break;
+                case "timestamp":
+                    timestamp = quantityAsLong(parser);
+                    break;
+                case "gasLimit":
+                    gasLimit = quantity(parser);
+                    break;
+                case "gasUsed":
+                    gasUsed = quantity(parser);
+                    break;
+                case "baseFeePerGas":
+                    baseFeePerGas = quantity(parser);
+                    break;
+                case "transactions":
+                    transactionCount = countArrayElements(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return new EthBlockHeader(number, hash, parentHash, timestamp, gasLimit, gasUsed, baseFeePerGas, transactionCount);
+    }
+
+    /**
+     * eth_getTransactionReceipt 결과를 영수증으로 디코딩합니다.
+     */
+    public static EthTransactionReceipt transactionReceipt(JsonParser parser) throws IOException {
+        expectObject(parser);
+
+        String transactionHash = null;
+        String blockHash = null;
+        Long blockNumber = null;
+        String from = null;
+        String to = null;
+        String contractAddress = null;
+        boolean success = false;
+        BigInteger gasUsed = null;
+        BigInteger effectiveGasPrice = null;
+        int logCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "transactionHash":
+                    transactionHash = textOrNull(parser);
+                    break;
+                case "blockHash":
+                    blockHash = textOrNull(parser);
+                    break;
+                case "blockNumber":
+                    blockNumber = quantityAsLong(parser);
+                    break;
+                case "from":
+                    from = textOrNull(parser);
+                    break;
+                case "to":
+                    to = textOrNull(parser);
+                    break;
+                case "contractAddress":
+                    contractAddress = textOrNull(parser);
+                    break;
+                case "status":
+                    success = "0x1".equals(textOrNull(parser));
+                    break;
+                case "gasUsed":
+                    gasUsed = quantity(parser);
+                    break;
+                case "effectiveGasPrice":
+                    effectiveGasPrice = quantity(parser);
+                    break;
+                case "logs":
+                    logCount = countArrayElements(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return new EthTransactionReceipt(transactionHash, blockHash, blockNumber, from, to, contractAddress,
+            success, gasUsed, effectiveGasPrice, logCount);
+    }
+
+    /**
+     * hex quantity 문자열 result를 10진수 문자열로 디코딩합니다.
+     */
+    public static String decimalQuantity(JsonParser parser) throws IOException {
+        return HexQuantity.toDecimalString(textOrNull(parser));
+    }
+
+    private static void expectObject(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected JSON object but got: " + parser.currentToken());
+        }
+    }
+
+    private static Long quantityAsLong(JsonParser parser) throws IOException {
+        String text = textOrNull(parser);
+        return text == null ? null : HexQuantity.toLong(text);
+    }
+
+    private static BigInteger quantity(JsonParser parser) throws IOException {
+        String text = textOrNull(parser);
+        return text == null ? null : HexQuantity.toBigInteger(text);
+    }
+}
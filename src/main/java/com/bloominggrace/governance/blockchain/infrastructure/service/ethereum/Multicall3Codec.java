@@ -0,0 +1,145 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.ethereum;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Multicall3 aggregate3 ABI 인코더/디코더
+ * aggregate3((address target, bool allowFailure, bytes callData)[]) returns ((bool success, bytes returnData)[])
+ */
+public final class Multicall3Codec {
+
+    /**
+     * aggregate3((address,bool,bytes)[]) 함수 선택자
+     */
+    public static final String AGGREGATE3_SELECTOR = "0x82ad56cb";
+
+    private static final int WORD = 32;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private Multicall3Codec() {
+        // 유틸리티 클래스는 인스턴스화 불가
+    }
+
+    /**
+     * 개별 view 호출
+     *
+     * @param target 호출할 컨트랙트 주소
+     * @param callData ABI 인코딩된 호출 데이터 (0x 접두사)
+     * @param allowFailure 실패를 허용할지 여부 (false면 하나라도 실패 시 전체가 revert)
+     */
+    public record Call(String target, String callData, boolean allowFailure) {
+    }
+
+    /**
+     * 개별 호출 결과
+     *
+     * @param success 호출 성공 여부
+     * @param returnData 반환 데이터 (0x 접두사)
+     */
+    public record Result(boolean success, String returnData) {
+
+        /**
+         * 반환 데이터의 첫 번째 워드를 uint256으로 해석합니다.
+         * @return 값 (실패했거나 반환 데이터가 없으면 null)
+         */
+        public BigInteger firstWordAsUint() {
+            if (!success || returnData == null || returnData.length() < 2 + WORD * 2) {
+                return null;
+            }
+            return new BigInteger(returnData.substring(2, 2 + WORD * 2), 16);
+        }
+    }
+
+    /**
+     * aggregate3 호출 데이터를 인코딩합니다.
+     */
+    public static String encodeAggregate3(List<Call> calls) {
+        List<String> tuples = new ArrayList<>(calls.size());
+        for (Call call : calls) {
+            tuples.add(encodeCall(call));
+        }
+
+        StringBuilder encoded = new StringBuilder(AGGREGATE3_SELECTOR);
+        encoded.append(word(WORD));               // 배열 오프셋
+        encoded.append(word(calls.size()));       // 배열 길이
+        long offset = (long) WORD * calls.size(); // 첫 번째 튜플의 오프셋 (오프셋 영역 기준)
+        for (String tuple : tuples) {
+            encoded.append(word(offset));
+            offset += tuple.length() / 2;
+        }
+        tuples.forEach(encoded::append);
+        return encoded.toString();
+    }
+
+    /**
+     * aggregate3 반환 데이터를 디코딩합니다.
+     * @throws IllegalArgumentException 반환 데이터 형식이 올바르지 않은 경우 (예: Multicall3 미배포로 "0x" 반환)
+     */
+    public static List<Result> decodeAggregate3(String returnData) {
+        if (returnData == null || returnData.length() <= 2) {
+            throw new IllegalArgumentException("Empty aggregate3 return data");
+        }
+        byte[] data = HEX.parseHex(returnData.startsWith("0x") ? returnData.substring(2) : returnData);
+
+        int arrayOffset = readInt(data, 0);
+        int length = readInt(data, arrayOffset);
+        int base = arrayOffset + WORD;
+        List<Result> results = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            int tupleOffset = base + readInt(data, base + WORD * i);
+            boolean success = readInt(data, tupleOffset) != 0;
+            int bytesOffset = tupleOffset + readInt(data, tupleOffset + WORD);
+            int bytesLength = readInt(data, bytesOffset);
+            int start = bytesOffset + WORD;
+            if (start + bytesLength > data.length) {
+                throw new IllegalArgumentException("aggregate3 return data truncated at result " + i);
+            }
+            results.add(new Result(success, "0x" + HEX.formatHex(data, start, start + bytesLength)));
+        }
+        return results;
+    }
+
+    private static String encodeCall(Call call) {
+        String callData = strip(call.callData());
+        if (callData.length() % 2 != 0) {
+            throw new IllegalArgumentException("Call data must be whole bytes: " + call.callData());
+        }
+        int dataLength = callData.length() / 2;
+        StringBuilder tuple = new StringBuilder();
+        tuple.append(leftPad(strip(call.target()).toLowerCase()));
+        tuple.append(word(call.allowFailure() ? 1 : 0));
+        tuple.append(word(WORD * 3));             // bytes 오프셋 (튜플 기준)
+        tuple.append(word(dataLength));
+        tuple.append(callData.toLowerCase());
+        int padding = (WORD - dataLength % WORD) % WORD;
+        tuple.append("00".repeat(padding));
+        return tuple.toString();
+    }
+
+    private static int readInt(byte[] data, int position) {
+        if (position < 0 || position + WORD > data.length) {
+            throw new IllegalArgumentException("aggregate3 return data out of range at offset " + position);
+        }
+        BigInteger value = new BigInteger(1, Arrays.copyOfRange(data, position, position + WORD));
+        if (value.bitLength() > 31) {
+            throw new IllegalArgumentException("aggregate3 offset too large at " + position);
+        }
+        return value.intValue();
+    }
+
+    private static String word(long value) {
+        return leftPad(Long.toHexString(value));
+    }
+
+    private static String leftPad(String hex) {
+        return "0".repeat(Math.max(0, WORD * 2 - hex.length())) + hex;
+    }
+
+    private static String strip(String hex) {
+        return hex.startsWith("0x") || hex.startsWith("0X") ? hex.substring(2) : hex;
+    }
+}
@@ -0,0 +1,175 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.ethereum;
+
+import org.web3j.crypto.Hash;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * eth_call revert 데이터 디코더
+ * Error(string), Panic(uint256)과 거버넌스/ERC-20 컨트랙트(OpenZeppelin)의 커스텀 에러를 사람이 읽을 수 있는 사유로 변환합니다.
+ */
+public final class RevertReasonDecoder {
+
+    /**
+     * Error(string) 선택자
+     */
+    public static final String ERROR_SELECTOR = "0x08c379a0";
+
+    /**
+     * Panic(uint256) 선택자
+     */
+    public static final String PANIC_SELECTOR = "0x4e487b71";
+
+    private static final int WORD = 32;
+    private static final int SELECTOR_HEX_LENGTH = 10;
+    private static final HexFormat HEX = HexFormat.of();
+
+    // 거버넌스/ERC-20 컨트랙트의 커스텀 에러 (정적 타입 인자만 사용)
+    private static final List<String> CUSTOM_ERRORS = List.of(
+        "GovernorAlreadyCastVote(address)",
+        "GovernorNonexistentProposal(uint256)",
+        "GovernorUnexpectedProposalState(uint256,uint8,bytes32)",
+        "GovernorInsufficientProposerVotes(address,uint256,uint256)",
+        "GovernorInvalidVoteType()",
+        "GovernorRestrictedProposer(address)",
+        "ERC20InsufficientBalance(address,uint256,uint256)",
+        "ERC20InsufficientAllowance(address,uint256,uint256)",
+        "ERC20InvalidSender(address)",
+        "ERC20InvalidReceiver(address)",
+        "ERC20InvalidApprover(address)",
+        "ERC20InvalidSpender(address)",
+        "ERC5805FutureLookup(uint256,uint48)"
+    );
+
+    private static final Map<String, String> CUSTOM_ERROR_SIGNATURES = new LinkedHashMap<>();
+
+    static {
+        for (String signature : CUSTOM_ERRORS) {
+            CUSTOM_ERROR_SIGNATURES.put(Hash.sha3String(signature).substring(0, SELECTOR_HEX_LENGTH), signature);
+        }
+    }
+
+    private RevertReasonDecoder() {
+        // 유틸리티 클래스는 인스턴스화 불가
+    }
+
+    /**
+     * 디코딩된 revert 사유
+     *
+     * @param errorName 에러 이름 (Error, Panic, 커스텀 에러 이름, 알 수 없으면 null)
+     * @param reason 사람이 읽을 수 있는 사유
+     */
+    public record Decoded(String errorName, String reason) {
+    }
+
+    /**
+     * revert 데이터를 디코딩합니다.
+     *
+     * @param revertData 0x 접두사가 붙은 revert 데이터 (없으면 null)
+     * @param fallbackMessage 데이터가 없거나 알 수 없을 때 사용할 노드 에러 메시지
+     */
+    public static Decoded decode(String revertData, String fallbackMessage) {
+        if (revertData == null || revertData.length() < SELECTOR_HEX_LENGTH || !revertData.startsWith("0x")) {
+            return new Decoded(null, messageReason(fallbackMessage));
+        }
+        String selector = revertData.substring(0, SELECTOR_HEX_LENGTH).toLowerCase(Locale.ROOT);
+        try {
+            byte[] arguments = HEX.parseHex(revertData.substring(SELECTOR_HEX_LENGTH));
+            if (ERROR_SELECTOR.equals(selector)) {
+                return new Decoded("Error", decodeString(arguments));
+            }
+            if (PANIC_SELECTOR.equals(selector)) {
+                return new Decoded("Panic", panicReason(word(arguments, 0)));
+            }
+            String signature = CUSTOM_ERROR_SIGNATURES.get(selector);
+            if (signature != null) {
+                String name = signature.substring(0, signature.indexOf('('));
+                return new Decoded(name, name + formatArguments(signature, arguments));
+            }
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            // 잘렸거나 형식이 잘못된 데이터는 노드 메시지로 대체
+        }
+        return new Decoded(null, messageReason(fallbackMessage) + " (" + selector + ")");
+    }
+
+    /**
+     * Panic 코드 설명 (Solidity 0.8 기준)
+     */
+    static String panicReason(BigInteger code) {
+        String description = switch (code.intValue()) {
+            case 0x01 -> "assertion failed";
+            case 0x11 -> "arithmetic overflow or underflow";
+            case 0x12 -> "division or modulo by zero";
+            case 0x21 -> "invalid enum value";
+            case 0x22 -> "invalid storage byte array";
+            case 0x31 -> "pop on empty array";
+            case 0x32 -> "array index out of bounds";
+            case 0x41 -> "out of memory";
+            case 0x51 -> "call to zero-initialized function";
+            default -> "unknown panic";
+        };
+        return description + " (0x" + code.toString(16) + ")";
+    }
+
+    private static String decodeString(byte[] arguments) {
+        int offset = word(arguments, 0).intValueExact();
+        int length = word(arguments, offset).intValueExact();
+        int start = offset + WORD;
+        if (start + length > arguments.length) {
+            throw new IllegalArgumentException("Truncated revert string");
+        }
+        return new String(arguments, start, length, StandardCharsets.UTF_8);
+    }
+
+    private static String formatArguments(String signature, byte[] arguments) {
+        String types = signature.substring(signature.indexOf('(') + 1, signature.length() - 1);
+        if (types.isEmpty()) {
+            return "()";
+        }
+        List<String> values = new ArrayList<>();
+        String[] parts = types.split(",");
+        for (int i = 0; i < parts.length; i++) {
+            byte[] word = slice(arguments, i * WORD);
+            String type = parts[i];
+            if ("address".equals(type)) {
+                values.add("0x" + HEX.formatHex(word, WORD - 20, WORD));
+            } else if (type.startsWith("uint")) {
+                values.add(new BigInteger(1, word).toString());
+            } else {
+                values.add("0x" + HEX.formatHex(word));
+            }
+        }
+        return "(" + String.join(", ", values) + ")";
+    }
+
+    private static BigInteger word(byte[] data, int offset) {
+        return new BigInteger(1, slice(data, offset));
+    }
+
+    private static byte[] slice(byte[] data, int offset) {
+        if (offset < 0 || offset + WORD > data.length) {
+            throw new IllegalArgumentException("Truncated revert data");
+        }
+        byte[] word = new byte[WORD];
+        System.arraycopy(data, offset, word, 0, WORD);
+        return word;
+    }
+
+    /**
+     * 노드 메시지에서 "execution reverted: " 접두사를 제거합니다.
+     */
+    private static String messageReason(String message) {
+        if (message == null || message.isBlank()) {
+            return "execution reverted";
+        }
+        String prefix = "execution reverted: ";
+        return message.startsWith(prefix) ? message.substring(prefix.length()) : message;
+    }
+}
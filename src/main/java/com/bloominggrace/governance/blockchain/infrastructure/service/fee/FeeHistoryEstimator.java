@@ -0,0 +1,78 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.fee;
+
+import com.bloominggrace.governance.shared.blockchain.util.HexQuantity;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * eth_feeHistory 결과로 등급별 가스비 제안을 계산합니다.
+ * 우선순위 수수료는 블록별 보상 백분위수의 중앙값, maxFeePerGas는 다음 블록 base fee × 배수 + 우선순위 수수료입니다.
+ */
+public final class FeeHistoryEstimator {
+
+    private FeeHistoryEstimator() {
+    }
+
+    /**
+     * @param baseFeePerGas eth_feeHistory의 baseFeePerGas (마지막 값이 다음 블록 base fee)
+     * @param reward eth_feeHistory의 reward (블록별 [slow, standard, fast] 백분위수 순서)
+     * @param gasPrice eth_gasPrice 결과 (없으면 null)
+     * @param baseFeeMultiplier 다음 블록 base fee에 곱할 배수
+     * @param observedAtMillis 샘플링 시각
+     * @throws IllegalArgumentException 가스 가격과 base fee를 모두 구할 수 없는 경우
+     */
+    public static FeeSuggestion estimate(List<String> baseFeePerGas, List<List<String>> reward,
+                                         BigInteger gasPrice, int baseFeeMultiplier, long observedAtMillis) {
+        BigInteger nextBaseFee = baseFeePerGas == null || baseFeePerGas.isEmpty()
+            ? BigInteger.ZERO
+            : HexQuantity.toBigInteger(baseFeePerGas.get(baseFeePerGas.size() - 1));
+
+        if (nextBaseFee.signum() == 0) {
+            // EIP-1559 미지원 체인: 레거시 가스 가격만 사용
+            if (gasPrice == null) {
+                throw new IllegalArgumentException("Neither base fee nor gas price is available");
+            }
+            FeeSuggestion.Tier legacy = new FeeSuggestion.Tier(gasPrice, gasPrice);
+            return new FeeSuggestion(BigInteger.ZERO, gasPrice, legacy, legacy, legacy, observedAtMillis);
+        }
+
+        // 보상 샘플이 없으면 노드의 가스 가격에서 base fee를 뺀 값을 팁으로 사용
+        BigInteger fallbackTip = gasPrice == null ? BigInteger.ZERO : gasPrice.subtract(nextBaseFee).max(BigInteger.ZERO);
+        BigInteger slowTip = medianReward(reward, 0, fallbackTip);
+        BigInteger standardTip = medianReward(reward, 1, fallbackTip).max(slowTip);
+        BigInteger fastTip = medianReward(reward, 2, fallbackTip).max(standardTip);
+
+        BigInteger maxBaseFee = nextBaseFee.multiply(BigInteger.valueOf(Math.max(1, baseFeeMultiplier)));
+        FeeSuggestion.Tier slow = new FeeSuggestion.Tier(slowTip, maxBaseFee.add(slowTip));
+        FeeSuggestion.Tier standard = new FeeSuggestion.Tier(standardTip, maxBaseFee.add(standardTip));
+        FeeSuggestion.Tier fast = new FeeSuggestion.Tier(fastTip, maxBaseFee.add(fastTip));
+
+        BigInteger legacyGasPrice = gasPrice != null ? gasPrice : nextBaseFee.add(standardTip);
+        return new FeeSuggestion(nextBaseFee, legacyGasPrice, slow, standard, fast, observedAtMillis);
+    }
+
+    /**
+     * 블록별 보상 중 지정한 백분위수 열의 중앙값을 계산합니다. 빈 블록의 0 보상은 제외합니다.
+     */
+    private static BigInteger medianReward(List<List<String>> reward, int column, BigInteger fallback) {
+        if (reward == null) {
+            return fallback;
+        }
+        List<BigInteger> samples = new ArrayList<>();
+        for (List<String> blockReward : reward) {
+            if (blockReward != null && blockReward.size() > column) {
+                BigInteger value = HexQuantity.toBigInteger(blockReward.get(column));
+                if (value.signum() > 0) {
+                    samples.add(value);
+                }
+            }
+        }
+        if (samples.isEmpty()) {
+            return fallback;
+        }
+        samples.sort(null);
+        return samples.get(samples.size() / 2);
+    }
+}
@@ -0,0 +1,10 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.fee;
+
+/**
+ * 가스비 제안 등급
+ */
+public enum FeeSpeed {
+    SLOW,
+    STANDARD,
+    FAST
+}
@@ -0,0 +1,43 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.fee;
+
+import java.math.BigInteger;
+
+/**
+ * 가스비 제안 스냅샷
+ * @param baseFeePerGas 다음 블록의 base fee (EIP-1559 미지원 체인이면 0)
+ * @param gasPrice 레거시 트랜잭션용 가스 가격
+ * @param slow SLOW 등급 수수료
+ * @param standard STANDARD 등급 수수료
+ * @param fast FAST 등급 수수료
+ * @param observedAtMillis 샘플링 시각 (epoch ms)
+ */
+public record FeeSuggestion(
+    BigInteger baseFeePerGas,
+    BigInteger gasPrice,
+    Tier slow,
+    Tier standard,
+    Tier fast,
+    long observedAtMillis
+) {
+
+    /**
+     * EIP-1559 (type 2) 트랜잭션을 사용할 수 있는지 여부
+     */
+    public boolean isEip1559() {
+        return baseFeePerGas.signum() > 0;
+    }
+
+    public Tier tier(FeeSpeed speed) {
+        return switch (speed) {
+            case SLOW -> slow;
+            case STANDARD -> standard;
+            case FAST -> fast;
+        };
+    }
+
+    /**
+     * 등급별 EIP-1559 수수료
+     */
+    public record Tier(BigInteger maxPriorityFeePerGas, BigInteger maxFeePerGas) {
+    }
+}
@@ -0,0 +1,228 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.gas;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.infrastructure.config.GasModelProperties;
+import com.bloominggrace.governance.shared.blockchain.util.HexQuantity;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Ethereum 가스 한도 모델
+ * 확정 영수증의 gasUsed를 호출 형태(컨트랙트, 함수 셀렉터, 호출 데이터 워드 수)별로 보관하고
+ * 높은 백분위수 + 안전 여유를 가스 한도로 제공합니다. 샘플이 부족한 형태는 형태별로 캐시된
+ * eth_estimateGas 결과를 사용하므로, 형태마다 최초 한 번을 제외하면 가스 한도 계산에 RPC 호출이 없습니다.
+ * 추정도 실패하면 호출자가 넘긴 고정 가스 한도를 사용합니다.
+ *
+ * 메트릭: blockchain.gas.limit.resolved (source=learned|estimate|fallback), blockchain.gas.model.shapes
+ */
+@Slf4j
+@Component
+public class GasLimitModel {
+
+    private static final String SOURCE_LEARNED = "learned";
+    private static final String SOURCE_ESTIMATE = "estimate";
+    private static final String SOURCE_FALLBACK = "fallback";
+
+    // 0x + 4바이트 함수 셀렉터
+    private static final int SELECTOR_HEX_LENGTH = 10;
+
+    private final BlockchainClientFactory blockchainClientFactory;
+    private final GasModelProperties properties;
+    private final Cache<String, GasUsageWindow> usage;
+    private final Cache<String, BigInteger> estimates;
+    // 브로드캐스트된 트랜잭션 해시 → 호출 형태 (영수증이 오면 제거)
+    private final Cache<String, String> pending;
+    private final Counter learnedCounter;
+    private final Counter estimateCounter;
+    private final Counter fallbackCounter;
+
+    public GasLimitModel(BlockchainClientFactory blockchainClientFactory,
+                         GasModelProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.blockchainClientFactory = blockchainClientFactory;
+        this.properties = properties;
+        this.usage = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxShapes())
+            .build();
+        this.estimates = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxShapes())
+            .expireAfterWrite(Duration.ofMillis(properties.getEstimateTtlMs()))
+            .build();
+        this.pending = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxPending())
+            .expireAfterWrite(Duration.ofMillis(properties.getPendingTtlMs()))
+            .build();
+        this.learnedCounter = resolvedCounter(meterRegistry, SOURCE_LEARNED);
+        this.estimateCounter = resolvedCounter(meterRegistry, SOURCE_ESTIMATE);
+        this.fallbackCounter = resolvedCounter(meterRegistry, SOURCE_FALLBACK);
+        Gauge.builder("blockchain.gas.model.shapes", usage, cache -> cache.estimatedSize())
+            .description("Call shapes with recorded gasUsed samples")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 호출의 가스 한도를 계산합니다.
+     * 학습된 형태는 로컬 계산만, 처음 보는 형태는 eth_estimateGas 한 번(이후 캐시)으로 결정합니다.
+     *
+     * @param from 발신자 주소 (추정 시 사용)
+     * @param to 컨트랙트 주소
+     * @param data 0x 접두사가 붙은 호출 데이터
+     * @param fallback 모델을 쓸 수 없을 때의 고정 가스 한도
+     */
+    public BigInteger gasLimit(String from, String to, String data, BigInteger fallback) {
+        String shape = shapeOf(to, data);
+        if (!properties.isEnabled() || shape == null) {
+            fallbackCounter.increment();
+            return fallback;
+        }
+
+        GasUsageWindow window = usage.getIfPresent(shape);
+        if (window != null && window.size() >= Math.max(1, properties.getMinSamples())) {
+            learnedCounter.increment();
+            return withMargin(window.percentile(properties.getPercentile()));
+        }
+
+        BigInteger estimate = estimates.getIfPresent(shape);
+        if (estimate == null) {
+            estimate = estimate(from, to, data);
+            if (estimate == null) {
+                fallbackCounter.increment();
+                return fallback;
+            }
+            estimates.put(shape, estimate);
+        }
+        estimateCounter.increment();
+        return withMargin(estimate.longValueExact());
+    }
+
+    /**
+     * 브로드캐스트된 트랜잭션의 호출 형태를 기억해 두고, 영수증이 확정되면 observe로 학습합니다.
+     */
+    public void expect(String transactionHash, String to, String data) {
+        String shape = shapeOf(to, data);
+        if (properties.isEnabled() && transactionHash != null && shape != null) {
+            pending.put(transactionHash.toLowerCase(Locale.ROOT), shape);
+        }
+    }
+
+    /**
+     * 확정된 영수증의 gasUsed를 호출 형태의 샘플로 기록합니다.
+     * expect로 등록되지 않은 트랜잭션과 revert된 트랜잭션은 학습하지 않습니다.
+     */
+    public void observe(String transactionHash, JsonNode receipt) {
+        if (transactionHash == null) {
+            return;
+        }
+        String shape = pending.asMap().remove(transactionHash.toLowerCase(Locale.ROOT));
+        if (shape == null || receipt == null || !receipt.hasNonNull("gasUsed")) {
+            return;
+        }
+        if (HexQuantity.toLong(receipt.path("status").asText("0x1")) != 1) {
+            return;
+        }
+        record(shape, HexQuantity.toLong(receipt.get("gasUsed").asText()));
+    }
+
+    /**
+     * 호출 형태의 학습된 샘플 수
+     */
+    public int sampleCount(String to, String data) {
+        String shape = shapeOf(to, data);
+        GasUsageWindow window = shape == null ? null : usage.getIfPresent(shape);
+        return window == null ? 0 : window.size();
+    }
+
+    void record(String shape, long gasUsed) {
+        usage.get(shape, key -> new GasUsageWindow(properties.getWindowSize())).add(gasUsed);
+    }
+
+    /**
+     * 호출 형태 키 (컨트랙트:셀렉터:호출 데이터 워드 수)
+     * 문자열/배열 인자는 길이에 따라 가스 사용량이 달라지므로 호출 데이터 길이까지 형태에 포함합니다.
+     *
+     * @return 셀렉터가 없는 호출(단순 전송)은 null
+     */
+    static String shapeOf(String to, String data) {
+        if (to == null || data == null || data.length() < SELECTOR_HEX_LENGTH || !data.startsWith("0x")) {
+            return null;
+        }
+        int argumentWords = (data.length() - SELECTOR_HEX_LENGTH + 63) / 64;
+        return to.toLowerCase(Locale.ROOT) + ":" + data.substring(2, SELECTOR_HEX_LENGTH).toLowerCase(Locale.ROOT) + ":" + argumentWords;
+    }
+
+    private BigInteger estimate(String from, String to, String data) {
+        try {
+            BigInteger estimate = new BigInteger(blockchainClientFactory.getClient(NetworkType.ETHEREUM).estimateGas(from, to, data));
+            if (estimate.signum() <= 0) {
+                log.warn("Gas estimation returned no result - To: {}, Selector: {}", to, data.substring(0, SELECTOR_HEX_LENGTH));
+                return null;
+            }
+            return estimate;
+        } catch (RuntimeException e) {
+            log.warn("Gas estimation failed - To: {}, Error: {}", to, e.getMessage());
+            return null;
+        }
+    }
+
+    private BigInteger withMargin(long gas) {
+        return BigDecimal.valueOf(gas)
+            .multiply(BigDecimal.valueOf(100 + properties.getMarginPercent()))
+            .divide(BigDecimal.valueOf(100), 0, RoundingMode.CEILING)
+            .toBigIntegerExact();
+    }
+
+    private static Counter resolvedCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("blockchain.gas.limit.resolved")
+            .description("Gas limits resolved by source")
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 호출 형태별 최근 gasUsed 샘플 (고정 크기 링 버퍼)
+     */
+    static final class GasUsageWindow {
+
+        private final long[] samples;
+        private int count;
+        private int index;
+
+        GasUsageWindow(int size) {
+            this.samples = new long[Math.max(1, size)];
+        }
+
+        synchronized void add(long gasUsed) {
+            samples[index] = gasUsed;
+            index = (index + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        synchronized int size() {
+            return count;
+        }
+
+        /**
+         * @param percentile 백분위수 (0~1)
+         */
+        synchronized long percentile(double percentile) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int position = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(position, sorted.length - 1))];
+        }
+    }
+}
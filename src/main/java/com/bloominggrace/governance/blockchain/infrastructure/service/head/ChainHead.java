@@ -0,0 +1,26 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.head;
+
+/**
+ * 체인 헤드(블록 헤더 요약)
+ *
+ * @param number 블록 번호
+ * @param hash 블록 해시
+ * @param parentHash 부모 블록 해시
+ * @param timestamp 블록 타임스탬프 (초)
+ * @param observedAtMillis 트래커가 이 헤드를 관측한 시각 (epoch ms)
+ */
+public record ChainHead(
+    long number,
+    String hash,
+    String parentHash,
+    long timestamp,
+    long observedAtMillis
+) {
+
+    /**
+     * 관측 시각을 갱신한 사본을 반환합니다.
+     */
+    public ChainHead observedAt(long millis) {
+        return new ChainHead(number, hash, parentHash, timestamp, millis);
+    }
+}
@@ -0,0 +1,156 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.head;
+
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 네트워크별 체인 헤드 트래커
+ * 최근 N개의 블록 헤더를 링 버퍼에 보관하고, 최신 블록 번호/해시/타임스탬프를 메모리에서 제공합니다.
+ * 헤드는 백그라운드 폴링 또는 newHeads 구독으로 갱신되며, 허용 지연(staleness)을 넘으면 노드에서 다시 조회합니다.
+ */
+@Slf4j
+public class ChainHeadTracker {
+
+    private final NetworkType networkType;
+    private final Supplier<ChainHead> source;
+    private final long maxStalenessMs;
+    private final LongSupplier clock;
+
+    private final ChainHead[] buffer;
+    private int size;
+    private int tail;
+    private volatile ChainHead latest;
+
+    public ChainHeadTracker(NetworkType networkType, Supplier<ChainHead> source, int historySize, long maxStalenessMs) {
+        this(networkType, source, historySize, maxStalenessMs, System::currentTimeMillis);
+    }
+
+    ChainHeadTracker(NetworkType networkType, Supplier<ChainHead> source, int historySize, long maxStalenessMs, LongSupplier clock) {
+        this.networkType = networkType;
+        this.source = source;
+        this.buffer = new ChainHead[Math.max(1, historySize)];
+        this.maxStalenessMs = maxStalenessMs;
+        this.clock = clock;
+    }
+
+    public NetworkType getNetworkType() {
+        return networkType;
+    }
+
+    /**
+     * 허용 지연 안의 최신 헤드를 반환합니다. 없으면 노드에서 조회해 갱신합니다.
+     * @throws RuntimeException 노드 조회에 실패한 경우
+     */
+    public ChainHead current() {
+        return fresh().orElseGet(this::refresh);
+    }
+
+    /**
+     * 허용 지연 안의 최신 헤드를 반환합니다 (노드 조회 없음).
+     */
+    public Optional<ChainHead> fresh() {
+        ChainHead head = latest;
+        if (head == null || clock.getAsLong() - head.observedAtMillis() > maxStalenessMs) {
+            return Optional.empty();
+        }
+        return Optional.of(head);
+    }
+
+    /**
+     * 노드에서 최신 헤드를 조회해 갱신합니다.
+     * 동시에 여러 스레드가 호출해도 노드 조회는 한 번만 수행합니다.
+     */
+    public synchronized ChainHead refresh() {
+        Optional<ChainHead> head = fresh();
+        if (head.isPresent()) {
+            return head.get();
+        }
+        ChainHead fetched = Objects.requireNonNull(source.get(), "Head source returned null for " + networkType);
+        update(fetched);
+        return latest;
+    }
+
+    /**
+     * 마지막 관측 후 주어진 시간이 지났을 때만 폴링합니다 (구독으로 갱신 중이면 생략).
+     */
+    public void pollIfIdle(long idleMs) {
+        ChainHead head = latest;
+        if (head != null && clock.getAsLong() - head.observedAtMillis() < idleMs) {
+            return;
+        }
+        try {
+            ChainHead fetched = source.get();
+            if (fetched != null) {
+                update(fetched);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[HeadTracker:{}] Failed to poll chain head: {}", networkType, e.getMessage());
+        }
+    }
+
+    /**
+     * 새 헤드를 반영합니다.
+     * 같은 높이 이하의 다른 해시가 들어오면 재구성(reorg)으로 보고 해당 높이 이후의 헤더를 버립니다.
+     */
+    public synchronized void update(ChainHead head) {
+        ChainHead observed = head.observedAt(clock.getAsLong());
+        ChainHead current = latest;
+
+        if (current != null && observed.number() == current.number() && Objects.equals(observed.hash(), current.hash())) {
+            // 같은 헤드: 관측 시각만 갱신
+            buffer[lastIndex()] = observed;
+            latest = observed;
+            return;
+        }
+
+        if (current != null && observed.number() <= current.number()) {
+            log.warn("[HeadTracker:{}] Chain reorg detected at block {} (was {} {})",
+                networkType, observed.number(), current.number(), current.hash());
+            while (size > 0 && buffer[lastIndex()].number() >= observed.number()) {
+                buffer[lastIndex()] = null;
+                tail = lastIndex();
+                size--;
+            }
+        }
+
+        buffer[tail] = observed;
+        tail = (tail + 1) % buffer.length;
+        size = Math.min(size + 1, buffer.length);
+        latest = observed;
+    }
+
+    /**
+     * 보관 중인 헤더에서 블록 번호로 헤드를 찾습니다.
+     */
+    public synchronized Optional<ChainHead> find(long blockNumber) {
+        for (int i = 0; i < size; i++) {
+            ChainHead head = buffer[(tail - 1 - i + buffer.length) % buffer.length];
+            if (head.number() == blockNumber) {
+                return Optional.of(head);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 보관 중인 헤더를 오래된 순서로 반환합니다.
+     */
+    public synchronized List<ChainHead> recent() {
+        List<ChainHead> heads = new ArrayList<>(size);
+        for (int i = size; i > 0; i--) {
+            heads.add(buffer[(tail - i + buffer.length) % buffer.length]);
+        }
+        return heads;
+    }
+
+    private int lastIndex() {
+        return (tail - 1 + buffer.length) % buffer.length;
+    }
+}
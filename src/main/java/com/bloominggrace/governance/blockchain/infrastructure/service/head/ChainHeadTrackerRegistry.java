@@ -0,0 +1,55 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.head;
+
+import com.bloominggrace.governance.blockchain.infrastructure.config.HeadTrackerProperties;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 네트워크별 체인 헤드 트래커 레지스트리
+ * 블록체인 클라이언트가 헤드 조회 함수를 등록하면 네트워크당 하나의 트래커를 만들고, 백그라운드에서 주기적으로 폴링합니다.
+ */
+@Slf4j
+@Component
+public class ChainHeadTrackerRegistry {
+
+    private final HeadTrackerProperties properties;
+    private final Map<NetworkType, ChainHeadTracker> trackers = new ConcurrentHashMap<>();
+
+    public ChainHeadTrackerRegistry(HeadTrackerProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 네트워크의 헤드 조회 함수를 등록하고 트래커를 반환합니다.
+     * @throws IllegalStateException 이미 등록된 네트워크인 경우
+     */
+    public ChainHeadTracker register(NetworkType networkType, Supplier<ChainHead> source) {
+        ChainHeadTracker tracker = new ChainHeadTracker(
+            networkType, source, properties.getHistorySize(), properties.getMaxStalenessMs());
+        if (trackers.putIfAbsent(networkType, tracker) != null) {
+            throw new IllegalStateException("Head tracker already registered for network: " + networkType);
+        }
+        log.info("[HeadTracker:{}] Registered (poll {}ms, staleness {}ms, history {})", networkType,
+            properties.getPollIntervalMs(), properties.getMaxStalenessMs(), properties.getHistorySize());
+        return tracker;
+    }
+
+    public Optional<ChainHeadTracker> find(NetworkType networkType) {
+        return Optional.ofNullable(trackers.get(networkType));
+    }
+
+    /**
+     * 등록된 모든 트래커를 폴링합니다. 구독으로 최근에 갱신된 트래커는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${blockchain.head-tracker.poll-interval-ms:2000}")
+    public void pollAll() {
+        trackers.values().forEach(tracker -> tracker.pollIfIdle(properties.getPollIntervalMs()));
+    }
+}
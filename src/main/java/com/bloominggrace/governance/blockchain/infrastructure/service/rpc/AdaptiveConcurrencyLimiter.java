@@ -0,0 +1,71 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.rpc;
+
+/**
+ * AIMD 방식의 적응형 동시성 제한기
+ * 성공하면 한도를 조금씩(1/limit) 늘리고, 실패(429, 타임아웃 등)하면 한도를 비율만큼 줄입니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limit range: " + minLimit + ".." + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    /**
+     * 한도 안에서 요청 슬롯을 획득합니다.
+     * @return 획득 성공 여부
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 성공한 요청의 슬롯을 반환하고 한도를 가산 증가시킵니다.
+     * 한도의 절반도 사용하지 않는 상태에서는 늘리지 않습니다.
+     */
+    public synchronized void onSuccess() {
+        if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        inFlight--;
+    }
+
+    /**
+     * 실패한 요청의 슬롯을 반환하고 한도를 승산 감소시킵니다.
+     */
+    public synchronized void onDropped() {
+        inFlight--;
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    /**
+     * 한도 조정 없이 슬롯만 반환합니다.
+     */
+    public synchronized void release() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.rpc;
+
+/**
+ * 재시도 예산 (토큰 버킷)
+ * 요청마다 ratio만큼 토큰이 쌓이고 재시도마다 1개를 소비하므로,
+ * 장애 상황에서도 재시도가 전체 요청의 일정 비율을 넘지 않습니다.
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    /**
+     * 최초 요청을 기록합니다.
+     */
+    public synchronized void recordRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * 재시도 한 번에 해당하는 토큰을 소비합니다.
+     * @return 재시도 가능 여부
+     */
+    public synchronized boolean tryAcquireRetry() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    public synchronized double getTokens() {
+        return tokens;
+    }
+}
@@ -0,0 +1,161 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.rpc;
+
+import com.bloominggrace.governance.blockchain.infrastructure.config.RpcPoolProperties;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RPC 엔드포인트와 실시간 상태 (지연 EWMA, 지연 백분위수, 에러율, 동시성 한도, 서킷 상태)
+ */
+public class RpcEndpoint {
+
+    /**
+     * 지연 샘플이 없을 때 사용하는 기본 지연 (ms)
+     */
+    private static final double INITIAL_LATENCY_MS = 100.0;
+
+    /**
+     * 에러율이 점수에 미치는 가중치
+     */
+    private static final double ERROR_PENALTY = 20.0;
+
+    private final String url;
+    private final double alpha;
+    private final long[] latencyWindow;
+    private int windowCount;
+    private int windowIndex;
+
+    private double ewmaLatencyMs = INITIAL_LATENCY_MS;
+    private double errorRate;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final CircuitBreaker circuitBreaker;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public RpcEndpoint(String url, RpcPoolProperties properties) {
+        this.url = url;
+        this.alpha = properties.getEwmaAlpha();
+        this.latencyWindow = new long[Math.max(1, properties.getLatencyWindowSize())];
+        this.limiter = new AdaptiveConcurrencyLimiter(
+            properties.getLimiterInitialLimit(),
+            properties.getLimiterMinLimit(),
+            properties.getLimiterMaxLimit(),
+            properties.getLimiterBackoffRatio()
+        );
+        this.circuitBreaker = new CircuitBreaker(properties.getCircuitFailureThreshold(), properties.getCircuitOpenMs());
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * 동시성 한도와 서킷 상태를 확인하고 요청 슬롯을 획득합니다.
+     * 획득에 성공하면 반드시 recordSuccess 또는 recordFailure를 호출해야 합니다.
+     * @return 획득 성공 여부
+     */
+    boolean tryAcquire() {
+        if (!limiter.tryAcquire()) {
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            limiter.release();
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+        requestCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * 성공한 요청의 지연을 기록합니다.
+     */
+    synchronized void recordSuccess(long startNanos) {
+        limiter.onSuccess();
+        circuitBreaker.onSuccess();
+        long latencyMs = (System.nanoTime() - startNanos) / 1_000_000L;
+        latencyWindow[windowIndex] = latencyMs;
+        windowIndex = (windowIndex + 1) % latencyWindow.length;
+        windowCount = Math.min(windowCount + 1, latencyWindow.length);
+        ewmaLatencyMs = alpha * latencyMs + (1 - alpha) * ewmaLatencyMs;
+        errorRate = (1 - alpha) * errorRate;
+    }
+
+    /**
+     * 실패한 요청을 기록합니다.
+     */
+    synchronized void recordFailure(long startNanos) {
+        limiter.onDropped();
+        circuitBreaker.onFailure();
+        failureCount.incrementAndGet();
+        long latencyMs = (System.nanoTime() - startNanos) / 1_000_000L;
+        // 실패는 최소한 지금까지의 평균만큼 느렸던 것으로 취급합니다.
+        ewmaLatencyMs = alpha * Math.max(latencyMs, ewmaLatencyMs) + (1 - alpha) * ewmaLatencyMs;
+        errorRate = alpha + (1 - alpha) * errorRate;
+    }
+
+    /**
+     * 라우팅 점수를 계산합니다. 낮을수록 건강한 엔드포인트입니다.
+     */
+    public synchronized double score() {
+        return ewmaLatencyMs * (1 + ERROR_PENALTY * errorRate) * (1 + 0.1 * limiter.getInFlight());
+    }
+
+    /**
+     * 최근 지연 샘플의 백분위수를 반환합니다.
+     * @param percentile 백분위수 (0~1)
+     * @return 지연 (ms), 샘플이 없으면 EWMA 지연
+     */
+    public synchronized long latencyPercentile(double percentile) {
+        if (windowCount == 0) {
+            return (long) ewmaLatencyMs;
+        }
+        long[] samples = Arrays.copyOf(latencyWindow, windowCount);
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(percentile * samples.length) - 1;
+        return samples[Math.max(0, Math.min(index, samples.length - 1))];
+    }
+
+    /**
+     * 액추에이터 노출용 상태 스냅샷을 생성합니다.
+     */
+    public synchronized Snapshot snapshot(double hedgePercentile) {
+        return new Snapshot(
+            url,
+            Math.round(ewmaLatencyMs),
+            latencyPercentile(0.5),
+            latencyPercentile(hedgePercentile),
+            Math.round(errorRate * 1000) / 1000.0,
+            limiter.getInFlight(),
+            limiter.getLimit(),
+            circuitBreaker.getState().name(),
+            requestCount.get(),
+            failureCount.get(),
+            rejectedCount.get(),
+            Math.round(score())
+        );
+    }
+
+    /**
+     * 엔드포인트 상태 스냅샷
+     */
+    public record Snapshot(
+        String url,
+        long ewmaLatencyMs,
+        long p50LatencyMs,
+        long hedgeLatencyMs,
+        double errorRate,
+        int inFlight,
+        int concurrencyLimit,
+        String circuitState,
+        long requests,
+        long failures,
+        long rejected,
+        long score
+    ) {
+    }
+}
@@ -0,0 +1,466 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.rpc;
+
+import com.bloominggrace.governance.blockchain.domain.exception.RpcUnavailableException;
+import com.bloominggrace.governance.blockchain.infrastructure.config.RpcPoolProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 네트워크별 RPC 엔드포인트 풀
+ * 엔드포인트의 실시간 지연/에러율로 점수를 매겨 가장 건강한 엔드포인트로 요청을 보냅니다.
+ *
+ * - 조회(read): 멱등 요청이므로 주 엔드포인트 응답이 지연 백분위수를 넘으면 두 번째 엔드포인트로 헤지 요청을 보내고,
+ *   먼저 성공한 응답을 사용합니다. 실패하면 다음 엔드포인트로 페일오버합니다.
+ * - 쓰기(write): 헤지하지 않고 순서대로 페일오버합니다. 호출자는 모든 시도에서 동일한 페이로드를 보내야 합니다.
+ *
+ * 엔드포인트마다 적응형 동시성 한도와 서킷 브레이커가 적용되며, 재시도 가능한 오류(429, 일시적 노드 오류, 통신 오류)는
+ * 재시도 예산 안에서 지터가 적용된 지수 백오프로 재시도합니다.
+ * 사용 가능한 엔드포인트가 없거나 재시도가 소진되면 RpcUnavailableException이 발생합니다.
+ */
+@Slf4j
+public class RpcEndpointPool {
+
+    @FunctionalInterface
+    public interface RpcCall<T> {
+        T call(String url) throws IOException, InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface Attempt<T> {
+        T run() throws IOException, InterruptedException;
+    }
+
+    private final String name;
+    private final List<RpcEndpoint> endpoints;
+    private final RpcPoolProperties properties;
+    private final Executor hedgeExecutor;
+    private final RetryBudget retryBudget;
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong failoverCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong unavailableCount = new AtomicLong();
+
+    public RpcEndpointPool(String name, List<String> urls, RpcPoolProperties properties, Executor hedgeExecutor) {
+        if (urls == null || urls.isEmpty()) {
+            throw new IllegalArgumentException("At least one RPC endpoint is required for pool: " + name);
+        }
+        this.name = name;
+        this.properties = properties;
+        this.hedgeExecutor = hedgeExecutor;
+        this.retryBudget = new RetryBudget(properties.getRetryBudgetRatio(), properties.getRetryBudgetMaxTokens());
+        this.endpoints = urls.stream()
+            .map(url -> new RpcEndpoint(url.trim(), properties))
+            .toList();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 멱등 조회 요청을 실행합니다 (헤지 + 페일오버 + 재시도).
+     * 호출 스레드는 결과를 기다리지만, 헤지 요청은 제한된 헤지 실행기에서 병렬로 실행됩니다.
+     * 헤지 실행기가 포화되면 요청을 보내려던 스레드(호출 스레드 또는 헤지 실행기 스레드)가 직접 실행합니다.
+     */
+    public <T> T read(RpcCall<T> call) throws IOException, InterruptedException {
+        return retrying(() -> {
+            if (endpoints.size() == 1) {
+                return failover(call);
+            }
+            CompletableFuture<T> future = hedged(url -> submit(call, url));
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        });
+    }
+
+    /**
+     * 멱등 조회 요청을 비동기로 실행합니다 (헤지 + 페일오버 + 재시도).
+     */
+    public <T> CompletableFuture<T> readAsync(Function<String, CompletableFuture<T>> call) {
+        return retryingAsync(() -> hedged(call));
+    }
+
+    /**
+     * 쓰기 요청을 실행합니다 (순차 페일오버 + 재시도, 헤지 없음).
+     * 통신 오류가 발생하면 다음 엔드포인트로 같은 페이로드를 다시 보냅니다.
+     */
+    public <T> T write(RpcCall<T> call) throws IOException, InterruptedException {
+        return retrying(() -> failover(call));
+    }
+
+    /**
+     * 쓰기 요청을 비동기로 실행합니다 (순차 페일오버 + 재시도, 헤지 없음).
+     */
+    public <T> CompletableFuture<T> writeAsync(Function<String, CompletableFuture<T>> call) {
+        return retryingAsync(() -> failoverAsync(ranked(), 0, call, null));
+    }
+
+    /**
+     * 점수가 낮은(건강한) 순서로 정렬된 엔드포인트 목록을 반환합니다.
+     */
+    public List<RpcEndpoint> ranked() {
+        List<ScoredEndpoint> scored = new ArrayList<>(endpoints.size());
+        for (RpcEndpoint endpoint : endpoints) {
+            scored.add(new ScoredEndpoint(endpoint, endpoint.score()));
+        }
+        scored.sort(Comparator.comparingDouble(ScoredEndpoint::score));
+        return scored.stream().map(ScoredEndpoint::endpoint).toList();
+    }
+
+    /**
+     * 액추에이터 노출용 풀 상태를 반환합니다.
+     */
+    public PoolSnapshot snapshot() {
+        List<RpcEndpoint.Snapshot> endpointSnapshots = ranked().stream()
+            .map(endpoint -> endpoint.snapshot(properties.getHedgePercentile()))
+            .toList();
+        return new PoolSnapshot(name, hedgeCount.get(), failoverCount.get(), retryCount.get(),
+            unavailableCount.get(), retryBudget.getTokens(), endpointSnapshots);
+    }
+
+    private <T> T retrying(Attempt<T> attempt) throws IOException, InterruptedException {
+        retryBudget.recordRequest();
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.run();
+            } catch (IOException e) {
+                if (!RpcErrorClassifier.isRetryable(e)) {
+                    throw e;
+                }
+                if (attemptNumber >= properties.getMaxAttempts() || !retryBudget.tryAcquireRetry()) {
+                    throw unavailable(attemptNumber, e);
+                }
+                long delayMs = backoffDelayMs(attemptNumber);
+                retryCount.incrementAndGet();
+                log.warn("[RpcPool:{}] Retrying in {}ms (attempt {}/{}): {}", name, delayMs, attemptNumber + 1,
+                    properties.getMaxAttempts(), e.getMessage());
+                Thread.sleep(delayMs);
+            } catch (RpcUnavailableException e) {
+                unavailableCount.incrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> retryingAsync(Supplier<CompletableFuture<T>> attempt) {
+        retryBudget.recordRequest();
+        return retryingAsync(attempt, 1);
+    }
+
+    private <T> CompletableFuture<T> retryingAsync(Supplier<CompletableFuture<T>> attempt, int attemptNumber) {
+        return attempt.get()
+            .handle((value, error) -> {
+                if (error == null) {
+                    return CompletableFuture.completedFuture(value);
+                }
+                Throwable cause = unwrap(error);
+                if (cause instanceof RpcUnavailableException) {
+                    unavailableCount.incrementAndGet();
+                    return CompletableFuture.<T>failedFuture(cause);
+                }
+                if (!RpcErrorClassifier.isRetryable(cause)) {
+                    return CompletableFuture.<T>failedFuture(cause);
+                }
+                if (attemptNumber >= properties.getMaxAttempts() || !retryBudget.tryAcquireRetry()) {
+                    return CompletableFuture.<T>failedFuture(unavailable(attemptNumber, cause));
+                }
+                long delayMs = backoffDelayMs(attemptNumber);
+                retryCount.incrementAndGet();
+                log.warn("[RpcPool:{}] Retrying in {}ms (attempt {}/{}): {}", name, delayMs, attemptNumber + 1,
+                    properties.getMaxAttempts(), cause.getMessage());
+                // 재시도 예약은 헤지 실행기가 포화되어도 거부되지 않도록 기본 지연 실행기를 사용합니다 (블로킹 작업 없음).
+                Executor delayed = CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS);
+                return CompletableFuture.runAsync(() -> { }, delayed)
+                    .thenCompose(ignored -> retryingAsync(attempt, attemptNumber + 1));
+            })
+            .thenCompose(Function.identity());
+    }
+
+    /**
+     * 지터가 적용된 지수 백오프 대기 시간을 계산합니다.
+     * 상한의 절반은 보장하고 나머지 절반은 무작위로 분산시킵니다.
+     */
+    private long backoffDelayMs(int attemptNumber) {
+        long exponential = properties.getRetryBaseDelayMs() << Math.min(attemptNumber - 1, 20);
+        long ceiling = Math.max(1, Math.min(exponential, properties.getRetryMaxDelayMs()));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private <T> CompletableFuture<T> hedged(Function<String, CompletableFuture<T>> call) {
+        List<RpcEndpoint> ranked = ranked();
+        HedgedRead<T> read = new HedgedRead<>(ranked, call);
+        if (!read.launchNext()) {
+            return CompletableFuture.failedFuture(noEndpointAvailable());
+        }
+
+        if (ranked.size() > 1) {
+            long delayMs = hedgeDelayMs(ranked.get(0));
+            // 헤지 실행기가 포화되어 예약이 거부되면 헤지만 생략되고, 페일오버는 첫 요청의 완료 콜백에서 이어집니다.
+            CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS, hedgeExecutor).execute(read::hedge);
+        }
+        return read.result;
+    }
+
+    private <T> T failover(RpcCall<T> call) throws IOException, InterruptedException {
+        IOException lastError = null;
+        for (RpcEndpoint endpoint : ranked()) {
+            if (!endpoint.tryAcquire()) {
+                continue;
+            }
+            if (lastError != null) {
+                failoverCount.incrementAndGet();
+                log.warn("[RpcPool:{}] Failing over to {}: {}", name, endpoint.getUrl(), lastError.getMessage());
+            }
+            try {
+                return execute(endpoint, call);
+            } catch (IOException e) {
+                lastError = e;
+            }
+        }
+        if (lastError == null) {
+            throw noEndpointAvailable();
+        }
+        throw lastError;
+    }
+
+    private <T> CompletableFuture<T> failoverAsync(List<RpcEndpoint> ranked, int index,
+                                                   Function<String, CompletableFuture<T>> call, Throwable lastError) {
+        for (int i = index; i < ranked.size(); i++) {
+            RpcEndpoint endpoint = ranked.get(i);
+            if (!endpoint.tryAcquire()) {
+                continue;
+            }
+            if (lastError != null) {
+                failoverCount.incrementAndGet();
+                log.warn("[RpcPool:{}] Failing over to {}: {}", name, endpoint.getUrl(), lastError.getMessage());
+            }
+            int nextIndex = i + 1;
+            long start = System.nanoTime();
+            return apply(call, endpoint.getUrl())
+                .handle((value, error) -> {
+                    Throwable failure = record(endpoint, start, value, error);
+                    return failure == null
+                        ? CompletableFuture.completedFuture(value)
+                        : failoverAsync(ranked, nextIndex, call, failure);
+                })
+                .thenCompose(Function.identity());
+        }
+        return CompletableFuture.failedFuture(lastError != null ? lastError : noEndpointAvailable());
+    }
+
+    private long hedgeDelayMs(RpcEndpoint primary) {
+        long percentile = primary.latencyPercentile(properties.getHedgePercentile());
+        return Math.max(properties.getHedgeMinDelayMs(), Math.min(percentile, properties.getHedgeMaxDelayMs()));
+    }
+
+    private <T> T execute(RpcEndpoint endpoint, RpcCall<T> call) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        T value;
+        try {
+            value = call.call(endpoint.getUrl());
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            endpoint.recordFailure(start);
+            throw e;
+        }
+        if (RpcErrorClassifier.isRetryableResponse(value)) {
+            endpoint.recordFailure(start);
+            throw new RetryableResponseException(endpoint.getUrl());
+        }
+        endpoint.recordSuccess(start);
+        return value;
+    }
+
+    /**
+     * 비동기 호출 결과를 엔드포인트 상태에 기록합니다.
+     * @return 실패로 처리해야 하면 원인 예외, 성공이면 null
+     */
+    private static Throwable record(RpcEndpoint endpoint, long start, Object value, Throwable error) {
+        if (error == null && RpcErrorClassifier.isRetryableResponse(value)) {
+            error = new RetryableResponseException(endpoint.getUrl());
+        }
+        if (error == null) {
+            endpoint.recordSuccess(start);
+            return null;
+        }
+        endpoint.recordFailure(start);
+        return unwrap(error);
+    }
+
+    private RpcUnavailableException noEndpointAvailable() {
+        return new RpcUnavailableException(
+            "No RPC endpoint available in pool " + name + " (circuit open or concurrency limit reached)");
+    }
+
+    private RpcUnavailableException unavailable(int attempts, Throwable cause) {
+        unavailableCount.incrementAndGet();
+        return new RpcUnavailableException(
+            "RPC pool " + name + " unavailable after " + attempts + " attempt(s): " + cause.getMessage(), cause);
+    }
+
+    /**
+     * 동기 조회를 헤지 실행기에 제출합니다. 실행기가 포화되어 거부되면 현재 스레드에서 직접 실행합니다.
+     * 헤지 예약 작업은 헤지 실행기에서만 실행되므로, 직접 실행하는 스레드는 호출 스레드 또는 헤지 실행기 스레드입니다.
+     */
+    private <T> CompletableFuture<T> submit(RpcCall<T> call, String url) {
+        try {
+            return CompletableFuture.supplyAsync(() -> invoke(call, url), hedgeExecutor);
+        } catch (RejectedExecutionException e) {
+            try {
+                return CompletableFuture.completedFuture(invoke(call, url));
+            } catch (CompletionException failure) {
+                return CompletableFuture.failedFuture(failure.getCause());
+            }
+        }
+    }
+
+    private static <T> T invoke(RpcCall<T> call, String url) {
+        try {
+            return call.call(url);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private static <T> CompletableFuture<T> apply(Function<String, CompletableFuture<T>> call, String url) {
+        try {
+            return call.apply(url);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static IOException rethrow(Throwable error) throws InterruptedException {
+        Throwable cause = unwrap(error);
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof InterruptedException interruptedException) {
+            throw interruptedException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        return new IOException(cause);
+    }
+
+    /**
+     * 헤지/페일오버 상태를 관리하는 단일 조회 요청
+     */
+    private final class HedgedRead<T> {
+        private final List<RpcEndpoint> ranked;
+        private final Function<String, CompletableFuture<T>> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private int next;
+        private int outstanding;
+
+        private HedgedRead(List<RpcEndpoint> ranked, Function<String, CompletableFuture<T>> call) {
+            this.ranked = ranked;
+            this.call = call;
+        }
+
+        void hedge() {
+            if (!result.isDone() && launchNext()) {
+                hedgeCount.incrementAndGet();
+                log.debug("[RpcPool:{}] Primary read exceeded hedge delay, hedged read sent", name);
+            }
+        }
+
+        /**
+         * 슬롯을 획득할 수 있는 다음 엔드포인트로 요청을 보냅니다.
+         * @return 요청을 보냈으면 true
+         */
+        boolean launchNext() {
+            RpcEndpoint endpoint = null;
+            synchronized (this) {
+                if (result.isDone()) {
+                    return false;
+                }
+                while (endpoint == null && next < ranked.size()) {
+                    RpcEndpoint candidate = ranked.get(next++);
+                    if (candidate.tryAcquire()) {
+                        endpoint = candidate;
+                    }
+                }
+                if (endpoint == null) {
+                    return false;
+                }
+                outstanding++;
+            }
+
+            RpcEndpoint target = endpoint;
+            long start = System.nanoTime();
+            apply(call, target.getUrl()).whenComplete((value, error) -> {
+                Throwable failure = record(target, start, value, error);
+                if (failure == null) {
+                    result.complete(value);
+                    return;
+                }
+
+                boolean launched = launchNext();
+                if (launched) {
+                    failoverCount.incrementAndGet();
+                    log.warn("[RpcPool:{}] Read failed on {}: {}", name, target.getUrl(), failure.getMessage());
+                }
+                boolean exhausted;
+                synchronized (this) {
+                    outstanding--;
+                    exhausted = outstanding == 0;
+                }
+                if (exhausted) {
+                    result.completeExceptionally(failure);
+                }
+            });
+            return true;
+        }
+    }
+
+    /**
+     * 재시도 가능한 JSON-RPC 에러 응답 (레이트 리밋 등)
+     */
+    private static final class RetryableResponseException extends IOException {
+        private RetryableResponseException(String url) {
+            super("Retryable JSON-RPC error response from " + url);
+        }
+    }
+
+    private record ScoredEndpoint(RpcEndpoint endpoint, double score) {
+    }
+
+    /**
+     * 풀 상태 스냅샷
+     */
+    public record PoolSnapshot(
+        String name,
+        long hedges,
+        long failovers,
+        long retries,
+        long unavailable,
+        double retryBudgetTokens,
+        List<RpcEndpoint.Snapshot> endpoints
+    ) {
+    }
+}
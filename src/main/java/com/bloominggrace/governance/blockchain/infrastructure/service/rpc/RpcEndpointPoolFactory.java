@@ -0,0 +1,85 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.rpc;
+
+import com.bloominggrace.governance.blockchain.infrastructure.config.RpcPoolProperties;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 네트워크 타입별 RPC 엔드포인트 풀을 제공하는 팩토리
+ * 엔드포인트 목록은 blockchain.{network}.rpc-urls (쉼표 구분) 설정을 사용하며,
+ * 설정이 없으면 단일 rpc-url을 사용합니다.
+ */
+@Slf4j
+@Component
+public class RpcEndpointPoolFactory {
+
+    private final Map<NetworkType, RpcEndpointPool> pools = new EnumMap<>(NetworkType.class);
+    private final ExecutorService hedgeExecutor;
+
+    public RpcEndpointPoolFactory(RpcPoolProperties properties,
+                                  @Value("${blockchain.ethereum.rpc-urls:${blockchain.ethereum.rpc-url}}") String[] ethereumRpcUrls,
+                                  @Value("${blockchain.solana.rpc-urls:${blockchain.solana.rpc-url}}") String[] solanaRpcUrls) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        int hedgeThreads = Math.max(1, properties.getHedgeThreads());
+        // 스레드 수와 대기열을 제한하고, 포화 시 거부된 조회는 RpcEndpointPool이 요청 스레드에서 직접 실행합니다.
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            hedgeThreads,
+            hedgeThreads,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.getHedgeQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "rpc-pool-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        this.hedgeExecutor = executor;
+
+        pools.put(NetworkType.ETHEREUM, new RpcEndpointPool("ethereum", Arrays.asList(ethereumRpcUrls), properties, hedgeExecutor));
+        pools.put(NetworkType.SOLANA, new RpcEndpointPool("solana", Arrays.asList(solanaRpcUrls), properties, hedgeExecutor));
+        log.info("RPC endpoint pools initialized - Ethereum: {}, Solana: {}", Arrays.toString(ethereumRpcUrls), Arrays.toString(solanaRpcUrls));
+    }
+
+    /**
+     * 네트워크 타입에 해당하는 RPC 엔드포인트 풀을 반환합니다.
+     *
+     * @param networkType 네트워크 타입
+     * @return 해당 네트워크의 RpcEndpointPool
+     * @throws IllegalArgumentException 지원하지 않는 네트워크 타입인 경우
+     */
+    public RpcEndpointPool getPool(NetworkType networkType) {
+        RpcEndpointPool pool = pools.get(networkType);
+        if (pool == null) {
+            throw new IllegalArgumentException("Unsupported network type: " + networkType);
+        }
+        return pool;
+    }
+
+    /**
+     * 등록된 모든 풀을 반환합니다.
+     */
+    public Map<NetworkType, RpcEndpointPool> getPools() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,129 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.rpc;
+
+import com.bloominggrace.governance.blockchain.domain.exception.RpcUnavailableException;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcError;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcResponse;
+import com.bloominggrace.governance.shared.blockchain.util.RpcHttpException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RPC 오류의 재시도 가능 여부를 판별하는 유틸리티 클래스
+ * 레이트 리밋, 일시적인 노드 오류, 통신 오류만 재시도 대상으로 분류합니다.
+ * (execution reverted, nonce too low 등 요청 자체의 오류는 재시도하지 않습니다.)
+ */
+public final class RpcErrorClassifier {
+
+    /**
+     * 레이트 리밋 JSON-RPC 에러 코드 (EIP-1474 limit exceeded)
+     */
+    private static final int LIMIT_EXCEEDED_CODE = -32005;
+
+    /**
+     * 일부 공급자가 JSON-RPC 에러 코드로 사용하는 HTTP 429
+     */
+    private static final int TOO_MANY_REQUESTS_CODE = 429;
+
+    // eth_getLogs 결과/범위 제한 (공급자마다 문구가 다르며, 같은 범위로 재시도해도 다시 실패함)
+    private static final List<String> LOG_RANGE_TOO_LARGE_MESSAGES = List.of(
+        "query returned more than", "too many results", "block range", "range is too large",
+        "response size exceeded", "exceed maximum block range"
+    );
+
+    private static final List<String> RETRYABLE_MESSAGES = List.of(
+        "rate limit", "too many requests", "header not found", "timeout", "timed out", "try again"
+    );
+
+    private RpcErrorClassifier() {
+        // 유틸리티 클래스는 인스턴스화 불가
+    }
+
+    /**
+     * 예외가 재시도 가능한 오류인지 확인합니다.
+     */
+    public static boolean isRetryable(Throwable error) {
+        if (error instanceof RpcUnavailableException) {
+            return false;
+        }
+        if (error instanceof RpcHttpException httpException) {
+            return httpException.isRetryable();
+        }
+        // 응답 역직렬화 실패는 같은 요청을 다시 보내도 같은 응답으로 실패하므로 재시도하지 않습니다.
+        if (error instanceof JsonProcessingException) {
+            return false;
+        }
+        // 연결 실패, 타임아웃, 재시도 가능한 응답 등 통신 계층 오류
+        return error instanceof IOException;
+    }
+
+    /**
+     * 응답(단건 또는 배치)에 재시도 가능한 JSON-RPC 에러가 포함되어 있는지 확인합니다.
+     */
+    public static boolean isRetryableResponse(Object value) {
+        if (value instanceof BlockchainRpcResponse<?> response) {
+            return response.hasError() && isRetryableError(response.getError());
+        }
+        if (value instanceof List<?> responses) {
+            for (Object response : responses) {
+                if (response instanceof BlockchainRpcResponse<?> && isRetryableResponse(response)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * JSON-RPC 에러가 재시도 가능한지 확인합니다.
+     */
+    public static boolean isRetryableError(BlockchainRpcError error) {
+        if (error == null) {
+            return false;
+        }
+        // 일부 공급자는 로그 조회 범위 초과에도 -32005를 사용하므로 먼저 제외합니다.
+        if (isLogRangeTooLarge(error.getMessage())) {
+            return false;
+        }
+        if (error.getCode() == LIMIT_EXCEEDED_CODE || error.getCode() == TOO_MANY_REQUESTS_CODE) {
+            return true;
+        }
+        String message = error.getMessage() == null ? "" : error.getMessage().toLowerCase(Locale.ROOT);
+        return RETRYABLE_MESSAGES.stream().anyMatch(message::contains);
+    }
+
+    /**
+     * 노드가 로컬 nonce보다 체인 nonce가 앞서 있다고 거부한 에러인지 확인합니다.
+     */
+    public static boolean isNonceTooLow(String errorMessage) {
+        if (errorMessage == null) {
+            return false;
+        }
+        String message = errorMessage.toLowerCase(Locale.ROOT);
+        return message.contains("nonce too low") || message.contains("nonce is too low");
+    }
+
+    /**
+     * eth_call / eth_estimateGas 실행이 컨트랙트에서 revert된 에러인지 확인합니다.
+     */
+    public static boolean isExecutionReverted(String errorMessage) {
+        if (errorMessage == null) {
+            return false;
+        }
+        String message = errorMessage.toLowerCase(Locale.ROOT);
+        return message.contains("revert") || message.contains("vm exception");
+    }
+
+    /**
+     * eth_getLogs 요청의 블록 범위나 결과 수가 노드 제한을 넘은 에러인지 확인합니다.
+     */
+    public static boolean isLogRangeTooLarge(String errorMessage) {
+        if (errorMessage == null) {
+            return false;
+        }
+        String message = errorMessage.toLowerCase(Locale.ROOT);
+        return LOG_RANGE_TOO_LARGE_MESSAGES.stream().anyMatch(message::contains);
+    }
+}
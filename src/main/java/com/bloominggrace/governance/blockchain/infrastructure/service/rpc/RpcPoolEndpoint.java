@@ -0,0 +1,27 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.rpc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RPC 엔드포인트 풀 상태를 노출하는 액추에이터 엔드포인트 (/actuator/rpcpool)
+ */
+@Component
+@Endpoint(id = "rpcpool")
+@RequiredArgsConstructor
+public class RpcPoolEndpoint {
+
+    private final RpcEndpointPoolFactory rpcEndpointPoolFactory;
+
+    @ReadOperation
+    public Map<String, RpcEndpointPool.PoolSnapshot> pools() {
+        Map<String, RpcEndpointPool.PoolSnapshot> snapshots = new LinkedHashMap<>();
+        rpcEndpointPoolFactory.getPools().forEach((networkType, pool) -> snapshots.put(networkType.name(), pool.snapshot()));
+        return snapshots;
+    }
+}
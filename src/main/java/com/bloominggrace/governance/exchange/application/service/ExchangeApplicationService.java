@@ -9,18 +9,29 @@ import com.bloominggrace.governance.point.domain.model.PointAmount;
 import com.bloominggrace.governance.shared.domain.UserId;
 import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
 import com.bloominggrace.governance.shared.blockchain.domain.constants.SolanaConstants;
-import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletService;
-import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator;
+import com.bloominggrace.governance.shared.blockchain.domain.model.BlockchainTransactionType;
+import com.bloominggrace.governance.shared.blockchain.domain.model.Transaction;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.OutboxPayloads;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionOutbox;
+import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletPool;
 import com.bloominggrace.governance.token.application.service.TokenAccountApplicationService;
 import com.bloominggrace.governance.token.domain.model.TokenAccount;
 import com.bloominggrace.governance.token.infrastructure.repository.TokenAccountRepository;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -30,9 +41,9 @@ public class ExchangeApplicationService {
     private final ExchangeRequestRepository exchangeRequestRepository;
     private final PointManagementService pointManagementService;
     private final TokenAccountApplicationService tokenAccountApplicationService;
-    private final TransactionOrchestrator transactionOrchestrator;
     private final TokenAccountRepository tokenAccountRepository;
-    private final AdminWalletService adminWalletService;
+    private final AdminWalletPool adminWalletPool;
+    private final TransactionOutbox transactionOutbox;
 
     // 포인트 → 토큰 교환 비율 (1 포인트 = 0.01 토큰)
     private static final BigDecimal EXCHANGE_RATE = new BigDecimal("0.01");
@@ -81,38 +92,261 @@ public class ExchangeApplicationService {
     
     /**
      * 교환 요청을 처리합니다.
+     * 포인트를 동결하고 토큰 전송 의도를 아웃박스에 기록한 뒤 추적 ID를 반환합니다.
+     * 토큰 계정 반영과 완료 처리는 전송이 체인에서 확인된 뒤 confirmExchangeTransfers에서 수행됩니다.
      */
     @Transactional
-    public void processExchangeRequest(ExchangeRequestId exchangeRequestId) {
+    public UUID processExchangeRequest(ExchangeRequestId exchangeRequestId) {
         log.info("Processing exchange request - RequestId: {}", exchangeRequestId);
         
         ExchangeRequest exchangeRequest = validateAndGetExchangeRequest(exchangeRequestId);
         
-        try {
-            // 1. 교환 처리 시작
-            startExchangeProcessing(exchangeRequest);
-            
-            // 2. 사용자의 포인트 동결
-            freezeUserPoints(exchangeRequest, exchangeRequestId);
-            
-            // 3. 토큰 전송 실행
-            String transactionHash = executeTokenTransfer(exchangeRequest);
-            
-            // 4. 토큰 계정 생성 또는 업데이트
+        // 1. 교환 처리 시작 (정산 윈도우나 다른 요청이 먼저 가져갔다면 예외)
+        startExchangeProcessing(exchangeRequestId);
+        
+        // 2. 사용자의 포인트 동결
+        freezeUserPoints(exchangeRequest, exchangeRequestId);
+        
+        // 3. 토큰 전송 의도 기록 (서명/브로드캐스트는 아웃박스 브로드캐스터가 수행)
+        UUID trackingId = enqueueTokenTransfer(exchangeRequest);
+        
+        log.info("Exchange request accepted - RequestId: {}, TrackingId: {}", exchangeRequestId, trackingId);
+        return trackingId;
+    }
+
+    /**
+     * 토큰 전송이 브로드캐스트되면 트랜잭션 해시를 기록합니다. 완료 처리는 체인 확인 후 수행됩니다.
+     */
+    @Transactional
+    public void submitExchangeTransfer(ExchangeRequestId exchangeRequestId, String transactionHash) {
+        ExchangeRequest exchangeRequest = getExchangeRequest(exchangeRequestId);
+        if (exchangeRequest.getStatus() != ExchangeStatus.PROCESSING) {
+            log.warn("Exchange request is not in PROCESSING status, skipping submission - RequestId: {}", exchangeRequestId);
+            return;
+        }
+        
+        exchangeRequest.submit(transactionHash);
+        exchangeRequestRepository.save(exchangeRequest);
+        
+        log.info("Exchange transfer submitted - RequestId: {}, TransactionHash: {}", exchangeRequestId, transactionHash);
+    }
+
+    /**
+     * 확인 추적기가 영수증을 조회하지 않는 네트워크는 브로드캐스트 시점에 토큰 계정을 반영하고 교환을 완료 처리합니다.
+     */
+    @Transactional
+    public void completeExchangeTransfer(ExchangeRequestId exchangeRequestId, String transactionHash) {
+        ExchangeRequest exchangeRequest = getExchangeRequest(exchangeRequestId);
+        if (exchangeRequest.getStatus() != ExchangeStatus.PROCESSING) {
+            log.warn("Exchange request is not in PROCESSING status, skipping completion - RequestId: {}", exchangeRequestId);
+            return;
+        }
+        
+        createOrUpdateTokenAccount(exchangeRequest);
+        completeExchangeRequest(exchangeRequest, transactionHash);
+        
+        log.info("Exchange request completed on broadcast - RequestId: {}, TransactionHash: {}", 
+            exchangeRequestId, transactionHash);
+    }
+
+    /**
+     * 체인에서 확인된 트랜잭션에 연결된 교환을 일괄 완료 처리합니다 (토큰 계정 반영 포함).
+     * @return 완료 처리한 교환 요청 수
+     */
+    @Transactional
+    public int confirmExchangeTransfers(Collection<String> transactionHashes) {
+        List<ExchangeRequest> exchangeRequests = exchangeRequestRepository.findByStatusAndTransactionSignatureIn(
+            ExchangeStatus.PROCESSING, transactionHashes);
+        for (ExchangeRequest exchangeRequest : exchangeRequests) {
+            createOrUpdateTokenAccount(exchangeRequest);
+            completeExchangeRequest(exchangeRequest, exchangeRequest.getTransactionSignature());
+        }
+        if (!exchangeRequests.isEmpty()) {
+            log.info("Confirmed {} exchange requests from {} transactions", exchangeRequests.size(), transactionHashes.size());
+        }
+        return exchangeRequests.size();
+    }
+
+    /**
+     * 체인에서 실패(revert/드롭)한 트랜잭션에 연결된 교환을 일괄 실패 처리하고 동결한 포인트를 해제합니다.
+     * @return 실패 처리한 교환 요청 수
+     */
+    @Transactional
+    public int failExchangeTransfers(Collection<String> transactionHashes) {
+        List<ExchangeRequest> exchangeRequests = exchangeRequestRepository.findByStatusAndTransactionSignatureIn(
+            ExchangeStatus.PROCESSING, transactionHashes);
+        for (ExchangeRequest exchangeRequest : exchangeRequests) {
+            log.warn("Exchange transfer failed on chain - RequestId: {}, TransactionHash: {}",
+                exchangeRequest.getId(), exchangeRequest.getTransactionSignature());
+            exchangeRequest.fail();
+            exchangeRequestRepository.save(exchangeRequest);
+            unfreezeUserPoints(exchangeRequest, exchangeRequest.getId());
+        }
+        return exchangeRequests.size();
+    }
+
+    /**
+     * 수수료 상향으로 교체된 트랜잭션에 연결된 교환의 서명을 교체 트랜잭션 해시로 바꿉니다.
+     * @return 변경한 교환 요청 수
+     */
+    @Transactional
+    public int replaceExchangeTransfers(String previousHash, String replacementHash) {
+        List<ExchangeRequest> exchangeRequests = exchangeRequestRepository.findByStatusAndTransactionSignatureIn(
+            ExchangeStatus.PROCESSING, List.of(previousHash));
+        for (ExchangeRequest exchangeRequest : exchangeRequests) {
+            exchangeRequest.submit(replacementHash);
+            exchangeRequestRepository.save(exchangeRequest);
+        }
+        return exchangeRequests.size();
+    }
+
+    /**
+     * 브로드캐스트되었지만 아직 체인 확인을 기다리는 교환 전송의 해시를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<String> findSubmittedTransferHashes(NetworkType networkType) {
+        return exchangeRequestRepository.findByStatusAndTransactionSignatureIsNotNull(ExchangeStatus.PROCESSING).stream()
+            .filter(exchangeRequest -> determineNetworkType(exchangeRequest.getWalletAddress()) == networkType)
+            .map(ExchangeRequest::getTransactionSignature)
+            .distinct()
+            .toList();
+    }
+
+    /**
+     * 토큰 전송 최종 실패 시 교환을 실패 처리하고 동결한 포인트를 해제합니다.
+     */
+    @Transactional
+    public void failExchangeTransfer(ExchangeRequestId exchangeRequestId) {
+        ExchangeRequest exchangeRequest = getExchangeRequest(exchangeRequestId);
+        if (exchangeRequest.getStatus() != ExchangeStatus.PROCESSING) {
+            log.warn("Exchange request is not in PROCESSING status, skipping failure - RequestId: {}", exchangeRequestId);
+            return;
+        }
+        
+        exchangeRequest.fail();
+        exchangeRequestRepository.save(exchangeRequest);
+        unfreezeUserPoints(exchangeRequest, exchangeRequestId);
+    }
+
+
+    // ===== 일괄 정산 (ExchangeSettlementService) =====
+
+    /**
+     * 정산 윈도우를 확보하고 멀티센드 의도를 아웃박스에 기록합니다.
+     * 가장 오래된 REQUESTED 요청부터 조건부 갱신으로 점유해 포인트를 동결하며, 포인트가 부족한 요청은 실패 처리 후 제외합니다.
+     * 점유와 의도 기록이 한 트랜잭션에서 커밋되므로, 커밋 전 장애는 롤백되고 커밋 후 장애는 아웃박스가 이어서 처리합니다.
+     * @return 이번 윈도우로 점유한 교환 요청
+     */
+    @Transactional
+    public List<ExchangeRequest> claimSettlementWindow(String walletAddressPrefix, int maxSize,
+                                                       String fromAddress, String multisendContract) {
+        List<ExchangeRequest> candidates = exchangeRequestRepository.findByStatusAndWalletAddressStartingWithOrderByCreatedAtAsc(
+            ExchangeStatus.REQUESTED, walletAddressPrefix, PageRequest.of(0, maxSize));
+
+        UUID settlementId = UUID.randomUUID();
+        List<ExchangeRequest> claimed = new ArrayList<>(candidates.size());
+        for (ExchangeRequest exchangeRequest : candidates) {
+            PointManagementService.PointBalance pointBalance = pointManagementService.getPointBalance(exchangeRequest.getUserId());
+            if (pointBalance.getAvailableBalance().getAmount().compareTo(exchangeRequest.getPointAmount().getAmount()) < 0) {
+                if (exchangeRequestRepository.transition(exchangeRequest.getId(), ExchangeStatus.REQUESTED, ExchangeStatus.FAILED) == 1) {
+                    log.warn("Insufficient points for settlement, failing exchange request - RequestId: {}", exchangeRequest.getId());
+                }
+                continue;
+            }
+            if (exchangeRequestRepository.claimForSettlement(
+                    exchangeRequest.getId(), ExchangeStatus.REQUESTED, ExchangeStatus.PROCESSING, settlementId) == 0) {
+                // 다른 정산 윈도우나 개별 처리가 먼저 가져간 요청
+                log.debug("Exchange request already claimed, skipping - RequestId: {}", exchangeRequest.getId());
+                continue;
+            }
+            freezeUserPoints(exchangeRequest, exchangeRequest.getId());
+            claimed.add(exchangeRequest);
+        }
+
+        if (!claimed.isEmpty()) {
+            enqueueSettlement(claimed, settlementId, fromAddress, multisendContract);
+        }
+        return claimed;
+    }
+
+    /**
+     * 정산 윈도우의 멀티센드가 브로드캐스트되면 윈도우의 모든 요청에 공유 트랜잭션 해시를 기록합니다. 완료 처리는 체인 확인 후 수행됩니다.
+     */
+    @Transactional
+    public void submitSettlement(UUID settlementId, String transactionHash) {
+        for (ExchangeRequest exchangeRequest : findSettlementRequests(settlementId)) {
+            exchangeRequest.submit(transactionHash);
+            exchangeRequestRepository.save(exchangeRequest);
+        }
+    }
+
+    /**
+     * 확인 추적기가 영수증을 조회하지 않는 네트워크는 브로드캐스트 시점에 윈도우의 모든 요청을 완료 처리합니다.
+     */
+    @Transactional
+    public void completeSettlement(UUID settlementId, String transactionHash) {
+        for (ExchangeRequest exchangeRequest : findSettlementRequests(settlementId)) {
             createOrUpdateTokenAccount(exchangeRequest);
-            
-            // 5. 교환 완료 처리
             completeExchangeRequest(exchangeRequest, transactionHash);
-            
-            log.info("Exchange request processed successfully - RequestId: {}, TransactionHash: {}", 
-                exchangeRequestId, transactionHash);
-            
-        } catch (Exception e) {
-            log.error("Error processing exchange request - RequestId: {}", exchangeRequestId, e);
-            handleExchangeFailure(exchangeRequest, exchangeRequestId, e);
         }
     }
 
+    /**
+     * 멀티센드 의도가 최종 실패하면(서명 트랜잭션이 전파되지 않은 경우에만 호출됨) 윈도우의 모든 요청을 실패 처리하고 동결한 포인트를 해제합니다.
+     */
+    @Transactional
+    public void failSettlement(UUID settlementId) {
+        for (ExchangeRequest exchangeRequest : findSettlementRequests(settlementId)) {
+            exchangeRequest.fail();
+            exchangeRequestRepository.save(exchangeRequest);
+            unfreezeUserPoints(exchangeRequest, exchangeRequest.getId());
+        }
+    }
+
+    /**
+     * 같은 지갑(대소문자 무시)으로 가는 토큰 금액을 합산합니다. 요청 순서대로 수신자 순서를 유지합니다.
+     */
+    static Map<String, BigDecimal> netTransfers(List<ExchangeRequest> window) {
+        Map<String, BigDecimal> transfers = new LinkedHashMap<>();
+        for (ExchangeRequest exchangeRequest : window) {
+            String walletAddress = exchangeRequest.getWalletAddress().toLowerCase(Locale.ROOT);
+            transfers.merge(walletAddress, toTokenAmount(exchangeRequest.getPointAmount()), BigDecimal::add);
+        }
+        return transfers;
+    }
+
+    private List<ExchangeRequest> findSettlementRequests(UUID settlementId) {
+        return exchangeRequestRepository.findByStatusAndSettlementId(ExchangeStatus.PROCESSING, settlementId);
+    }
+
+    /**
+     * 정산 윈도우 멀티센드 의도 기록
+     */
+    private UUID enqueueSettlement(List<ExchangeRequest> window, UUID settlementId, String fromAddress, String multisendContract) {
+        NetworkType networkType = determineNetworkType(window.get(0).getWalletAddress());
+        String tokenContract = getTokenContractAddress(networkType);
+        Map<String, BigDecimal> transfers = netTransfers(window);
+        BigDecimal totalAmount = transfers.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        log.info("Enqueueing settlement - SettlementId: {}, Requests: {}, Recipients: {}, Total: {}",
+            settlementId, window.size(), transfers.size(), totalAmount);
+
+        Transaction transaction = new Transaction(
+            null,
+            BlockchainTransactionType.TOKEN_TRANSFER,
+            networkType,
+            totalAmount,
+            fromAddress,
+            multisendContract,
+            "Exchange settlement: " + window.size() + " requests"
+        );
+        return transactionOutbox.enqueue(
+            transaction,
+            new OutboxPayloads.MultiTransfer(tokenContract, multisendContract, transfers),
+            ExchangeSettlementIntentListener.EXCHANGE_SETTLEMENT,
+            settlementId.toString()
+        );
+    }
 
     /**
      * 지갑 주소로부터 네트워크 타입을 결정합니다.
@@ -158,11 +392,12 @@ public class ExchangeApplicationService {
     }
     
     /**
-     * 교환 처리 시작
+     * 교환 처리 시작 (REQUESTED 상태일 때만 조건부 갱신으로 점유)
      */
-    private void startExchangeProcessing(ExchangeRequest exchangeRequest) {
-        exchangeRequest.process();
-        exchangeRequestRepository.save(exchangeRequest);
+    private void startExchangeProcessing(ExchangeRequestId exchangeRequestId) {
+        if (exchangeRequestRepository.transition(exchangeRequestId, ExchangeStatus.REQUESTED, ExchangeStatus.PROCESSING) == 0) {
+            throw new IllegalStateException("Exchange request is not in REQUESTED status: " + exchangeRequestId);
+        }
     }
     
     /**
@@ -177,37 +412,51 @@ public class ExchangeApplicationService {
     }
     
     /**
-     * 토큰 전송 실행
+     * 토큰 전송 의도 기록
      */
-    private String executeTokenTransfer(ExchangeRequest exchangeRequest) {
+    private UUID enqueueTokenTransfer(ExchangeRequest exchangeRequest) {
         NetworkType networkType = determineNetworkType(exchangeRequest.getWalletAddress());
-        AdminWalletService.AdminWalletInfo adminWallet = adminWalletService.getAdminWallet(networkType);
         String tokenContract = getTokenContractAddress(networkType);
         BigDecimal tokenAmount = calculateTokenAmount(exchangeRequest);
+        String referenceId = exchangeRequest.getId().getValue().toString();
+        // 대기 중인 지급이 가장 적은 풀 지갑에서 보내 한 지갑의 nonce 순서에 묶이지 않도록 합니다.
+        String fromAddress = adminWalletPool.select(
+            networkType, tokenContract, tokenAmount, ExchangeTransactionIntentListener.EXCHANGE, referenceId);
         
-        log.info("Creating token transfer transaction for exchange - From: {} To: {} Amount: {} Network: {} Contract: {}", 
-            adminWallet.getWalletAddress(), exchangeRequest.getWalletAddress(), tokenAmount, networkType, tokenContract);
+        log.info("Enqueueing token transfer for exchange - From: {} To: {} Amount: {} Network: {} Contract: {}", 
+            fromAddress, exchangeRequest.getWalletAddress(), tokenAmount, networkType, tokenContract);
         
-        String transactionHash = transactionOrchestrator.executeTransfer(
-            adminWallet.getWalletAddress(),
-            exchangeRequest.getWalletAddress(),
+        Transaction transaction = new Transaction(
+            new UserId(exchangeRequest.getUserId()),
+            BlockchainTransactionType.TOKEN_TRANSFER,
             networkType,
             tokenAmount,
-            tokenContract
-        ).getTransactionHash();
-        
-        if (transactionHash == null || transactionHash.isEmpty()) {
-            throw new RuntimeException("Token transfer failed: No transaction hash returned");
+            fromAddress,
+            exchangeRequest.getWalletAddress(),
+            "Exchange from points: " + exchangeRequest.getPointAmount().getAmount() + " points"
+        );
+        try {
+            return transactionOutbox.enqueue(
+                transaction,
+                new OutboxPayloads.Transfer(exchangeRequest.getWalletAddress(), tokenAmount, tokenContract),
+                ExchangeTransactionIntentListener.EXCHANGE,
+                referenceId
+            );
+        } catch (RuntimeException e) {
+            adminWalletPool.release(ExchangeTransactionIntentListener.EXCHANGE, referenceId);
+            throw e;
         }
-        
-        return transactionHash;
     }
 
     /**
      * 토큰 양 계산
      */
     private BigDecimal calculateTokenAmount(ExchangeRequest exchangeRequest) {
-        return exchangeRequest.getPointAmount().getAmount().multiply(EXCHANGE_RATE);
+        return toTokenAmount(exchangeRequest.getPointAmount());
+    }
+
+    static BigDecimal toTokenAmount(PointAmount pointAmount) {
+        return pointAmount.getAmount().multiply(EXCHANGE_RATE);
     }
     
     /**
@@ -265,20 +514,6 @@ public class ExchangeApplicationService {
         exchangeRequestRepository.save(exchangeRequest);
     }
     
-    /**
-     * 교환 실패 처리
-     */
-    private void handleExchangeFailure(ExchangeRequest exchangeRequest, ExchangeRequestId exchangeRequestId, Exception e) {
-        // 교환 실패 처리
-        exchangeRequest.fail();
-        exchangeRequestRepository.save(exchangeRequest);
-        
-        // 포인트 해제
-        unfreezeUserPoints(exchangeRequest, exchangeRequestId);
-        
-        throw new RuntimeException("Failed to process exchange request: " + e.getMessage(), e);
-    }
-    
     /**
      * 사용자 포인트 해제
      */
@@ -0,0 +1,43 @@
+package com.bloominggrace.governance.exchange.application.service;
+
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation.TransactionConfirmationListener;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 교환 토큰 전송 체인 확인 처리기
+ * 확인되면 토큰 계정을 반영하고 완료 처리하며, 실패하면 동결한 포인트를 해제합니다.
+ */
+@Component
+public class ExchangeConfirmationListener implements TransactionConfirmationListener {
+
+    private final ExchangeApplicationService exchangeApplicationService;
+
+    public ExchangeConfirmationListener(ExchangeApplicationService exchangeApplicationService) {
+        this.exchangeApplicationService = exchangeApplicationService;
+    }
+
+    @Override
+    public Collection<String> unconfirmedTransactions(NetworkType networkType) {
+        // 일괄 정산 멀티센드는 Transaction 기록이 없으므로 교환 요청의 서명으로 복구합니다.
+        return exchangeApplicationService.findSubmittedTransferHashes(networkType);
+    }
+
+    @Override
+    public void onConfirmed(Set<String> transactionHashes) {
+        exchangeApplicationService.confirmExchangeTransfers(transactionHashes);
+    }
+
+    @Override
+    public void onFailed(Set<String> transactionHashes) {
+        exchangeApplicationService.failExchangeTransfers(transactionHashes);
+    }
+
+    @Override
+    public void onReplaced(String previousHash, String replacementHash) {
+        exchangeApplicationService.replaceExchangeTransfers(previousHash, replacementHash);
+    }
+}
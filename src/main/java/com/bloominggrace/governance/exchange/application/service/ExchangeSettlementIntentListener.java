@@ -0,0 +1,50 @@
+package com.bloominggrace.governance.exchange.application.service;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation.TransactionConfirmationTracker;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionIntentListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 교환 일괄 정산 멀티센드 의도 완료 처리기
+ * 참조 ID는 정산 윈도우 ID이며, 윈도우에 속한 모든 교환 요청에 결과를 반영합니다.
+ */
+@Component
+public class ExchangeSettlementIntentListener implements TransactionIntentListener {
+
+    public static final String EXCHANGE_SETTLEMENT = "EXCHANGE_SETTLEMENT";
+
+    private final ExchangeApplicationService exchangeApplicationService;
+    private final TransactionConfirmationTracker confirmationTracker;
+
+    public ExchangeSettlementIntentListener(ExchangeApplicationService exchangeApplicationService,
+                                            TransactionConfirmationTracker confirmationTracker) {
+        this.exchangeApplicationService = exchangeApplicationService;
+        this.confirmationTracker = confirmationTracker;
+    }
+
+    @Override
+    public boolean supports(String referenceType) {
+        return EXCHANGE_SETTLEMENT.equals(referenceType);
+    }
+
+    @Override
+    public void onSent(TransactionIntent intent) {
+        if (confirmationTracker.isTracked(intent.getNetworkType())) {
+            exchangeApplicationService.submitSettlement(settlementId(intent), intent.getTransactionHash());
+        } else {
+            exchangeApplicationService.completeSettlement(settlementId(intent), intent.getTransactionHash());
+        }
+    }
+
+    @Override
+    public void onFailed(TransactionIntent intent) {
+        exchangeApplicationService.failSettlement(settlementId(intent));
+    }
+
+    private UUID settlementId(TransactionIntent intent) {
+        return UUID.fromString(intent.getReferenceId());
+    }
+}
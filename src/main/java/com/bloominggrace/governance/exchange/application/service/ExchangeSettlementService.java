@@ -0,0 +1,85 @@
+package com.bloominggrace.governance.exchange.application.service;
+
+import com.bloominggrace.governance.exchange.domain.model.ExchangeRequest;
+import com.bloominggrace.governance.exchange.domain.model.ExchangeStatus;
+import com.bloominggrace.governance.exchange.infrastructure.config.ExchangeSettlementProperties;
+import com.bloominggrace.governance.exchange.infrastructure.repository.ExchangeRequestRepository;
+import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletService;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포인트 → 토큰 교환 일괄 정산
+ * REQUESTED 상태의 교환 요청을 시간/크기 윈도우로 모아 같은 지갑으로 가는 금액을 합산하고,
+ * 윈도우 전체를 멀티센드 트랜잭션 하나로 지급합니다.
+ * 윈도우 점유와 멀티센드 의도 기록은 한 DB 트랜잭션으로 커밋하고, 서명/브로드캐스트와 결과 반영은 아웃박스(ExchangeSettlementIntentListener)가 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExchangeSettlementService {
+
+    // 멀티센드는 Ethereum 지갑만 지원
+    private static final String ETHEREUM_ADDRESS_PREFIX = "0x";
+
+    private final ExchangeApplicationService exchangeApplicationService;
+    private final ExchangeRequestRepository exchangeRequestRepository;
+    private final AdminWalletService adminWalletService;
+    private final ExchangeSettlementProperties properties;
+
+    /**
+     * 윈도우 마감 조건(크기 또는 대기 시간)을 점검하고 충족하면 정산합니다.
+     */
+    @Scheduled(fixedDelayString = "${exchange.settlement.poll-interval-ms:1000}")
+    public void settleIfWindowClosed() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            while (isWindowClosed()) {
+                if (settleWindow() == 0) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[Settlement] Settlement run failed", e);
+        }
+    }
+
+    /**
+     * 윈도우 하나를 확보해 멀티센드 의도를 아웃박스에 기록합니다.
+     * @return 정산 대상으로 점유한 교환 요청 수
+     */
+    public int settleWindow() {
+        AdminWalletService.AdminWalletInfo adminWallet = adminWalletService.getAdminWallet(NetworkType.ETHEREUM);
+        List<ExchangeRequest> window = exchangeApplicationService.claimSettlementWindow(
+            ETHEREUM_ADDRESS_PREFIX, properties.getMaxBatchSize(), adminWallet.getWalletAddress(), properties.getMultisendAddress());
+        if (!window.isEmpty()) {
+            log.info("[Settlement] Enqueued settlement for {} exchange requests", window.size());
+        }
+        return window.size();
+    }
+
+    private boolean isWindowClosed() {
+        long pending = exchangeRequestRepository.countByStatusAndWalletAddressStartingWith(
+            ExchangeStatus.REQUESTED, ETHEREUM_ADDRESS_PREFIX);
+        if (pending == 0) {
+            return false;
+        }
+        if (pending >= properties.getMaxBatchSize()) {
+            return true;
+        }
+        Optional<ExchangeRequest> oldest = exchangeRequestRepository.findFirstByStatusAndWalletAddressStartingWithOrderByCreatedAtAsc(
+            ExchangeStatus.REQUESTED, ETHEREUM_ADDRESS_PREFIX);
+        return oldest.isPresent()
+            && Duration.between(oldest.get().getCreatedAt(), LocalDateTime.now()).toMillis() >= properties.getWindowMs();
+    }
+}
@@ -0,0 +1,51 @@
+package com.bloominggrace.governance.exchange.application.service;
+
+import com.bloominggrace.governance.exchange.domain.model.ExchangeRequestId;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation.TransactionConfirmationTracker;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionIntentListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 교환 토큰 전송 의도 완료 처리기
+ * 확인 추적 대상 네트워크는 해시만 기록하고 체인 확인 후 완료하며, 추적하지 않는 네트워크(SOLANA 등)는 브로드캐스트 시점에 완료합니다.
+ */
+@Component
+public class ExchangeTransactionIntentListener implements TransactionIntentListener {
+
+    public static final String EXCHANGE = "EXCHANGE";
+
+    private final ExchangeApplicationService exchangeApplicationService;
+    private final TransactionConfirmationTracker confirmationTracker;
+
+    public ExchangeTransactionIntentListener(ExchangeApplicationService exchangeApplicationService,
+                                             TransactionConfirmationTracker confirmationTracker) {
+        this.exchangeApplicationService = exchangeApplicationService;
+        this.confirmationTracker = confirmationTracker;
+    }
+
+    @Override
+    public boolean supports(String referenceType) {
+        return EXCHANGE.equals(referenceType);
+    }
+
+    @Override
+    public void onSent(TransactionIntent intent) {
+        if (confirmationTracker.isTracked(intent.getNetworkType())) {
+            exchangeApplicationService.submitExchangeTransfer(exchangeRequestId(intent), intent.getTransactionHash());
+        } else {
+            exchangeApplicationService.completeExchangeTransfer(exchangeRequestId(intent), intent.getTransactionHash());
+        }
+    }
+
+    @Override
+    public void onFailed(TransactionIntent intent) {
+        exchangeApplicationService.failExchangeTransfer(exchangeRequestId(intent));
+    }
+
+    private ExchangeRequestId exchangeRequestId(TransactionIntent intent) {
+        return new ExchangeRequestId(UUID.fromString(intent.getReferenceId()));
+    }
+}
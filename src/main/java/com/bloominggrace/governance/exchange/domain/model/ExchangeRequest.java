@@ -38,6 +38,10 @@ public class ExchangeRequest extends AggregateRoot {
     @Column(name = "transaction_signature")
     private String transactionSignature;
 
+    // 일괄 정산으로 처리되는 경우 정산 윈도우 ID (멀티센드 아웃박스 의도의 참조 ID)
+    @Column(name = "settlement_id")
+    private UUID settlementId;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -61,6 +65,16 @@ public class ExchangeRequest extends AggregateRoot {
 
     }
 
+    /**
+     * 브로드캐스트된 전송의 서명을 기록합니다. 체인 확인 전까지 PROCESSING 상태를 유지합니다.
+     */
+    public void submit(String transactionSignature) {
+        if (this.status != ExchangeStatus.PROCESSING) {
+            throw new IllegalStateException("제출할 수 없는 상태입니다: " + this.status);
+        }
+        this.transactionSignature = transactionSignature;
+    }
+
     public void complete(String transactionSignature) {
         if (this.status != ExchangeStatus.PROCESSING) {
             throw new IllegalStateException("완료할 수 없는 상태입니다: " + this.status);
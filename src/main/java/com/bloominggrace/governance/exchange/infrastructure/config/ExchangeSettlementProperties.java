@@ -0,0 +1,80 @@
+package com.bloominggrace.governance.exchange.infrastructure.config;
+
+import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 교환 일괄 정산 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "exchange.settlement")
+public class ExchangeSettlementProperties {
+
+    /**
+     * 일괄 정산 사용 여부 (관리자 지갑이 멀티센드 컨트랙트에 토큰 사용을 승인해야 함)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 가장 오래된 요청이 이 시간(ms)을 넘으면 윈도우를 정산
+     */
+    private long windowMs = 10000;
+
+    /**
+     * 대기 요청이 이 수에 도달하면 즉시 정산, 한 윈도우의 최대 요청 수
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * 윈도우 마감 조건 점검 주기 (ms)
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * 멀티센드 컨트랙트 주소 (Disperse 호환)
+     */
+    private String multisendAddress = EthereumConstants.Contracts.DISPERSE_CONTRACT_ADDRESS;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    public void setPollIntervalMs(long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    public String getMultisendAddress() {
+        return multisendAddress;
+    }
+
+    public void setMultisendAddress(String multisendAddress) {
+        this.multisendAddress = multisendAddress;
+    }
+}
@@ -60,8 +60,8 @@ public class ExchangeController {
     @PostMapping("/{exchangeRequestId}/process")
     public ResponseEntity<String> processExchange(@PathVariable UUID exchangeRequestId) {
         try {
-            exchangeApplicationService.processExchangeRequest(new ExchangeRequestId(exchangeRequestId));
-            return ResponseEntity.ok("교환이 처리되었습니다");
+            UUID trackingId = exchangeApplicationService.processExchangeRequest(new ExchangeRequestId(exchangeRequestId));
+            return ResponseEntity.ok("교환 처리 요청이 접수되었습니다. 추적 ID: " + trackingId);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("교환 처리 실패: " + e.getMessage());
         }
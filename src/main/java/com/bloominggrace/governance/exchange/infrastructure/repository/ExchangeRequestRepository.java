@@ -2,13 +2,54 @@ package com.bloominggrace.governance.exchange.infrastructure.repository;
 
 import com.bloominggrace.governance.exchange.domain.model.ExchangeRequest;
 import com.bloominggrace.governance.exchange.domain.model.ExchangeRequestId;
+import com.bloominggrace.governance.exchange.domain.model.ExchangeStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ExchangeRequestRepository extends JpaRepository<ExchangeRequest, ExchangeRequestId> {
     List<ExchangeRequest> findByUserId(UUID userId);
-}
\ No newline at end of file
+
+    // 일괄 정산 윈도우 조회 (지갑 주소 접두사로 네트워크 구분)
+    long countByStatusAndWalletAddressStartingWith(ExchangeStatus status, String walletAddressPrefix);
+
+    Optional<ExchangeRequest> findFirstByStatusAndWalletAddressStartingWithOrderByCreatedAtAsc(ExchangeStatus status, String walletAddressPrefix);
+
+    List<ExchangeRequest> findByStatusAndWalletAddressStartingWithOrderByCreatedAtAsc(ExchangeStatus status, String walletAddressPrefix, Pageable pageable);
+
+    // 체인 확인 대기 중인 교환 조회 (서명이 기록된 PROCESSING 요청)
+    List<ExchangeRequest> findByStatusAndTransactionSignatureIsNotNull(ExchangeStatus status);
+
+    List<ExchangeRequest> findByStatusAndTransactionSignatureIn(ExchangeStatus status, Collection<String> transactionSignatures);
+
+    // 정산 윈도우에 속한 요청 조회
+    List<ExchangeRequest> findByStatusAndSettlementId(ExchangeStatus status, UUID settlementId);
+
+    /**
+     * 현재 상태가 from인 요청만 to로 바꿉니다. 다른 처리기가 먼저 가져간 요청은 0을 반환합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ExchangeRequest e SET e.status = :to WHERE e.id = :id AND e.status = :from")
+    int transition(@Param("id") ExchangeRequestId id,
+                   @Param("from") ExchangeStatus from,
+                   @Param("to") ExchangeStatus to);
+
+    /**
+     * requested 상태인 요청만 processing으로 바꾸고 정산 윈도우 ID를 기록합니다. 다른 처리기가 먼저 가져간 요청은 0을 반환합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ExchangeRequest e SET e.status = :processing, e.settlementId = :settlementId WHERE e.id = :id AND e.status = :requested")
+    int claimForSettlement(@Param("id") ExchangeRequestId id,
+                           @Param("requested") ExchangeStatus requested,
+                           @Param("processing") ExchangeStatus processing,
+                           @Param("settlementId") UUID settlementId);
+}
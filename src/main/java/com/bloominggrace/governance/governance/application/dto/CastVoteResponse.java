@@ -22,6 +22,7 @@ public class CastVoteResponse {
     private BigDecimal votingPower;
     private String reason;
     private String transactionHash;
+    private UUID trackingId; // 트랜잭션 아웃박스 추적 ID
     private String status; // PENDING, CONFIRMED, FAILED
     private LocalDateTime votedAt;
     private String errorMessage; // 실패 시에만
@@ -48,6 +49,26 @@ public class CastVoteResponse {
             .build();
     }
     
+    public static CastVoteResponse pending(
+        UUID proposalId,
+        UUID voterId,
+        String voteType,
+        BigDecimal votingPower,
+        String reason,
+        UUID trackingId) {
+        
+        return CastVoteResponse.builder()
+            .proposalId(proposalId)
+            .voterId(voterId)
+            .voteType(voteType)
+            .votingPower(votingPower)
+            .reason(reason)
+            .trackingId(trackingId)
+            .status("PENDING")
+            .votedAt(LocalDateTime.now())
+            .build();
+    }
+    
     public static CastVoteResponse failure(
         UUID proposalId,
         UUID voterId,
@@ -2,10 +2,12 @@ package com.bloominggrace.governance.governance.application.dto;
 
 import com.bloominggrace.governance.governance.domain.model.Proposal;
 import com.bloominggrace.governance.governance.domain.model.Vote;
+import com.bloominggrace.governance.governance.domain.model.VoteResults;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -47,8 +49,11 @@ public class ProposalDetailResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
-    // 투표자 목록 (선택적)
+    // 투표자 목록 (선택적, 최신순 페이지)
     private List<VoteDetailDto> votes;
+    private long totalVoters;
+    private int votePage;
+    private boolean hasMoreVotes;
     
     @Data
     @Builder
@@ -57,7 +62,7 @@ public class ProposalDetailResponse {
     public static class VoteDetailDto {
         private UUID voterId;
         private String voterWalletAddress;
-        private String voteType; // FOR, AGAINST, ABSTAIN
+        private String voteType; // YES, NO, ABSTAIN
         private BigDecimal votingPower;
         private String reason;
         private LocalDateTime votedAt;
@@ -65,31 +70,36 @@ public class ProposalDetailResponse {
     }
     
     public static ProposalDetailResponse from(Proposal proposal, List<Vote> votes, String transactionHash, String networkType) {
-        LocalDateTime now = LocalDateTime.now();
-        // 수정: 올바른 메서드명 사용
+        return from(proposal, proposal.getVoteResults(), votes, transactionHash, networkType);
+    }
+    
+    /**
+     * 투표자 목록은 한 페이지만 담고, 전체 투표자 수와 다음 페이지 여부를 함께 채웁니다.
+     */
+    public static ProposalDetailResponse from(Proposal proposal, VoteResults voteResults, Page<Vote> votePage,
+                                              String transactionHash, String networkType) {
+        ProposalDetailResponse response = from(proposal, voteResults, votePage.getContent(), transactionHash, networkType);
+        response.setTotalVoters(votePage.getTotalElements());
+        response.setVotePage(votePage.getNumber());
+        response.setHasMoreVotes(votePage.hasNext());
+        return response;
+    }
+    
+    /**
+     * 투표 현황은 전달받은 집계(저장된 집계 또는 누산기 반영 집계)로 채웁니다.
+     */
+    public static ProposalDetailResponse from(Proposal proposal, VoteResults voteResults, List<Vote> votes,
+                                              String transactionHash, String networkType) {
         boolean isVotingActive = proposal.getVotingPeriod().isVotingActive();
         long daysRemaining = proposal.getVotingPeriod().getRemainingDays();
         
-        BigDecimal totalVotingPower = votes.stream()
-            .map(vote -> BigDecimal.valueOf(vote.getVotingPower()))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-        BigDecimal forVotes = votes.stream()
-            .filter(vote -> vote.getVoteType().name().equals("FOR"))
-            .map(vote -> BigDecimal.valueOf(vote.getVotingPower()))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-        BigDecimal againstVotes = votes.stream()
-            .filter(vote -> vote.getVoteType().name().equals("AGAINST"))
-            .map(vote -> BigDecimal.valueOf(vote.getVotingPower()))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-        BigDecimal abstainVotes = votes.stream()
-            .filter(vote -> vote.getVoteType().name().equals("ABSTAIN"))
-            .map(vote -> BigDecimal.valueOf(vote.getVotingPower()))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalVotingPower = BigDecimal.valueOf(voteResults.getTotalVotes());
+        BigDecimal forVotes = BigDecimal.valueOf(voteResults.getYesVotes());
+        BigDecimal againstVotes = BigDecimal.valueOf(voteResults.getNoVotes());
+        BigDecimal abstainVotes = BigDecimal.valueOf(voteResults.getAbstainVotes());
         
-        BigDecimal participationRate = totalVotingPower.compareTo(BigDecimal.ZERO) > 0 
+        // 인덱서가 만든 제안은 쿼럼을 컨트랙트가 판정하므로 요구 쿼럼이 0일 수 있습니다.
+        BigDecimal participationRate = totalVotingPower.compareTo(BigDecimal.ZERO) > 0 && proposal.getRequiredQuorum() > 0
             ? totalVotingPower.divide(BigDecimal.valueOf(proposal.getRequiredQuorum()), 4, BigDecimal.ROUND_HALF_UP)
             : BigDecimal.ZERO;
             
@@ -130,6 +140,7 @@ public class ProposalDetailResponse {
             .createdAt(proposal.getCreatedAt())
             .updatedAt(proposal.getUpdatedAt())
             .votes(voteDetails)
+            .totalVoters(votes.size())
             .build();
     }
 } 
\ No newline at end of file
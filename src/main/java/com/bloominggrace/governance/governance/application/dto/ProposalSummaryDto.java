@@ -0,0 +1,51 @@
+package com.bloominggrace.governance.governance.application.dto;
+
+import com.bloominggrace.governance.governance.domain.model.VoteResults;
+import com.bloominggrace.governance.governance.domain.model.VotingPeriod;
+import com.bloominggrace.governance.governance.infrastructure.repository.ProposalSummaryView;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 제안 목록 항목 (본문 제외, 투표 목록은 요청한 경우에만 포함)
+ */
+@Getter
+@Builder
+public class ProposalSummaryDto {
+    private final UUID id;
+    private final UUID creatorId;
+    private final String title;
+    private final String status;
+    private final VotingPeriodDto votingPeriod;
+    private final VoteResultsDto voteResults;
+    private final long requiredQuorum;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final String txHash;
+    private final String creatorWalletAddress;
+    private final BigInteger proposalCount;
+    private final List<VoteDto> votes;
+
+    public static ProposalSummaryDto from(ProposalSummaryView view, VoteResults voteResults, List<VoteDto> votes) {
+        return ProposalSummaryDto.builder()
+            .id(view.id())
+            .creatorId(view.creatorId())
+            .title(view.title())
+            .status(view.status().name())
+            .votingPeriod(VotingPeriodDto.from(new VotingPeriod(view.votingStartDate(), view.votingEndDate())))
+            .voteResults(VoteResultsDto.from(voteResults))
+            .requiredQuorum(view.requiredQuorum())
+            .createdAt(view.createdAt())
+            .updatedAt(view.updatedAt())
+            .txHash(view.txHash())
+            .creatorWalletAddress(view.creatorWalletAddress())
+            .proposalCount(view.proposalCount())
+            .votes(votes)
+            .build();
+    }
+}
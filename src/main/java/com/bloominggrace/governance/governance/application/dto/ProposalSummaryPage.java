@@ -0,0 +1,57 @@
+package com.bloominggrace.governance.governance.application.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 제안 목록 한 페이지
+ * nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회합니다. (마지막 페이지면 null)
+ */
+@Getter
+public class ProposalSummaryPage {
+
+    private static final String SEPARATOR = "|";
+
+    private final List<ProposalSummaryDto> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public ProposalSummaryPage(List<ProposalSummaryDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * 페이지 마지막 제안의 (생성 시각, ID)를 불투명한 커서 문자열로 변환
+     */
+    public static String encodeCursor(LocalDateTime createdAt, UUID id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid proposal cursor: " + cursor);
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid proposal cursor: " + cursor, e);
+        }
+    }
+
+    public record Cursor(LocalDateTime createdAt, UUID id) {
+    }
+}
@@ -3,7 +3,9 @@ package com.bloominggrace.governance.governance.application.service;
 import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
 import com.bloominggrace.governance.shared.domain.UserId;
 import com.bloominggrace.governance.governance.domain.model.*;
+import com.bloominggrace.governance.governance.infrastructure.cache.ProposalDetailCache;
 import com.bloominggrace.governance.governance.infrastructure.repository.ProposalRepository;
+import com.bloominggrace.governance.governance.infrastructure.repository.ProposalSummaryView;
 import com.bloominggrace.governance.governance.infrastructure.repository.VoteRepository;
 import com.bloominggrace.governance.governance.application.dto.*;
 import com.bloominggrace.governance.token.domain.model.TokenAccount;
@@ -14,23 +16,42 @@ import com.bloominggrace.governance.shared.blockchain.domain.model.Transaction;
 import com.bloominggrace.governance.shared.blockchain.infrastructure.repository.TransactionRepository;
 import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator;
 import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator.TransactionResult;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.OutboxPayloads;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionOutbox;
+import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletPool;
 import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletService;
 import com.bloominggrace.governance.token.infrastructure.repository.TokenAccountJpaRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class GovernanceApplicationService {
+
+    // 제안 목록 한 페이지의 최대 크기
+    private static final int MAX_PROPOSAL_PAGE_SIZE = 100;
+    // 제안 상세의 투표자 목록 페이지 크기 (기본 크기의 첫 페이지만 캐시)
+    private static final int DEFAULT_VOTE_PAGE_SIZE = 20;
+    private static final int MAX_VOTE_PAGE_SIZE = 100;
     
     private final ProposalRepository proposalRepository;
     private final VoteRepository voteRepository;
@@ -39,6 +60,11 @@ public class GovernanceApplicationService {
     private final TransactionOrchestrator transactionOrchestrator;
     private final TokenAccountJpaRepository tokenAccountRepository;
     private final AdminWalletService adminWalletService;
+    private final AdminWalletPool adminWalletPool;
+    private final VoteTallyAccumulator voteTallyAccumulator;
+    private final TransactionOutbox transactionOutbox;
+    private final ProposalDetailCache proposalDetailCache;
+    private final PlatformTransactionManager transactionManager;
     
     // ===== 거버넌스 관련 메서드들 =====
     
@@ -121,7 +147,7 @@ public class GovernanceApplicationService {
                 null,
                 "거버넌스 제안 생성: " + title
             );
-            transaction.confirm(transactionHash);
+            transaction.submit(transactionHash);
             transactionRepository.save(transaction);
             
             System.out.println("=== 🎯 제안 생성 완료 ===");
@@ -179,6 +205,7 @@ public class GovernanceApplicationService {
     
     /**
      * 2단계: 거버넌스 제안 수수료 충전 (Admin에서 제안자로)
+     * 수수료 전송 의도를 아웃박스에 기록하고 추적 ID를 반환합니다. 토큰 계정 반영은 전송 완료 후 수행됩니다.
      */
     public String chargeProposalFee(
             ProposalId proposalId,
@@ -193,52 +220,66 @@ public class GovernanceApplicationService {
             NetworkType networkTypeEnum = NetworkType.valueOf(networkType.toUpperCase());
             BigDecimal proposalFee = new BigDecimal("0.01");
 
-            System.out.println("=== 💰 거버넌스 제안 수수료 충전 시작 ===");
-            System.out.println("제안 ID: " + proposalId.getValue());
-            System.out.println("제안자 지갑: " + creatorWalletAddress);
-            System.out.println("필요 수수료: " + proposalFee);
-            System.out.println("네트워크: " + networkTypeEnum);
-
-            // 2. Admin 지갑 정보 조회
-            System.out.println("=== 🔍 Admin 지갑 정보 조회 중... ===");
-            AdminWalletService.AdminWalletInfo adminWallet = adminWalletService.getAdminWallet(networkTypeEnum);
+            // 2. 수수료를 보낼 Admin 풀 지갑 선택
+            String referenceId = proposalId.getValue().toString();
+            String adminWalletAddress = adminWalletPool.select(
+                networkTypeEnum, null, proposalFee, GovernanceTransactionIntentListener.PROPOSAL_FEE, referenceId);
 
-            // 3. Admin에서 제안자로 수수료 전송
-            TransactionResult feeTransferResult = transactionOrchestrator.executeTransfer(
-                adminWallet.getWalletAddress(),
-                creatorWalletAddress,
+            // 3. Admin에서 제안자로 수수료 전송 의도 기록 (서명/브로드캐스트는 아웃박스 브로드캐스터가 수행)
+            Transaction transaction = new Transaction(
+                proposal.getCreatorId(),
+                BlockchainTransactionType.TOKEN_TRANSFER,
                 networkTypeEnum,
                 proposalFee,
-    null
+                adminWalletAddress,
+                creatorWalletAddress,
+                "거버넌스 제안 수수료 충전: " + proposal.getTitle()
             );
-            
-            if (!feeTransferResult.isSuccess()) {
-                System.err.println("❌ 수수료 전송 실패: " + feeTransferResult.getErrorMessage());
-                throw new RuntimeException("Failed to transfer proposal fee: " + feeTransferResult.getErrorMessage());
+            UUID trackingId;
+            try {
+                trackingId = transactionOutbox.enqueue(
+                    transaction,
+                    new OutboxPayloads.Transfer(creatorWalletAddress, proposalFee, null),
+                    GovernanceTransactionIntentListener.PROPOSAL_FEE,
+                    referenceId
+                );
+            } catch (RuntimeException e) {
+                adminWalletPool.release(GovernanceTransactionIntentListener.PROPOSAL_FEE, referenceId);
+                throw e;
             }
             
-            System.out.println("✅ 수수료 전송 성공!");
-            System.out.println("수수료 트랜잭션 해시: " + feeTransferResult.getTransactionHash());
-            System.out.println("=== 💰 거버넌스 제안 수수료 충전 완료 ===");
+            log.info("Proposal fee charge enqueued - Proposal: {}, Creator wallet: {}, Fee: {}, Network: {}, Tracking ID: {}",
+                proposalId.getValue(), creatorWalletAddress, proposalFee, networkTypeEnum, trackingId);
             
-            // 4. 제안자의 토큰 계정에 수수료 추가 (임시로 제거)
-             TokenAccount tokenAccount = tokenApplicationService.getOrCreateTokenAccount(
-                 proposal.getCreatorId(), creatorWalletAddress, networkTypeEnum, "default-contract", "TOKEN");
-             tokenAccount.receiveTokens(proposalFee, "거버넌스 제안 수수료 충전: " + proposal.getTitle());
-             tokenAccountRepository.save(tokenAccount);
-            
-            return feeTransferResult.getTransactionHash();
+            return trackingId.toString();
             
         } catch (Exception e) {
-            System.err.println("=== ❌ 수수료 충전 실패 ===");
-            System.err.println("Error: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to charge proposal fee - Proposal: {}, Error: {}", proposalId.getValue(), e.getMessage(), e);
             throw e;
         }
     }
+
+    /**
+     * 수수료 전송 완료 후 제안자의 토큰 계정에 수수료 추가
+     */
+    public void completeProposalFeeCharge(
+            ProposalId proposalId,
+            String creatorWalletAddress,
+            NetworkType networkType,
+            BigDecimal proposalFee) {
+        
+        Proposal proposal = proposalRepository.findById(proposalId)
+            .orElseThrow(() -> new RuntimeException("Proposal not found: " + proposalId.getValue()));
+        
+        TokenAccount tokenAccount = tokenApplicationService.getOrCreateTokenAccount(
+            proposal.getCreatorId(), creatorWalletAddress, networkType, "default-contract", "TOKEN");
+        tokenAccount.receiveTokens(proposalFee, "거버넌스 제안 수수료 충전: " + proposal.getTitle());
+        tokenAccountRepository.save(tokenAccount);
+    }
     
     /**
      * 3단계: 거버넌스 제안을 블록체인 네트워크로 브로드캐스트
+     * 제안 생성 의도를 아웃박스에 기록하고 추적 ID를 반환합니다. 해시 반영과 수수료 차감은 전송 완료 후 수행됩니다.
      */
     public String broadcastProposal(
             ProposalId proposalId,
@@ -250,50 +291,17 @@ public class GovernanceApplicationService {
             Proposal proposal = proposalRepository.findById(proposalId)
                 .orElseThrow(() -> new RuntimeException("Proposal not found: " + proposalId.getValue()));
             
-            NetworkType networkTypeEnum = NetworkType.valueOf(networkType.toUpperCase());
-            BigDecimal proposalFee = new BigDecimal("0.00029");
-
-            System.out.println("=== 🚀 거버넌스 제안 블록체인 브로드캐스트 시작 ===");
-            System.out.println("제안 ID: " + proposalId.getValue());
-            System.out.println("제목: " + proposal.getTitle());
-            System.out.println("제안자 지갑: " + creatorWalletAddress);
-            System.out.println("네트워크: " + networkTypeEnum);
-
-            // 2. 블록체인에 거버넌스 제안 트랜잭션 실행
-            TransactionResult txResult = transactionOrchestrator.executeProposalCreation(
-                proposal.getId().getValue(),
-                proposal.getTitle(),
-                proposal.getDescription(),
-                creatorWalletAddress,
-                networkTypeEnum,
-                proposalFee,
-                proposal.getVotingPeriod().getStartDate(),
-                proposal.getVotingPeriod().getEndDate(),
-                BigDecimal.valueOf(proposal.getRequiredQuorum())
-            );
-            
-            if (!txResult.isSuccess()) {
-                System.err.println("❌ 블록체인 브로드캐스트 실패: " + txResult.getErrorMessage());
-                throw new RuntimeException("Failed to broadcast proposal: " + txResult.getErrorMessage());
+            if (proposal.getTxHash() != null) {
+                throw new IllegalStateException("Proposal has already been broadcast: " + proposalId.getValue());
             }
-            
-            String transactionHash = txResult.getTransactionHash();
-            System.out.println("✅ 블록체인 브로드캐스트 성공!");
-            System.out.println("거버넌스 트랜잭션 해시: " + transactionHash);
-            System.out.println("=== 🚀 거버넌스 제안 블록체인 브로드캐스트 완료 ===");
-            proposal.setTxHash(transactionHash);
-            proposal.setProposalCount(adminWalletService.getProposalCount(networkTypeEnum));
-            adminWalletService.getNextProposalId(networkTypeEnum);
-            
-            // 3. 제안 수수료가 있는 경우 토큰 차감
-            if (proposalFee.compareTo(BigDecimal.ZERO) > 0) {
-                TokenAccount tokenAccount = tokenApplicationService.getOrCreateTokenAccount(
-                    proposal.getCreatorId(), creatorWalletAddress, networkTypeEnum, "default-contract", "TOKEN");
-                tokenAccount.burnTokens(proposalFee, "제안 수수료: " + proposal.getTitle());
-                tokenAccountRepository.save(tokenAccount);
+            if (transactionOutbox.hasActiveIntent(GovernanceTransactionIntentListener.PROPOSAL_BROADCAST, proposalId.getValue().toString())) {
+                throw new IllegalStateException("Proposal broadcast is already in progress: " + proposalId.getValue());
             }
             
-            // 4. 블록체인 트랜잭션 기록
+            NetworkType networkTypeEnum = NetworkType.valueOf(networkType.toUpperCase());
+            BigDecimal proposalFee = new BigDecimal("0.00029");
+
+            // 2. 거버넌스 제안 트랜잭션 의도 기록 (서명/브로드캐스트는 아웃박스 브로드캐스터가 수행)
             Transaction transaction = new Transaction(
                 proposal.getCreatorId(),
                 BlockchainTransactionType.PROPOSAL_CREATE,
@@ -303,19 +311,76 @@ public class GovernanceApplicationService {
                 null, // 제안 생성은 toAddress 없음
                 "거버넌스 제안 생성: " + proposal.getTitle()
             );
-            transaction.confirm(transactionHash);
-            transactionRepository.save(transaction);
+            UUID trackingId = transactionOutbox.enqueue(
+                transaction,
+                new OutboxPayloads.ProposalCreation(
+                    proposal.getId().getValue(),
+                    proposal.getTitle(),
+                    proposal.getDescription(),
+                    proposalFee,
+                    proposal.getVotingPeriod().getStartDate(),
+                    proposal.getVotingPeriod().getEndDate(),
+                    BigDecimal.valueOf(proposal.getRequiredQuorum())
+                ),
+                GovernanceTransactionIntentListener.PROPOSAL_BROADCAST,
+                proposalId.getValue().toString()
+            );
             
-            return transactionHash;
+            log.info("Proposal broadcast enqueued - Proposal: {}, Creator wallet: {}, Network: {}, Tracking ID: {}",
+                proposalId.getValue(), creatorWalletAddress, networkTypeEnum, trackingId);
+            
+            return trackingId.toString();
             
         } catch (Exception e) {
-            System.err.println("=== ❌ 블록체인 브로드캐스트 실패 ===");
-            System.err.println("Error: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to broadcast proposal - Proposal: {}, Error: {}", proposalId.getValue(), e.getMessage(), e);
             throw e;
         }
     }
 
+    /**
+     * 제안 브로드캐스트 완료 후 트랜잭션 해시/온체인 제안 번호 반영 및 제안 수수료 차감
+     */
+    public void completeProposalBroadcast(
+            ProposalId proposalId,
+            String creatorWalletAddress,
+            NetworkType networkType,
+            BigDecimal proposalFee,
+            String transactionHash) {
+        
+        Proposal proposal = proposalRepository.findById(proposalId)
+            .orElseThrow(() -> new RuntimeException("Proposal not found: " + proposalId.getValue()));
+        
+        proposal.setTxHash(transactionHash);
+        proposal.setProposalCount(adminWalletService.getProposalCount(networkType));
+        adminWalletService.getNextProposalId(networkType);
+        proposalRepository.save(proposal);
+        
+        if (proposalFee.compareTo(BigDecimal.ZERO) > 0) {
+            TokenAccount tokenAccount = tokenApplicationService.getOrCreateTokenAccount(
+                proposal.getCreatorId(), creatorWalletAddress, networkType, "default-contract", "TOKEN");
+            tokenAccount.burnTokens(proposalFee, "제안 수수료: " + proposal.getTitle());
+            tokenAccountRepository.save(tokenAccount);
+        }
+    }
+
+    /**
+     * 체인에서 실패(revert/드롭)한 제안 브로드캐스트의 해시를 해제해 다시 브로드캐스트할 수 있게 합니다.
+     */
+    public int releaseFailedProposalBroadcasts(Collection<String> transactionHashes) {
+        int released = proposalRepository.clearTxHashes(transactionHashes);
+        if (released > 0) {
+            log.warn("Released {} proposal broadcasts that failed on chain", released);
+        }
+        return released;
+    }
+
+    /**
+     * 수수료 상향으로 교체된 제안 브로드캐스트의 해시를 교체 트랜잭션 해시로 바꿉니다.
+     */
+    public int replaceProposalBroadcast(String previousHash, String replacementHash) {
+        return proposalRepository.replaceTxHash(previousHash, replacementHash);
+    }
+
     // ===== 조회 메서드들 =====
     
     @Transactional(readOnly = true)
@@ -345,23 +410,35 @@ public class GovernanceApplicationService {
     
     /**
      * 제안 상세 정보 조회 (투표 현황 포함)
+     * 투표 현황은 제안의 집계 컬럼에서 읽고, 투표자 목록은 요청한 페이지만 조회합니다.
+     * 기본 크기의 첫 페이지는 제안별로 캐시하며 투표/제안 변경 시 무효화됩니다.
      */
     @Transactional(readOnly = true)
-    public ProposalDetailResponse getProposalDetail(ProposalId proposalId) {
+    public ProposalDetailResponse getProposalDetail(ProposalId proposalId, int votePage, int voteSize) {
+        int page = Math.max(0, votePage);
+        int pageSize = Math.max(1, Math.min(voteSize, MAX_VOTE_PAGE_SIZE));
+        if (page == 0 && pageSize == DEFAULT_VOTE_PAGE_SIZE) {
+            return proposalDetailCache.get(proposalId, id -> loadProposalDetail(id, 0, DEFAULT_VOTE_PAGE_SIZE));
+        }
+        return loadProposalDetail(proposalId, page, pageSize);
+    }
+
+    private ProposalDetailResponse loadProposalDetail(ProposalId proposalId, int page, int pageSize) {
         Proposal proposal = proposalRepository.findById(proposalId)
             .orElseThrow(() -> new IllegalArgumentException("Proposal not found: " + proposalId.getValue()));
         
-        List<Vote> votes = voteRepository.findByProposalId(proposalId);
+        Page<Vote> votes = voteRepository.findPageByProposalId(proposalId, page, pageSize);
         
         // TODO: 트랜잭션 해시와 네트워크 타입 조회 로직 추가
         String transactionHash = null; // 실제 구현에서는 트랜잭션 테이블에서 조회
         String networkType = "ETHEREUM"; // 실제 구현에서는 제안자 지갑에서 조회
         
-        return ProposalDetailResponse.from(proposal, votes, transactionHash, networkType);
+        return ProposalDetailResponse.from(proposal, voteTallyAccumulator.liveResults(proposal), votes, transactionHash, networkType);
     }
     
     /**
-     * 블록체인 투표 실행 (TransactionOrchestrator 사용)
+     * 블록체인 투표 실행 (트랜잭션 아웃박스 사용)
+     * 투표 트랜잭션 의도를 기록하고 추적 ID와 함께 PENDING 응답을 반환합니다. 투표 기록은 전송 완료 후 생성됩니다.
      */
     public CastVoteResponse castVoteWithTransaction(
             ProposalId proposalId,
@@ -384,6 +461,11 @@ public class GovernanceApplicationService {
                 throw new IllegalStateException("User has already voted on this proposal");
             }
             
+            String voteReferenceId = GovernanceTransactionIntentListener.voteReferenceId(proposalId, voterId);
+            if (transactionOutbox.hasActiveIntent(GovernanceTransactionIntentListener.VOTE, voteReferenceId)) {
+                throw new IllegalStateException("User's vote on this proposal is already being processed");
+            }
+            
             // 2. 투표자 토큰 잔액 확인 - 실제 컨트랙트 주소 사용
             NetworkType networkTypeEnum = determineNetworkType(voterWalletAddress);
             TokenAccount tokenAccount = tokenApplicationService.getOrCreateTokenAccount(
@@ -394,47 +476,7 @@ public class GovernanceApplicationService {
                 throw new IllegalStateException("투표에 필요한 토큰이 없습니다. 현재 잔액: " + votingPower);
             }
             
-            // 3. 블록체인 투표 트랜잭션 실행
-            System.out.println("=== 🗳️ 블록체인 투표 트랜잭션 시작 ===");
-            System.out.println("제안 ID: " + proposalId.getValue());
-            System.out.println("투표자: " + voterWalletAddress);
-            System.out.println("투표 타입: " + voteType.name());
-            System.out.println("투표권: " + votingPower);
-            System.out.println("투표 proposalCount: " + proposal.getProposalCount());
-
-            TransactionResult txResult = transactionOrchestrator.executeVoteCreation(
-                proposal.getProposalCount(),
-                proposalId.getValue(),
-                voterWalletAddress,
-                voteType.name(),
-                votingPower,
-                reason,
-                networkTypeEnum
-            );
-            
-            if (!txResult.isSuccess()) {
-                System.err.println("❌ 블록체인 투표 실패: " + txResult.getErrorMessage());
-                return CastVoteResponse.failure(
-                    proposalId.getValue(),
-                    voterId.getValue(),
-                    voteType.name(),
-                    txResult.getErrorMessage()
-                );
-            }
-            
-            String transactionHash = txResult.getTransactionHash();
-            System.out.println("✅ 블록체인 투표 성공!");
-            System.out.println("투표 트랜잭션 해시: " + transactionHash);
-            
-            // 4. 투표 기록 생성
-            Vote vote = new Vote(proposalId, voterId, voteType, votingPower.longValue(), reason);
-            vote = voteRepository.save(vote);
-            
-            // 5. 제안서에 투표 추가
-            proposal.addVote(voteType, votingPower.longValue());
-            proposalRepository.save(proposal);
-            
-            // 6. 투표 트랜잭션 기록
+            // 3. 블록체인 투표 트랜잭션 의도 기록 (서명/브로드캐스트는 아웃박스 브로드캐스터가 수행)
             Transaction transaction = new Transaction(
                 tokenAccount.getUserId(),
                 BlockchainTransactionType.PROPOSAL_VOTE,
@@ -444,25 +486,33 @@ public class GovernanceApplicationService {
                 null,
                 "투표: " + proposal.getTitle() + " - " + voteType.name() + " (투표권: " + votingPower + ")"
             );
-            transaction.confirm(transactionHash);
-            transactionRepository.save(transaction);
+            UUID trackingId = transactionOutbox.enqueue(
+                transaction,
+                new OutboxPayloads.VoteCreation(
+                    proposal.getProposalCount(),
+                    proposalId.getValue(),
+                    voteType.name(),
+                    votingPower,
+                    reason
+                ),
+                GovernanceTransactionIntentListener.VOTE,
+                voteReferenceId
+            );
             
-            System.out.println("=== 🎯 투표 완료 ===");
+            log.info("Vote enqueued - Proposal: {}, Voter: {}, Vote: {}, Voting power: {}, Tracking ID: {}",
+                proposalId.getValue(), voterWalletAddress, voteType.name(), votingPower, trackingId);
             
-            return CastVoteResponse.success(
-                vote.getId().getValue(),
+            return CastVoteResponse.pending(
                 proposalId.getValue(),
                 voterId.getValue(),
                 voteType.name(),
                 votingPower,
                 reason,
-                transactionHash
+                trackingId
             );
             
         } catch (Exception e) {
-            System.err.println("=== ❌ 투표 실패 ===");
-            System.err.println("Error: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Failed to cast vote - Proposal: {}, Voter: {}, Error: {}", proposalId.getValue(), voterId.getValue(), e.getMessage());
             
             return CastVoteResponse.failure(
                 proposalId.getValue(),
@@ -474,18 +524,81 @@ public class GovernanceApplicationService {
     }
     
     /**
-     * 활성 제안 목록 조회
+     * 투표 트랜잭션 전송 완료 후 투표 기록 생성 및 제안 집계 반영
+     * 인기 제안에 투표가 몰려도 집계가 유실되지 않도록 제안을 읽어 다시 저장하지 않고 DB에서 원자적으로 증가시킵니다.
+     * 같은 투표가 동시에 들어오면 (proposal_id, voter_id) 유니크 제약으로 한쪽이 롤백되어 중복 집계되지 않습니다.
+     * 집계 누산기가 켜져 있으면 제안 행을 건드리지 않고 커밋 후 누산기에 더합니다.
      */
-    @Transactional(readOnly = true)
-    public List<ProposalDetailResponse> getActiveProposals() {
-        List<Proposal> activeProposals = proposalRepository.findByStatus(ProposalStatus.ACTIVE);
+    public void completeVote(
+            ProposalId proposalId,
+            UserId voterId,
+            VoteType voteType,
+            BigDecimal votingPower,
+            String reason) {
+        
+        if (voteRepository.existsByProposalIdAndVoterId(proposalId, voterId)) {
+            return;
+        }
+        
+        if (voteTallyAccumulator.isEnabled()) {
+            Proposal proposal = proposalRepository.findById(proposalId)
+                .orElseThrow(() -> new IllegalArgumentException("Proposal not found"));
+            if (!proposal.isVotingActive() || proposal.getVotingPeriod().isVotingEnded()) {
+                throw new IllegalStateException("Voting is not active for this proposal: " + proposalId.getValue());
+            }
+            Vote vote = new Vote(proposalId, voterId, voteType, votingPower.longValue(), reason, false);
+            voteRepository.saveAndFlush(vote);
+            voteTallyAccumulator.recordAfterCommit(vote);
+            return;
+        }
+        
+        // 중복 투표는 제안 행 잠금을 잡기 전에 실패하도록 투표 기록을 먼저 flush 합니다.
+        Vote vote = new Vote(proposalId, voterId, voteType, votingPower.longValue(), reason);
+        voteRepository.saveAndFlush(vote);
         
-        return activeProposals.stream()
-            .map(proposal -> {
-                List<Vote> votes = voteRepository.findByProposalId(proposal.getId());
-                return ProposalDetailResponse.from(proposal, votes, null, "ETHEREUM");
-            })
+        int updated = proposalRepository.incrementVotes(proposalId, voteType, votingPower.longValue());
+        if (updated == 0) {
+            throw new IllegalStateException("Voting is not active for this proposal: " + proposalId.getValue());
+        }
+    }
+    
+    /**
+     * 상태별 제안 목록 조회 (최신순, 키셋 페이지네이션)
+     * 제안 본문 없이 목록 프로젝션 한 번으로 조회하며, 투표 목록은 includeVotes일 때만 한 번에 조회합니다.
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public ProposalSummaryPage getProposalSummaries(ProposalStatus status, String cursor, int size, boolean includeVotes) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PROPOSAL_PAGE_SIZE));
+        ProposalSummaryPage.Cursor after = cursor == null || cursor.isBlank() ? null : ProposalSummaryPage.decodeCursor(cursor);
+        // 다음 페이지 존재 여부를 개수 조회 없이 알기 위해 한 건 더 읽습니다.
+        List<ProposalSummaryView> rows = proposalRepository.findSummariesByStatus(status,
+            after == null ? null : after.createdAt(), after == null ? null : after.id(), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<ProposalSummaryView> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Map<UUID, List<VoteDto>> votesByProposal = includeVotes ? findVotesByProposal(page) : Map.of();
+        List<ProposalSummaryDto> items = page.stream()
+            .map(view -> ProposalSummaryDto.from(
+                view,
+                voteTallyAccumulator.liveResults(new ProposalId(view.id()),
+                    new VoteResults(view.totalVotes(), view.yesVotes(), view.noVotes(), view.abstainVotes())),
+                includeVotes ? votesByProposal.getOrDefault(view.id(), List.of()) : null))
             .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProposalSummaryView last = page.get(page.size() - 1);
+            nextCursor = ProposalSummaryPage.encodeCursor(last.createdAt(), last.id());
+        }
+        return new ProposalSummaryPage(items, nextCursor);
+    }
+
+    private Map<UUID, List<VoteDto>> findVotesByProposal(List<ProposalSummaryView> page) {
+        List<ProposalId> proposalIds = page.stream().map(view -> new ProposalId(view.id())).toList();
+        return voteRepository.findByProposalIds(proposalIds).stream()
+            .map(VoteDto::from)
+            .collect(Collectors.groupingBy(VoteDto::getProposalId));
     }
     
     /**
@@ -553,15 +666,34 @@ public class GovernanceApplicationService {
         }
     }
 
+    /**
+     * 투표 기간이 끝난 제안의 결과를 확정합니다.
+     * 누산기에 남은 투표를 먼저 DB 집계에 반영한 뒤, 제안마다 새 트랜잭션에서 다시 읽어 판정하고 누산 상태를 버립니다.
+     * (반영 전에 읽은 제안 엔티티로 판정하면 반영되지 않은 투표가 빠집니다)
+     */
     @Scheduled(fixedRate = 60000) // 1분마다 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void processExpiredProposals() {
-        List<Proposal> activeProposals = proposalRepository.findByStatus(ProposalStatus.VOTING);
         LocalDateTime now = LocalDateTime.now();
+        List<ProposalId> expiredProposalIds = proposalRepository.findByStatus(ProposalStatus.VOTING).stream()
+            .filter(proposal -> proposal.getVotingPeriod().getEndDate().isBefore(now))
+            .map(Proposal::getId)
+            .toList();
         
-        for (Proposal proposal : activeProposals) {
-            if (proposal.getVotingPeriod().getEndDate().isBefore(now)) {
-                proposal.endVoting();
-                proposalRepository.save(proposal);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (ProposalId proposalId : expiredProposalIds) {
+            if (voteTallyAccumulator.isEnabled() && !voteTallyAccumulator.flush(proposalId)) {
+                log.warn("Vote tallies not flushed, deferring end of voting - ProposalId: {}", proposalId.getValue());
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status -> proposalRepository.findById(proposalId)
+                .filter(proposal -> proposal.getStatus() == ProposalStatus.VOTING)
+                .ifPresent(proposal -> {
+                    proposal.endVoting();
+                    proposalRepository.save(proposal);
+                }));
+            if (voteTallyAccumulator.isEnabled()) {
+                voteTallyAccumulator.release(proposalId);
             }
         }
     }
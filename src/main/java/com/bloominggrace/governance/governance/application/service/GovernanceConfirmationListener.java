@@ -0,0 +1,44 @@
+package com.bloominggrace.governance.governance.application.service;
+
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation.TransactionConfirmationListener;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 거버넌스 트랜잭션 체인 확인 처리기
+ * 제안 생성 트랜잭션이 실패하면 제안의 해시를 해제해 다시 브로드캐스트할 수 있게 합니다.
+ * 제안/투표 트랜잭션은 모두 Transaction 기록이 있으므로 별도로 복구할 해시는 없습니다.
+ */
+@Component
+public class GovernanceConfirmationListener implements TransactionConfirmationListener {
+
+    private final GovernanceApplicationService governanceApplicationService;
+
+    public GovernanceConfirmationListener(GovernanceApplicationService governanceApplicationService) {
+        this.governanceApplicationService = governanceApplicationService;
+    }
+
+    @Override
+    public Collection<String> unconfirmedTransactions(NetworkType networkType) {
+        return List.of();
+    }
+
+    @Override
+    public void onConfirmed(Set<String> transactionHashes) {
+        // 확인 시 추가로 반영할 거버넌스 상태는 없습니다 (Transaction 기록은 기록기가 갱신).
+    }
+
+    @Override
+    public void onFailed(Set<String> transactionHashes) {
+        governanceApplicationService.releaseFailedProposalBroadcasts(transactionHashes);
+    }
+
+    @Override
+    public void onReplaced(String previousHash, String replacementHash) {
+        governanceApplicationService.replaceProposalBroadcast(previousHash, replacementHash);
+    }
+}
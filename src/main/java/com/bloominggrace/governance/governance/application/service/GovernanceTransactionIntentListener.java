@@ -0,0 +1,97 @@
+package com.bloominggrace.governance.governance.application.service;
+
+import com.bloominggrace.governance.governance.domain.model.ProposalId;
+import com.bloominggrace.governance.governance.domain.model.VoteType;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.OutboxPayloads;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionIntentListener;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionOutbox;
+import com.bloominggrace.governance.shared.domain.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 거버넌스 트랜잭션 의도 완료 처리기
+ * 수수료 충전, 제안 브로드캐스트, 투표 전송이 끝나면 GovernanceApplicationService의 완료 메서드를 호출합니다.
+ */
+@Slf4j
+@Component
+public class GovernanceTransactionIntentListener implements TransactionIntentListener {
+
+    public static final String PROPOSAL_FEE = "PROPOSAL_FEE";
+    public static final String PROPOSAL_BROADCAST = "PROPOSAL_BROADCAST";
+    public static final String VOTE = "VOTE";
+
+    private final GovernanceApplicationService governanceApplicationService;
+    private final TransactionOutbox transactionOutbox;
+
+    public GovernanceTransactionIntentListener(GovernanceApplicationService governanceApplicationService,
+                                               TransactionOutbox transactionOutbox) {
+        this.governanceApplicationService = governanceApplicationService;
+        this.transactionOutbox = transactionOutbox;
+    }
+
+    /**
+     * 투표 의도의 참조 ID (제안 ID:투표자 ID)
+     */
+    public static String voteReferenceId(ProposalId proposalId, UserId voterId) {
+        return proposalId.getValue() + ":" + voterId.getValue();
+    }
+
+    @Override
+    public boolean supports(String referenceType) {
+        return PROPOSAL_FEE.equals(referenceType)
+            || PROPOSAL_BROADCAST.equals(referenceType)
+            || VOTE.equals(referenceType);
+    }
+
+    @Override
+    public void onSent(TransactionIntent intent) {
+        switch (intent.getReferenceType()) {
+            case PROPOSAL_FEE: {
+                OutboxPayloads.Transfer payload = transactionOutbox.readPayload(intent, OutboxPayloads.Transfer.class);
+                governanceApplicationService.completeProposalFeeCharge(
+                    new ProposalId(UUID.fromString(intent.getReferenceId())),
+                    payload.toAddress(),
+                    intent.getNetworkType(),
+                    payload.amount()
+                );
+                break;
+            }
+            case PROPOSAL_BROADCAST: {
+                OutboxPayloads.ProposalCreation payload = transactionOutbox.readPayload(intent, OutboxPayloads.ProposalCreation.class);
+                governanceApplicationService.completeProposalBroadcast(
+                    new ProposalId(payload.proposalId()),
+                    intent.getFromAddress(),
+                    intent.getNetworkType(),
+                    payload.proposalFee(),
+                    intent.getTransactionHash()
+                );
+                break;
+            }
+            case VOTE: {
+                OutboxPayloads.VoteCreation payload = transactionOutbox.readPayload(intent, OutboxPayloads.VoteCreation.class);
+                String voterId = intent.getReferenceId().substring(intent.getReferenceId().indexOf(':') + 1);
+                governanceApplicationService.completeVote(
+                    new ProposalId(payload.proposalId()),
+                    new UserId(UUID.fromString(voterId)),
+                    VoteType.valueOf(payload.voteType()),
+                    payload.votingPower(),
+                    payload.reason()
+                );
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported reference type: " + intent.getReferenceType());
+        }
+    }
+
+    @Override
+    public void onFailed(TransactionIntent intent) {
+        // 도메인 상태는 전송 완료 시점에만 바뀌므로 되돌릴 것이 없습니다.
+        log.warn("Governance transaction intent failed - TrackingId: {}, Reference: {}:{}, Error: {}",
+            intent.getId(), intent.getReferenceType(), intent.getReferenceId(), intent.getLastError());
+    }
+}
@@ -0,0 +1,359 @@
+package com.bloominggrace.governance.governance.application.service;
+
+import com.bloominggrace.governance.governance.domain.model.Proposal;
+import com.bloominggrace.governance.governance.domain.model.ProposalId;
+import com.bloominggrace.governance.governance.domain.model.Vote;
+import com.bloominggrace.governance.governance.domain.model.VoteId;
+import com.bloominggrace.governance.governance.domain.model.VoteResults;
+import com.bloominggrace.governance.governance.domain.model.VoteType;
+import com.bloominggrace.governance.governance.infrastructure.cache.ProposalDetailCache;
+import com.bloominggrace.governance.governance.infrastructure.config.VoteTallyProperties;
+import com.bloominggrace.governance.governance.infrastructure.repository.ProposalRepository;
+import com.bloominggrace.governance.governance.infrastructure.repository.VoteRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 제안별 투표 집계 메모리 누산기
+ * 투표가 몰리는 제안은 원자적 UPDATE도 한 행에서 경합하므로, 찬성/반대/기권을 LongAdder 스트라이프에 더해 두고
+ * 주기적으로(또는 반영 대기 투표가 임계치에 도달하면) 차이만큼 제안 집계 컬럼에 한 번에 반영합니다.
+ * 반영하지 않은 투표는 Vote.tallied=false로 남으므로 재시작 시 다시 읽어 반영합니다.
+ * 투표가 이미 종료된 제안에는 더하지 않으며, 그 사이 커밋된 투표는 원자적 UPDATE 경로처럼 받아들이지 않고 삭제합니다.
+ * 인스턴스 하나가 투표 완료 처리를 담당한다고 가정합니다.
+ *
+ * 메트릭: governance.vote.tally.flushes, governance.vote.tally.flush.failures, governance.vote.tally.pending
+ */
+@Slf4j
+@Component
+public class VoteTallyAccumulator {
+
+    private final ProposalRepository proposalRepository;
+    private final VoteRepository voteRepository;
+    private final VoteTallyProperties properties;
+    private final ProposalDetailCache proposalDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter flushes;
+    private final Counter flushFailures;
+
+    private final Map<ProposalId, Tally> tallies = new ConcurrentHashMap<>();
+
+    public VoteTallyAccumulator(ProposalRepository proposalRepository,
+                                VoteRepository voteRepository,
+                                VoteTallyProperties properties,
+                                ProposalDetailCache proposalDetailCache,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.proposalRepository = proposalRepository;
+        this.voteRepository = voteRepository;
+        this.properties = properties;
+        this.proposalDetailCache = proposalDetailCache;
+        // 커밋 후 콜백에서 호출되어도 기존 트랜잭션에 참여하지 않도록 항상 새 트랜잭션으로 반영합니다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushes = Counter.builder("governance.vote.tally.flushes")
+            .description("Accumulated vote deltas written to proposal tallies")
+            .register(meterRegistry);
+        this.flushFailures = Counter.builder("governance.vote.tally.flush.failures")
+            .description("Vote tally flushes that failed and were requeued")
+            .register(meterRegistry);
+        Gauge.builder("governance.vote.tally.pending", this, VoteTallyAccumulator::pendingVotes)
+            .description("Votes accepted but not yet written to proposal tallies")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 현재 DB 트랜잭션이 커밋된 뒤 투표를 누산기에 더합니다. (롤백된 투표는 집계되지 않음)
+     */
+    public void recordAfterCommit(Vote vote) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(vote);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(vote);
+            }
+        });
+    }
+
+    void record(Vote vote) {
+        Tally tally = tallies.computeIfAbsent(vote.getProposalId(), id -> new Tally());
+        tally.add(new PendingVote(vote.getId(), vote.getVoteType(), vote.getVotingPower()));
+        // 상세 응답에는 현재 집계가 들어가므로 누산 값이 바뀌면 캐시를 버립니다.
+        proposalDetailCache.evict(vote.getProposalId());
+        if (tallies.get(vote.getProposalId()) != tally) {
+            // 투표 종료로 누산 상태를 버린 직후 더해진 투표는 주기 반영 대상이 아니므로 바로 처리합니다.
+            flushBlocking(vote.getProposalId(), tally);
+        } else if (tally.pendingCount() >= properties.getFlushThreshold()) {
+            flush(vote.getProposalId(), tally);
+        }
+    }
+
+    /**
+     * DB 집계에 아직 반영하지 않은 누산 값을 더한 현재 집계
+     * 반영 커밋과 반영 값 이동 사이의 짧은 순간에는 이중으로 셀 수 있으며, 그 사이 캐시된 상세 응답은 반영 후 무효화됩니다.
+     */
+    public VoteResults liveResults(Proposal proposal) {
+        return liveResults(proposal.getId(), proposal.getVoteResults());
+    }
+
+    /**
+     * 목록 프로젝션처럼 제안 엔티티 없이 읽은 저장 집계에 누산 값을 더합니다.
+     */
+    public VoteResults liveResults(ProposalId proposalId, VoteResults stored) {
+        Tally tally = tallies.get(proposalId);
+        if (tally == null) {
+            return stored;
+        }
+        long yes = stored.getYesVotes() + tally.unflushed(VoteType.YES);
+        long no = stored.getNoVotes() + tally.unflushed(VoteType.NO);
+        long abstain = stored.getAbstainVotes() + tally.unflushed(VoteType.ABSTAIN);
+        return new VoteResults(yes + no + abstain, yes, no, abstain);
+    }
+
+    /**
+     * 누적된 집계를 제안별로 DB에 반영합니다.
+     */
+    @Scheduled(initialDelayString = "${governance.vote-tally.flush-interval-ms:1000}",
+               fixedDelayString = "${governance.vote-tally.flush-interval-ms:1000}")
+    public void flushAll() {
+        tallies.forEach(this::flush);
+    }
+
+    /**
+     * 이전 실행에서 반영하지 못한 투표를 다시 읽어 반영합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayUntallied() {
+        List<Vote> untallied = voteRepository.findUntallied();
+        if (untallied.isEmpty()) {
+            return;
+        }
+        log.info("Replaying {} votes not yet applied to proposal tallies", untallied.size());
+        for (Vote vote : untallied) {
+            tallies.computeIfAbsent(vote.getProposalId(), id -> new Tally())
+                .add(new PendingVote(vote.getId(), vote.getVoteType(), vote.getVotingPower()));
+        }
+        flushAll();
+    }
+
+    long pendingVotes() {
+        return tallies.values().stream().mapToLong(Tally::pendingCount).sum();
+    }
+
+    /**
+     * 제안 하나의 누산 값을 즉시 DB에 반영합니다 (투표 종료 판정 전 등). 진행 중인 반영이 있으면 끝날 때까지 기다립니다.
+     * @return 반영하지 못한 투표가 남아 있지 않으면 true
+     */
+    public boolean flush(ProposalId proposalId) {
+        Tally tally = tallies.get(proposalId);
+        if (tally == null) {
+            return true;
+        }
+        flushBlocking(proposalId, tally);
+        return tally.pendingCount() == 0;
+    }
+
+    /**
+     * 투표가 종료된 제안의 누산 상태를 버립니다. 그 사이 남은 투표는 종료된 제안에 더하지 않고 삭제합니다.
+     */
+    public void release(ProposalId proposalId) {
+        Tally tally = tallies.remove(proposalId);
+        if (tally != null) {
+            flushBlocking(proposalId, tally);
+        }
+    }
+
+    private void flushBlocking(ProposalId proposalId, Tally tally) {
+        tally.flushLock.lock();
+        try {
+            flushLocked(proposalId, tally);
+        } finally {
+            tally.flushLock.unlock();
+        }
+    }
+
+    private void flush(ProposalId proposalId, Tally tally) {
+        // 같은 제안의 반영은 하나만 진행하고, 이미 진행 중이면 다음 주기에 맡깁니다.
+        if (!tally.flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushLocked(proposalId, tally);
+        } finally {
+            tally.flushLock.unlock();
+        }
+    }
+
+    private void flushLocked(ProposalId proposalId, Tally tally) {
+        List<PendingVote> drained = tally.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+        long[] deltas = new long[VoteType.values().length];
+        List<VoteId> voteIds = new ArrayList<>(drained.size());
+        for (PendingVote pending : drained) {
+            deltas[pending.voteType().ordinal()] += pending.votingPower();
+            voteIds.add(pending.voteId());
+        }
+        AtomicBoolean committed = new AtomicBoolean();
+        AtomicBoolean votingEnded = new AtomicBoolean();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                markFlushedOnCommit(tally, deltas, committed);
+                int updated = proposalRepository.addVotingTallies(proposalId,
+                    deltas[VoteType.YES.ordinal()], deltas[VoteType.NO.ordinal()], deltas[VoteType.ABSTAIN.ordinal()]);
+                if (updated == 0) {
+                    // 결과가 확정된 뒤 커밋된 투표는 집계에 넣지 않고 기록도 남기지 않습니다.
+                    voteIds.forEach(voteRepository::delete);
+                    votingEnded.set(true);
+                } else {
+                    voteRepository.markTallied(voteIds);
+                }
+            });
+            if (!committed.get()) {
+                // 트랜잭션 동기화가 없는 트랜잭션 관리자인 경우
+                tally.markFlushed(deltas);
+                committed.set(true);
+            }
+            if (votingEnded.get()) {
+                tallies.remove(proposalId, tally);
+                log.warn("Discarded {} votes committed after voting ended - ProposalId: {}",
+                    drained.size(), proposalId.getValue());
+            } else {
+                flushes.increment();
+                log.debug("Flushed {} votes to proposal {}", drained.size(), proposalId.getValue());
+            }
+        } catch (RuntimeException e) {
+            if (committed.get()) {
+                // 커밋 후 콜백에서 실패한 경우로, 이미 반영되었으므로 다시 넣지 않습니다.
+                log.warn("Vote tallies for proposal {} committed but post-commit callback failed: {}",
+                    proposalId.getValue(), e.getMessage());
+            } else {
+                tally.requeue(drained);
+                flushFailures.increment();
+                log.warn("Failed to flush vote tallies for proposal {}: {}", proposalId.getValue(), e.getMessage());
+            }
+        }
+        // 커밋과 반영 값 이동 사이에 조회해 캐시한 상세 응답(이중 집계)을 버립니다.
+        proposalDetailCache.evict(proposalId);
+        // 누산 상태를 버리기 전에 더해진 투표는 이 누산 상태에만 남으므로 이어서 처리합니다.
+        if (votingEnded.get() && tally.pendingCount() > 0) {
+            flushLocked(proposalId, tally);
+        }
+    }
+
+    /**
+     * 반영 트랜잭션이 커밋되는 즉시 반영 값을 옮기도록 등록합니다. 롤백되면 호출되지 않아 누산 값이 그대로 남습니다.
+     * 커밋 후 한참 뒤에 옮기면 그 사이 조회가 DB 집계와 누산 값을 이중으로 셉니다.
+     */
+    private void markFlushedOnCommit(Tally tally, long[] deltas, AtomicBoolean committed) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                // 같은 트랜잭션의 캐시 무효화보다 먼저 실행
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                tally.markFlushed(deltas);
+                committed.set(true);
+            }
+        });
+    }
+
+    /**
+     * 제안 하나의 누산 상태
+     * 투표 수신 스레드는 LongAdder와 대기열에만 쓰고, 반영된 값은 반영 잠금을 잡은 스레드만 갱신합니다.
+     */
+    private static final class Tally {
+
+        private final LongAdder[] accepted = new LongAdder[VoteType.values().length];
+        private final long[] flushed = new long[VoteType.values().length];
+        private final Queue<PendingVote> pending = new ConcurrentLinkedQueue<>();
+        private final LongAdder pendingCount = new LongAdder();
+        private final ReentrantLock flushLock = new ReentrantLock();
+
+        Tally() {
+            for (int i = 0; i < accepted.length; i++) {
+                accepted[i] = new LongAdder();
+            }
+        }
+
+        void add(PendingVote vote) {
+            // 집계에 먼저 더한 뒤 대기열에 넣어야 반영 대기 값이 음수가 되지 않습니다.
+            accepted[vote.voteType().ordinal()].add(vote.votingPower());
+            pending.add(vote);
+            pendingCount.increment();
+        }
+
+        long pendingCount() {
+            return pendingCount.sum();
+        }
+
+        long unflushed(VoteType voteType) {
+            long flushedVotes;
+            synchronized (flushed) {
+                flushedVotes = flushed[voteType.ordinal()];
+            }
+            return accepted[voteType.ordinal()].sum() - flushedVotes;
+        }
+
+        List<PendingVote> drain() {
+            List<PendingVote> drained = new ArrayList<>();
+            PendingVote vote;
+            while ((vote = pending.poll()) != null) {
+                drained.add(vote);
+            }
+            pendingCount.add(-drained.size());
+            return drained;
+        }
+
+        void markFlushed(long[] deltas) {
+            synchronized (flushed) {
+                for (int i = 0; i < flushed.length; i++) {
+                    flushed[i] += deltas[i];
+                }
+            }
+        }
+
+        void requeue(List<PendingVote> votes) {
+            pending.addAll(votes);
+            pendingCount.add(votes.size());
+        }
+    }
+
+    private record PendingVote(VoteId voteId, VoteType voteType, long votingPower) {
+    }
+}
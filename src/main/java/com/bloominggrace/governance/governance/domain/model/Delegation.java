@@ -0,0 +1,60 @@
+package com.bloominggrace.governance.governance.domain.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거버넌스 토큰 투표권 위임 현황 (온체인 DelegateChanged 이벤트 기준)
+ * 로그를 병렬로 반영하면 순서가 섞일 수 있으므로, 더 최근 로그일 때만 위임 대상을 바꿉니다.
+ */
+@Entity
+@Table(name = "delegations")
+@Getter
+@NoArgsConstructor
+public class Delegation {
+
+    /**
+     * 위임자 주소 (소문자)
+     */
+    @Id
+    @Column(name = "delegator_address")
+    private String delegatorAddress;
+
+    @Column(name = "delegatee_address", nullable = false)
+    private String delegateeAddress;
+
+    @Column(name = "block_number", nullable = false)
+    private long blockNumber;
+
+    @Column(name = "log_index", nullable = false)
+    private int logIndex;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public Delegation(String delegatorAddress, String delegateeAddress, long blockNumber, int logIndex) {
+        this.delegatorAddress = delegatorAddress;
+        this.delegateeAddress = delegateeAddress;
+        this.blockNumber = blockNumber;
+        this.logIndex = logIndex;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 위임 대상 변경 (이미 반영한 로그보다 이전 로그면 무시)
+     * @return 변경되었으면 true
+     */
+    public boolean changeDelegatee(String delegateeAddress, long blockNumber, int logIndex) {
+        if (blockNumber < this.blockNumber || (blockNumber == this.blockNumber && logIndex <= this.logIndex)) {
+            return false;
+        }
+        this.delegateeAddress = delegateeAddress;
+        this.blockNumber = blockNumber;
+        this.logIndex = logIndex;
+        this.updatedAt = LocalDateTime.now();
+        return true;
+    }
+}
@@ -4,13 +4,18 @@ import com.bloominggrace.governance.shared.domain.AggregateRoot;
 import com.bloominggrace.governance.shared.domain.UserId;
 
 import lombok.Getter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.math.BigInteger;
 
 @Entity
-@Table(name = "proposals")
+@Table(name = "proposals", indexes = {
+    // 상태별 목록의 (created_at, id) 키셋 페이지네이션용
+    @Index(name = "idx_proposals_status_created_at", columnList = "status, created_at")
+})
+@DynamicUpdate // 투표 집계는 DB에서 원자적으로 증가시키므로, 제안 저장 시 변경하지 않은 집계 컬럼을 덮어쓰지 않습니다.
 @Getter
 public class Proposal extends AggregateRoot {
     
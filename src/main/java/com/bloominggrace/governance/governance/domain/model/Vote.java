@@ -8,7 +8,12 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "votes")
+@Table(name = "votes", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_votes_proposal_voter", columnNames = {"proposal_id", "voter_id"})
+}, indexes = {
+    // 제안 상세의 투표자 목록을 최신순으로 페이지 조회할 때 사용
+    @Index(name = "idx_votes_proposal_created_at", columnList = "proposal_id, created_at")
+})
 public class Vote extends ValueObject {
     
     @EmbeddedId
@@ -39,9 +44,17 @@ public class Vote extends ValueObject {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // 제안 집계에 반영되었는지 여부 (메모리 누산기가 아직 반영하지 않은 투표는 false)
+    @Column(name = "tallied", nullable = false)
+    private boolean tallied;
+
     protected Vote() {}
 
     public Vote(ProposalId proposalId, UserId voterId, VoteType voteType, long votingPower, String reason) {
+        this(proposalId, voterId, voteType, votingPower, reason, true);
+    }
+
+    public Vote(ProposalId proposalId, UserId voterId, VoteType voteType, long votingPower, String reason, boolean tallied) {
         this.id = new VoteId();
         this.proposalId = proposalId;
         this.voterId = voterId;
@@ -49,6 +62,7 @@ public class Vote extends ValueObject {
         this.votingPower = votingPower;
         this.reason = reason;
         this.createdAt = LocalDateTime.now();
+        this.tallied = tallied;
     }
 
     public VoteId getId() {
@@ -79,6 +93,10 @@ public class Vote extends ValueObject {
         return createdAt;
     }
 
+    public boolean isTallied() {
+        return tallied;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -8,6 +8,10 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
+/**
+ * 제안 투표 집계
+ * 집계 컬럼은 투표 시 DB에서 원자적으로 증가시키므로 비율은 저장하지 않고 조회할 때 계산합니다.
+ */
 @Embeddable
 public class VoteResults extends ValueObject {
     @Column(name = "total_votes")
@@ -21,15 +25,6 @@ public class VoteResults extends ValueObject {
     
     @Column(name = "abstain_votes")
     private long abstainVotes;
-    
-    @Column(name = "yes_percentage", precision = 5, scale = 2)
-    private BigDecimal yesPercentage;
-    
-    @Column(name = "no_percentage", precision = 5, scale = 2)
-    private BigDecimal noPercentage;
-    
-    @Column(name = "abstain_percentage", precision = 5, scale = 2)
-    private BigDecimal abstainPercentage;
 
     // Hibernate를 위한 기본 생성자
     protected VoteResults() {
@@ -37,9 +32,6 @@ public class VoteResults extends ValueObject {
         this.yesVotes = 0;
         this.noVotes = 0;
         this.abstainVotes = 0;
-        this.yesPercentage = BigDecimal.ZERO;
-        this.noPercentage = BigDecimal.ZERO;
-        this.abstainPercentage = BigDecimal.ZERO;
     }
 
     public VoteResults(long totalVotes, long yesVotes, long noVotes, long abstainVotes) {
@@ -54,22 +46,6 @@ public class VoteResults extends ValueObject {
         this.yesVotes = yesVotes;
         this.noVotes = noVotes;
         this.abstainVotes = abstainVotes;
-        
-        if (totalVotes == 0) {
-            this.yesPercentage = BigDecimal.ZERO;
-            this.noPercentage = BigDecimal.ZERO;
-            this.abstainPercentage = BigDecimal.ZERO;
-        } else {
-            this.yesPercentage = BigDecimal.valueOf(yesVotes)
-                .multiply(BigDecimal.valueOf(100))
-                .divide(BigDecimal.valueOf(totalVotes), 2, RoundingMode.HALF_UP);
-            this.noPercentage = BigDecimal.valueOf(noVotes)
-                .multiply(BigDecimal.valueOf(100))
-                .divide(BigDecimal.valueOf(totalVotes), 2, RoundingMode.HALF_UP);
-            this.abstainPercentage = BigDecimal.valueOf(abstainVotes)
-                .multiply(BigDecimal.valueOf(100))
-                .divide(BigDecimal.valueOf(totalVotes), 2, RoundingMode.HALF_UP);
-        }
     }
 
     public long getTotalVotes() {
@@ -89,15 +65,24 @@ public class VoteResults extends ValueObject {
     }
 
     public BigDecimal getYesPercentage() {
-        return yesPercentage;
+        return percentage(yesVotes);
     }
 
     public BigDecimal getNoPercentage() {
-        return noPercentage;
+        return percentage(noVotes);
     }
 
     public BigDecimal getAbstainPercentage() {
-        return abstainPercentage;
+        return percentage(abstainVotes);
+    }
+
+    private BigDecimal percentage(long votes) {
+        if (totalVotes == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(votes)
+            .multiply(BigDecimal.valueOf(100))
+            .divide(BigDecimal.valueOf(totalVotes), 2, RoundingMode.HALF_UP);
     }
 
     public boolean isPassed() {
@@ -131,6 +116,6 @@ public class VoteResults extends ValueObject {
     @Override
     public String toString() {
         return String.format("VoteResults{total=%d, yes=%d(%.2f%%), no=%d(%.2f%%), abstain=%d(%.2f%%)}",
-                           totalVotes, yesVotes, yesPercentage, noVotes, noPercentage, abstainVotes, abstainPercentage);
+                           totalVotes, yesVotes, getYesPercentage(), noVotes, getNoPercentage(), abstainVotes, getAbstainPercentage());
     }
 } 
\ No newline at end of file
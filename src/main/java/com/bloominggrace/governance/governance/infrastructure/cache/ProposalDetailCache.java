@@ -0,0 +1,82 @@
+package com.bloominggrace.governance.governance.infrastructure.cache;
+
+import com.bloominggrace.governance.governance.application.dto.ProposalDetailResponse;
+import com.bloominggrace.governance.governance.domain.model.ProposalId;
+import com.bloominggrace.governance.governance.infrastructure.config.ProposalDetailCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 제안 상세 응답 캐시 (제안별, 투표자 목록 첫 페이지 기준)
+ * 투표 중에는 상세 화면 조회가 몰리므로 조립한 응답을 보관하고, 투표/제안 상태가 바뀌면 제안 단위로 무효화합니다.
+ * 무효화는 즉시 한 번, 트랜잭션 커밋 후 한 번 더 수행해 커밋 전 데이터를 다시 캐시하지 않도록 합니다.
+ * 보관 시간은 무효화를 놓친 경우의 상한입니다.
+ *
+ * 메트릭: cache.gets/puts/evictions (cache=proposal-detail)
+ */
+@Component
+public class ProposalDetailCache {
+
+    private static final String CACHE_NAME = "proposal-detail";
+
+    private final Cache<ProposalId, ProposalDetailResponse> cache;
+    private final boolean enabled;
+
+    public ProposalDetailCache(ProposalDetailCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(Duration.ofMillis(properties.getExpireAfterWriteMs()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 loader로 조립해 저장합니다.
+     */
+    public ProposalDetailResponse get(ProposalId proposalId, Function<ProposalId, ProposalDetailResponse> loader) {
+        if (!enabled) {
+            return loader.apply(proposalId);
+        }
+        return cache.get(proposalId, loader);
+    }
+
+    /**
+     * 제안의 상세 응답을 무효화합니다 (현재 트랜잭션이 있으면 커밋 후에도 한 번 더).
+     */
+    public void evict(ProposalId proposalId) {
+        cache.invalidate(proposalId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(proposalId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 여러 제안을 한 번에 바꾸는 일괄 갱신 후 전체 무효화
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.bloominggrace.governance.governance.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 온체인 거버넌스 이벤트 인덱서 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "governance.indexer")
+public class GovernanceIndexerProperties {
+
+    /**
+     * 인덱서 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 새 블록 스캔 주기 (ms)
+     */
+    private long pollIntervalMs = 15000;
+
+    /**
+     * 재구성 위험을 피하기 위해 최신 블록에서 뒤로 남겨 두는 블록 수
+     */
+    private int confirmations = 12;
+
+    /**
+     * 체크포인트가 없을 때 스캔을 시작할 블록 (컨트랙트 배포 블록)
+     */
+    private long startBlock = 0;
+
+    /**
+     * eth_getLogs 한 번에 조회하는 초기 블록 수
+     */
+    private long initialBlockRange = 2000;
+
+    /**
+     * "too many results"로 범위를 줄일 때의 하한
+     */
+    private long minBlockRange = 1;
+
+    /**
+     * 로그가 드문 구간에서 범위를 늘릴 때의 상한
+     */
+    private long maxBlockRange = 50000;
+
+    /**
+     * 조회된 로그가 이 수보다 적으면 다음 범위를 두 배로 늘림
+     */
+    private int sparseLogThreshold = 100;
+
+    /**
+     * 외부에서 생성된 제안의 투표 기간을 블록 번호로 추정할 때 쓰는 블록 간격 (초)
+     */
+    private long secondsPerBlock = 12;
+
+    /**
+     * 체크포인트가 없으면 기동 시 startBlock부터 병렬 백필 후 주기 스캔을 시작
+     */
+    private boolean backfillOnStartup = false;
+
+    /**
+     * 백필 병렬 스레드 수
+     */
+    private int backfillThreads = 4;
+
+    /**
+     * 백필 시 스레드 하나가 맡는 블록 구간 크기
+     */
+    private long backfillChunkBlocks = 20000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    public void setPollIntervalMs(long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    public int getConfirmations() {
+        return confirmations;
+    }
+
+    public void setConfirmations(int confirmations) {
+        this.confirmations = confirmations;
+    }
+
+    public long getStartBlock() {
+        return startBlock;
+    }
+
+    public void setStartBlock(long startBlock) {
+        this.startBlock = startBlock;
+    }
+
+    public long getInitialBlockRange() {
+        return initialBlockRange;
+    }
+
+    public void setInitialBlockRange(long initialBlockRange) {
+        this.initialBlockRange = initialBlockRange;
+    }
+
+    public long getMinBlockRange() {
+        return minBlockRange;
+    }
+
+    public void setMinBlockRange(long minBlockRange) {
+        this.minBlockRange = minBlockRange;
+    }
+
+    public long getMaxBlockRange() {
+        return maxBlockRange;
+    }
+
+    public void setMaxBlockRange(long maxBlockRange) {
+        this.maxBlockRange = maxBlockRange;
+    }
+
+    public int getSparseLogThreshold() {
+        return sparseLogThreshold;
+    }
+
+    public void setSparseLogThreshold(int sparseLogThreshold) {
+        this.sparseLogThreshold = sparseLogThreshold;
+    }
+
+    public long getSecondsPerBlock() {
+        return secondsPerBlock;
+    }
+
+    public void setSecondsPerBlock(long secondsPerBlock) {
+        this.secondsPerBlock = secondsPerBlock;
+    }
+
+    public boolean isBackfillOnStartup() {
+        return backfillOnStartup;
+    }
+
+    public void setBackfillOnStartup(boolean backfillOnStartup) {
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    public int getBackfillThreads() {
+        return backfillThreads;
+    }
+
+    public void setBackfillThreads(int backfillThreads) {
+        this.backfillThreads = backfillThreads;
+    }
+
+    public long getBackfillChunkBlocks() {
+        return backfillChunkBlocks;
+    }
+
+    public void setBackfillChunkBlocks(long backfillChunkBlocks) {
+        this.backfillChunkBlocks = backfillChunkBlocks;
+    }
+}
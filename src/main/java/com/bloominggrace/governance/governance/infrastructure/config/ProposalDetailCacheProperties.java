@@ -0,0 +1,53 @@
+package com.bloominggrace.governance.governance.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 제안 상세 응답 캐시 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "governance.proposal-detail-cache")
+public class ProposalDetailCacheProperties {
+
+    /**
+     * 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시할 최대 제안 수
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * 무효화를 놓친 경우를 대비한 최대 보관 시간 (ms)
+     */
+    private long expireAfterWriteMs = 60000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public long getExpireAfterWriteMs() {
+        return expireAfterWriteMs;
+    }
+
+    public void setExpireAfterWriteMs(long expireAfterWriteMs) {
+        this.expireAfterWriteMs = expireAfterWriteMs;
+    }
+}
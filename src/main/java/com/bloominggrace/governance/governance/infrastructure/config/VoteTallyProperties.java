@@ -0,0 +1,53 @@
+package com.bloominggrace.governance.governance.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 투표 집계 메모리 누산기 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "governance.vote-tally")
+public class VoteTallyProperties {
+
+    /**
+     * 누산기 사용 여부 (비활성화하면 투표마다 제안 행을 바로 증가시킴)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 누적된 집계를 DB에 반영하는 주기 (ms)
+     */
+    private long flushIntervalMs = 1000;
+
+    /**
+     * 한 제안에 반영되지 않은 투표가 이 수에 도달하면 주기를 기다리지 않고 반영
+     */
+    private int flushThreshold = 500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public int getFlushThreshold() {
+        return flushThreshold;
+    }
+
+    public void setFlushThreshold(int flushThreshold) {
+        this.flushThreshold = flushThreshold;
+    }
+}
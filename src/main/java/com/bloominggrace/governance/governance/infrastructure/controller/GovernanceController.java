@@ -15,6 +15,7 @@ import com.bloominggrace.governance.governance.domain.model.VoteType;
 import com.bloominggrace.governance.governance.domain.model.Proposal;
 import com.bloominggrace.governance.governance.domain.model.Vote;
 import com.bloominggrace.governance.governance.application.dto.ProposalDetailResponse;
+import com.bloominggrace.governance.governance.application.dto.ProposalSummaryPage;
 import com.bloominggrace.governance.governance.application.dto.CastVoteRequest;
 import com.bloominggrace.governance.governance.application.dto.CastVoteResponse;
 import com.bloominggrace.governance.governance.domain.model.VotingPeriod;
@@ -104,7 +105,7 @@ public class GovernanceController {
         try {
             ProposalId proposalIdObj = new ProposalId(UUID.fromString(proposalId));
             
-            String feeTransactionHash = governanceService.chargeProposalFee(
+            String trackingId = governanceService.chargeProposalFee(
                 proposalIdObj,
                 request.getCreatorWalletAddress(),
                 request.getNetworkType().name()
@@ -112,9 +113,9 @@ public class GovernanceController {
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "수수료 충전이 성공적으로 완료되었습니다.");
+            response.put("message", "수수료 충전 요청이 접수되었습니다.");
             response.put("proposalId", proposalId);
-            response.put("feeTransactionHash", feeTransactionHash);
+            response.put("trackingId", trackingId);
             response.put("proposalFee", request.getProposalFee());
             
             return ResponseEntity.ok(response);
@@ -140,7 +141,7 @@ public class GovernanceController {
         try {
             ProposalId proposalIdObj = new ProposalId(UUID.fromString(proposalId));
             
-            String governanceTransactionHash = governanceService.broadcastProposal(
+            String trackingId = governanceService.broadcastProposal(
                 proposalIdObj,
                 request.getCreatorWalletAddress(),
                 request.getNetworkType().name()
@@ -148,9 +149,9 @@ public class GovernanceController {
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "거버넌스 제안이 성공적으로 블록체인에 브로드캐스트되었습니다.");
+            response.put("message", "거버넌스 제안 브로드캐스트 요청이 접수되었습니다.");
             response.put("proposalId", proposalId);
-            response.put("governanceTransactionHash", governanceTransactionHash);
+            response.put("trackingId", trackingId);
             response.put("proposalFee", request.getProposalFee());
             
             return ResponseEntity.ok(response);
@@ -313,7 +314,7 @@ public class GovernanceController {
             response.put("proposalId", proposalId);
             response.put("finalStatus", proposal.getStatus().name());
             response.put("voteResponse", voteResponse);
-            response.put("message", "투표가 성공적으로 완료되었습니다.");
+            response.put("message", "투표 요청이 접수되었습니다.");
             
             return ResponseEntity.ok(response);
             
@@ -357,16 +358,17 @@ public class GovernanceController {
         }
     }
     
+    /**
+     * 상태별 제안 목록 조회 (최신순, 커서 기반 페이지네이션)
+     */
     @GetMapping("/proposals/status/{status}")
-    public ResponseEntity<List<ProposalDto>> getProposalsByStatus(@PathVariable String status) {
+    public ResponseEntity<ProposalSummaryPage> getProposalsByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeVotes) {
         ProposalStatus proposalStatus = ProposalStatus.valueOf(status.toUpperCase());
-        List<Proposal> proposals = governanceService.getProposalsByStatus(proposalStatus);
-        
-        List<ProposalDto> proposalDtos = proposals.stream()
-            .map(ProposalDto::from)
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(proposalDtos);
+        return ResponseEntity.ok(governanceService.getProposalSummaries(proposalStatus, cursor, size, includeVotes));
     }
     
     @GetMapping("/proposals/creator/{creatorId}")
@@ -406,13 +408,16 @@ public class GovernanceController {
     }
     
     /**
-     * 제안 상세 정보 조회 (투표 현황 포함)
+     * 제안 상세 정보 조회 (투표 현황 포함, 투표자 목록은 최신순 페이지)
      */
     @GetMapping("/proposals/{proposalId}/detail")
-    public ResponseEntity<ProposalDetailResponse> getProposalDetail(@PathVariable UUID proposalId) {
+    public ResponseEntity<ProposalDetailResponse> getProposalDetail(
+            @PathVariable UUID proposalId,
+            @RequestParam(defaultValue = "0") int votePage,
+            @RequestParam(defaultValue = "20") int voteSize) {
         try {
             ProposalId proposalIdObj = new ProposalId(proposalId);
-            ProposalDetailResponse response = governanceService.getProposalDetail(proposalIdObj);
+            ProposalDetailResponse response = governanceService.getProposalDetail(proposalIdObj, votePage, voteSize);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
@@ -420,13 +425,15 @@ public class GovernanceController {
     }
     
     /**
-     * 활성 제안 목록 조회
+     * 활성 제안 목록 조회 (최신순, 커서 기반 페이지네이션)
      */
     @GetMapping("/proposals/active")
-    public ResponseEntity<List<ProposalDetailResponse>> getActiveProposals() {
+    public ResponseEntity<ProposalSummaryPage> getActiveProposals(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeVotes) {
         try {
-            List<ProposalDetailResponse> activeProposals = governanceService.getActiveProposals();
-            return ResponseEntity.ok(activeProposals);
+            return ResponseEntity.ok(governanceService.getProposalSummaries(ProposalStatus.ACTIVE, cursor, size, includeVotes));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
@@ -0,0 +1,46 @@
+package com.bloominggrace.governance.governance.infrastructure.indexer;
+
+/**
+ * eth_getLogs 블록 범위 크기 조절
+ * 노드가 범위/결과 수 제한으로 거부하면 절반으로 줄이고, 로그가 드문 구간이면 두 배로 늘립니다.
+ * 스캔 하나가 독점해서 사용하므로 스레드 안전하지 않습니다.
+ */
+final class AdaptiveBlockRange {
+
+    private final long minSize;
+    private final long maxSize;
+    private final int sparseLogThreshold;
+    private long size;
+
+    AdaptiveBlockRange(long initialSize, long minSize, long maxSize, int sparseLogThreshold) {
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.sparseLogThreshold = sparseLogThreshold;
+        this.size = Math.min(this.maxSize, Math.max(this.minSize, initialSize));
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * 범위를 절반으로 줄입니다.
+     * @return 이미 하한이라 줄일 수 없으면 false
+     */
+    boolean shrink() {
+        if (size <= minSize) {
+            return false;
+        }
+        size = Math.max(minSize, size / 2);
+        return true;
+    }
+
+    /**
+     * 조회에 성공한 범위의 로그 수를 반영합니다 (드물면 다음 범위를 두 배로).
+     */
+    void onSuccess(int logCount) {
+        if (logCount < sparseLogThreshold && size < maxSize) {
+            size = Math.min(maxSize, size * 2);
+        }
+    }
+}
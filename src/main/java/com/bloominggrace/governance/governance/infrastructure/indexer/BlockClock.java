@@ -0,0 +1,16 @@
+package com.bloominggrace.governance.governance.infrastructure.indexer;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+/**
+ * 블록 번호를 시각으로 추정 (기준 블록의 시각과 평균 블록 간격 사용)
+ * 외부에서 생성된 제안의 투표 기간처럼 블록 번호로만 주어진 값을 VotingPeriod로 옮길 때 사용합니다.
+ */
+record BlockClock(long referenceBlock, LocalDateTime referenceTime, long secondsPerBlock) {
+
+    LocalDateTime timeOf(BigInteger blockNumber) {
+        long blocks = blockNumber.subtract(BigInteger.valueOf(referenceBlock)).longValueExact();
+        return referenceTime.plusSeconds(blocks * secondsPerBlock);
+    }
+}
@@ -0,0 +1,34 @@
+package com.bloominggrace.governance.governance.infrastructure.indexer;
+
+import java.math.BigInteger;
+
+/**
+ * 거버넌스/토큰 컨트랙트 로그를 디코딩한 이벤트
+ * 모든 주소는 소문자 0x 형식입니다.
+ */
+public sealed interface GovernanceEvent
+        permits GovernanceEvent.ProposalCreated, GovernanceEvent.VoteCast, GovernanceEvent.DelegateChanged {
+
+    long blockNumber();
+
+    int logIndex();
+
+    String transactionHash();
+
+    record ProposalCreated(BigInteger proposalId, String proposer, String title, String description,
+                           BigInteger startBlock, BigInteger endBlock,
+                           long blockNumber, int logIndex, String transactionHash) implements GovernanceEvent {
+    }
+
+    /**
+     * @param support 0=반대, 1=찬성, 2=기권
+     * @param weight 투표권 (wei)
+     */
+    record VoteCast(String voter, BigInteger proposalId, int support, BigInteger weight,
+                    long blockNumber, int logIndex, String transactionHash) implements GovernanceEvent {
+    }
+
+    record DelegateChanged(String delegator, String fromDelegate, String toDelegate,
+                           long blockNumber, int logIndex, String transactionHash) implements GovernanceEvent {
+    }
+}
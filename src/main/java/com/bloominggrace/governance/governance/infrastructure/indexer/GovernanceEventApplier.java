@@ -0,0 +1,210 @@
+package com.bloominggrace.governance.governance.infrastructure.indexer;
+
+import com.bloominggrace.governance.governance.domain.model.Delegation;
+import com.bloominggrace.governance.governance.domain.model.Proposal;
+import com.bloominggrace.governance.governance.domain.model.Vote;
+import com.bloominggrace.governance.governance.domain.model.VoteType;
+import com.bloominggrace.governance.governance.domain.model.VotingPeriod;
+import com.bloominggrace.governance.governance.infrastructure.repository.DelegationJpaRepository;
+import com.bloominggrace.governance.governance.infrastructure.repository.ProposalRepository;
+import com.bloominggrace.governance.governance.infrastructure.repository.VoteRepository;
+import com.bloominggrace.governance.shared.blockchain.domain.model.LogIndexCheckpoint;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.repository.LogIndexCheckpointRepository;
+import com.bloominggrace.governance.shared.domain.UserId;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.bloominggrace.governance.wallet.domain.model.Wallet;
+import com.bloominggrace.governance.wallet.infrastructure.repository.WalletRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 디코딩된 거버넌스 이벤트를 제안/투표/위임 상태에 반영
+ * 같은 로그를 여러 번 반영해도 결과가 같도록(멱등) 이미 있는 제안/투표는 건너뜁니다.
+ * 제안자/투표자 지갑이 서비스 사용자와 연결되지 않은 로그는 반영하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GovernanceEventApplier {
+
+    // 온체인 투표권(wei)을 서비스 투표권(토큰 단위)으로 변환할 때의 소수 자릿수
+    private static final int TOKEN_DECIMALS = 18;
+
+    private final ProposalRepository proposalRepository;
+    private final VoteRepository voteRepository;
+    private final WalletRepository walletRepository;
+    private final DelegationJpaRepository delegationRepository;
+    private final LogIndexCheckpointRepository checkpointRepository;
+
+    /**
+     * 한 블록 구간의 이벤트를 반영하고 같은 트랜잭션에서 컨트랙트 체크포인트를 전진시킵니다.
+     * @return 상태를 변경한 이벤트 수
+     */
+    @Transactional
+    public int applyRange(List<GovernanceEvent> events, BlockClock clock,
+                          NetworkType networkType, String contractAddress, long toBlock) {
+        int applied = applyAll(events, clock);
+        LogIndexCheckpoint checkpoint = checkpointRepository.findById(LogIndexCheckpoint.idOf(networkType, contractAddress))
+            .orElseGet(() -> new LogIndexCheckpoint(networkType, contractAddress, toBlock));
+        checkpoint.advanceTo(toBlock);
+        checkpointRepository.save(checkpoint);
+        return applied;
+    }
+
+    /**
+     * 체크포인트를 건드리지 않고 이벤트만 반영합니다 (병렬 백필용).
+     * @return 상태를 변경한 이벤트 수
+     */
+    @Transactional
+    public int apply(List<GovernanceEvent> events, BlockClock clock) {
+        return applyAll(events, clock);
+    }
+
+    /**
+     * 백필을 마친 구간까지 체크포인트를 전진시킵니다.
+     * 기존 체크포인트와 백필 구간 사이에 빈 구간이 있으면 건너뛰지 않도록 전진하지 않습니다.
+     */
+    @Transactional
+    public void advanceAfterBackfill(NetworkType networkType, String contractAddress,
+                                     long fromBlock, long toBlock, long startBlock) {
+        Optional<LogIndexCheckpoint> existing = checkpointRepository.findById(LogIndexCheckpoint.idOf(networkType, contractAddress));
+        if (existing.isEmpty()) {
+            if (fromBlock <= startBlock) {
+                checkpointRepository.save(new LogIndexCheckpoint(networkType, contractAddress, toBlock));
+            }
+            return;
+        }
+        LogIndexCheckpoint checkpoint = existing.get();
+        if (checkpoint.getLastIndexedBlock() >= fromBlock - 1) {
+            checkpoint.advanceTo(toBlock);
+            checkpointRepository.save(checkpoint);
+        }
+    }
+
+    private int applyAll(List<GovernanceEvent> events, BlockClock clock) {
+        int applied = 0;
+        for (GovernanceEvent event : events) {
+            boolean changed = false;
+            if (event instanceof GovernanceEvent.ProposalCreated created) {
+                changed = applyProposalCreated(created, clock);
+            } else if (event instanceof GovernanceEvent.VoteCast voteCast) {
+                changed = applyVoteCast(voteCast);
+            } else if (event instanceof GovernanceEvent.DelegateChanged delegateChanged) {
+                changed = applyDelegateChanged(delegateChanged);
+            }
+            if (changed) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private boolean applyProposalCreated(GovernanceEvent.ProposalCreated event, BlockClock clock) {
+        // 서비스에서 브로드캐스트한 제안은 트랜잭션 해시로 먼저 찾아 온체인 ID를 맞춥니다.
+        Optional<Proposal> existing = Optional.ofNullable(event.transactionHash())
+            .flatMap(proposalRepository::findByTxHash)
+            .or(() -> proposalRepository.findByProposalCount(event.proposalId()));
+        if (existing.isPresent()) {
+            Proposal proposal = existing.get();
+            boolean changed = false;
+            if (!event.proposalId().equals(proposal.getProposalCount())) {
+                proposal.setProposalCount(event.proposalId());
+                changed = true;
+            }
+            if (proposal.getTxHash() == null) {
+                proposal.setTxHash(event.transactionHash());
+                changed = true;
+            }
+            if (changed) {
+                proposalRepository.save(proposal);
+            }
+            return changed;
+        }
+
+        Optional<UserId> creatorId = userIdOf(event.proposer());
+        if (creatorId.isEmpty()) {
+            log.debug("Skipping proposal {} from unknown proposer {}", event.proposalId(), event.proposer());
+            return false;
+        }
+        if (event.startBlock().compareTo(event.endBlock()) > 0) {
+            log.warn("Skipping proposal {} with start block after end block", event.proposalId());
+            return false;
+        }
+        VotingPeriod votingPeriod = new VotingPeriod(clock.timeOf(event.startBlock()), clock.timeOf(event.endBlock()));
+        // 쿼럼은 컨트랙트가 판정하므로 서비스 쪽 요구 쿼럼은 두지 않습니다.
+        Proposal proposal = new Proposal(creatorId.get(), event.title(), event.description(), votingPeriod, 0);
+        proposal.setProposalCount(event.proposalId());
+        proposal.setTxHash(event.transactionHash());
+        proposal.setCreatorWalletAddress(event.proposer());
+        proposal.activate();
+        if (votingPeriod.isVotingActive()) {
+            proposal.startVoting();
+        }
+        proposalRepository.save(proposal);
+        log.info("Indexed on-chain proposal {} as {}", event.proposalId(), proposal.getId().getValue());
+        return true;
+    }
+
+    private boolean applyVoteCast(GovernanceEvent.VoteCast event) {
+        Optional<Proposal> proposal = proposalRepository.findByProposalCount(event.proposalId());
+        if (proposal.isEmpty()) {
+            log.debug("Skipping vote for unknown on-chain proposal {}", event.proposalId());
+            return false;
+        }
+        Optional<UserId> voterId = userIdOf(event.voter());
+        if (voterId.isEmpty()) {
+            log.debug("Skipping vote on proposal {} from unknown voter {}", event.proposalId(), event.voter());
+            return false;
+        }
+        Optional<VoteType> voteType = voteTypeOf(event.support());
+        if (voteType.isEmpty()) {
+            log.warn("Skipping vote with unknown support value {} in {}", event.support(), event.transactionHash());
+            return false;
+        }
+        // 서비스 API로 이미 기록된 투표(또는 이전에 인덱싱한 투표)는 집계에 다시 더하지 않습니다.
+        if (voteRepository.existsByProposalIdAndVoterId(proposal.get().getId(), voterId.get())) {
+            return false;
+        }
+        long votingPower = new BigDecimal(event.weight()).movePointLeft(TOKEN_DECIMALS).longValue();
+        Vote vote = new Vote(proposal.get().getId(), voterId.get(), voteType.get(), votingPower, null);
+        voteRepository.saveAndFlush(vote);
+        proposalRepository.addVoteTallies(proposal.get().getId(),
+            voteType.get() == VoteType.YES ? votingPower : 0,
+            voteType.get() == VoteType.NO ? votingPower : 0,
+            voteType.get() == VoteType.ABSTAIN ? votingPower : 0);
+        return true;
+    }
+
+    private boolean applyDelegateChanged(GovernanceEvent.DelegateChanged event) {
+        Optional<Delegation> existing = delegationRepository.findById(event.delegator());
+        if (existing.isPresent()) {
+            return existing.get().changeDelegatee(event.toDelegate(), event.blockNumber(), event.logIndex());
+        }
+        delegationRepository.save(new Delegation(event.delegator(), event.toDelegate(), event.blockNumber(), event.logIndex()));
+        return true;
+    }
+
+    private Optional<UserId> userIdOf(String walletAddress) {
+        return walletRepository.findByWalletAddress(walletAddress)
+            .map(Wallet::getUser)
+            .map(user -> new UserId(user.getId()));
+    }
+
+    /**
+     * 컨트랙트 support 값 (0=반대, 1=찬성, 2=기권)
+     */
+    private Optional<VoteType> voteTypeOf(int support) {
+        return switch (support) {
+            case 0 -> Optional.of(VoteType.NO);
+            case 1 -> Optional.of(VoteType.YES);
+            case 2 -> Optional.of(VoteType.ABSTAIN);
+            default -> Optional.empty();
+        };
+    }
+}
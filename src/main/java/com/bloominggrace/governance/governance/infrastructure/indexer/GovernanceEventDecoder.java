@@ -0,0 +1,124 @@
+package com.bloominggrace.governance.governance.infrastructure.indexer;
+
+import com.bloominggrace.governance.shared.blockchain.util.HexQuantity;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.web3j.crypto.Hash;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * eth_getLogs 결과를 거버넌스 이벤트로 디코딩
+ * VoteCast/DelegateChanged는 OpenZeppelin Governor/Votes 시그니처를 따르고,
+ * ProposalCreated는 propose(title, description, startBlock, endBlock)에 맞춘 커스텀 이벤트입니다.
+ * 컨트랙트 ABI가 다르면 시그니처와 해당 디코딩 메서드만 바꾸면 됩니다.
+ */
+public final class GovernanceEventDecoder {
+
+    public static final String PROPOSAL_CREATED_SIGNATURE = "ProposalCreated(uint256,address,string,string,uint256,uint256)";
+    public static final String VOTE_CAST_SIGNATURE = "VoteCast(address,uint256,uint8,uint256,string)";
+    public static final String DELEGATE_CHANGED_SIGNATURE = "DelegateChanged(address,address,address)";
+
+    public static final String PROPOSAL_CREATED_TOPIC = Hash.sha3String(PROPOSAL_CREATED_SIGNATURE);
+    public static final String VOTE_CAST_TOPIC = Hash.sha3String(VOTE_CAST_SIGNATURE);
+    public static final String DELEGATE_CHANGED_TOPIC = Hash.sha3String(DELEGATE_CHANGED_SIGNATURE);
+
+    private static final int WORD_HEX_LENGTH = 64;
+    private static final int ADDRESS_HEX_LENGTH = 40;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private GovernanceEventDecoder() {
+        // 유틸리티 클래스는 인스턴스화 불가
+    }
+
+    /**
+     * 로그 하나를 디코딩합니다.
+     * @return 알 수 없는 이벤트이거나 체인 재구성으로 제거된 로그면 빈 값
+     * @throws IllegalArgumentException 알려진 이벤트지만 토픽/데이터 형식이 맞지 않는 경우
+     */
+    public static Optional<GovernanceEvent> decode(JsonNode log) {
+        if (log.path("removed").asBoolean(false)) {
+            return Optional.empty();
+        }
+        JsonNode topicsNode = log.path("topics");
+        if (!topicsNode.isArray() || topicsNode.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> topics = new ArrayList<>();
+        topicsNode.forEach(topic -> topics.add(topic.asText().toLowerCase(Locale.ROOT)));
+        String data = log.path("data").asText("0x");
+        long blockNumber = HexQuantity.toLong(log.path("blockNumber").asText());
+        int logIndex = (int) HexQuantity.toLong(log.path("logIndex").asText());
+        String transactionHash = log.path("transactionHash").asText(null);
+
+        try {
+            String topic0 = topics.get(0);
+            if (PROPOSAL_CREATED_TOPIC.equals(topic0)) {
+                return Optional.of(new GovernanceEvent.ProposalCreated(
+                    topicUint(topics.get(1)),
+                    topicAddress(topics.get(2)),
+                    string(data, 0),
+                    string(data, 1),
+                    word(data, 2),
+                    word(data, 3),
+                    blockNumber, logIndex, transactionHash));
+            }
+            if (VOTE_CAST_TOPIC.equals(topic0)) {
+                return Optional.of(new GovernanceEvent.VoteCast(
+                    topicAddress(topics.get(1)),
+                    word(data, 0),
+                    word(data, 1).intValueExact(),
+                    word(data, 2),
+                    blockNumber, logIndex, transactionHash));
+            }
+            if (DELEGATE_CHANGED_TOPIC.equals(topic0)) {
+                return Optional.of(new GovernanceEvent.DelegateChanged(
+                    topicAddress(topics.get(1)),
+                    topicAddress(topics.get(2)),
+                    topicAddress(topics.get(3)),
+                    blockNumber, logIndex, transactionHash));
+            }
+            return Optional.empty();
+        } catch (IndexOutOfBoundsException | ArithmeticException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed log " + transactionHash + "#" + logIndex + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static BigInteger topicUint(String topic) {
+        return new BigInteger(strip0x(topic), 16);
+    }
+
+    private static String topicAddress(String topic) {
+        String hex = strip0x(topic);
+        return "0x" + hex.substring(hex.length() - ADDRESS_HEX_LENGTH);
+    }
+
+    /**
+     * 데이터의 index번째 32바이트 워드
+     */
+    private static BigInteger word(String data, int index) {
+        String hex = strip0x(data);
+        int start = index * WORD_HEX_LENGTH;
+        return new BigInteger(hex.substring(start, start + WORD_HEX_LENGTH), 16);
+    }
+
+    /**
+     * 헤드의 index번째 워드가 가리키는 동적 string
+     */
+    private static String string(String data, int index) {
+        String hex = strip0x(data);
+        int start = word(data, index).intValueExact() * 2;
+        int length = new BigInteger(hex.substring(start, start + WORD_HEX_LENGTH), 16).intValueExact();
+        int bodyStart = start + WORD_HEX_LENGTH;
+        return new String(HEX.parseHex(hex.substring(bodyStart, bodyStart + length * 2)), StandardCharsets.UTF_8);
+    }
+
+    private static String strip0x(String hex) {
+        return hex.startsWith("0x") ? hex.substring(2) : hex;
+    }
+}
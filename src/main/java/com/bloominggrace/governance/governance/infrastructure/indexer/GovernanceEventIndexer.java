@@ -0,0 +1,291 @@
+package com.bloominggrace.governance.governance.infrastructure.indexer;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.exception.LogRangeTooLargeException;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.governance.infrastructure.config.GovernanceIndexerProperties;
+import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
+import com.bloominggrace.governance.shared.blockchain.domain.model.LogIndexCheckpoint;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.repository.LogIndexCheckpointRepository;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 온체인 거버넌스 이벤트 인덱서
+ * 서비스 API를 거치지 않고 컨트랙트에 직접 보낸 제안/투표와 토큰 위임을 eth_getLogs로 읽어 DB 상태에 반영합니다.
+ * 컨트랙트별 체크포인트 다음 블록부터 (최신 블록 - 확정 블록 수)까지 적응형 범위로 스캔하며,
+ * 범위 하나의 반영과 체크포인트 전진은 같은 트랜잭션에서 처리되므로 재시작 시 이어서 스캔합니다.
+ * 백필은 과거 구간을 나눠 병렬로 조회하고, 반영 순서가 필요한 이벤트(제안 생성 → 투표)는 단계로 나눠 처리합니다.
+ *
+ * 메트릭: governance.indexer.events, governance.indexer.range.shrinks, governance.indexer.failures
+ */
+@Slf4j
+@Component
+public class GovernanceEventIndexer {
+
+    private static final NetworkType NETWORK = NetworkType.ETHEREUM;
+
+    private static final LogSource GOVERNANCE_SOURCE = new LogSource(
+        EthereumConstants.Contracts.GOVERNANCE_CONTRACT_ADDRESS,
+        List.of(GovernanceEventDecoder.PROPOSAL_CREATED_TOPIC, GovernanceEventDecoder.VOTE_CAST_TOPIC));
+
+    private static final LogSource TOKEN_SOURCE = new LogSource(
+        EthereumConstants.Contracts.ERC20_CONTRACT_ADDRESS,
+        List.of(GovernanceEventDecoder.DELEGATE_CHANGED_TOPIC));
+
+    private static final List<LogSource> SOURCES = List.of(GOVERNANCE_SOURCE, TOKEN_SOURCE);
+
+    private static final Comparator<GovernanceEvent> LOG_ORDER =
+        Comparator.comparingLong(GovernanceEvent::blockNumber).thenComparingInt(GovernanceEvent::logIndex);
+
+    private final BlockchainClientFactory blockchainClientFactory;
+    private final GovernanceEventApplier eventApplier;
+    private final LogIndexCheckpointRepository checkpointRepository;
+    private final GovernanceIndexerProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Counter indexedEvents;
+    private final Counter rangeShrinks;
+    private final Counter failures;
+
+    // 주기 스캔의 범위 크기는 컨트랙트별로 유지해 다음 주기에도 이어서 사용합니다.
+    private final Map<String, AdaptiveBlockRange> ranges = new ConcurrentHashMap<>();
+    private final AtomicBoolean backfilling = new AtomicBoolean(false);
+
+    public GovernanceEventIndexer(BlockchainClientFactory blockchainClientFactory,
+                                  GovernanceEventApplier eventApplier,
+                                  LogIndexCheckpointRepository checkpointRepository,
+                                  GovernanceIndexerProperties properties,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.blockchainClientFactory = blockchainClientFactory;
+        this.eventApplier = eventApplier;
+        this.checkpointRepository = checkpointRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.indexedEvents = Counter.builder("governance.indexer.events")
+            .description("On-chain governance events applied to proposals, votes and delegations")
+            .register(meterRegistry);
+        this.rangeShrinks = Counter.builder("governance.indexer.range.shrinks")
+            .description("eth_getLogs ranges halved after the node rejected them as too large")
+            .register(meterRegistry);
+        this.failures = Counter.builder("governance.indexer.failures")
+            .description("Indexer scans that failed and will resume from the last checkpoint")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 컨트랙트별 체크포인트 다음 블록부터 확정된 블록까지 스캔합니다.
+     */
+    @Scheduled(initialDelayString = "${governance.indexer.poll-interval-ms:15000}",
+               fixedDelayString = "${governance.indexer.poll-interval-ms:15000}")
+    public void poll() {
+        if (!properties.isEnabled() || backfilling.get()) {
+            return;
+        }
+        try {
+            BlockchainClient client = blockchainClientFactory.getClient(NETWORK);
+            long safeHead = safeHead(client);
+            BlockClock clock = new BlockClock(safeHead, LocalDateTime.now(), properties.getSecondsPerBlock());
+            for (LogSource source : SOURCES) {
+                long fromBlock = nextBlock(source);
+                if (fromBlock > safeHead) {
+                    continue;
+                }
+                AdaptiveBlockRange range = ranges.computeIfAbsent(source.contractAddress(), address -> newRange());
+                scan(client, source.contractAddress(), source.topics(), fromBlock, safeHead, range,
+                    (events, toBlock) -> eventApplier.applyRange(events, clock, NETWORK, source.contractAddress(), toBlock));
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Governance event indexing failed, will resume from checkpoint: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 체크포인트가 없으면 시작 블록부터 확정된 블록까지 병렬 백필합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!properties.isEnabled() || !properties.isBackfillOnStartup()) {
+            return;
+        }
+        boolean hasCheckpoint = SOURCES.stream()
+            .anyMatch(source -> checkpointRepository.existsById(LogIndexCheckpoint.idOf(NETWORK, source.contractAddress())));
+        if (hasCheckpoint) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            try {
+                long safeHead = safeHead(blockchainClientFactory.getClient(NETWORK));
+                backfill(properties.getStartBlock(), safeHead);
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("Governance event backfill failed: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 과거 블록 구간을 나눠 병렬로 인덱싱합니다. (진행 중에는 주기 스캔을 멈춤)
+     * 반영은 멱등하므로 이미 인덱싱한 구간을 다시 백필해도 집계가 중복되지 않습니다.
+     * @return 상태를 변경한 이벤트 수
+     */
+    public int backfill(long fromBlock, long toBlock) {
+        if (fromBlock > toBlock) {
+            return 0;
+        }
+        if (!backfilling.compareAndSet(false, true)) {
+            throw new IllegalStateException("Governance event backfill is already running");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getBackfillThreads()));
+        try {
+            BlockchainClient client = blockchainClientFactory.getClient(NETWORK);
+            BlockClock clock = new BlockClock(toBlock, LocalDateTime.now(), properties.getSecondsPerBlock());
+            log.info("Backfilling governance events for blocks {}-{}", fromBlock, toBlock);
+            int applied = 0;
+            // 투표는 제안이 있어야 반영되므로 제안 생성을 모두 반영한 뒤 투표를 반영합니다.
+            applied += backfillPhase(executor, client, clock, GOVERNANCE_SOURCE.contractAddress(),
+                List.of(GovernanceEventDecoder.PROPOSAL_CREATED_TOPIC), fromBlock, toBlock);
+            applied += backfillPhase(executor, client, clock, GOVERNANCE_SOURCE.contractAddress(),
+                List.of(GovernanceEventDecoder.VOTE_CAST_TOPIC), fromBlock, toBlock);
+            applied += backfillPhase(executor, client, clock, TOKEN_SOURCE.contractAddress(),
+                TOKEN_SOURCE.topics(), fromBlock, toBlock);
+            for (LogSource source : SOURCES) {
+                eventApplier.advanceAfterBackfill(NETWORK, source.contractAddress(), fromBlock, toBlock, properties.getStartBlock());
+            }
+            log.info("Backfilled governance events for blocks {}-{}: {} applied", fromBlock, toBlock, applied);
+            return applied;
+        } finally {
+            executor.shutdownNow();
+            backfilling.set(false);
+        }
+    }
+
+    private int backfillPhase(ExecutorService executor, BlockchainClient client, BlockClock clock,
+                              String contractAddress, List<String> topics, long fromBlock, long toBlock) {
+        long chunkBlocks = Math.max(1, properties.getBackfillChunkBlocks());
+        List<Future<Integer>> chunks = new ArrayList<>();
+        for (long chunkStart = fromBlock; chunkStart <= toBlock; chunkStart += chunkBlocks) {
+            long start = chunkStart;
+            long end = Math.min(toBlock, chunkStart + chunkBlocks - 1);
+            chunks.add(executor.submit(() -> {
+                AtomicInteger applied = new AtomicInteger();
+                scan(client, contractAddress, topics, start, end, newRange(),
+                    (events, rangeEnd) -> applied.addAndGet(eventApplier.apply(events, clock)));
+                return applied.get();
+            }));
+        }
+        int applied = 0;
+        try {
+            for (Future<Integer> chunk : chunks) {
+                applied += chunk.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Backfill failed for " + contractAddress + ": " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backfilling " + contractAddress, e);
+        }
+        return applied;
+    }
+
+    /**
+     * [fromBlock, toBlock]을 적응형 범위로 나눠 조회하고 범위마다 handler에 넘깁니다.
+     */
+    void scan(BlockchainClient client, String contractAddress, List<String> topics,
+              long fromBlock, long toBlock, AdaptiveBlockRange range, RangeHandler handler) {
+        long cursor = fromBlock;
+        while (cursor <= toBlock) {
+            long end = Math.min(toBlock, cursor + range.size() - 1);
+            List<GovernanceEvent> events;
+            try {
+                events = fetch(client, contractAddress, topics, cursor, end);
+            } catch (LogRangeTooLargeException e) {
+                if (!range.shrink()) {
+                    throw e;
+                }
+                rangeShrinks.increment();
+                log.debug("Log range {}-{} too large, retrying with {} blocks", cursor, end, range.size());
+                continue;
+            }
+            int applied = handler.handle(events, end);
+            indexedEvents.increment(applied);
+            range.onSuccess(events.size());
+            cursor = end + 1;
+        }
+    }
+
+    private List<GovernanceEvent> fetch(BlockchainClient client, String contractAddress, List<String> topics,
+                                        long fromBlock, long toBlock) {
+        String logsJson = client.getLogs(List.of(contractAddress), topics, fromBlock, toBlock);
+        JsonNode logs;
+        try {
+            logs = objectMapper.readTree(logsJson);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid eth_getLogs response for blocks " + fromBlock + "-" + toBlock, e);
+        }
+        List<GovernanceEvent> events = new ArrayList<>();
+        for (JsonNode logNode : logs) {
+            try {
+                GovernanceEventDecoder.decode(logNode).ifPresent(events::add);
+            } catch (IllegalArgumentException e) {
+                // 다시 읽어도 디코딩되지 않으므로 건너뛰고 다음 로그를 반영합니다.
+                log.warn("Skipping undecodable governance log: {}", e.getMessage());
+            }
+        }
+        events.sort(LOG_ORDER);
+        return events;
+    }
+
+    private long safeHead(BlockchainClient client) {
+        return Long.parseLong(client.getLatestBlockNumber()) - properties.getConfirmations();
+    }
+
+    private long nextBlock(LogSource source) {
+        return checkpointRepository.findById(LogIndexCheckpoint.idOf(NETWORK, source.contractAddress()))
+            .map(checkpoint -> checkpoint.getLastIndexedBlock() + 1)
+            .orElse(properties.getStartBlock());
+    }
+
+    private AdaptiveBlockRange newRange() {
+        return new AdaptiveBlockRange(properties.getInitialBlockRange(), properties.getMinBlockRange(),
+            properties.getMaxBlockRange(), properties.getSparseLogThreshold());
+    }
+
+    /**
+     * 조회한 블록 범위의 이벤트 처리
+     */
+    @FunctionalInterface
+    interface RangeHandler {
+        /**
+         * @return 상태를 변경한 이벤트 수
+         */
+        int handle(List<GovernanceEvent> events, long toBlock);
+    }
+
+    private record LogSource(String contractAddress, List<String> topics) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.bloominggrace.governance.governance.infrastructure.repository;
+
+import com.bloominggrace.governance.governance.domain.model.Delegation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DelegationJpaRepository extends JpaRepository<Delegation, String> {
+}
@@ -4,19 +4,105 @@ import com.bloominggrace.governance.shared.domain.UserId;
 import com.bloominggrace.governance.governance.domain.model.Proposal;
 import com.bloominggrace.governance.governance.domain.model.ProposalId;
 import com.bloominggrace.governance.governance.domain.model.ProposalStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigInteger;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface ProposalJpaRepository extends JpaRepository<Proposal, ProposalId> {
     List<Proposal> findByCreatorId(UserId creatorId);
     List<Proposal> findByStatus(ProposalStatus status);
+    Optional<Proposal> findFirstByProposalCount(BigInteger proposalCount);
+    Optional<Proposal> findFirstByTxHash(String txHash);
     
+    String SUMMARY_SELECT = "SELECT new com.bloominggrace.governance.governance.infrastructure.repository.ProposalSummaryView(" +
+           "p.id.value, p.creatorId.value, p.title, p.status, p.votingPeriod.startDate, p.votingPeriod.endDate, " +
+           "p.voteResults.totalVotes, p.voteResults.yesVotes, p.voteResults.noVotes, p.voteResults.abstainVotes, " +
+           "p.requiredQuorum, p.createdAt, p.updatedAt, p.txHash, p.creatorWalletAddress, p.proposalCount) " +
+           "FROM Proposal p ";
+
+    /**
+     * 상태별 제안 목록 첫 페이지 (최신순)
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE p.status = :status " +
+           "ORDER BY p.createdAt DESC, p.id.value DESC")
+    List<ProposalSummaryView> findSummariesByStatus(@Param("status") ProposalStatus status, Pageable pageable);
+
+    /**
+     * 상태별 제안 목록 다음 페이지 (커서로 받은 (createdAt, id) 이후부터, 오프셋 없이 조회)
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE p.status = :status " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id.value < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id.value DESC")
+    List<ProposalSummaryView> findSummariesByStatusAfter(@Param("status") ProposalStatus status,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") UUID id,
+                                                         Pageable pageable);
+
     @Query("SELECT p FROM Proposal p WHERE p.votingPeriod.endDate < :endDate")
     List<Proposal> findByVotingPeriodEndBefore(@Param("endDate") LocalDateTime endDate);
+    
+    @Modifying
+    @Query("UPDATE Proposal p SET " +
+           "p.voteResults.totalVotes = p.voteResults.totalVotes + :yesVotes + :noVotes + :abstainVotes, " +
+           "p.voteResults.yesVotes = p.voteResults.yesVotes + :yesVotes, " +
+           "p.voteResults.noVotes = p.voteResults.noVotes + :noVotes, " +
+           "p.voteResults.abstainVotes = p.voteResults.abstainVotes + :abstainVotes, " +
+           "p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.status = :status AND p.votingPeriod.endDate > :now")
+    int incrementVotes(@Param("id") ProposalId id,
+                       @Param("yesVotes") long yesVotes,
+                       @Param("noVotes") long noVotes,
+                       @Param("abstainVotes") long abstainVotes,
+                       @Param("status") ProposalStatus status,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Proposal p SET " +
+           "p.voteResults.totalVotes = p.voteResults.totalVotes + :yesVotes + :noVotes + :abstainVotes, " +
+           "p.voteResults.yesVotes = p.voteResults.yesVotes + :yesVotes, " +
+           "p.voteResults.noVotes = p.voteResults.noVotes + :noVotes, " +
+           "p.voteResults.abstainVotes = p.voteResults.abstainVotes + :abstainVotes, " +
+           "p.updatedAt = :now " +
+           "WHERE p.id = :id")
+    int addVoteTallies(@Param("id") ProposalId id,
+                       @Param("yesVotes") long yesVotes,
+                       @Param("noVotes") long noVotes,
+                       @Param("abstainVotes") long abstainVotes,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Proposal p SET " +
+           "p.voteResults.totalVotes = p.voteResults.totalVotes + :yesVotes + :noVotes + :abstainVotes, " +
+           "p.voteResults.yesVotes = p.voteResults.yesVotes + :yesVotes, " +
+           "p.voteResults.noVotes = p.voteResults.noVotes + :noVotes, " +
+           "p.voteResults.abstainVotes = p.voteResults.abstainVotes + :abstainVotes, " +
+           "p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.status = :status")
+    int addVoteTalliesWithStatus(@Param("id") ProposalId id,
+                                 @Param("yesVotes") long yesVotes,
+                                 @Param("noVotes") long noVotes,
+                                 @Param("abstainVotes") long abstainVotes,
+                                 @Param("status") ProposalStatus status,
+                                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Proposal p SET p.txHash = null WHERE p.txHash IN :txHashes")
+    int clearTxHashes(@Param("txHashes") Collection<String> txHashes);
+
+    @Modifying
+    @Query("UPDATE Proposal p SET p.txHash = :replacementTxHash WHERE p.txHash = :previousTxHash")
+    int replaceTxHash(@Param("previousTxHash") String previousTxHash, @Param("replacementTxHash") String replacementTxHash);
 } 
\ No newline at end of file
@@ -4,10 +4,14 @@ import com.bloominggrace.governance.shared.domain.UserId;
 import com.bloominggrace.governance.governance.domain.model.Proposal;
 import com.bloominggrace.governance.governance.domain.model.ProposalId;
 import com.bloominggrace.governance.governance.domain.model.ProposalStatus;
+import com.bloominggrace.governance.governance.domain.model.VoteType;
 
+import java.math.BigInteger;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface ProposalRepository {
     Proposal save(Proposal proposal);
@@ -16,4 +20,51 @@ public interface ProposalRepository {
     List<Proposal> findByStatus(ProposalStatus status);
     List<Proposal> findAll();
     void delete(ProposalId id);
+
+    /**
+     * 상태별 제안 목록을 최신순으로 조회 (createdAt, id 기준 키셋 페이지네이션)
+     * @param afterCreatedAt 이전 페이지 마지막 제안의 생성 시각 (첫 페이지면 null)
+     * @param afterId 이전 페이지 마지막 제안의 ID (첫 페이지면 null)
+     */
+    List<ProposalSummaryView> findSummariesByStatus(ProposalStatus status, LocalDateTime afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * 온체인 제안 ID로 조회
+     */
+    Optional<Proposal> findByProposalCount(BigInteger proposalCount);
+
+    /**
+     * 제안 생성 트랜잭션 해시로 조회
+     */
+    Optional<Proposal> findByTxHash(String txHash);
+
+    /**
+     * 투표 중인 제안의 집계를 DB에서 원자적으로 증가 (제안을 읽어 다시 저장하지 않음)
+     * @return 변경된 제안 수 (투표 중이 아니거나 투표 기간이 끝났으면 0)
+     */
+    int incrementVotes(ProposalId id, VoteType voteType, long votingPower);
+
+    /**
+     * 이미 받아들인 투표의 누적 집계를 제안에 더함 (상태/기간 검사 없음)
+     * @return 변경된 제안 수
+     */
+    int addVoteTallies(ProposalId id, long yesVotes, long noVotes, long abstainVotes);
+
+    /**
+     * 기간 안에 받아들인 투표의 누적 집계를 아직 투표 중인 제안에만 더함 (기간 검사 없음)
+     * @return 변경된 제안 수 (투표가 이미 종료되었으면 0)
+     */
+    int addVotingTallies(ProposalId id, long yesVotes, long noVotes, long abstainVotes);
+    
+    /**
+     * 실패한 제안 생성 트랜잭션의 해시를 일괄 해제 (다시 브로드캐스트할 수 있도록)
+     * @return 변경된 제안 수
+     */
+    int clearTxHashes(Collection<String> txHashes);
+
+    /**
+     * 수수료 상향으로 교체된 제안 생성 트랜잭션의 해시를 교체 해시로 변경
+     * @return 변경된 제안 수
+     */
+    int replaceTxHash(String previousTxHash, String replacementTxHash);
 }
\ No newline at end of file
@@ -4,24 +4,34 @@ import com.bloominggrace.governance.shared.domain.UserId;
 import com.bloominggrace.governance.governance.domain.model.Proposal;
 import com.bloominggrace.governance.governance.domain.model.ProposalId;
 import com.bloominggrace.governance.governance.domain.model.ProposalStatus;
+import com.bloominggrace.governance.governance.domain.model.VoteType;
+import com.bloominggrace.governance.governance.infrastructure.cache.ProposalDetailCache;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigInteger;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public class ProposalRepositoryAdapter implements ProposalRepository {
     
     private final ProposalJpaRepository jpaRepository;
+    private final ProposalDetailCache proposalDetailCache;
     
-    public ProposalRepositoryAdapter(ProposalJpaRepository jpaRepository) {
+    public ProposalRepositoryAdapter(ProposalJpaRepository jpaRepository, ProposalDetailCache proposalDetailCache) {
         this.jpaRepository = jpaRepository;
+        this.proposalDetailCache = proposalDetailCache;
     }
     
     @Override
     public Proposal save(Proposal proposal) {
-        return jpaRepository.save(proposal);
+        Proposal saved = jpaRepository.save(proposal);
+        proposalDetailCache.evict(saved.getId());
+        return saved;
     }
     
     @Override
@@ -47,5 +57,69 @@ public class ProposalRepositoryAdapter implements ProposalRepository {
     @Override
     public void delete(ProposalId id) {
         jpaRepository.deleteById(id);
+        proposalDetailCache.evict(id);
+    }
+
+    @Override
+    public List<ProposalSummaryView> findSummariesByStatus(ProposalStatus status, LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (afterCreatedAt == null || afterId == null) {
+            return jpaRepository.findSummariesByStatus(status, page);
+        }
+        return jpaRepository.findSummariesByStatusAfter(status, afterCreatedAt, afterId, page);
+    }
+
+    @Override
+    public Optional<Proposal> findByProposalCount(BigInteger proposalCount) {
+        return jpaRepository.findFirstByProposalCount(proposalCount);
+    }
+
+    @Override
+    public Optional<Proposal> findByTxHash(String txHash) {
+        return jpaRepository.findFirstByTxHash(txHash);
+    }
+
+    @Override
+    public int incrementVotes(ProposalId id, VoteType voteType, long votingPower) {
+        int updated = jpaRepository.incrementVotes(
+            id,
+            voteType == VoteType.YES ? votingPower : 0,
+            voteType == VoteType.NO ? votingPower : 0,
+            voteType == VoteType.ABSTAIN ? votingPower : 0,
+            ProposalStatus.VOTING,
+            LocalDateTime.now()
+        );
+        proposalDetailCache.evict(id);
+        return updated;
+    }
+
+    @Override
+    public int addVoteTallies(ProposalId id, long yesVotes, long noVotes, long abstainVotes) {
+        int updated = jpaRepository.addVoteTallies(id, yesVotes, noVotes, abstainVotes, LocalDateTime.now());
+        proposalDetailCache.evict(id);
+        return updated;
+    }
+
+    @Override
+    public int addVotingTallies(ProposalId id, long yesVotes, long noVotes, long abstainVotes) {
+        int updated = jpaRepository.addVoteTalliesWithStatus(id, yesVotes, noVotes, abstainVotes,
+            ProposalStatus.VOTING, LocalDateTime.now());
+        proposalDetailCache.evict(id);
+        return updated;
+    }
+
+    @Override
+    public int clearTxHashes(Collection<String> txHashes) {
+        // 여러 제안의 해시를 한 번에 바꾸므로 제안 단위가 아닌 전체 무효화
+        int updated = jpaRepository.clearTxHashes(txHashes);
+        proposalDetailCache.evictAll();
+        return updated;
+    }
+
+    @Override
+    public int replaceTxHash(String previousTxHash, String replacementTxHash) {
+        int updated = jpaRepository.replaceTxHash(previousTxHash, replacementTxHash);
+        proposalDetailCache.evictAll();
+        return updated;
     }
 }
\ No newline at end of file
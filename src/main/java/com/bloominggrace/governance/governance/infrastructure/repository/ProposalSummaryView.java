@@ -0,0 +1,29 @@
+package com.bloominggrace.governance.governance.infrastructure.repository;
+
+import com.bloominggrace.governance.governance.domain.model.ProposalStatus;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 제안 목록 조회용 프로젝션 (본문과 투표 목록 제외, 저장된 집계 컬럼 사용)
+ */
+public record ProposalSummaryView(
+        UUID id,
+        UUID creatorId,
+        String title,
+        ProposalStatus status,
+        LocalDateTime votingStartDate,
+        LocalDateTime votingEndDate,
+        long totalVotes,
+        long yesVotes,
+        long noVotes,
+        long abstainVotes,
+        long requiredQuorum,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String txHash,
+        String creatorWalletAddress,
+        BigInteger proposalCount) {
+}
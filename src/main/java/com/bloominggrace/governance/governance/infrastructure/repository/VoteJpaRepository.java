@@ -5,17 +5,30 @@ import com.bloominggrace.governance.governance.domain.model.Vote;
 import com.bloominggrace.governance.governance.domain.model.VoteId;
 import com.bloominggrace.governance.governance.domain.model.ProposalId;
 import com.bloominggrace.governance.governance.domain.model.VoteType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface VoteJpaRepository extends JpaRepository<Vote, VoteId> {
     List<Vote> findByProposalId(ProposalId proposalId);
+    Page<Vote> findByProposalId(ProposalId proposalId, Pageable pageable);
+    List<Vote> findByProposalIdIn(Collection<ProposalId> proposalIds);
     List<Vote> findByVoterId(UserId voterId);
     Optional<Vote> findByProposalIdAndVoterId(ProposalId proposalId, UserId voterId);
     List<Vote> findByProposalIdAndVoteType(ProposalId proposalId, VoteType voteType);
     boolean existsByProposalIdAndVoterId(ProposalId proposalId, UserId voterId);
+    List<Vote> findByTalliedFalse();
+
+    @Modifying
+    @Query("UPDATE Vote v SET v.tallied = true WHERE v.id IN :ids")
+    int markTallied(@Param("ids") Collection<VoteId> ids);
 } 
\ No newline at end of file
@@ -5,16 +5,44 @@ import com.bloominggrace.governance.governance.domain.model.Vote;
 import com.bloominggrace.governance.governance.domain.model.VoteId;
 import com.bloominggrace.governance.governance.domain.model.ProposalId;
 import com.bloominggrace.governance.governance.domain.model.VoteType;
+import org.springframework.data.domain.Page;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface VoteRepository {
     Vote save(Vote vote);
+
+    /**
+     * 저장 후 바로 flush (중복 투표면 이 시점에 제약 조건 위반으로 실패)
+     */
+    Vote saveAndFlush(Vote vote);
     Optional<Vote> findById(VoteId id);
     List<Vote> findByProposalId(ProposalId proposalId);
+
+    /**
+     * 제안의 투표를 최신순으로 페이지 조회 (상세 화면에서 전체 투표를 읽지 않도록)
+     */
+    Page<Vote> findPageByProposalId(ProposalId proposalId, int page, int size);
+
+    /**
+     * 여러 제안의 투표를 한 번에 조회 (목록 조회에서 제안마다 따로 조회하지 않도록)
+     */
+    List<Vote> findByProposalIds(Collection<ProposalId> proposalIds);
     List<Vote> findByVoterId(UserId voterId);
     List<Vote> findAll();
     void delete(VoteId id);
     boolean existsByProposalIdAndVoterId(ProposalId proposalId, UserId voterId);
+
+    /**
+     * 제안 집계에 아직 반영되지 않은 투표 (재시작 시 누산기 복구용)
+     */
+    List<Vote> findUntallied();
+
+    /**
+     * 투표를 제안 집계에 반영된 것으로 표시
+     * @return 변경된 투표 수
+     */
+    int markTallied(Collection<VoteId> ids);
 } 
\ No newline at end of file
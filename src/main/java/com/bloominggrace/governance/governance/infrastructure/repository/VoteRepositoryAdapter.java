@@ -5,8 +5,13 @@ import com.bloominggrace.governance.governance.domain.model.Vote;
 import com.bloominggrace.governance.governance.domain.model.VoteId;
 import com.bloominggrace.governance.governance.domain.model.ProposalId;
 import com.bloominggrace.governance.governance.domain.model.VoteType;
+import com.bloominggrace.governance.governance.infrastructure.cache.ProposalDetailCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,14 +19,25 @@ import java.util.Optional;
 public class VoteRepositoryAdapter implements VoteRepository {
     
     private final VoteJpaRepository jpaRepository;
+    private final ProposalDetailCache proposalDetailCache;
     
-    public VoteRepositoryAdapter(VoteJpaRepository jpaRepository) {
+    public VoteRepositoryAdapter(VoteJpaRepository jpaRepository, ProposalDetailCache proposalDetailCache) {
         this.jpaRepository = jpaRepository;
+        this.proposalDetailCache = proposalDetailCache;
     }
     
     @Override
     public Vote save(Vote vote) {
-        return jpaRepository.save(vote);
+        Vote saved = jpaRepository.save(vote);
+        proposalDetailCache.evict(vote.getProposalId());
+        return saved;
+    }
+    
+    @Override
+    public Vote saveAndFlush(Vote vote) {
+        Vote saved = jpaRepository.saveAndFlush(vote);
+        proposalDetailCache.evict(vote.getProposalId());
+        return saved;
     }
     
     @Override
@@ -33,6 +49,20 @@ public class VoteRepositoryAdapter implements VoteRepository {
     public List<Vote> findByProposalId(ProposalId proposalId) {
         return jpaRepository.findByProposalId(proposalId);
     }
+
+    @Override
+    public Page<Vote> findPageByProposalId(ProposalId proposalId, int page, int size) {
+        Sort newestFirst = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id.value"));
+        return jpaRepository.findByProposalId(proposalId, PageRequest.of(page, size, newestFirst));
+    }
+
+    @Override
+    public List<Vote> findByProposalIds(Collection<ProposalId> proposalIds) {
+        if (proposalIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByProposalIdIn(proposalIds);
+    }
     
     @Override
     public List<Vote> findByVoterId(UserId voterId) {
@@ -46,9 +76,20 @@ public class VoteRepositoryAdapter implements VoteRepository {
     
     @Override
     public void delete(VoteId id) {
+        jpaRepository.findById(id).ifPresent(vote -> proposalDetailCache.evict(vote.getProposalId()));
         jpaRepository.deleteById(id);
     }
     
+    @Override
+    public List<Vote> findUntallied() {
+        return jpaRepository.findByTalliedFalse();
+    }
+
+    @Override
+    public int markTallied(Collection<VoteId> ids) {
+        return jpaRepository.markTallied(ids);
+    }
+
     @Override
     public boolean existsByProposalIdAndVoterId(ProposalId proposalId, UserId voterId) {
         return jpaRepository.existsByProposalIdAndVoterId(proposalId, voterId);
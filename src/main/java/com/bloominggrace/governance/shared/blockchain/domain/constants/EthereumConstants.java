@@ -15,11 +15,17 @@ public class EthereumConstants {
         public static final BigInteger PROPOSAL_CREATION_GAS_LIMIT = BigInteger.valueOf(500000L);
         public static final BigInteger VOTE_GAS_LIMIT = BigInteger.valueOf(500000L);
         public static final BigInteger TRANSFER_DELEGATE_GAS_LIMIT = BigInteger.valueOf(550000L);
+        public static final BigInteger MULTI_TRANSFER_BASE_GAS_LIMIT = BigInteger.valueOf(60000L);
+        public static final BigInteger MULTI_TRANSFER_GAS_PER_RECIPIENT = BigInteger.valueOf(40000L);
     }
     
     public static class Contracts {
         public static final String GOVERNANCE_CONTRACT_ADDRESS = "0x4E5EE91796498E843a7Ae952BC86B1a1547C60bB";
         public static final String ERC20_CONTRACT_ADDRESS = "0xd2Dfe16C1F31493530D297D58E32c337fd27615D";
+        // Multicall3 (모든 주요 EVM 체인에서 동일한 주소)
+        public static final String MULTICALL3_ADDRESS = "0xcA11bde05977b3631167028862bE2a173976CA11";
+        // Disperse (disperseToken(address,address[],uint256[])) 기본 주소
+        public static final String DISPERSE_CONTRACT_ADDRESS = "0xD152f549545093347A162Dce210e7293f1452150";
     }
     
     public static class Token {
@@ -36,8 +42,11 @@ public class EthereumConstants {
         public static final String CALL = "eth_call";
         public static final String SEND_RAW_TRANSACTION = "eth_sendRawTransaction";
         public static final String GET_TRANSACTION_RECEIPT = "eth_getTransactionReceipt";
+        public static final String GET_TRANSACTION_BY_HASH = "eth_getTransactionByHash";
         public static final String GET_BLOCK_BY_HASH = "eth_getBlockByHash";
         public static final String GET_BLOCK_NUMBER = "eth_blockNumber";
+        public static final String FEE_HISTORY = "eth_feeHistory";
+        public static final String GET_LOGS = "eth_getLogs";
     }
     
     public static class RpcParams {
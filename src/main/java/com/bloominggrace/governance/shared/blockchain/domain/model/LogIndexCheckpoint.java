@@ -0,0 +1,62 @@
+package com.bloominggrace.governance.shared.blockchain.domain.model;
+
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 컨트랙트 이벤트 로그 인덱싱 체크포인트
+ * 컨트랙트별로 마지막으로 반영을 마친 블록을 기록해, 재시작 시 처음부터 다시 스캔하지 않고 이어서 인덱싱합니다.
+ */
+@Entity
+@Table(name = "log_index_checkpoints")
+@Getter
+@NoArgsConstructor
+public class LogIndexCheckpoint {
+
+    /**
+     * 네트워크:컨트랙트 주소(소문자)
+     */
+    @Id
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "network_type", nullable = false)
+    private NetworkType networkType;
+
+    @Column(name = "contract_address", nullable = false)
+    private String contractAddress;
+
+    @Column(name = "last_indexed_block", nullable = false)
+    private long lastIndexedBlock;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public LogIndexCheckpoint(NetworkType networkType, String contractAddress, long lastIndexedBlock) {
+        this.id = idOf(networkType, contractAddress);
+        this.networkType = networkType;
+        this.contractAddress = contractAddress;
+        this.lastIndexedBlock = lastIndexedBlock;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static String idOf(NetworkType networkType, String contractAddress) {
+        return networkType.name() + ":" + contractAddress.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 반영을 마친 블록으로 전진 (이미 더 앞선 블록까지 반영했으면 무시)
+     */
+    public void advanceTo(long blockNumber) {
+        if (blockNumber <= this.lastIndexedBlock) {
+            return;
+        }
+        this.lastIndexedBlock = blockNumber;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -9,6 +9,8 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -58,6 +60,12 @@ public class Transaction extends AggregateRoot {
     @Enumerated(EnumType.STRING)
     private TransactionStatus status;
 
+    /**
+     * 수수료 상향으로 교체된 이전 해시들 (오래된 순, 쉼표 구분)
+     */
+    @Column(name = "replaced_transaction_hashes", length = 2000)
+    private String replacedTransactionHashes;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -100,6 +108,50 @@ public class Transaction extends AggregateRoot {
         this.createdAt = LocalDateTime.now();
     }
 
+    /**
+     * 브로드캐스트된 트랜잭션 해시 설정 (확인 전까지 PENDING 유지)
+     * 확인/실패 전이는 TransactionConfirmationTracker가 영수증과 확인 깊이를 보고 수행합니다.
+     */
+    public void submit(String transactionHash) {
+        if (this.status != TransactionStatus.PENDING) {
+            throw new IllegalStateException("Transaction is not in pending status");
+        }
+        this.transactionHash = transactionHash;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 같은 nonce로 재서명한 교체 트랜잭션의 해시로 바꾸고 이전 해시를 교체 이력에 남깁니다.
+     * 교체 전 해시가 먼저 채굴된 경우에도 그 해시로 되돌릴 때 사용합니다.
+     */
+    public void replace(String replacementHash) {
+        if (this.status != TransactionStatus.PENDING) {
+            throw new IllegalStateException("Transaction is not in pending status");
+        }
+        if (this.transactionHash == null || replacementHash == null) {
+            throw new IllegalStateException("Only a broadcast transaction can be replaced");
+        }
+        if (replacementHash.equals(this.transactionHash)) {
+            return;
+        }
+        List<String> chain = new ArrayList<>(getReplacementChain());
+        chain.remove(replacementHash);
+        chain.add(this.transactionHash);
+        this.replacedTransactionHashes = String.join(",", chain);
+        this.transactionHash = replacementHash;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 교체된 이전 해시 목록 (오래된 순)
+     */
+    public List<String> getReplacementChain() {
+        if (replacedTransactionHashes == null || replacedTransactionHashes.isBlank()) {
+            return List.of();
+        }
+        return List.of(replacedTransactionHashes.split(","));
+    }
+
     /**
      * 트랜잭션 해시 설정 (블록체인에서 확인됨)
      */
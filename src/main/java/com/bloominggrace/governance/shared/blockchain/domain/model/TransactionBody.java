@@ -111,6 +111,7 @@ public class TransactionBody<T> {
         private String data;
         private String networkType;
         private T networkSpecificData;
+        private Long nonce;
         
         public TransactionBodyBuilder<T> type(TransactionType type) {
             this.type = type;
@@ -142,7 +143,15 @@ public class TransactionBody<T> {
             return this;
         }
         
+        public TransactionBodyBuilder<T> nonce(long nonce) {
+            this.nonce = nonce;
+            return this;
+        }
+        
         public TransactionBody<T> build() {
+            if (nonce != null) {
+                return new TransactionBody<>(type, fromAddress, toAddress, data, networkType, networkSpecificData, nonce);
+            }
             return new TransactionBody<>(type, fromAddress, toAddress, data, networkType, networkSpecificData);
         }
     }
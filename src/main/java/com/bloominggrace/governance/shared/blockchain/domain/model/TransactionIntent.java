@@ -0,0 +1,205 @@
+package com.bloominggrace.governance.shared.blockchain.domain.model;
+
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 아웃박스 엔티티
+ * 서비스는 짧은 DB 트랜잭션에서 의도만 기록하고, 서명/브로드캐스트는 브로드캐스터 워커가 수행합니다.
+ * id는 API가 즉시 반환하는 추적 ID입니다.
+ */
+@Entity
+@Table(name = "transaction_intents", indexes = {
+    @Index(name = "idx_transaction_intents_status_next_attempt", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_transaction_intents_reference", columnList = "reference_type, reference_id")
+})
+@Getter
+@NoArgsConstructor
+public class TransactionIntent {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "intent_type", nullable = false)
+    private TransactionIntentType intentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "network_type", nullable = false)
+    private NetworkType networkType;
+
+    @Column(name = "from_address", nullable = false)
+    private String fromAddress;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * 완료 시 후속 처리를 맡을 도메인 (예: EXCHANGE, VOTE)
+     */
+    @Column(name = "reference_type", nullable = false)
+    private String referenceType;
+
+    @Column(name = "reference_id", nullable = false)
+    private String referenceId;
+
+    /**
+     * 완료 시 갱신할 Transaction 엔티티 ID
+     */
+    @Column(name = "transaction_id")
+    private UUID transactionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 처리 중인 워커의 점유 만료 시각 (만료되면 다시 PENDING으로 회수)
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "transaction_hash")
+    private String transactionHash;
+
+    /**
+     * 브로드캐스트 전에 저장한 서명 트랜잭션 (0x hex)
+     * 저장된 뒤에는 재시도해도 다시 서명하지 않고 같은 바이트를 재전송합니다.
+     */
+    @Column(name = "signed_transaction", columnDefinition = "TEXT")
+    private String signedTransaction;
+
+    @Column(name = "nonce")
+    private Long nonce;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        PENDING("대기 중"),
+        PROCESSING("처리 중"),
+        SENT("전송됨"),
+        FAILED("실패");
+
+        private final String description;
+
+        Status(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    public TransactionIntent(
+            TransactionIntentType intentType,
+            NetworkType networkType,
+            String fromAddress,
+            String payload,
+            String referenceType,
+            String referenceId,
+            UUID transactionId) {
+        this.id = UUID.randomUUID();
+        this.intentType = intentType;
+        this.networkType = networkType;
+        this.fromAddress = fromAddress;
+        this.payload = payload;
+        this.referenceType = referenceType;
+        this.referenceId = referenceId;
+        this.transactionId = transactionId;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    /**
+     * 브로드캐스트 성공 처리
+     */
+    public void markSent(String transactionHash) {
+        if (this.status != Status.PROCESSING) {
+            throw new IllegalStateException("Transaction intent is not in processing status: " + id);
+        }
+        this.transactionHash = transactionHash;
+        this.status = Status.SENT;
+        this.lockedUntil = null;
+        this.lastError = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재시도 예약
+     */
+    public void scheduleRetry(String error, LocalDateTime nextAttemptAt) {
+        if (this.status != Status.PROCESSING) {
+            throw new IllegalStateException("Transaction intent is not in processing status: " + id);
+        }
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+        this.status = Status.PENDING;
+        this.lockedUntil = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 노드가 거부한 서명 트랜잭션을 지우고 재시도 예약
+     * 거부된 트랜잭션은 전파되지 않았으므로, 다음 시도는 같은 바이트를 재전송하지 않고 새 nonce로 다시 서명합니다.
+     */
+    public void discardSignedTransaction(String error, LocalDateTime nextAttemptAt) {
+        scheduleRetry(error, nextAttemptAt);
+        this.signedTransaction = null;
+        this.transactionHash = null;
+        this.nonce = null;
+    }
+
+    /**
+     * 최종 실패 처리
+     */
+    public void markFailed(String error) {
+        if (this.status != Status.PROCESSING) {
+            throw new IllegalStateException("Transaction intent is not in processing status: " + id);
+        }
+        this.lastError = truncate(error);
+        this.status = Status.FAILED;
+        this.lockedUntil = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 서명 트랜잭션이 저장되어 이미 체인에 전파되었을 수 있는지 여부
+     */
+    public boolean hasSignedTransaction() {
+        return signedTransaction != null;
+    }
+
+    public boolean isCompleted() {
+        return status == Status.SENT || status == Status.FAILED;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,22 @@
+package com.bloominggrace.governance.shared.blockchain.domain.model;
+
+/**
+ * 아웃박스에 적재되는 트랜잭션 의도 타입
+ * 브로드캐스터가 타입에 맞는 TransactionOrchestrator 실행 메서드를 호출합니다.
+ */
+public enum TransactionIntentType {
+    TRANSFER("토큰 전송"),
+    MULTI_TRANSFER("토큰 일괄 전송"),
+    PROPOSAL_CREATION("정책 제안 생성"),
+    VOTE_CREATION("정책 투표");
+
+    private final String description;
+
+    TransactionIntentType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
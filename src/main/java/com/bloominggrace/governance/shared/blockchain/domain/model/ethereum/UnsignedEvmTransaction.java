@@ -0,0 +1,106 @@
+package com.bloominggrace.governance.shared.blockchain.domain.model.ethereum;
+
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 서명 전 EVM 트랜잭션 (불변)
+ * RawTransactionBuilder가 생성하고 WalletService.sign이 그대로 서명합니다.
+ * maxFeePerGas가 있으면 EIP-1559(type 2), 없으면 gasPrice를 사용하는 레거시 트랜잭션입니다.
+ */
+public record UnsignedEvmTransaction(
+    long chainId,
+    BigInteger nonce,
+    BigInteger gasLimit,
+    BigInteger gasPrice,
+    BigInteger maxFeePerGas,
+    BigInteger maxPriorityFeePerGas,
+    String from,
+    String to,
+    BigInteger value,
+    byte[] data
+) {
+
+    public UnsignedEvmTransaction {
+        Objects.requireNonNull(nonce, "nonce is required");
+        Objects.requireNonNull(gasLimit, "gasLimit is required");
+        Objects.requireNonNull(to, "to is required");
+        if (gasPrice == null && maxFeePerGas == null) {
+            throw new IllegalArgumentException("gasPrice or maxFeePerGas is required");
+        }
+        if (maxFeePerGas != null && maxPriorityFeePerGas == null) {
+            throw new IllegalArgumentException("maxPriorityFeePerGas is required for EIP-1559 transactions");
+        }
+        value = value != null ? value : BigInteger.ZERO;
+        data = data != null ? data.clone() : new byte[0];
+    }
+
+    /**
+     * 0x 접두사가 붙은 16진수 호출 데이터로 생성합니다.
+     */
+    public static UnsignedEvmTransaction of(long chainId, BigInteger nonce, BigInteger gasLimit,
+                                            BigInteger gasPrice, BigInteger maxFeePerGas, BigInteger maxPriorityFeePerGas,
+                                            String from, String to, BigInteger value, String hexData) {
+        return new UnsignedEvmTransaction(chainId, nonce, gasLimit, gasPrice, maxFeePerGas, maxPriorityFeePerGas,
+            from, to, value, hexData == null ? null : Numeric.hexStringToByteArray(hexData));
+    }
+
+    public boolean isEip1559() {
+        return maxFeePerGas != null;
+    }
+
+    @Override
+    public byte[] data() {
+        return data.clone();
+    }
+
+    /**
+     * 0x 접두사가 붙은 16진수 호출 데이터
+     */
+    public String dataHex() {
+        return Numeric.toHexString(data);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UnsignedEvmTransaction that)) {
+            return false;
+        }
+        return chainId == that.chainId
+            && nonce.equals(that.nonce)
+            && gasLimit.equals(that.gasLimit)
+            && Objects.equals(gasPrice, that.gasPrice)
+            && Objects.equals(maxFeePerGas, that.maxFeePerGas)
+            && Objects.equals(maxPriorityFeePerGas, that.maxPriorityFeePerGas)
+            && Objects.equals(from, that.from)
+            && to.equals(that.to)
+            && value.equals(that.value)
+            && Arrays.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(chainId, nonce, gasLimit, gasPrice, maxFeePerGas, maxPriorityFeePerGas, from, to, value);
+        return 31 * result + Arrays.hashCode(data);
+    }
+
+    @Override
+    public String toString() {
+        return "UnsignedEvmTransaction{chainId=" + chainId
+            + ", nonce=" + nonce
+            + ", gasLimit=" + gasLimit
+            + ", gasPrice=" + gasPrice
+            + ", maxFeePerGas=" + maxFeePerGas
+            + ", maxPriorityFeePerGas=" + maxPriorityFeePerGas
+            + ", from=" + from
+            + ", to=" + to
+            + ", value=" + value
+            + ", data=" + dataHex() + "}";
+    }
+}
@@ -5,24 +5,43 @@ import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 
 /**
  * RawTransaction 생성을 위한 인터페이스
- * 각 블록체인 네트워크별로 구현체를 제공합니다.
+ * 각 블록체인 네트워크별로 구현체를 제공하며, 결과는 WalletService.sign에 그대로 전달됩니다.
  */
 public interface RawTransactionBuilder {
     
     /**
-     * ERC20 토큰 전송을 위한 RawTransaction JSON 생성
+     * ERC20 토큰 전송을 위한 RawTransaction 생성
      * 
      * @param data 트랜잭션 데이터 (fromAddress, toAddress, tokenAddress, amount, nonce 등)
-     * @return RawTransaction JSON 문자열
+     * @return 서명 전 트랜잭션 본문 (networkSpecificData에 네트워크별 트랜잭션)
      */
-    String createRawTransaction(Map<String, String> data);
+    TransactionBody<?> createRawTransaction(Map<String, String> data);
+
+    /**
+     * 여러 수신자에게 토큰을 한 번에 전송하는 멀티센드 RawTransaction 생성
+     * 
+     * @param fromAddress 발신자 지갑 주소 (멀티센드 컨트랙트에 토큰 사용 승인이 되어 있어야 함)
+     * @param multisendContract 멀티센드 컨트랙트 주소
+     * @param tokenAddress 토큰 컨트랙트 주소
+     * @param transfers 수신자 주소별 전송 금액
+     * @param nonce 트랜잭션 nonce (선택사항)
+     * @return 서명 전 트랜잭션 본문 (networkSpecificData에 네트워크별 트랜잭션)
+     */
+    TransactionBody<?> createMultiTransferRawTransaction(
+        String fromAddress,
+        String multisendContract,
+        String tokenAddress,
+        Map<String, BigDecimal> transfers,
+        String nonce
+    );
     
     /**
-     * 거버넌스 제안 생성을 위한 RawTransaction JSON 생성
+     * 거버넌스 제안 생성을 위한 RawTransaction 생성
      * 
      * @param proposalId 제안 ID
      * @param title 제안 제목
@@ -33,9 +52,9 @@ public interface RawTransactionBuilder {
      * @param votingEndDate 투표 종료일
      * @param requiredQuorum 필요 정족수
      * @param nonce 트랜잭션 nonce (선택사항)
-     * @return RawTransaction JSON 문자열
+     * @return 서명 전 트랜잭션 본문 (networkSpecificData에 네트워크별 트랜잭션)
      */
-    String createProposalCreationRawTransaction(
+    TransactionBody<?> createProposalCreationRawTransaction(
         UUID proposalId,
         String title,
         String description,
@@ -48,7 +67,7 @@ public interface RawTransactionBuilder {
     );
     
     /**
-     * 거버넌스 투표를 위한 RawTransaction JSON 생성
+     * 거버넌스 투표를 위한 RawTransaction 생성
      * 
      * @param proposalId 제안 ID
      * @param walletAddress 투표자 지갑 주소
@@ -56,9 +75,9 @@ public interface RawTransactionBuilder {
      * @param reason 투표 이유 (선택사항)
      * @param votingPower 투표 권한 (토큰 수량)
      * @param nonce 트랜잭션 nonce (선택사항)
-     * @return RawTransaction JSON 문자열
+     * @return 서명 전 트랜잭션 본문 (networkSpecificData에 네트워크별 트랜잭션)
      */
-    String createVoteRawTransaction(
+    TransactionBody<?> createVoteRawTransaction(
         BigInteger proposalCount,
         UUID proposalId,
         String walletAddress,
@@ -69,16 +88,18 @@ public interface RawTransactionBuilder {
     );
 
     /**
-     * 투표권 위임을 위한 RawTransaction JSON 생성
+     * 투표권 위임을 위한 RawTransaction 생성
      * 
      * @param delegatorWalletAddress 위임하는 지갑 주소
      * @param delegateeWalletAddress 위임받는 지갑 주소
      * @param networkType 네트워크 타입
-     * @return RawTransaction JSON 문자열
+     * @param nonce 트랜잭션 nonce (선택사항)
+     * @return 서명 전 트랜잭션 본문 (networkSpecificData에 네트워크별 트랜잭션)
      */
-    String createDelegationRawTransaction(
+    TransactionBody<?> createDelegationRawTransaction(
         String delegatorWalletAddress,
         String delegateeWalletAddress,
-        NetworkType networkType
+        NetworkType networkType,
+        String nonce
     );
 } 
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.repository;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.LogIndexCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LogIndexCheckpointRepository extends JpaRepository<LogIndexCheckpoint, String> {
+}
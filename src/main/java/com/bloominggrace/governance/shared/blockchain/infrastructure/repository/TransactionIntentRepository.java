@@ -0,0 +1,83 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.repository;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TransactionIntentRepository extends JpaRepository<TransactionIntent, UUID> {
+
+    /**
+     * 처리 시각이 도래한 의도를 오래된 순으로 조회
+     */
+    List<TransactionIntent> findByStatusAndNextAttemptAtLessThanEqualOrderByCreatedAtAsc(
+        TransactionIntent.Status status, LocalDateTime now, Pageable pageable);
+
+    /**
+     * 현재 상태가 expected인 경우에만 PROCESSING으로 점유 (여러 인스턴스가 같은 행을 가져가지 않도록 조건부 갱신)
+     * @return 점유에 성공하면 1
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TransactionIntent i SET i.status = :processing, i.lockedUntil = :lockedUntil, "
+        + "i.attempts = i.attempts + 1, i.updatedAt = :now "
+        + "WHERE i.id = :id AND i.status = :expected")
+    int claim(@Param("id") UUID id,
+              @Param("expected") TransactionIntent.Status expected,
+              @Param("processing") TransactionIntent.Status processing,
+              @Param("lockedUntil") LocalDateTime lockedUntil,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 브로드캐스트 전에 서명 트랜잭션을 저장
+     * 점유 시 증가한 attempts가 그대로이고 아직 서명이 저장되지 않은 경우에만 갱신합니다 (점유를 잃은 워커는 브로드캐스트하지 않도록).
+     * @return 저장에 성공하면 1
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TransactionIntent i SET i.signedTransaction = :signedTransaction, i.transactionHash = :transactionHash, "
+        + "i.nonce = :nonce, i.updatedAt = :now "
+        + "WHERE i.id = :id AND i.status = :processing AND i.attempts = :attempts AND i.signedTransaction IS NULL")
+    int recordSigned(@Param("id") UUID id,
+                     @Param("processing") TransactionIntent.Status processing,
+                     @Param("attempts") int attempts,
+                     @Param("signedTransaction") String signedTransaction,
+                     @Param("transactionHash") String transactionHash,
+                     @Param("nonce") Long nonce,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 점유가 만료된 의도를 다시 대기 상태로 회수 (워커가 비정상 종료된 경우)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TransactionIntent i SET i.status = :pending, i.lockedUntil = null, i.nextAttemptAt = :now, i.updatedAt = :now "
+        + "WHERE i.status = :processing AND i.lockedUntil < :now")
+    int releaseExpiredLocks(@Param("pending") TransactionIntent.Status pending,
+                            @Param("processing") TransactionIntent.Status processing,
+                            @Param("now") LocalDateTime now);
+
+    boolean existsByReferenceTypeAndReferenceIdAndStatusIn(
+        String referenceType, String referenceId, Collection<TransactionIntent.Status> statuses);
+
+    /**
+     * 네트워크의 발신 주소별 진행 중인 의도 수 (모든 인스턴스가 공유하는 대기 깊이)
+     */
+    @Query("SELECT i.fromAddress AS fromAddress, COUNT(i) AS intents FROM TransactionIntent i "
+        + "WHERE i.networkType = :networkType AND i.status IN :statuses GROUP BY i.fromAddress")
+    List<FromAddressCount> countByFromAddress(@Param("networkType") NetworkType networkType,
+                                              @Param("statuses") Collection<TransactionIntent.Status> statuses);
+
+    interface FromAddressCount {
+        String getFromAddress();
+
+        long getIntents();
+    }
+}
@@ -5,9 +5,13 @@ import com.bloominggrace.governance.shared.blockchain.domain.model.BlockchainTra
 import com.bloominggrace.governance.shared.blockchain.domain.model.Transaction;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -42,4 +46,20 @@ public interface TransactionJpaRepository extends JpaRepository<Transaction, UUI
      * 네트워크 타입과 트랜잭션 타입으로 조회
      */
     List<Transaction> findByNetworkTypeAndTransactionType(NetworkType networkType, BlockchainTransactionType transactionType);
+    
+    /**
+     * 브로드캐스트되어 확인을 기다리는 트랜잭션 조회 (해시가 있는 PENDING)
+     */
+    List<Transaction> findByStatusAndTransactionHashIsNotNull(Transaction.TransactionStatus status);
+    
+    /**
+     * 해시 목록에 해당하는 트랜잭션 상태를 일괄 변경 (현재 상태가 expected인 행만)
+     */
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = :status, t.updatedAt = :now "
+        + "WHERE t.transactionHash IN :transactionHashes AND t.status = :expected")
+    int updateStatusByTransactionHashes(@Param("transactionHashes") Collection<String> transactionHashes,
+                                        @Param("expected") Transaction.TransactionStatus expected,
+                                        @Param("status") Transaction.TransactionStatus status,
+                                        @Param("now") LocalDateTime now);
 } 
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.bloominggrace.governance.shared.blockchain.domain.model.Transaction;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -43,4 +44,15 @@ public interface TransactionRepository {
      * 네트워크 타입과 트랜잭션 타입으로 조회
      */
     List<Transaction> findByNetworkTypeAndTransactionType(NetworkType networkType, BlockchainTransactionType transactionType);
+    
+    /**
+     * 브로드캐스트되어 확인을 기다리는 트랜잭션 조회 (해시가 있는 PENDING)
+     */
+    List<Transaction> findSubmittedPending();
+    
+    /**
+     * PENDING 트랜잭션 중 해시 목록에 해당하는 행의 상태를 일괄 변경
+     * @return 변경된 행 수
+     */
+    int updatePendingStatusByTransactionHashes(Collection<String> transactionHashes, Transaction.TransactionStatus status);
 } 
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -99,4 +100,15 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
     public List<Transaction> findByNetworkTypeAndTransactionType(NetworkType networkType, BlockchainTransactionType transactionType) {
         return transactionJpaRepository.findByNetworkTypeAndTransactionType(networkType, transactionType);
     }
+
+    @Override
+    public List<Transaction> findSubmittedPending() {
+        return transactionJpaRepository.findByStatusAndTransactionHashIsNotNull(Transaction.TransactionStatus.PENDING);
+    }
+
+    @Override
+    public int updatePendingStatusByTransactionHashes(Collection<String> transactionHashes, Transaction.TransactionStatus status) {
+        return transactionJpaRepository.updateStatusByTransactionHashes(
+            transactionHashes, Transaction.TransactionStatus.PENDING, status, LocalDateTime.now());
+    }
 } 
\ No newline at end of file
@@ -1,24 +1,34 @@
 package com.bloominggrace.governance.shared.blockchain.infrastructure.service;
 
 import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.exception.NonceTooLowException;
+import com.bloominggrace.governance.blockchain.domain.exception.TransactionRejectedException;
+import com.bloominggrace.governance.blockchain.domain.exception.TransactionRevertedException;
+import com.bloominggrace.governance.blockchain.domain.service.AsyncBlockchainClient;
 import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.service.gas.GasLimitModel;
 
 import com.bloominggrace.governance.shared.domain.UserId;
 import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
+import com.bloominggrace.governance.shared.blockchain.domain.model.ethereum.UnsignedEvmTransaction;
 import com.bloominggrace.governance.wallet.application.service.WalletApplicationService;
 import com.bloominggrace.governance.wallet.application.service.WalletServiceFactory;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import com.bloominggrace.governance.wallet.domain.model.Wallet;
 import com.bloominggrace.governance.wallet.domain.service.WalletService;
 import com.bloominggrace.governance.shared.blockchain.domain.service.RawTransactionBuilder;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.nonce.NonceManager;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.simulation.TransactionSimulator;
+import com.bloominggrace.governance.wallet.infrastructure.service.signing.SigningExecutor;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.web3j.utils.Numeric;
+import org.web3j.crypto.Hash;
 import org.web3j.crypto.RawTransaction;
 import org.web3j.crypto.TransactionEncoder;
 
@@ -26,6 +36,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.springframework.context.ApplicationContext;
 
 import java.math.BigInteger;
@@ -42,8 +57,16 @@ public class TransactionOrchestrator {
     private final BlockchainClientFactory blockchainClientFactory;
     private final WalletServiceFactory walletServiceFactory;
     private final RawTransactionBuilderFactory rawTransactionBuilderFactory;
+    private final NonceManager nonceManager;
+    private final SigningExecutor signingExecutor;
+    private final GasLimitModel gasLimitModel;
+    private final TransactionSimulator transactionSimulator;
+    private final TransactionPreparationExecutor preparationExecutor;
     // TransactionSigner와 TransactionBroadcaster는 WalletApplicationService를 통해 처리
 
+    // 서명 트랜잭션을 따로 저장하지 않는 호출자용
+    private static final Consumer<SignedTransaction> NOT_RECORDED = signed -> { };
+
     // ===== 거버넌스 관련 트랜잭션 실행 =====
     
     /**
@@ -59,25 +82,34 @@ public class TransactionOrchestrator {
         LocalDateTime votingStartDate,
         LocalDateTime votingEndDate,
         BigDecimal requiredQuorum) {
+        return executeProposalCreation(proposalId, title, description, walletAddress, networkType, proposalFee,
+            votingStartDate, votingEndDate, requiredQuorum, NOT_RECORDED);
+    }
+
+    /**
+     * 제안 생성 트랜잭션 실행 (브로드캐스트 직전에 서명 트랜잭션을 beforeBroadcast로 전달)
+     */
+    public TransactionResult executeProposalCreation(
+        UUID proposalId,
+        String title,
+        String description,
+        String walletAddress,
+        NetworkType networkType,
+        BigDecimal proposalFee,
+        LocalDateTime votingStartDate,
+        LocalDateTime votingEndDate,
+        BigDecimal requiredQuorum,
+        Consumer<SignedTransaction> beforeBroadcast) {
         
         try {
             log.info("[Orchestrator] Starting executeProposalCreation - ProposalId: {}, Title: {}, Network: {}", 
                 proposalId, title, networkType);
             
-            // 1. RawTransaction 생성
-            String rawTransactionJson = createProposalCreationRawTransaction(
+            // 1~4. nonce 발급 → RawTransaction 생성 → 서명 → 브로드캐스트
+            String txHash = executeWithNonce(walletAddress, networkType, nonce -> createProposalCreationRawTransaction(
                 proposalId, title, description, walletAddress, networkType, 
-                proposalFee, votingStartDate, votingEndDate, requiredQuorum
-            );
-
-            // 2. 지갑 정보 조회 및 개인키 복호화
-            String decryptedPrivateKey = getDecryptedPrivateKey(walletAddress, networkType);
-
-            // 3. 트랜잭션 서명
-            byte[] signedTx = signTransaction(rawTransactionJson, walletAddress, networkType, decryptedPrivateKey);
-
-            // 4. 블록체인에 브로드캐스트
-            String txHash = broadcastTransaction(signedTx, networkType);
+                proposalFee, votingStartDate, votingEndDate, requiredQuorum, nonce
+            ), beforeBroadcast);
 
             // 5. 결과 반환
             if (txHash != null && !txHash.trim().isEmpty()) {
@@ -87,7 +119,7 @@ public class TransactionOrchestrator {
             }
         } catch (Exception e) {
             log.error("[Orchestrator] Failed proposal creation", e);
-            return TransactionResult.failure(UUID.randomUUID(), walletAddress, networkType.name(), "Proposal creation failed: " + e.getMessage());
+            return failure(walletAddress, networkType, "Proposal creation failed", e);
         }
     }
     
@@ -102,24 +134,30 @@ public class TransactionOrchestrator {
         BigDecimal votingPower,
         String reason,
         NetworkType networkType) {
+        return executeVoteCreation(proposalCount, proposalId, walletAddress, voteType, votingPower, reason, networkType, NOT_RECORDED);
+    }
+
+    /**
+     * 투표 트랜잭션 실행 (브로드캐스트 직전에 서명 트랜잭션을 beforeBroadcast로 전달)
+     */
+    public TransactionResult executeVoteCreation(
+        BigInteger proposalCount,
+        UUID proposalId,
+        String walletAddress,
+        String voteType,
+        BigDecimal votingPower,
+        String reason,
+        NetworkType networkType,
+        Consumer<SignedTransaction> beforeBroadcast) {
         
         try {
             log.info("[Orchestrator] Starting executeVoteCreation - ProposalId: {}, VoteType: {}, Network: {}", 
                 proposalId, voteType, networkType);
             
-            // 1. RawTransaction 생성
-            String rawTransactionJson = createVoteRawTransaction(
-                proposalCount, proposalId, walletAddress, networkType, voteType, reason, votingPower
-            );
-
-            // 2. 지갑 정보 조회 및 개인키 복호화
-            String decryptedPrivateKey = getDecryptedPrivateKey(walletAddress, networkType);
-
-            // 3. 트랜잭션 서명
-            byte[] signedTx = signTransaction(rawTransactionJson, walletAddress, networkType, decryptedPrivateKey);
-
-            // 4. 블록체인에 브로드캐스트
-            String txHash = broadcastTransaction(signedTx, networkType);
+            // 1~4. nonce 발급 → RawTransaction 생성 → 서명 → 브로드캐스트
+            String txHash = executeWithNonce(walletAddress, networkType, nonce -> createVoteRawTransaction(
+                proposalCount, proposalId, walletAddress, networkType, voteType, reason, votingPower, nonce
+            ), beforeBroadcast);
 
             // 5. 결과 반환
             if (txHash != null && !txHash.trim().isEmpty()) {
@@ -131,8 +169,7 @@ public class TransactionOrchestrator {
             }
         } catch (Exception e) {
             log.error("[Orchestrator] Failed vote creation", e);
-            return TransactionResult.failure(UUID.randomUUID(), walletAddress, networkType.name(), 
-                "Vote creation failed: " + e.getMessage());
+            return failure(walletAddress, networkType, "Vote creation failed", e);
         }
     }
     
@@ -147,21 +184,26 @@ public class TransactionOrchestrator {
             NetworkType networkType,
             BigDecimal amount,
             String tokenContract) {
+        return executeTransfer(fromWalletAddress, toWalletAddress, networkType, amount, tokenContract, NOT_RECORDED);
+    }
+
+    /**
+     * 토큰 전송 트랜잭션 실행 (브로드캐스트 직전에 서명 트랜잭션을 beforeBroadcast로 전달)
+     */
+    public TransactionResult executeTransfer(
+            String fromWalletAddress,
+            String toWalletAddress,
+            NetworkType networkType,
+            BigDecimal amount,
+            String tokenContract,
+            Consumer<SignedTransaction> beforeBroadcast) {
         try {
             log.info("[Orchestrator] Starting executeTransfer - From: {}, To: {}, Network: {}, Amount: {}, Contract: {}", 
                 fromWalletAddress, toWalletAddress, networkType, amount, tokenContract);
             
-            // 1. RawTransaction 생성
-            String rawTransactionJson = createRawTransaction(fromWalletAddress, toWalletAddress, networkType, amount, tokenContract);
-
-            // 2. 지갑 정보 조회 및 개인키 복호화
-            String decryptedPrivateKey = getDecryptedPrivateKey(fromWalletAddress, networkType);
-
-            // 3. 트랜잭션 서명
-            byte[] signedTx = signTransaction(rawTransactionJson, fromWalletAddress, networkType, decryptedPrivateKey);
-
-            // 4. 블록체인에 브로드캐스트
-            String txHash = broadcastTransaction(signedTx, networkType);
+            // 1~4. nonce 발급 → RawTransaction 생성 → 서명 → 브로드캐스트
+            String txHash = executeWithNonce(fromWalletAddress, networkType, nonce ->
+                createRawTransaction(fromWalletAddress, toWalletAddress, networkType, amount, tokenContract, nonce), beforeBroadcast);
 
             // 5. 결과 반환
             if (txHash != null && !txHash.trim().isEmpty()) {
@@ -171,7 +213,46 @@ public class TransactionOrchestrator {
             }
         } catch (Exception e) {
             log.error("[Orchestrator] Failed ERC20 transfer", e);
-            return TransactionResult.failure(UUID.randomUUID(), fromWalletAddress, networkType.name(), "ERC20 transfer failed: " + e.getMessage());
+            return failure(fromWalletAddress, networkType, "ERC20 transfer failed", e);
+        }
+    }
+
+    /**
+     * 멀티센드 트랜잭션 실행 (여러 수신자에게 토큰을 한 트랜잭션으로 전송)
+     */
+    public TransactionResult executeMultiTransfer(
+            String fromWalletAddress,
+            NetworkType networkType,
+            String tokenContract,
+            String multisendContract,
+            Map<String, BigDecimal> transfers) {
+        return executeMultiTransfer(fromWalletAddress, networkType, tokenContract, multisendContract, transfers, NOT_RECORDED);
+    }
+
+    /**
+     * 멀티센드 트랜잭션 실행 (브로드캐스트 직전에 서명 트랜잭션을 beforeBroadcast로 전달)
+     */
+    public TransactionResult executeMultiTransfer(
+            String fromWalletAddress,
+            NetworkType networkType,
+            String tokenContract,
+            String multisendContract,
+            Map<String, BigDecimal> transfers,
+            Consumer<SignedTransaction> beforeBroadcast) {
+        try {
+            log.info("[Orchestrator] Starting executeMultiTransfer - From: {}, Network: {}, Recipients: {}, Contract: {}",
+                fromWalletAddress, networkType, transfers.size(), tokenContract);
+
+            RawTransactionBuilder builder = rawTransactionBuilderFactory.getBuilder(networkType);
+            String txHash = executeWithNonce(fromWalletAddress, networkType, nonce ->
+                builder.createMultiTransferRawTransaction(fromWalletAddress, multisendContract, tokenContract, transfers, nonce),
+                beforeBroadcast);
+
+            return TransactionResult.success(UUID.randomUUID(), txHash, fromWalletAddress, networkType.name(),
+                "Multi transfer to " + transfers.size() + " recipients");
+        } catch (Exception e) {
+            log.error("[Orchestrator] Failed multi transfer", e);
+            return failure(fromWalletAddress, networkType, "Multi transfer failed", e);
         }
     }
 
@@ -187,19 +268,10 @@ public class TransactionOrchestrator {
             log.info("[Orchestrator] Starting executeDelegationCreation - Delegator: {}, Delegatee: {}, Network: {}",
                 delegatorWalletAddress, delegateeWalletAddress, networkType);
             
-            // 1. RawTransaction 생성
-            String rawTransactionJson = createDelegationRawTransaction(
-                delegatorWalletAddress, delegateeWalletAddress, networkType
-            );
-
-            // 2. 지갑 정보 조회 및 개인키 복호화
-            String decryptedPrivateKey = getDecryptedPrivateKey(delegatorWalletAddress, networkType);
-
-            // 3. 트랜잭션 서명
-            byte[] signedTx = signTransaction(rawTransactionJson, delegatorWalletAddress, networkType, decryptedPrivateKey);
-
-            // 4. 블록체인에 브로드캐스트
-            String txHash = broadcastTransaction(signedTx, networkType);
+            // 1~4. nonce 발급 → RawTransaction 생성 → 서명 → 브로드캐스트
+            String txHash = executeWithNonce(delegatorWalletAddress, networkType, nonce -> createDelegationRawTransaction(
+                delegatorWalletAddress, delegateeWalletAddress, networkType, nonce
+            ), NOT_RECORDED);
 
             // 5. 결과 반환
             if (txHash != null && !txHash.trim().isEmpty()) {
@@ -209,11 +281,76 @@ public class TransactionOrchestrator {
             }
         } catch (Exception e) {
             log.error("[Orchestrator] Failed delegation creation", e);
-            return TransactionResult.failure(UUID.randomUUID(), delegatorWalletAddress, networkType.name(), "Delegation creation failed: " + e.getMessage());
+            return failure(delegatorWalletAddress, networkType, "Delegation creation failed", e);
+        }
+    }
+
+    // ===== 비동기 트랜잭션 실행 =====
+
+    /**
+     * 투표 트랜잭션 비동기 실행 (nonce 발급 → RawTransaction 생성 → 서명 → 브로드캐스트)
+     * RPC 호출은 AsyncBlockchainClient로 조합하여 응답 대기 중 스레드를 점유하지 않습니다.
+     * 비동기 클라이언트가 없는 네트워크는 동기 실행 결과를 반환합니다.
+     */
+    public CompletableFuture<TransactionResult> executeVoteCreationAsync(
+        BigInteger proposalCount,
+        UUID proposalId,
+        String walletAddress,
+        String voteType,
+        BigDecimal votingPower,
+        String reason,
+        NetworkType networkType) {
+
+        Optional<AsyncBlockchainClient> asyncClient = blockchainClientFactory.getAsyncClient(networkType);
+        if (asyncClient.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                executeVoteCreation(proposalCount, proposalId, walletAddress, voteType, votingPower, reason, networkType));
+        }
+
+        log.info("[Orchestrator] Starting executeVoteCreationAsync - ProposalId: {}, VoteType: {}, Network: {}",
+            proposalId, voteType, networkType);
+
+        return executeWithNonceAsync(asyncClient.get(), walletAddress, networkType, nonce -> createVoteRawTransaction(
+                proposalCount, proposalId, walletAddress, networkType, voteType, reason, votingPower, nonce))
+            .thenApply(txHash -> TransactionResult.success(UUID.randomUUID(), txHash, walletAddress, networkType.name(),
+                "Vote on proposal: " + proposalId + " - " + voteType))
+            .exceptionally(e -> {
+                log.error("[Orchestrator] Failed async vote creation", e);
+                return failure(walletAddress, networkType, "Vote creation failed", unwrap(e));
+            });
+    }
+
+    /**
+     * 토큰 전송 트랜잭션 비동기 실행 (nonce 발급 → RawTransaction 생성 → 서명 → 브로드캐스트)
+     * 비동기 클라이언트가 없는 네트워크는 동기 실행 결과를 반환합니다.
+     */
+    public CompletableFuture<TransactionResult> executeTransferAsync(
+            String fromWalletAddress,
+            String toWalletAddress,
+            NetworkType networkType,
+            BigDecimal amount,
+            String tokenContract) {
+
+        Optional<AsyncBlockchainClient> asyncClient = blockchainClientFactory.getAsyncClient(networkType);
+        if (asyncClient.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                executeTransfer(fromWalletAddress, toWalletAddress, networkType, amount, tokenContract));
         }
+
+        log.info("[Orchestrator] Starting executeTransferAsync - From: {}, To: {}, Network: {}, Amount: {}, Contract: {}",
+            fromWalletAddress, toWalletAddress, networkType, amount, tokenContract);
+
+        return executeWithNonceAsync(asyncClient.get(), fromWalletAddress, networkType, nonce ->
+                createRawTransaction(fromWalletAddress, toWalletAddress, networkType, amount, tokenContract, nonce))
+            .thenApply(txHash -> TransactionResult.success(UUID.randomUUID(), txHash, fromWalletAddress, networkType.name(),
+                "ERC20 transfer: " + amount))
+            .exceptionally(e -> {
+                log.error("[Orchestrator] Failed async ERC20 transfer", e);
+                return failure(fromWalletAddress, networkType, "ERC20 transfer failed", unwrap(e));
+            });
     }
 
-    private String createProposalCreationRawTransaction(
+    private TransactionBody<?> createProposalCreationRawTransaction(
         UUID proposalId,
         String title,
         String description,
@@ -222,7 +359,8 @@ public class TransactionOrchestrator {
         BigDecimal proposalFee,
         LocalDateTime votingStartDate,
         LocalDateTime votingEndDate,
-        BigDecimal requiredQuorum) {
+        BigDecimal requiredQuorum,
+        String nonce) {
         
         try {
             log.info("[Orchestrator] Creating proposal creation raw transaction - ProposalId: {}, Title: {}, Network: {}", 
@@ -230,13 +368,13 @@ public class TransactionOrchestrator {
             
             // RawTransactionBuilder를 통한 RawTransaction 생성
             RawTransactionBuilder rawTransactionBuilder = rawTransactionBuilderFactory.getBuilder(networkType);
-            String rawTransactionJson = rawTransactionBuilder.createProposalCreationRawTransaction(
+            TransactionBody<?> transactionBody = rawTransactionBuilder.createProposalCreationRawTransaction(
                 proposalId, title, description, walletAddress, proposalFee, 
-                votingStartDate, votingEndDate, requiredQuorum, null
+                votingStartDate, votingEndDate, requiredQuorum, nonce
             );
             
             log.info("[Orchestrator] Created proposal creation raw transaction successfully");
-            return rawTransactionJson;
+            return transactionBody;
             
         } catch (Exception e) {
             log.error("[Orchestrator] Failed to create proposal creation raw transaction", e);
@@ -247,14 +385,15 @@ public class TransactionOrchestrator {
     /**
      * 투표용 RawTransaction 생성
      */
-    private String createVoteRawTransaction(
+    private TransactionBody<?> createVoteRawTransaction(
         BigInteger proposalCount,
         UUID proposalId,
         String walletAddress,
         NetworkType networkType,
         String voteType,
         String reason,
-        BigDecimal votingPower) {
+        BigDecimal votingPower,
+        String nonce) {
         
         try {
             RawTransactionBuilder rawTransactionBuilder = rawTransactionBuilderFactory.getBuilder(networkType);
@@ -266,7 +405,7 @@ public class TransactionOrchestrator {
                 voteType,
                 reason != null ? reason : "",
                 votingPower,
-                null // nonce는 RawTransactionBuilder에서 자동 조회
+                nonce
             );
         } catch (Exception e) {
             log.error("[Orchestrator] Failed to create vote raw transaction", e);
@@ -274,45 +413,43 @@ public class TransactionOrchestrator {
         }
     }
     
-    private String createRawTransaction(
+    private TransactionBody<?> createRawTransaction(
         String fromWalletAddress,
         String toWalletAddress,
         NetworkType networkType,
         BigDecimal amount,
-        String tokenContract) {
+        String tokenContract,
+        String nonce) {
 
         // RawTransactionBuilder를 사용하여 RawTransaction 생성
         RawTransactionBuilder builder = rawTransactionBuilderFactory.getBuilder(networkType);
-        Map<String, String> transactionData;
         // 트랜잭션 데이터를 Map으로 구성
+        Map<String, String> transactionData = new HashMap<>();
+        transactionData.put("fromAddress", fromWalletAddress);
+        transactionData.put("toAddress", toWalletAddress);
+        transactionData.put("amount", amount.toString());
         if (tokenContract != null && !tokenContract.trim().isEmpty()) {
-            transactionData = Map.of(
-                    "fromAddress", fromWalletAddress,
-                    "toAddress", toWalletAddress,
-                    "amount", amount.toString(),
-                    "tokenAddress", tokenContract
-            );
-        } else {
-            transactionData = Map.of(
-                    "fromAddress", fromWalletAddress,
-                    "toAddress", toWalletAddress,
-                    "amount", amount.toString()
-            );
+            transactionData.put("tokenAddress", tokenContract);
+        }
+        // nonce가 없으면 RawTransactionBuilder에서 자동 조회
+        if (nonce != null) {
+            transactionData.put("nonce", nonce);
         }
 
-        String rawTransactionJson = builder.createRawTransaction(transactionData);
-        log.info("[Orchestrator] Created RawTransaction using RawTransactionBuilder: {}", rawTransactionJson);
+        TransactionBody<?> transactionBody = builder.createRawTransaction(transactionData);
+        log.info("[Orchestrator] Created RawTransaction using RawTransactionBuilder: {}", transactionBody.getNetworkSpecificData());
 
-        return rawTransactionJson;
+        return transactionBody;
     }
 
     /**
      * 위임 RawTransaction 생성 (private 메서드)
      */
-    private String createDelegationRawTransaction(
+    private TransactionBody<?> createDelegationRawTransaction(
         String delegatorWalletAddress,
         String delegateeWalletAddress,
-        NetworkType networkType) {
+        NetworkType networkType,
+        String nonce) {
         
         try {
             log.info("[Orchestrator] Creating delegation RawTransaction - Delegator: {}, Delegatee: {}, Network: {}",
@@ -320,14 +457,15 @@ public class TransactionOrchestrator {
 
             // RawTransactionBuilder를 통해 위임 RawTransaction 생성
             RawTransactionBuilder rawTransactionBuilder = rawTransactionBuilderFactory.getBuilder(networkType);
-            String rawTransactionJson = rawTransactionBuilder.createDelegationRawTransaction(
+            TransactionBody<?> transactionBody = rawTransactionBuilder.createDelegationRawTransaction(
                 delegatorWalletAddress,
                 delegateeWalletAddress,
-                networkType
+                networkType,
+                nonce
             );
             
-            log.info("[Orchestrator] Created delegation RawTransaction: {}", rawTransactionJson);
-            return rawTransactionJson;
+            log.info("[Orchestrator] Created delegation RawTransaction: {}", transactionBody.getNetworkSpecificData());
+            return transactionBody;
             
         } catch (Exception e) {
             log.error("[Orchestrator] Failed to create delegation RawTransaction", e);
@@ -335,42 +473,156 @@ public class TransactionOrchestrator {
         }
     }
     
-    private String getDecryptedPrivateKey(String fromWalletAddress, NetworkType networkType) {
-        // 일반 지갑의 경우 WalletService를 통해 개인키 조회
+    /**
+     * 로컬 nonce 관리자에서 nonce를 발급받아 RawTransaction 생성 → 시뮬레이션 → 서명 → 브로드캐스트를 실행합니다.
+     * 노드가 받지 않은 것이 확실한 실패(브로드캐스트 전 실패, 노드 거부)는 nonce를 반납하고, "nonce too low"는 재동기화합니다.
+     * 서명한 트랜잭션과 다른 페이로드로 다시 서명하면 이중 전송될 수 있으므로 여기서 재시도하지 않습니다.
+     *
+     * @param rawTransactionFactory 발급된 nonce로 서명 전 트랜잭션 본문을 만드는 함수
+     * @param beforeBroadcast 브로드캐스트 직전에 서명 트랜잭션을 받는 함수 (예외를 던지면 브로드캐스트하지 않음)
+     *                        서명 트랜잭션을 저장하는 호출자는 노드가 거부했을 때 저장 내용을 지운 뒤 releaseNonce로 nonce를 반납해야 합니다.
+     * @return 트랜잭션 해시
+     */
+    private String executeWithNonce(String walletAddress, NetworkType networkType, Function<String, TransactionBody<?>> rawTransactionFactory,
+                                    Consumer<SignedTransaction> beforeBroadcast) {
+        long nonce = nonceManager.allocate(networkType, walletAddress);
+        TransactionBody<?> transactionBody;
+        byte[] signedTx;
+        try {
+            transactionBody = rawTransactionFactory.apply(String.valueOf(nonce));
+            transactionSimulator.verify(networkType, transactionBody);
+            signedTx = signTransaction(transactionBody, networkType, walletAddress);
+            String rawTransaction = Numeric.toHexString(signedTx);
+            beforeBroadcast.accept(new SignedTransaction(nonce, rawTransaction, transactionHashOf(transactionBody, rawTransaction)));
+        } catch (RuntimeException e) {
+            nonceManager.release(networkType, walletAddress, nonce);
+            throw e;
+        }
+
+        String txHash;
+        try {
+            txHash = broadcastTransaction(signedTx, networkType);
+        } catch (RuntimeException e) {
+            if (beforeBroadcast != NOT_RECORDED && e instanceof TransactionRejectedException) {
+                // 저장된 서명 바이트가 남아 있는 동안 nonce를 다른 트랜잭션에 넘기면 재시도가 그 트랜잭션을 교체할 수 있으므로,
+                // 호출자가 저장 내용을 지운 뒤 반납합니다.
+                throw e;
+            }
+            completeNonce(networkType, walletAddress, nonce, e);
+            throw e;
+        }
+        nonceManager.confirm(networkType, walletAddress, nonce);
+        expectReceipt(txHash, transactionBody);
+        return txHash;
+    }
+
+    /**
+     * 노드가 거부한 서명 트랜잭션의 nonce를 반납합니다 (저장해 둔 서명 트랜잭션을 지운 뒤 호출).
+     * 저장 내용을 지우지 못했다면 반납하지 않고 완료 처리해, 저장된 바이트의 재전송이나 빈 nonce 점검에 맡깁니다.
+     *
+     * @param discarded 저장해 둔 서명 트랜잭션을 지웠는지 여부
+     */
+    public void releaseRejectedNonce(NetworkType networkType, String walletAddress, long nonce, boolean discarded) {
+        if (discarded) {
+            nonceManager.release(networkType, walletAddress, nonce);
+        } else {
+            nonceManager.confirm(networkType, walletAddress, nonce);
+        }
+    }
+
+    /**
+     * 브로드캐스트에 실패한 nonce를 정리합니다.
+     * 노드가 거부했으면 반납하고, "nonce too low"면 체인 nonce로 재동기화하며,
+     * 전파 여부를 알 수 없는 실패(타임아웃 등)는 완료 처리해 빈 nonce 점검에 맡깁니다.
+     */
+    private void completeNonce(NetworkType networkType, String walletAddress, long nonce, Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof TransactionRejectedException) {
+            nonceManager.release(networkType, walletAddress, nonce);
+        } else if (cause instanceof NonceTooLowException) {
+            nonceManager.confirm(networkType, walletAddress, nonce);
+            nonceManager.resync(networkType, walletAddress);
+        } else {
+            nonceManager.confirm(networkType, walletAddress, nonce);
+        }
+    }
+
+    /**
+     * executeWithNonce의 비동기 버전
+     * 동기 RPC가 섞인 nonce 발급/본문 생성/nonce 정리는 전용 실행기에서, 시뮬레이션과 브로드캐스트는 AsyncBlockchainClient로,
+     * 서명은 서명 실행기에서 실행해 공용 ForkJoinPool을 블로킹하지 않습니다.
+     */
+    private CompletableFuture<String> executeWithNonceAsync(AsyncBlockchainClient client, String walletAddress,
+                                                            NetworkType networkType, Function<String, TransactionBody<?>> rawTransactionFactory) {
+        return CompletableFuture.supplyAsync(() -> nonceManager.allocate(networkType, walletAddress), preparationExecutor)
+            .thenCompose(nonce -> CompletableFuture
+                .supplyAsync(() -> rawTransactionFactory.apply(String.valueOf(nonce)), preparationExecutor)
+                .thenCompose(transactionBody -> transactionSimulator.verifyAsync(client, transactionBody)
+                    .thenCompose(ignored -> signingExecutor.submit(() -> walletServiceFactory.getWalletService(networkType)
+                        .signWithWallet(transactionBody, walletAddress)))
+                    .thenApply(signedTx -> new PreparedTransaction(transactionBody, signedTx)))
+                .whenComplete((prepared, error) -> {
+                    if (error != null) {
+                        nonceManager.release(networkType, walletAddress, nonce);
+                    }
+                })
+                .thenCompose(prepared -> broadcastTransactionAsync(client, prepared.signedTx())
+                    .whenCompleteAsync((txHash, error) -> {
+                        if (error != null) {
+                            completeNonce(networkType, walletAddress, nonce, error);
+                        } else {
+                            nonceManager.confirm(networkType, walletAddress, nonce);
+                            expectReceipt(txHash, prepared.transactionBody());
+                        }
+                    }, preparationExecutor)));
+    }
+
+    /**
+     * nonce가 이미 정해진 트랜잭션 본문을 서명해 브로드캐스트합니다 (같은 nonce의 수수료 상향 교체 등).
+     * 로컬 nonce 관리자를 거치지 않습니다.
+     *
+     * @return 트랜잭션 해시
+     */
+    public String signAndBroadcast(TransactionBody<?> transactionBody, NetworkType networkType, String walletAddress) {
+        byte[] signedTx = signTransaction(transactionBody, networkType, walletAddress);
+        String txHash = broadcastTransaction(signedTx, networkType);
+        expectReceipt(txHash, transactionBody);
+        return txHash;
+    }
+
+    /**
+     * 저장해 둔 서명 트랜잭션을 같은 바이트로 다시 브로드캐스트합니다 (다시 서명하지 않으므로 이중 전송되지 않음).
+     * 노드가 이미 알고 있으면 로컬 해시를 반환하고, nonce가 이미 사용되었으면 NonceTooLowException을 던집니다.
+     *
+     * @param rawTransaction 0x로 시작하는 서명 트랜잭션
+     * @return 트랜잭션 해시
+     */
+    public String rebroadcast(NetworkType networkType, String rawTransaction) {
+        return broadcastTransaction(Numeric.hexStringToByteArray(rawTransaction), networkType);
+    }
+
+    /**
+     * 여러 트랜잭션 본문을 서명 실행기에서 병렬로 서명하고 입력 순서대로 서명 결과를 반환합니다.
+     */
+    public List<byte[]> signAll(List<? extends TransactionBody<?>> transactionBodies, NetworkType networkType, String walletAddress) {
         WalletService walletService = walletServiceFactory.getWalletService(networkType);
-        return walletService.getDecryptedPrivateKey(fromWalletAddress);
+        return signingExecutor.signAll(transactionBodies.stream()
+            .<Supplier<byte[]>>map(transactionBody -> () -> walletService.signWithWallet(transactionBody, walletAddress))
+            .toList());
     }
-    
+
+    /**
+     * 빌더가 만든 트랜잭션 본문을 서명 실행기에서 그대로 서명합니다 (JSON 직렬화/파싱 없음).
+     * 개인키 복호화와 핫 월렛 서명 키 캐시는 WalletService가 처리합니다.
+     */
     private byte[] signTransaction(
-            String rawTransactionJson,
-            String fromWalletAddress,
+            TransactionBody<?> transactionBody,
             NetworkType networkType,
-            String decryptedPrivateKey) {
+            String walletAddress) {
         
         WalletService walletService = walletServiceFactory.getWalletService(networkType);
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode jsonNode;
-        try {
-            jsonNode = objectMapper.readTree(rawTransactionJson);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse raw transaction JSON", e);
-        }
-
-        // RawTransaction JSON에서 nonce 추출
-        long nonce = jsonNode.has("nonce") ? Long.parseLong(jsonNode.get("nonce").asText()) : 0L;
-        log.info("[Orchestrator] Extracted nonce from RawTransaction JSON: {}", nonce);
-
-        TransactionBody<Object> transactionBody =
-            TransactionBody.builder()
-                .type(TransactionBody.TransactionType.TOKEN_TRANSFER)
-                .fromAddress(fromWalletAddress)
-                .toAddress(jsonNode.get("toAddress").asText())
-                .data(rawTransactionJson)
-                .networkType(networkType.name())
-                .build();
-
-        byte[] signedTx = walletService.sign(transactionBody, decryptedPrivateKey);
-        log.info("[Orchestrator] Signed transaction using signTransactionBody");
+        byte[] signedTx = signingExecutor.sign(() -> walletService.signWithWallet(transactionBody, walletAddress));
+        log.info("[Orchestrator] Signed transaction - Nonce: {}", transactionBody.getNonce());
         
         return signedTx;
     }
@@ -387,13 +639,73 @@ public class TransactionOrchestrator {
         // txHash가 null인 경우 체크
         if (txHash == null || txHash.trim().isEmpty()) {
             log.error("[Orchestrator] Transaction hash is null or empty after broadcast");
-            throw new RuntimeException("No transaction hash returned from blockchain broadcast");
+            // 통신 오류 등으로 해시를 받지 못한 경우 노드가 트랜잭션을 받았는지 알 수 없으므로 거부로 취급하지 않습니다.
+            throw new IllegalStateException("No transaction hash returned from blockchain broadcast");
         }
         
         return txHash;
     }
 
+    /**
+     * 브로드캐스트 전에 알 수 있는 트랜잭션 해시 (EVM은 서명 트랜잭션의 keccak256, 그 외 네트워크는 null)
+     */
+    private static String transactionHashOf(TransactionBody<?> transactionBody, String rawTransaction) {
+        return transactionBody.getNetworkSpecificData() instanceof UnsignedEvmTransaction ? Hash.sha3(rawTransaction) : null;
+    }
+
+    /**
+     * EVM 트랜잭션의 호출 형태를 가스 한도 모델에 등록해 확정 영수증의 gasUsed로 학습하게 합니다.
+     */
+    private void expectReceipt(String txHash, TransactionBody<?> transactionBody) {
+        if (transactionBody.getNetworkSpecificData() instanceof UnsignedEvmTransaction transaction) {
+            gasLimitModel.expect(txHash, transaction.to(), transaction.dataHex());
+        }
+    }
+
+    private CompletableFuture<String> broadcastTransactionAsync(AsyncBlockchainClient client, byte[] signedTx) {
+        String hexValue = Numeric.toHexString(signedTx);
+        return client.broadcastTransaction(hexValue)
+            .thenApply(txHash -> {
+                log.info("[Orchestrator] Transaction broadcasted asynchronously, hash: {}", txHash);
+                if (txHash == null || txHash.trim().isEmpty()) {
+                    throw new IllegalStateException("No transaction hash returned from blockchain broadcast");
+                }
+                return txHash;
+            });
+    }
+
+    /**
+     * 실패 결과를 생성합니다. 시뮬레이션에서 revert가 확인된 경우 재시도하지 않도록 revert 사유를 함께 담습니다.
+     */
+    private static TransactionResult failure(String walletAddress, NetworkType networkType, String context, Throwable e) {
+        if (e instanceof TransactionRejectedException) {
+            return TransactionResult.rejected(UUID.randomUUID(), walletAddress, networkType.name(), context + ": " + e.getMessage());
+        }
+        String revertReason = e instanceof TransactionRevertedException reverted ? reverted.getReason() : null;
+        return TransactionResult.failure(UUID.randomUUID(), walletAddress, networkType.name(), context + ": " + e.getMessage(), revertReason);
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause() : throwable;
+    }
+
+    /**
+     * 서명까지 마친 비동기 실행 중간 결과
+     */
+    private record PreparedTransaction(TransactionBody<?> transactionBody, byte[] signedTx) {
+    }
+
     // ===== 결과 클래스 =====
+
+    /**
+     * 브로드캐스트 직전의 서명 트랜잭션
+     *
+     * @param rawTransaction 0x로 시작하는 서명 트랜잭션
+     * @param transactionHash 로컬에서 계산한 해시 (계산할 수 없는 네트워크는 null)
+     */
+    public record SignedTransaction(long nonce, String rawTransaction, String transactionHash) {
+    }
     
     public static class TransactionResult {
         private final UUID transactionId;
@@ -403,9 +715,12 @@ public class TransactionOrchestrator {
         private final String description;
         private final boolean success;
         private final String errorMessage;
+        private final String revertReason;
+        private final boolean rejected;
         
         private TransactionResult(UUID transactionId, String transactionHash, String walletAddress, 
-                                String networkType, String description, boolean success, String errorMessage) {
+                                String networkType, String description, boolean success, String errorMessage,
+                                String revertReason, boolean rejected) {
             this.transactionId = transactionId;
             this.transactionHash = transactionHash;
             this.walletAddress = walletAddress;
@@ -413,16 +728,34 @@ public class TransactionOrchestrator {
             this.description = description;
             this.success = success;
             this.errorMessage = errorMessage;
+            this.revertReason = revertReason;
+            this.rejected = rejected;
         }
         
         public static TransactionResult success(UUID transactionId, String transactionHash, 
                                               String walletAddress, String networkType, String description) {
-            return new TransactionResult(transactionId, transactionHash, walletAddress, networkType, description, true, null);
+            return new TransactionResult(transactionId, transactionHash, walletAddress, networkType, description, true, null, null, false);
         }
         
         public static TransactionResult failure(UUID transactionId, String walletAddress, 
                                               String networkType, String errorMessage) {
-            return new TransactionResult(transactionId, null, walletAddress, networkType, null, false, errorMessage);
+            return failure(transactionId, walletAddress, networkType, errorMessage, null);
+        }
+
+        /**
+         * @param revertReason 시뮬레이션에서 확인된 revert 사유 (revert가 아니면 null)
+         */
+        public static TransactionResult failure(UUID transactionId, String walletAddress,
+                                              String networkType, String errorMessage, String revertReason) {
+            return new TransactionResult(transactionId, null, walletAddress, networkType, null, false, errorMessage, revertReason, false);
+        }
+
+        /**
+         * 노드가 서명 트랜잭션을 받지 않고 거부한 실패 (전파되지 않았으므로 다시 서명해 재시도할 수 있음)
+         */
+        public static TransactionResult rejected(UUID transactionId, String walletAddress,
+                                               String networkType, String errorMessage) {
+            return new TransactionResult(transactionId, null, walletAddress, networkType, null, false, errorMessage, null, true);
         }
         
         // Getters
@@ -432,5 +765,8 @@ public class TransactionOrchestrator {
         public String getDescription() { return description; }
         public boolean isSuccess() { return success; }
         public String getErrorMessage() { return errorMessage; }
+        public String getRevertReason() { return revertReason; }
+        public boolean isReverted() { return revertReason != null; }
+        public boolean isRejected() { return rejected; }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 트랜잭션 실행의 블로킹 단계 전용 실행기
+ * nonce 발급(최초 체인 nonce 조회), 트랜잭션 본문 생성(가스/수수료 조회), nonce 정리는 동기 RPC를 포함하므로
+ * 공용 ForkJoinPool 대신 고정 스레드와 제한된 큐에서 실행합니다.
+ * 큐가 가득 차면 호출 스레드가 직접 실행하므로(CallerRuns) 유입 속도가 처리량에 맞춰집니다.
+ */
+@Slf4j
+@Component
+public class TransactionPreparationExecutor implements Executor {
+
+    private final ThreadPoolExecutor executor;
+
+    public TransactionPreparationExecutor(@Value("${blockchain.orchestrator.preparation-threads:8}") int threads,
+                                          @Value("${blockchain.orchestrator.preparation-queue-capacity:256}") int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            Math.max(1, threads),
+            Math.max(1, threads),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            runnable -> {
+                Thread thread = new Thread(runnable, "tx-prepare-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        log.info("Transaction preparation executor started with {} threads (queue capacity {})", threads, queueCapacity);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.exception.NonceTooLowException;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.config.FeeBumpProperties;
+import com.bloominggrace.governance.blockchain.infrastructure.config.TransactionConfirmationProperties;
+import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
+import com.bloominggrace.governance.shared.blockchain.domain.model.ethereum.UnsignedEvmTransaction;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator;
+import com.bloominggrace.governance.shared.blockchain.util.HexQuantity;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 멈춘 트랜잭션 수수료 상향 교체기
+ * 확인 추적기가 보유한 자체 미확인 해시 중 일정 시간 영수증이 없는 트랜잭션을 노드에서 다시 읽어,
+ * 같은 nonce와 상향한 수수료로 재서명/재브로드캐스트하고 교체 체인을 Transaction 기록에 남깁니다.
+ * 앞선 nonce가 멈추면 같은 지갑의 이후 트랜잭션이 모두 막히므로 가장 오래된 트랜잭션부터 풀어줍니다.
+ *
+ * 메트릭: blockchain.tx.replacements, blockchain.tx.replacement.failures
+ */
+@Slf4j
+@Component
+public class StuckTransactionMonitor {
+
+    private static final BigInteger GWEI = BigInteger.TEN.pow(9);
+
+    private final TransactionConfirmationTracker confirmationTracker;
+    private final TransactionConfirmationRecorder recorder;
+    private final TransactionConfirmationProperties confirmationProperties;
+    private final FeeBumpProperties properties;
+    private final BlockchainClientFactory blockchainClientFactory;
+    private final TransactionOrchestrator transactionOrchestrator;
+    private final ObjectMapper objectMapper;
+    private final Counter replacements;
+    private final Counter replacementFailures;
+
+    // 교체 브로드캐스트가 거부된 횟수 (해시별, 다음 시도에서 상향 비율을 키움)
+    private final Map<String, Integer> rejectedAttempts = new ConcurrentHashMap<>();
+
+    public StuckTransactionMonitor(TransactionConfirmationTracker confirmationTracker,
+                                   TransactionConfirmationRecorder recorder,
+                                   TransactionConfirmationProperties confirmationProperties,
+                                   FeeBumpProperties properties,
+                                   BlockchainClientFactory blockchainClientFactory,
+                                   TransactionOrchestrator transactionOrchestrator,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        this.confirmationTracker = confirmationTracker;
+        this.recorder = recorder;
+        this.confirmationProperties = confirmationProperties;
+        this.properties = properties;
+        this.blockchainClientFactory = blockchainClientFactory;
+        this.transactionOrchestrator = transactionOrchestrator;
+        this.objectMapper = objectMapper;
+        this.replacements = Counter.builder("blockchain.tx.replacements")
+            .description("Stuck transactions replaced with a higher fee")
+            .register(meterRegistry);
+        this.replacementFailures = Counter.builder("blockchain.tx.replacement.failures")
+            .description("Fee bump replacements rejected or failed before broadcast")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 멈춘 트랜잭션을 찾아 수수료를 올려 교체합니다.
+     */
+    @Scheduled(initialDelayString = "${blockchain.fee-bump.check-interval-ms:30000}",
+               fixedDelayString = "${blockchain.fee-bump.check-interval-ms:30000}")
+    public void replaceStuckTransactions() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (NetworkType networkType : confirmationProperties.getNetworks()) {
+            List<String> stuck = confirmationTracker.stuckTransactions(networkType, properties.getStuckAfterMs());
+            for (String transactionHash : stuck.subList(0, Math.min(stuck.size(), properties.getMaxPerCycle()))) {
+                try {
+                    replace(networkType, transactionHash);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to replace stuck transaction {} - Network: {}, Error: {}",
+                        transactionHash, networkType, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 멈춘 트랜잭션 하나를 같은 nonce의 상향 수수료 트랜잭션으로 교체합니다.
+     * @return 교체 트랜잭션 해시 (교체하지 않았으면 null)
+     */
+    String replace(NetworkType networkType, String transactionHash) {
+        if (confirmationTracker.replacementCount(networkType, transactionHash) >= properties.getMaxReplacements()) {
+            log.debug("Transaction {} reached the replacement limit", transactionHash);
+            return null;
+        }
+        BlockchainClient client = blockchainClientFactory.getClient(networkType);
+        JsonNode pending = readTree(client.getTransactionByHash(transactionHash));
+        if (pending == null || pending.hasNonNull("blockNumber")) {
+            // 노드에 없으면 드롭 제한 시간으로, 이미 채굴됐으면 확인 깊이로 추적기가 처리합니다.
+            return null;
+        }
+
+        double bumpPercent = properties.effectiveBumpPercent() * (1 + rejectedAttempts.getOrDefault(transactionHash, 0));
+        BigInteger maxFeePerGas = BigInteger.valueOf(properties.getMaxFeePerGasGwei()).multiply(GWEI);
+        UnsignedEvmTransaction replacement = replacementFor(pending, new BigInteger(client.getGasPrice()), bumpPercent, maxFeePerGas);
+        TransactionBody<UnsignedEvmTransaction> transactionBody = TransactionBody.<UnsignedEvmTransaction>builder()
+            .type(TransactionBody.TransactionType.TOKEN_TRANSFER)
+            .fromAddress(replacement.from())
+            .toAddress(replacement.to())
+            .networkType(networkType.name())
+            .networkSpecificData(replacement)
+            .nonce(replacement.nonce().longValueExact())
+            .build();
+
+        String replacementHash;
+        try {
+            replacementHash = transactionOrchestrator.signAndBroadcast(transactionBody, networkType, replacement.from());
+        } catch (NonceTooLowException e) {
+            // 교체 중에 원래(또는 이전 교체) 트랜잭션이 채굴되었습니다.
+            log.info("Transaction {} nonce already used, skipping replacement", transactionHash);
+            return null;
+        } catch (RuntimeException e) {
+            rejectedAttempts.merge(transactionHash, 1, Integer::sum);
+            replacementFailures.increment();
+            throw e;
+        }
+
+        rejectedAttempts.remove(transactionHash);
+        confirmationTracker.replace(networkType, transactionHash, replacementHash);
+        try {
+            recorder.recordReplacement(transactionHash, replacementHash);
+        } catch (RuntimeException e) {
+            log.error("Failed to record replacement {} -> {}: {}", transactionHash, replacementHash, e.getMessage());
+        }
+        replacements.increment();
+        log.info("Replaced stuck transaction {} with {} (nonce {}, bump {}%)",
+            transactionHash, replacementHash, replacement.nonce(), bumpPercent);
+        return replacementHash;
+    }
+
+    /**
+     * 노드가 반환한 대기 중 트랜잭션으로 같은 nonce의 교체 트랜잭션을 만듭니다.
+     * 수수료(EIP-1559는 maxFeePerGas/maxPriorityFeePerGas 모두)를 bumpPercent 이상 올리고,
+     * 현재 네트워크 가스 가격보다 낮지 않게 맞춥니다. 상한을 넘으면 교체하지 않습니다.
+     */
+    static UnsignedEvmTransaction replacementFor(JsonNode pending, BigInteger networkGasPrice,
+                                                 double bumpPercent, BigInteger maxFeePerGas) {
+        long chainId = pending.hasNonNull("chainId")
+            ? HexQuantity.toLong(pending.get("chainId").asText())
+            : EthereumConstants.Network.CHAIN_ID;
+        BigInteger nonce = quantity(pending, "nonce");
+        BigInteger gasLimit = quantity(pending, "gas");
+        BigInteger value = pending.hasNonNull("value") ? quantity(pending, "value") : BigInteger.ZERO;
+        String from = pending.path("from").asText(null);
+        String to = pending.path("to").asText(null);
+        String input = pending.path("input").asText("0x");
+
+        if (pending.hasNonNull("maxFeePerGas")) {
+            BigInteger bumpedMaxFee = bump(quantity(pending, "maxFeePerGas"), bumpPercent).max(networkGasPrice);
+            BigInteger bumpedTip = bump(quantity(pending, "maxPriorityFeePerGas"), bumpPercent);
+            requireWithinCap(bumpedMaxFee, maxFeePerGas);
+            return UnsignedEvmTransaction.of(chainId, nonce, gasLimit, null, bumpedMaxFee, bumpedTip.min(bumpedMaxFee),
+                from, to, value, input);
+        }
+        BigInteger bumpedGasPrice = bump(quantity(pending, "gasPrice"), bumpPercent).max(networkGasPrice);
+        requireWithinCap(bumpedGasPrice, maxFeePerGas);
+        return UnsignedEvmTransaction.of(chainId, nonce, gasLimit, bumpedGasPrice, null, null, from, to, value, input);
+    }
+
+    /**
+     * 값을 bumpPercent 만큼 올림 (올림 처리, 최소 1 wei 증가)
+     */
+    static BigInteger bump(BigInteger fee, double bumpPercent) {
+        BigInteger bumped = new BigDecimal(fee)
+            .multiply(BigDecimal.valueOf(100 + bumpPercent))
+            .divide(BigDecimal.valueOf(100), 0, RoundingMode.CEILING)
+            .toBigInteger();
+        return bumped.max(fee.add(BigInteger.ONE));
+    }
+
+    private static void requireWithinCap(BigInteger fee, BigInteger maxFeePerGas) {
+        if (fee.compareTo(maxFeePerGas) > 0) {
+            throw new IllegalStateException("Replacement fee " + fee + " exceeds cap " + maxFeePerGas);
+        }
+    }
+
+    private static BigInteger quantity(JsonNode node, String field) {
+        if (!node.hasNonNull(field)) {
+            throw new IllegalArgumentException("Pending transaction has no " + field);
+        }
+        return HexQuantity.toBigInteger(node.get(field).asText());
+    }
+
+    private JsonNode readTree(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            log.warn("Failed to parse pending transaction: {}", e.getMessage());
+            return null;
+        }
+    }
+}
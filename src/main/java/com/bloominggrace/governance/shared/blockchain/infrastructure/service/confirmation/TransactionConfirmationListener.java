@@ -0,0 +1,34 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation;
+
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 트랜잭션 체인 확인 결과를 도메인 상태에 반영하는 처리기
+ * 확인 추적기가 Transaction 기록을 일괄 갱신한 같은 DB 트랜잭션 안에서 호출됩니다.
+ */
+public interface TransactionConfirmationListener {
+
+    /**
+     * Transaction 기록 없이 추적해야 하는 미확인 트랜잭션 해시 (재시작 후 추적 목록 복구용)
+     */
+    Collection<String> unconfirmedTransactions(NetworkType networkType);
+
+    /**
+     * 확인 깊이에 도달하고 성공한 트랜잭션
+     */
+    void onConfirmed(Set<String> transactionHashes);
+
+    /**
+     * revert 되었거나 드롭된 트랜잭션
+     */
+    void onFailed(Set<String> transactionHashes);
+
+    /**
+     * 같은 nonce의 수수료 상향 트랜잭션으로 교체된 해시 (교체 전 해시가 채굴되면 반대 방향으로도 호출)
+     */
+    default void onReplaced(String previousHash, String replacementHash) {
+    }
+}
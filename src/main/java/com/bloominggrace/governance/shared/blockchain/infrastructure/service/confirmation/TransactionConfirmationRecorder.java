@@ -0,0 +1,96 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.Transaction;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.repository.TransactionRepository;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 트랜잭션 확인 결과 기록기
+ * Transaction 기록을 일괄 UPDATE로 전이하고 도메인 처리기를 같은 DB 트랜잭션에서 호출합니다.
+ */
+@Slf4j
+@Service
+public class TransactionConfirmationRecorder {
+
+    private final TransactionRepository transactionRepository;
+    private final List<TransactionConfirmationListener> listeners;
+
+    public TransactionConfirmationRecorder(TransactionRepository transactionRepository,
+                                           List<TransactionConfirmationListener> listeners) {
+        this.transactionRepository = transactionRepository;
+        this.listeners = listeners;
+    }
+
+    /**
+     * 확인/실패한 트랜잭션을 기록합니다.
+     * 처리기에서 예외가 나면 전체가 롤백되고 해시는 다음 주기에 다시 처리됩니다.
+     */
+    @Transactional
+    public void record(Set<String> confirmed, Set<String> failed) {
+        if (!confirmed.isEmpty()) {
+            int updated = transactionRepository.updatePendingStatusByTransactionHashes(confirmed, Transaction.TransactionStatus.CONFIRMED);
+            listeners.forEach(listener -> listener.onConfirmed(confirmed));
+            log.info("Confirmed {} transactions ({} records updated)", confirmed.size(), updated);
+        }
+        if (!failed.isEmpty()) {
+            int updated = transactionRepository.updatePendingStatusByTransactionHashes(failed, Transaction.TransactionStatus.FAILED);
+            listeners.forEach(listener -> listener.onFailed(failed));
+            log.warn("Failed {} transactions on chain ({} records updated): {}", failed.size(), updated, failed);
+        }
+    }
+
+    /**
+     * 같은 nonce의 교체 트랜잭션으로 해시가 바뀐 것을 Transaction 기록과 도메인 처리기에 반영합니다.
+     */
+    @Transactional
+    public void recordReplacement(String previousHash, String replacementHash) {
+        transactionRepository.findByTransactionHash(previousHash).ifPresent(transaction -> {
+            if (transaction.getStatus() == Transaction.TransactionStatus.PENDING) {
+                transaction.replace(replacementHash);
+                transactionRepository.save(transaction);
+            }
+        });
+        listeners.forEach(listener -> listener.onReplaced(previousHash, replacementHash));
+        log.info("Replaced transaction {} with {}", previousHash, replacementHash);
+    }
+
+    /**
+     * 교체 이력이 있는 미확인 트랜잭션의 현재 해시 → 교체 전 해시 목록 (재시작 후 교체 체인 복구용)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, List<String>> findReplacementChains(NetworkType networkType) {
+        Map<String, List<String>> chains = new LinkedHashMap<>();
+        for (Transaction transaction : transactionRepository.findSubmittedPending()) {
+            if (transaction.getNetworkType() == networkType && !transaction.getReplacementChain().isEmpty()) {
+                chains.put(transaction.getTransactionHash(), transaction.getReplacementChain());
+            }
+        }
+        return chains;
+    }
+
+    /**
+     * 브로드캐스트되었지만 아직 확인되지 않은 트랜잭션 해시를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findUnconfirmed(NetworkType networkType) {
+        Set<String> transactionHashes = new LinkedHashSet<>();
+        for (Transaction transaction : transactionRepository.findSubmittedPending()) {
+            if (transaction.getNetworkType() == networkType) {
+                transactionHashes.add(transaction.getTransactionHash());
+            }
+        }
+        for (TransactionConfirmationListener listener : listeners) {
+            transactionHashes.addAll(listener.unconfirmedTransactions(networkType));
+        }
+        return transactionHashes;
+    }
+}
@@ -0,0 +1,288 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.config.TransactionConfirmationProperties;
+import com.bloominggrace.governance.blockchain.infrastructure.service.gas.GasLimitModel;
+import com.bloominggrace.governance.shared.blockchain.util.HexQuantity;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 확인 추적기
+ * 네트워크별 미확인 해시 집합을 유지하고, 주기마다 최신 블록 번호와 영수증을 한 번의 배치 호출로 조회해
+ * 확인 깊이에 도달한 트랜잭션을 CONFIRMED/FAILED로 일괄 전이합니다.
+ */
+@Slf4j
+@Component
+public class TransactionConfirmationTracker {
+
+    /**
+     * 영수증 분류 결과
+     */
+    public enum Outcome {
+        CONFIRMED, FAILED, PENDING
+    }
+
+    private final BlockchainClientFactory blockchainClientFactory;
+    private final TransactionConfirmationRecorder recorder;
+    private final TransactionConfirmationProperties properties;
+    private final ObjectMapper objectMapper;
+    private final GasLimitModel gasLimitModel;
+
+    // 네트워크별 미확인 해시 → 추적 시작 시각 (ms)
+    private final Map<NetworkType, Map<String, Long>> unconfirmed = new EnumMap<>(NetworkType.class);
+
+    // 네트워크별 교체된 해시 → 현재(교체) 해시. 교체 전 해시도 먼저 채굴될 수 있으므로 함께 영수증을 조회합니다.
+    private final Map<NetworkType, Map<String, String>> replaced = new EnumMap<>(NetworkType.class);
+
+    // 네트워크별 다음 배치의 시작 위치. 해시가 배치 크기보다 많으면 주기마다 돌아가며 조회합니다.
+    private final Map<NetworkType, AtomicInteger> pollCursors = new EnumMap<>(NetworkType.class);
+
+    public TransactionConfirmationTracker(BlockchainClientFactory blockchainClientFactory,
+                                          TransactionConfirmationRecorder recorder,
+                                          TransactionConfirmationProperties properties,
+                                          ObjectMapper objectMapper,
+                                          GasLimitModel gasLimitModel) {
+        this.blockchainClientFactory = blockchainClientFactory;
+        this.recorder = recorder;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.gasLimitModel = gasLimitModel;
+        for (NetworkType networkType : properties.getNetworks()) {
+            unconfirmed.put(networkType, new ConcurrentHashMap<>());
+            replaced.put(networkType, new ConcurrentHashMap<>());
+            pollCursors.put(networkType, new AtomicInteger());
+        }
+    }
+
+    /**
+     * 브로드캐스트된 트랜잭션을 추적 목록에 추가합니다. 추적 대상이 아닌 네트워크는 무시합니다.
+     */
+    public void track(NetworkType networkType, String transactionHash) {
+        Map<String, Long> hashes = unconfirmed.get(networkType);
+        if (hashes != null && transactionHash != null) {
+            hashes.putIfAbsent(transactionHash, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 영수증으로 확인을 추적하는 네트워크인지 여부
+     */
+    public boolean isTracked(NetworkType networkType) {
+        return unconfirmed.containsKey(networkType);
+    }
+
+    /**
+     * 같은 nonce의 교체 트랜잭션을 추적합니다. 교체 전 해시는 먼저 채굴되는 경우에 대비해 계속 영수증을 조회합니다.
+     */
+    public void replace(NetworkType networkType, String previousHash, String replacementHash) {
+        Map<String, String> previous = replaced.get(networkType);
+        if (previous == null) {
+            return;
+        }
+        track(networkType, replacementHash);
+        previous.replaceAll((hash, current) -> current.equals(previousHash) ? replacementHash : current);
+        previous.put(previousHash, replacementHash);
+    }
+
+    /**
+     * 브로드캐스트(또는 마지막 교체) 후 주어진 시간이 지나도록 확인되지 않은 현재 해시 목록
+     */
+    public List<String> stuckTransactions(NetworkType networkType, long olderThanMs) {
+        Map<String, Long> hashes = unconfirmed.get(networkType);
+        if (hashes == null) {
+            return List.of();
+        }
+        Map<String, String> previous = replaced.get(networkType);
+        long threshold = System.currentTimeMillis() - olderThanMs;
+        List<String> stuck = new ArrayList<>();
+        hashes.forEach((hash, firstSeen) -> {
+            if (firstSeen < threshold && !previous.containsKey(hash)) {
+                stuck.add(hash);
+            }
+        });
+        return stuck;
+    }
+
+    /**
+     * 현재 해시가 교체한 이전 해시 수
+     */
+    public int replacementCount(NetworkType networkType, String transactionHash) {
+        Map<String, String> previous = replaced.get(networkType);
+        if (previous == null) {
+            return 0;
+        }
+        return (int) previous.values().stream().filter(transactionHash::equals).count();
+    }
+
+    /**
+     * 추적 중인 미확인 트랜잭션 수
+     */
+    public int pendingCount(NetworkType networkType) {
+        Map<String, Long> hashes = unconfirmed.get(networkType);
+        return hashes == null ? 0 : hashes.size();
+    }
+
+    /**
+     * 네트워크별로 미확인 영수증을 배치 조회해 확인/실패를 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${blockchain.confirmation.poll-interval-ms:5000}")
+    public void pollReceipts() {
+        for (Map.Entry<NetworkType, Map<String, Long>> entry : unconfirmed.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            try {
+                poll(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                log.warn("Failed to poll transaction receipts - Network: {}, Error: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 재시작이나 다른 인스턴스의 브로드캐스트로 빠진 미확인 트랜잭션을 DB에서 다시 불러옵니다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${blockchain.confirmation.resync-interval-ms:60000}")
+    public void resync() {
+        for (NetworkType networkType : unconfirmed.keySet()) {
+            try {
+                recorder.findUnconfirmed(networkType).forEach(hash -> track(networkType, hash));
+                recorder.findReplacementChains(networkType).forEach((current, chain) ->
+                    chain.forEach(previousHash -> {
+                        track(networkType, previousHash);
+                        replaced.get(networkType).put(previousHash, current);
+                    }));
+            } catch (RuntimeException e) {
+                log.warn("Failed to resync unconfirmed transactions - Network: {}, Error: {}", networkType, e.getMessage());
+            }
+        }
+    }
+
+    void poll(NetworkType networkType, Map<String, Long> hashes) {
+        Map<String, String> previous = replaced.get(networkType);
+        List<String> batch = nextBatch(networkType, hashes);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        BlockchainClient client = blockchainClientFactory.getClient(networkType);
+        long head = Long.parseLong(client.getLatestBlockNumber());
+        Map<String, String> receipts = client.getTransactionReceipts(batch);
+
+        long now = System.currentTimeMillis();
+        Set<String> confirmed = new HashSet<>();
+        Set<String> failed = new HashSet<>();
+        for (String hash : batch) {
+            Long firstSeen = hashes.get(hash);
+            if (firstSeen == null) {
+                // 같은 배치에서 먼저 채굴된 교체 전 해시에 밀려난 해시
+                continue;
+            }
+            long ageMs = now - firstSeen;
+            String current = previous.get(hash);
+            // 교체된 해시는 드롭으로 실패 처리하지 않고, 채굴된 경우에만 현재 해시 대신 결과로 채택합니다.
+            long dropTimeoutMs = current == null ? properties.getDropTimeoutMs() : Long.MAX_VALUE;
+            JsonNode receipt = readReceipt(receipts.get(hash));
+            Outcome outcome = classify(receipt, head, properties.getDepth(), ageMs, dropTimeoutMs);
+            if (outcome == Outcome.PENDING) {
+                continue;
+            }
+            // 확정된 영수증의 gasUsed를 가스 한도 모델에 학습시킵니다.
+            gasLimitModel.observe(hash, receipt);
+            if (current != null) {
+                log.info("Replaced transaction {} was mined instead of {}", hash, current);
+                recorder.recordReplacement(current, hash);
+                hashes.remove(current);
+                previous.remove(hash);
+                previous.replaceAll((older, latest) -> latest.equals(current) ? hash : latest);
+            }
+            if (outcome == Outcome.CONFIRMED) {
+                confirmed.add(hash);
+            } else {
+                failed.add(hash);
+            }
+        }
+        if (confirmed.isEmpty() && failed.isEmpty()) {
+            return;
+        }
+
+        recorder.record(confirmed, failed);
+        confirmed.forEach(hash -> forget(hashes, previous, hash));
+        failed.forEach(hash -> forget(hashes, previous, hash));
+    }
+
+    /**
+     * 이번 주기에 조회할 해시 목록
+     * 앞쪽 해시만 조회하면 확인 깊이를 기다리거나 교체된 해시가 배치를 계속 차지하므로, 지난 배치 다음 위치부터 이어서 고릅니다.
+     */
+    private List<String> nextBatch(NetworkType networkType, Map<String, Long> hashes) {
+        List<String> tracked = new ArrayList<>(hashes.keySet());
+        if (tracked.isEmpty()) {
+            return List.of();
+        }
+        int size = Math.min(tracked.size(), properties.getBatchSize());
+        int start = Math.floorMod(pollCursors.get(networkType).getAndAdd(size), tracked.size());
+        List<String> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(tracked.get((start + i) % tracked.size()));
+        }
+        return batch;
+    }
+
+    /**
+     * 결과가 기록된 해시와 그 해시로 교체되었던 이전 해시들을 추적 목록에서 제거합니다.
+     */
+    private void forget(Map<String, Long> hashes, Map<String, String> previous, String resolvedHash) {
+        hashes.remove(resolvedHash);
+        previous.entrySet().removeIf(entry -> {
+            if (entry.getValue().equals(resolvedHash)) {
+                hashes.remove(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private JsonNode readReceipt(String receiptJson) {
+        if (receiptJson == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(receiptJson);
+        } catch (Exception e) {
+            log.warn("Failed to parse transaction receipt: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 영수증과 최신 블록 번호로 트랜잭션 상태를 분류합니다.
+     * 영수증이 없으면 드롭 제한 시간이 지났을 때만 실패로, 영수증이 있으면 확인 깊이에 도달했을 때 status로 판단합니다.
+     */
+    static Outcome classify(JsonNode receipt, long head, int depth, long ageMs, long dropTimeoutMs) {
+        if (receipt == null || receipt.isNull() || !receipt.hasNonNull("blockNumber")) {
+            return ageMs > dropTimeoutMs ? Outcome.FAILED : Outcome.PENDING;
+        }
+        long blockNumber = HexQuantity.toLong(receipt.get("blockNumber").asText());
+        if (head - blockNumber + 1 < depth) {
+            return Outcome.PENDING;
+        }
+        String status = receipt.path("status").asText("0x1");
+        return HexQuantity.toLong(status) == 1 ? Outcome.CONFIRMED : Outcome.FAILED;
+    }
+}
@@ -1,8 +1,14 @@
 package com.bloominggrace.governance.shared.blockchain.infrastructure.service.ethereum;
 
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
+import com.bloominggrace.governance.shared.blockchain.domain.model.ethereum.UnsignedEvmTransaction;
 import com.bloominggrace.governance.shared.blockchain.domain.service.RawTransactionBuilder;
 import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
 import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.service.ethereum.EthereumFeeOracle;
+import com.bloominggrace.governance.blockchain.infrastructure.service.fee.FeeSpeed;
+import com.bloominggrace.governance.blockchain.infrastructure.service.fee.FeeSuggestion;
+import com.bloominggrace.governance.blockchain.infrastructure.service.gas.GasLimitModel;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,9 +21,12 @@ import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
 
 // Web3j imports
@@ -27,6 +36,7 @@ import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.abi.datatypes.generated.Uint8;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
 
 /**
  * 이더리움 네트워크용 RawTransaction 생성기
@@ -37,6 +47,11 @@ import org.web3j.abi.datatypes.Address;
 public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
 
     private final BlockchainClientFactory blockchainClientFactory;
+    private final EthereumFeeOracle feeOracle;
+    private final GasLimitModel gasLimitModel;
+
+    // 거버넌스 트랜잭션에 사용하는 가스비 등급
+    private static final FeeSpeed DEFAULT_FEE_SPEED = FeeSpeed.STANDARD;
 
     // 블록 생성 평균 시간 (초) — Ethereum 메인넷 기준
     private static final long BLOCK_TIME_SECONDS = 12;
@@ -51,12 +66,12 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
      *   - amount: 전송할 금액 (필수)
      *   - tokenAddress: 토큰 컨트랙트 주소 (ERC-20인 경우)
      *   - nonce: 트랜잭션 nonce (선택, 없으면 자동 조회)
-     *   - gasPrice: 가스 가격 (선택, 없으면 기본값 사용)
+     *   - gasPrice: 가스 가격 (선택, 없으면 가스비 오라클의 제안 사용)
      *   - gasLimit: 가스 한도 (선택, 없으면 자동 추정)
-     * @return JSON 형태의 RawTransaction
+     * @return 서명 전 EVM 트랜잭션 본문
      */
     @Override
-    public String createRawTransaction(Map<String, String> data) {
+    public TransactionBody<UnsignedEvmTransaction> createRawTransaction(Map<String, String> data) {
         try {
             // 1. 필수 파라미터 검증 및 추출
             TransactionParams params = validateAndExtractParams(data);
@@ -76,15 +91,16 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
             // 5. 가스 추정 및 설정
             GasConfig gasConfig = estimateAndConfigureGas(params, txData, txType);
 
-            // 6. 최종 JSON 생성
-            String rawTransactionJson = buildRawTransactionJson(
-                    params, txData, gasConfig, resolvedNonce
+            // 6. 서명 전 트랜잭션 생성
+            TransactionBody<UnsignedEvmTransaction> transactionBody = buildTransactionBody(
+                    TransactionBody.TransactionType.TOKEN_TRANSFER, params.getFromAddress(), txData.getToAddress(),
+                    txData.getValue(), txData.getData(), resolvedNonce, gasConfig
             );
 
             log.info("[EthereumRawTransactionBuilder] Created {} RawTransaction successfully", txType);
-            log.debug("[EthereumRawTransactionBuilder] RawTransaction JSON: {}", rawTransactionJson);
+            log.debug("[EthereumRawTransactionBuilder] RawTransaction: {}", transactionBody.getNetworkSpecificData());
 
-            return rawTransactionJson;
+            return transactionBody;
 
         } catch (Exception e) {
             log.error("[EthereumRawTransactionBuilder] Failed to create RawTransaction", e);
@@ -92,8 +108,48 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
         }
     }
 
+    /**
+     * 멀티센드 RawTransaction 생성
+     * Disperse 호환 disperseToken(address token, address[] recipients, uint256[] values)를 호출합니다.
+     */
+    @Override
+    public TransactionBody<UnsignedEvmTransaction> createMultiTransferRawTransaction(
+            String fromAddress,
+            String multisendContract,
+            String tokenAddress,
+            Map<String, BigDecimal> transfers,
+            String nonce) {
+        try {
+            if (transfers == null || transfers.isEmpty()) {
+                throw new IllegalArgumentException("At least one transfer is required");
+            }
+            log.info("[EthereumRawTransactionBuilder] Creating Multi-Transfer RawTransaction - From: {}, Recipients: {}, Token: {}",
+                    fromAddress, transfers.size(), tokenAddress);
+
+            String resolvedNonce = resolveNonce(fromAddress, nonce);
+            String functionData = createDisperseTokenFunctionData(tokenAddress, transfers);
+
+            BigInteger gasLimit = gasLimitModel.gasLimit(fromAddress, multisendContract, functionData,
+                    EthereumConstants.Gas.MULTI_TRANSFER_BASE_GAS_LIMIT.add(
+                            EthereumConstants.Gas.MULTI_TRANSFER_GAS_PER_RECIPIENT.multiply(BigInteger.valueOf(transfers.size()))));
+            GasConfig gasConfig = resolveGasConfig(null, gasLimit);
+            BigInteger value = BigInteger.ZERO;
+
+            TransactionBody<UnsignedEvmTransaction> transactionBody = buildTransactionBody(
+                    TransactionBody.TransactionType.TOKEN_TRANSFER, fromAddress, multisendContract, value, functionData, resolvedNonce, gasConfig
+            );
+
+            log.info("[EthereumRawTransactionBuilder] Created Multi-Transfer RawTransaction for {} recipients", transfers.size());
+            return transactionBody;
+
+        } catch (Exception e) {
+            log.error("[EthereumRawTransactionBuilder] Failed to create Multi-Transfer RawTransaction", e);
+            throw new RuntimeException("Failed to create Multi-Transfer RawTransaction: " + e.getMessage(), e);
+        }
+    }
+
     @Override
-    public String createProposalCreationRawTransaction(
+    public TransactionBody<UnsignedEvmTransaction> createProposalCreationRawTransaction(
             UUID proposalId,
             String title,
             String description,
@@ -155,18 +211,18 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
             String functionData = createProposeFunctionData(title, description, startBlock.add(BigInteger.valueOf(6)), endBlock);
 
                     // 7. RawTransaction 생성
-            BigInteger gasPrice = EthereumConstants.Gas.GAS_PRICE;
-            BigInteger gasLimit = EthereumConstants.Gas.PROPOSAL_CREATION_GAS_LIMIT;
+            BigInteger gasLimit = gasLimitModel.gasLimit(walletAddress, governanceContractAddress, functionData,
+                    EthereumConstants.Gas.PROPOSAL_CREATION_GAS_LIMIT);
+            GasConfig gasConfig = resolveGasConfig(null, gasLimit);
             BigInteger value = BigInteger.ZERO; // propose() 함수는 value가 0
 
-            // 8. RawTransaction을 JSON 형태로 반환 (기존 인터페이스 유지)
-            String rawTransactionJson = String.format(
-                    "{\"fromAddress\":\"%s\",\"toAddress\":\"%s\",\"data\":\"%s\",\"value\":\"%s\",\"nonce\":\"%s\",\"gasPrice\":\"%s\",\"gasLimit\":\"%s\"}",
-                    walletAddress, governanceContractAddress, functionData, value.toString(), nonce, gasPrice.toString(), gasLimit.toString()
+            // 8. 서명 전 트랜잭션 반환 (제목/설명은 ABI 인코딩된 호출 데이터로만 전달)
+            TransactionBody<UnsignedEvmTransaction> transactionBody = buildTransactionBody(
+                    TransactionBody.TransactionType.PROPOSAL_CREATE, walletAddress, governanceContractAddress, value, functionData, nonce, gasConfig
             );
 
-            log.info("[EthereumRawTransactionBuilder] Created Proposal Creation RawTransaction JSON: {}", rawTransactionJson);
-            return rawTransactionJson;
+            log.info("[EthereumRawTransactionBuilder] Created Proposal Creation RawTransaction: {}", transactionBody.getNetworkSpecificData());
+            return transactionBody;
 
         } catch (Exception e) {
             log.error("[EthereumRawTransactionBuilder] Failed to create Proposal Creation RawTransaction", e);
@@ -176,7 +232,7 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
 
 
     @Override
-    public String createVoteRawTransaction(
+    public TransactionBody<UnsignedEvmTransaction> createVoteRawTransaction(
             BigInteger proposalCount,
             UUID proposalId,
             String walletAddress,
@@ -203,18 +259,18 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
             String functionData = createVoteFunctionData(proposalCount, voteType);
 
                     // 4. RawTransaction 생성
-        BigInteger gasPrice = EthereumConstants.Gas.GAS_PRICE;
-        BigInteger gasLimit = EthereumConstants.Gas.VOTE_GAS_LIMIT;
+        BigInteger gasLimit = gasLimitModel.gasLimit(walletAddress, governanceContractAddress, functionData,
+                EthereumConstants.Gas.VOTE_GAS_LIMIT);
+        GasConfig gasConfig = resolveGasConfig(null, gasLimit);
             BigInteger value = BigInteger.ZERO; // 투표는 value가 0
 
-            // 5. JSON 형태로 반환
-            String rawTransactionJson = String.format(
-                    "{\"fromAddress\":\"%s\",\"toAddress\":\"%s\",\"data\":\"%s\",\"value\":\"%s\",\"nonce\":\"%s\",\"gasPrice\":\"%s\",\"gasLimit\":\"%s\"}",
-                    walletAddress, governanceContractAddress, functionData, value.toString(), nonce, gasPrice.toString(), gasLimit.toString()
+            // 5. 서명 전 트랜잭션 반환
+            TransactionBody<UnsignedEvmTransaction> transactionBody = buildTransactionBody(
+                    TransactionBody.TransactionType.PROPOSAL_VOTE, walletAddress, governanceContractAddress, value, functionData, nonce, gasConfig
             );
 
-            log.info("[EthereumRawTransactionBuilder] Created Vote RawTransaction: {}", rawTransactionJson);
-            return rawTransactionJson;
+            log.info("[EthereumRawTransactionBuilder] Created Vote RawTransaction: {}", transactionBody.getNetworkSpecificData());
+            return transactionBody;
 
         } catch (Exception e) {
             log.error("[EthereumRawTransactionBuilder] Failed to create Vote RawTransaction", e);
@@ -223,27 +279,31 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
     }
 
     /**
-     * 투표권 위임을 위한 RawTransaction JSON 생성
+     * 투표권 위임을 위한 RawTransaction 생성
      *
      * @param delegatorWalletAddress 위임하는 지갑 주소
      * @param delegateeWalletAddress 위임받는 지갑 주소
      * @param networkType 네트워크 타입
-     * @return RawTransaction JSON 문자열
+     * @param nonce 트랜잭션 nonce (없으면 블록체인에서 조회)
+     * @return 서명 전 EVM 트랜잭션 본문
      */
     @Override
-    public String createDelegationRawTransaction(
+    public TransactionBody<UnsignedEvmTransaction> createDelegationRawTransaction(
             String delegatorWalletAddress,
             String delegateeWalletAddress,
-            NetworkType networkType) {
+            NetworkType networkType,
+            String nonce) {
 
         try {
             log.info("[EthereumRawTransactionBuilder] Creating Delegation RawTransaction - Delegator: {}, Delegatee: {}, Network: {}",
                     delegatorWalletAddress, delegateeWalletAddress, networkType);
 
-            // 1. nonce 조회
-            BlockchainClient blockchainClient = blockchainClientFactory.getClient(NetworkType.ETHEREUM);
-            String nonce = blockchainClient.getNonce(delegatorWalletAddress);
-            log.info("[EthereumRawTransactionBuilder] Got nonce for {}: {}", delegatorWalletAddress, nonce);
+            // 1. nonce가 제공되지 않은 경우 블록체인에서 조회
+            if (nonce == null || nonce.isEmpty()) {
+                BlockchainClient blockchainClient = blockchainClientFactory.getClient(NetworkType.ETHEREUM);
+                nonce = blockchainClient.getNonce(delegatorWalletAddress);
+                log.info("[EthereumRawTransactionBuilder] Got nonce for {}: {}", delegatorWalletAddress, nonce);
+            }
 
                     // 2. 거버넌스 토큰 컨트랙트 주소 가져오기
         String tokenContractAddress = EthereumConstants.Contracts.ERC20_CONTRACT_ADDRESS;
@@ -252,18 +312,18 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
             String functionData = createDelegateFunctionData(delegateeWalletAddress);
 
                     // 4. RawTransaction 생성
-        BigInteger gasPrice = EthereumConstants.Gas.GAS_PRICE;
-        BigInteger gasLimit = EthereumConstants.Gas.GAS_LIMIT;
+        BigInteger gasLimit = gasLimitModel.gasLimit(delegatorWalletAddress, tokenContractAddress, functionData,
+                EthereumConstants.Gas.TRANSFER_DELEGATE_GAS_LIMIT);
+        GasConfig gasConfig = resolveGasConfig(null, gasLimit);
             BigInteger value = BigInteger.ZERO; // 위임은 value가 0
 
-            // 5. RawTransaction을 JSON 형태로 반환
-            String rawTransactionJson = String.format(
-                    "{\"fromAddress\":\"%s\",\"toAddress\":\"%s\",\"data\":\"%s\",\"value\":\"%s\",\"nonce\":\"%s\",\"gasPrice\":\"%s\",\"gasLimit\":\"%s\"}",
-                    delegatorWalletAddress, tokenContractAddress, functionData, value.toString(), nonce, gasPrice.toString(), gasLimit.toString()
+            // 5. 서명 전 트랜잭션 반환
+            TransactionBody<UnsignedEvmTransaction> transactionBody = buildTransactionBody(
+                    TransactionBody.TransactionType.TOKEN_TRANSFER, delegatorWalletAddress, tokenContractAddress, value, functionData, nonce, gasConfig
             );
 
-            log.info("[EthereumRawTransactionBuilder] Created Delegation RawTransaction JSON: {}", rawTransactionJson);
-            return rawTransactionJson;
+            log.info("[EthereumRawTransactionBuilder] Created Delegation RawTransaction: {}", transactionBody.getNetworkSpecificData());
+            return transactionBody;
 
         } catch (Exception e) {
             log.error("[EthereumRawTransactionBuilder] Failed to create Delegation RawTransaction", e);
@@ -449,33 +509,60 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
      * 가스 추정 및 설정
      */
     private GasConfig estimateAndConfigureGas(TransactionParams params, TransactionData txData, TransactionType txType) {
-        BigInteger gasPrice = EthereumConstants.Gas.GAS_PRICE;
         BigInteger gasLimit = resolveGasLimit(params, txData, txType);
-
-        return GasConfig.builder()
-                .gasPrice(gasPrice)
-                .gasLimit(gasLimit)
-                .build();
+        return resolveGasConfig(params.getGasPrice(), gasLimit);
     }
 
     /**
      * 가스 가격 결정
+     * 요청에 가스 가격이 있으면 레거시 트랜잭션으로 그대로 사용하고,
+     * 없으면 가스비 오라클의 메모리 샘플을 사용합니다 (RPC 호출 없음).
+     * 오라클 샘플이 아직 없거나 오래된 경우에만 기본 가스 가격을 사용합니다.
      */
-    private BigInteger resolveGasPrice(String providedGasPrice) {
+    private GasConfig resolveGasConfig(String providedGasPrice, BigInteger gasLimit) {
         if (providedGasPrice != null && !providedGasPrice.trim().isEmpty()) {
-            return new BigInteger(providedGasPrice.trim());
+            return GasConfig.builder()
+                    .gasPrice(new BigInteger(providedGasPrice.trim()))
+                    .gasLimit(gasLimit)
+                    .build();
+        }
+
+        Optional<FeeSuggestion> suggestion = feeOracle.current();
+        if (suggestion.isEmpty()) {
+            log.warn("[EthereumRawTransactionBuilder] No fee suggestion available, using default gas price");
+            return GasConfig.builder()
+                    .gasPrice(EthereumConstants.Gas.GAS_PRICE)
+                    .gasLimit(gasLimit)
+                    .build();
         }
 
-        // 기본 가스 가격 사용 또는 네트워크에서 조회
-        return EthereumConstants.Gas.GAS_PRICE;
+        FeeSuggestion fees = suggestion.get();
+        if (!fees.isEip1559()) {
+            return GasConfig.builder()
+                    .gasPrice(fees.gasPrice())
+                    .gasLimit(gasLimit)
+                    .build();
+        }
+        FeeSuggestion.Tier tier = fees.tier(DEFAULT_FEE_SPEED);
+        return GasConfig.builder()
+                .gasPrice(fees.gasPrice())
+                .maxFeePerGas(tier.maxFeePerGas())
+                .maxPriorityFeePerGas(tier.maxPriorityFeePerGas())
+                .gasLimit(gasLimit)
+                .build();
     }
 
     /**
      * 가스 한도 결정
+     * 요청에 가스 한도가 있으면 그대로 사용하고, ERC-20 전송은 가스 한도 모델(영수증 학습값 / 캐시된 추정값)을 사용합니다.
      */
     private BigInteger resolveGasLimit(TransactionParams params, TransactionData txData, TransactionType txType) {
+        if (params.getGasLimit() != null && !params.getGasLimit().trim().isEmpty()) {
+            return new BigInteger(params.getGasLimit().trim());
+        }
         if(txType == TransactionType.ERC20_TRANSFER) {
-            return EthereumConstants.Gas.TRANSFER_DELEGATE_GAS_LIMIT;
+            return gasLimitModel.gasLimit(params.getFromAddress(), txData.getToAddress(), txData.getData(),
+                    EthereumConstants.Gas.TRANSFER_DELEGATE_GAS_LIMIT);
         } else {
             return EthereumConstants.Gas.GAS_LIMIT;
         }
@@ -483,24 +570,32 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
 
 
     /**
-     * 최종 RawTransaction JSON 생성
+     * 서명 전 EVM 트랜잭션과 이를 담은 트랜잭션 본문 생성
      */
-    private String buildRawTransactionJson(TransactionParams params, TransactionData txData,
-                                           GasConfig gasConfig, String nonce) {
-        return String.format(
-                "{\"fromAddress\":\"%s\",\"toAddress\":\"%s\",\"value\":\"%s\",\"data\":\"%s\"," +
-                        "\"nonce\":\"%s\",\"gasPrice\":\"%s\",\"gasLimit\":\"%s\",\"amount\":\"%s\"," +
-                        "\"tokenAddress\":\"%s\"}",
-                params.getFromAddress(),
-                txData.getToAddress(),
-                txData.getValue().toString(),
-                txData.getData(),
-                nonce,
-                gasConfig.getGasPrice().toString(),
-                gasConfig.getGasLimit().toString(),
-                params.getAmount(),
-                params.getTokenAddress() != null ? params.getTokenAddress() : ""
+    private TransactionBody<UnsignedEvmTransaction> buildTransactionBody(TransactionBody.TransactionType type,
+                                                                        String fromAddress, String toAddress,
+                                                                        BigInteger value, String functionData,
+                                                                        String nonce, GasConfig gasConfig) {
+        UnsignedEvmTransaction transaction = UnsignedEvmTransaction.of(
+                EthereumConstants.Network.CHAIN_ID,
+                new BigInteger(nonce),
+                gasConfig.getGasLimit(),
+                gasConfig.getGasPrice(),
+                gasConfig.getMaxFeePerGas(),
+                gasConfig.getMaxPriorityFeePerGas(),
+                fromAddress,
+                toAddress,
+                value,
+                functionData
         );
+        return TransactionBody.<UnsignedEvmTransaction>builder()
+                .type(type)
+                .fromAddress(fromAddress)
+                .toAddress(toAddress)
+                .networkType(NetworkType.ETHEREUM.name())
+                .networkSpecificData(transaction)
+                .nonce(transaction.nonce().longValueExact())
+                .build();
     }
 
     /**
@@ -508,6 +603,27 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
      * delegate(address delegatee)
      * Method ID: 0x5c19a95c
      */
+    private String createDisperseTokenFunctionData(String tokenAddress, Map<String, BigDecimal> transfers) {
+        List<Address> recipients = new ArrayList<>(transfers.size());
+        List<Uint256> values = new ArrayList<>(transfers.size());
+        transfers.forEach((recipient, amount) -> {
+            recipients.add(new Address(recipient));
+            // 금액을 18 decimal로 변환 (단건 ERC-20 전송과 동일)
+            values.add(new Uint256(amount.multiply(BigDecimal.valueOf(1e18)).toBigInteger()));
+        });
+
+        Function disperseFunction = new Function(
+                "disperseToken",
+                Arrays.asList(
+                        new Address(tokenAddress),
+                        new DynamicArray<>(Address.class, recipients),
+                        new DynamicArray<>(Uint256.class, values)
+                ),
+                Collections.emptyList()
+        );
+        return FunctionEncoder.encode(disperseFunction);
+    }
+
     private String createDelegateFunctionData(String delegateeWalletAddress) {
         try {
             // delegate 함수 시그니처: delegate(address delegatee)
@@ -648,6 +764,8 @@ public class EthereumRawTransactionBuilder implements RawTransactionBuilder {
     @Data
     private static class GasConfig {
         private final BigInteger gasPrice;
+        private final BigInteger maxFeePerGas;
+        private final BigInteger maxPriorityFeePerGas;
         private final BigInteger gasLimit;
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.nonce;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 주소 하나의 nonce 할당기
+ * 생성 시 체인의 pending nonce로 한 번 초기화하고, 이후에는 AtomicLong 카운터로 락 없이 nonce를 발급합니다.
+ * 브로드캐스트 전에 실패해 반납된 nonce는 다음 할당에서 가장 작은 것부터 재사용합니다.
+ */
+@Slf4j
+class AddressNonceAllocator {
+
+    private final String address;
+    private final LongSupplier chainNonceSource;
+    private final AtomicLong next;
+    private final ConcurrentSkipListSet<Long> released = new ConcurrentSkipListSet<>();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 직전 점검에서 발견한 빈 nonce (연속 두 번 발견되어야 복구)
+     */
+    private volatile long suspectedGap = -1;
+
+    AddressNonceAllocator(String address, LongSupplier chainNonceSource) {
+        this(address, chainNonceSource.getAsLong(), chainNonceSource);
+    }
+
+    /**
+     * 이미 조회한 체인 nonce로 초기화합니다.
+     */
+    AddressNonceAllocator(String address, long initialNonce, LongSupplier chainNonceSource) {
+        this.address = address;
+        this.chainNonceSource = chainNonceSource;
+        this.next = new AtomicLong(initialNonce);
+    }
+
+    /**
+     * nonce를 발급합니다. 반납된 nonce가 있으면 먼저 재사용합니다.
+     */
+    long allocate() {
+        Long reused = released.pollFirst();
+        long nonce = reused != null ? reused : next.getAndIncrement();
+        inFlight.add(nonce);
+        return nonce;
+    }
+
+    /**
+     * 브로드캐스트를 시도한 nonce를 완료 처리합니다.
+     * 노드가 실제로 받았는지 알 수 없는 실패도 여기에 해당하며, 받지 않았다면 빈 nonce 점검에서 복구됩니다.
+     */
+    void confirm(long nonce) {
+        inFlight.remove(nonce);
+    }
+
+    /**
+     * 브로드캐스트 전에 실패한 nonce를 반납합니다.
+     * 마지막으로 발급한 nonce면 카운터를 되돌리고, 아니면 다음 할당에서 재사용합니다.
+     */
+    void release(long nonce) {
+        inFlight.remove(nonce);
+        if (!next.compareAndSet(nonce + 1, nonce)) {
+            released.add(nonce);
+        }
+    }
+
+    /**
+     * 체인의 pending nonce로 다시 동기화합니다 ("nonce too low" 응답 시).
+     * 카운터는 뒤로 가지 않으며, 체인에서 이미 사용된 반납 nonce는 버립니다.
+     * @return 동기화 후 다음 nonce
+     */
+    long resync() {
+        long chainNonce = chainNonceSource.getAsLong();
+        released.headSet(chainNonce).clear();
+        long updated = next.accumulateAndGet(chainNonce, Math::max);
+        log.info("[NonceManager] Resynced {} - chain: {}, next: {}", address, chainNonce, updated);
+        return updated;
+    }
+
+    /**
+     * 빈 nonce를 점검하고 복구합니다.
+     * 체인의 pending nonce가 로컬 카운터보다 작고 그 nonce가 발급 중이 아니면, 해당 nonce의 트랜잭션이 멤풀에 없어
+     * 이후 트랜잭션이 모두 막힌 상태입니다. 같은 빈 nonce가 연속 두 번 관측되면 반납 목록에 넣어 다음 할당이 채우게 합니다.
+     * @return 빈 nonce를 복구했는지 여부
+     */
+    boolean repairGaps() {
+        long chainNonce = chainNonceSource.getAsLong();
+        released.headSet(chainNonce).clear();
+        long current = next.get();
+
+        if (chainNonce > current) {
+            // 다른 곳에서 같은 주소로 보낸 트랜잭션이 있는 경우
+            next.accumulateAndGet(chainNonce, Math::max);
+            suspectedGap = -1;
+            return false;
+        }
+        if (chainNonce == current || inFlight.contains(chainNonce) || released.contains(chainNonce)) {
+            suspectedGap = -1;
+            return false;
+        }
+        if (suspectedGap != chainNonce) {
+            // 다른 엔드포인트가 아직 트랜잭션을 보지 못했을 수 있으므로 한 번 더 관측한 뒤 복구
+            suspectedGap = chainNonce;
+            return false;
+        }
+        suspectedGap = -1;
+        released.add(chainNonce);
+        log.warn("[NonceManager] Nonce gap detected for {} at {} (next: {}), reusing it for the next transaction",
+            address, chainNonce, current);
+        return true;
+    }
+
+    long peekNext() {
+        return next.get();
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,93 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.nonce;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.service.AsyncBlockchainClient;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 주소별 로컬 nonce 관리자
+ * 주소마다 체인에서 한 번만 nonce를 조회하고, 이후에는 메모리 카운터로 발급해 같은 지갑의 동시 트랜잭션이 서로 충돌하지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class NonceManager {
+
+    private final BlockchainClientFactory blockchainClientFactory;
+    private final Map<String, AddressNonceAllocator> allocators = new ConcurrentHashMap<>();
+
+    public NonceManager(BlockchainClientFactory blockchainClientFactory) {
+        this.blockchainClientFactory = blockchainClientFactory;
+    }
+
+    /**
+     * 다음 nonce를 발급합니다.
+     * 발급받은 nonce는 브로드캐스트 후 confirm, 브로드캐스트 전 실패 시 release를 반드시 호출해야 합니다.
+     */
+    public long allocate(NetworkType networkType, String address) {
+        return allocator(networkType, address).allocate();
+    }
+
+    public void confirm(NetworkType networkType, String address, long nonce) {
+        allocator(networkType, address).confirm(nonce);
+    }
+
+    public void release(NetworkType networkType, String address, long nonce) {
+        allocator(networkType, address).release(nonce);
+    }
+
+    /**
+     * 체인의 pending nonce로 다시 동기화합니다.
+     */
+    public long resync(NetworkType networkType, String address) {
+        return allocator(networkType, address).resync();
+    }
+
+    /**
+     * 관리 중인 모든 주소의 빈 nonce를 점검합니다.
+     */
+    @Scheduled(fixedDelayString = "${blockchain.nonce.gap-check-interval-ms:30000}")
+    public void repairGaps() {
+        allocators.forEach((key, allocator) -> {
+            try {
+                allocator.repairGaps();
+            } catch (Exception e) {
+                log.warn("[NonceManager] Gap check failed for {}: {}", key, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 주소의 할당기를 반환합니다.
+     * 체인 nonce 조회(RPC)는 맵 잠금 밖에서 수행하고, 동시에 처음 요청한 스레드 중 먼저 등록한 할당기를 사용합니다.
+     */
+    private AddressNonceAllocator allocator(NetworkType networkType, String address) {
+        String normalized = address.toLowerCase(Locale.ROOT);
+        String key = networkType + ":" + normalized;
+        AddressNonceAllocator allocator = allocators.get(key);
+        if (allocator != null) {
+            return allocator;
+        }
+        LongSupplier chainNonceSource = () -> fetchChainNonce(networkType, address);
+        AddressNonceAllocator created = new AddressNonceAllocator(normalized, chainNonceSource.getAsLong(), chainNonceSource);
+        AddressNonceAllocator existing = allocators.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * 체인의 pending nonce를 조회합니다.
+     * 동기 클라이언트는 오류 시 "0"을 반환해 실제 nonce와 구분할 수 없으므로, 오류를 예외로 전달하는 비동기 클라이언트만 사용합니다.
+     */
+    private long fetchChainNonce(NetworkType networkType, String address) {
+        AsyncBlockchainClient asyncClient = blockchainClientFactory.getAsyncClient(networkType)
+            .orElseThrow(() -> new IllegalStateException("Chain nonce lookup is not supported for network: " + networkType));
+        return Long.parseLong(asyncClient.getNonce(address).join());
+    }
+}
@@ -0,0 +1,87 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntentType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 아웃박스 의도별 실행 파라미터 (JSON으로 payload 컬럼에 저장)
+ * 발신 주소와 네트워크는 TransactionIntent 컬럼에 따로 저장합니다.
+ */
+public final class OutboxPayloads {
+
+    private OutboxPayloads() {
+    }
+
+    public interface Payload {
+        @JsonIgnore
+        TransactionIntentType intentType();
+    }
+
+    /**
+     * TransactionOrchestrator.executeTransfer 파라미터
+     */
+    public record Transfer(
+        String toAddress,
+        BigDecimal amount,
+        String tokenContract
+    ) implements Payload {
+        @Override
+        public TransactionIntentType intentType() {
+            return TransactionIntentType.TRANSFER;
+        }
+    }
+
+    /**
+     * TransactionOrchestrator.executeMultiTransfer 파라미터 (수신 주소별 토큰 금액, 순서 유지)
+     */
+    public record MultiTransfer(
+        String tokenContract,
+        String multisendContract,
+        Map<String, BigDecimal> transfers
+    ) implements Payload {
+        @Override
+        public TransactionIntentType intentType() {
+            return TransactionIntentType.MULTI_TRANSFER;
+        }
+    }
+
+    /**
+     * TransactionOrchestrator.executeProposalCreation 파라미터
+     */
+    public record ProposalCreation(
+        UUID proposalId,
+        String title,
+        String description,
+        BigDecimal proposalFee,
+        LocalDateTime votingStartDate,
+        LocalDateTime votingEndDate,
+        BigDecimal requiredQuorum
+    ) implements Payload {
+        @Override
+        public TransactionIntentType intentType() {
+            return TransactionIntentType.PROPOSAL_CREATION;
+        }
+    }
+
+    /**
+     * TransactionOrchestrator.executeVoteCreation 파라미터
+     */
+    public record VoteCreation(
+        BigInteger proposalCount,
+        UUID proposalId,
+        String voteType,
+        BigDecimal votingPower,
+        String reason
+    ) implements Payload {
+        @Override
+        public TransactionIntentType intentType() {
+            return TransactionIntentType.VOTE_CREATION;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+
+/**
+ * 아웃박스 의도 완료 후속 처리기
+ * 의도의 referenceType을 담당하는 도메인이 구현합니다. 예외는 브로드캐스터가 기록만 하고 삼킵니다.
+ */
+public interface TransactionIntentListener {
+
+    boolean supports(String referenceType);
+
+    /**
+     * 브로드캐스트 성공 (intent.getTransactionHash()에 해시가 설정됨)
+     */
+    void onSent(TransactionIntent intent);
+
+    /**
+     * 최대 시도 횟수 초과로 최종 실패 (intent.getLastError()에 사유가 설정됨)
+     */
+    void onFailed(TransactionIntent intent);
+}
@@ -0,0 +1,223 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.Transaction;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.repository.TransactionIntentRepository;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.repository.TransactionRepository;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator.SignedTransaction;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 아웃박스
+ * 요청 스레드는 enqueue로 의도만 기록하고 즉시 추적 ID를 반환하며,
+ * TransactionOutboxBroadcaster가 claimDue → markSent/markRetry/markFailed 순서로 상태를 전이합니다.
+ */
+@Slf4j
+@Service
+public class TransactionOutbox {
+
+    private static final List<TransactionIntent.Status> ACTIVE_STATUSES =
+        List.of(TransactionIntent.Status.PENDING, TransactionIntent.Status.PROCESSING);
+
+    private final TransactionIntentRepository intentRepository;
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+
+    public TransactionOutbox(TransactionIntentRepository intentRepository,
+                             TransactionRepository transactionRepository,
+                             ObjectMapper objectMapper) {
+        this.intentRepository = intentRepository;
+        this.transactionRepository = transactionRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * PENDING 상태의 Transaction 기록과 실행 의도를 저장하고 추적 ID를 반환합니다.
+     * 호출자의 DB 트랜잭션에 참여하므로 도메인 상태 변경과 함께 커밋됩니다.
+     */
+    @Transactional
+    public UUID enqueue(Transaction record, OutboxPayloads.Payload payload, String referenceType, String referenceId) {
+        Transaction savedRecord = transactionRepository.save(record);
+        TransactionIntent intent = new TransactionIntent(
+            payload.intentType(),
+            savedRecord.getNetworkType(),
+            savedRecord.getFromAddress(),
+            toJson(payload),
+            referenceType,
+            referenceId,
+            savedRecord.getId()
+        );
+        intentRepository.save(intent);
+        log.info("Transaction intent enqueued - TrackingId: {}, Type: {}, Reference: {}:{}",
+            intent.getId(), intent.getIntentType(), referenceType, referenceId);
+        return intent.getId();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TransactionIntent> findIntent(UUID trackingId) {
+        return intentRepository.findById(trackingId);
+    }
+
+    /**
+     * 발신 주소(소문자)별 아직 브로드캐스트되지 않은 의도 수 (다른 인스턴스가 기록한 의도 포함)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> countActiveIntentsByFromAddress(NetworkType networkType) {
+        Map<String, Long> counts = new HashMap<>();
+        for (TransactionIntentRepository.FromAddressCount count : intentRepository.countByFromAddress(networkType, ACTIVE_STATUSES)) {
+            counts.merge(count.getFromAddress().toLowerCase(Locale.ROOT), count.getIntents(), Long::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * 같은 대상에 대해 아직 완료되지 않은 의도가 있는지 확인합니다 (중복 요청 방지).
+     */
+    @Transactional(readOnly = true)
+    public boolean hasActiveIntent(String referenceType, String referenceId) {
+        return intentRepository.existsByReferenceTypeAndReferenceIdAndStatusIn(referenceType, referenceId, ACTIVE_STATUSES);
+    }
+
+    /**
+     * 처리 시각이 도래한 의도를 최대 limit개 점유합니다.
+     * 점유가 만료된 의도를 먼저 회수하고, 조건부 갱신에 성공한 행만 반환합니다.
+     */
+    @Transactional
+    public List<TransactionIntent> claimDue(int limit, Duration lockDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        int released = intentRepository.releaseExpiredLocks(
+            TransactionIntent.Status.PENDING, TransactionIntent.Status.PROCESSING, now);
+        if (released > 0) {
+            log.warn("Released {} transaction intents with expired locks", released);
+        }
+
+        List<TransactionIntent> candidates = intentRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByCreatedAtAsc(
+            TransactionIntent.Status.PENDING, now, PageRequest.of(0, limit));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime lockedUntil = now.plus(lockDuration);
+        List<UUID> claimedIds = new ArrayList<>(candidates.size());
+        for (TransactionIntent candidate : candidates) {
+            if (intentRepository.claim(candidate.getId(),
+                    TransactionIntent.Status.PENDING, TransactionIntent.Status.PROCESSING, lockedUntil, now) == 1) {
+                claimedIds.add(candidate.getId());
+            }
+        }
+        return claimedIds.isEmpty() ? List.of() : intentRepository.findAllById(claimedIds);
+    }
+
+    /**
+     * 브로드캐스트 직전에 서명 트랜잭션을 저장합니다. 브로드캐스트 전에 커밋되어야 하므로 항상 새 트랜잭션으로 실행합니다.
+     * @param attempts 점유 시점의 시도 횟수 (다른 워커가 다시 점유했다면 저장하지 않음)
+     * @return 저장에 성공하면 true, 점유를 잃었거나 이미 서명이 저장되어 있으면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean recordSigned(UUID trackingId, int attempts, SignedTransaction signed) {
+        int updated = intentRepository.recordSigned(trackingId, TransactionIntent.Status.PROCESSING, attempts,
+            signed.rawTransaction(), signed.transactionHash(), signed.nonce(), LocalDateTime.now());
+        if (updated == 1) {
+            log.info("Signed transaction recorded - TrackingId: {}, Nonce: {}, Hash: {}",
+                trackingId, signed.nonce(), signed.transactionHash());
+        }
+        return updated == 1;
+    }
+
+    /**
+     * 브로드캐스트 성공 처리 (연결된 Transaction 기록에 해시를 설정, 확인은 TransactionConfirmationTracker가 수행)
+     */
+    @Transactional
+    public TransactionIntent markSent(UUID trackingId, String transactionHash) {
+        TransactionIntent intent = getIntent(trackingId);
+        intent.markSent(transactionHash);
+        findPendingRecord(intent).ifPresent(record -> {
+            record.submit(transactionHash);
+            transactionRepository.save(record);
+        });
+        return intentRepository.save(intent);
+    }
+
+    /**
+     * 실패한 시도를 기록하고 nextAttemptAt 이후 재시도하도록 되돌립니다.
+     */
+    @Transactional
+    public TransactionIntent markRetry(UUID trackingId, String error, LocalDateTime nextAttemptAt) {
+        TransactionIntent intent = getIntent(trackingId);
+        intent.scheduleRetry(error, nextAttemptAt);
+        return intentRepository.save(intent);
+    }
+
+    /**
+     * 노드가 거부한 서명 트랜잭션을 지우고 nextAttemptAt 이후 다시 서명해 재시도하도록 되돌립니다.
+     */
+    @Transactional
+    public TransactionIntent markRejected(UUID trackingId, String error, LocalDateTime nextAttemptAt) {
+        TransactionIntent intent = getIntent(trackingId);
+        intent.discardSignedTransaction(error, nextAttemptAt);
+        return intentRepository.save(intent);
+    }
+
+    /**
+     * 최종 실패 처리 (연결된 Transaction 기록도 실패 처리)
+     */
+    @Transactional
+    public TransactionIntent markFailed(UUID trackingId, String error) {
+        TransactionIntent intent = getIntent(trackingId);
+        intent.markFailed(error);
+        findPendingRecord(intent).ifPresent(record -> {
+            record.fail(error);
+            transactionRepository.save(record);
+        });
+        return intentRepository.save(intent);
+    }
+
+    /**
+     * payload JSON을 의도 타입에 맞는 파라미터 객체로 변환합니다.
+     */
+    public <T extends OutboxPayloads.Payload> T readPayload(TransactionIntent intent, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(intent.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid transaction intent payload: " + intent.getId(), e);
+        }
+    }
+
+    private TransactionIntent getIntent(UUID trackingId) {
+        return intentRepository.findById(trackingId)
+            .orElseThrow(() -> new IllegalArgumentException("Transaction intent not found: " + trackingId));
+    }
+
+    private Optional<Transaction> findPendingRecord(TransactionIntent intent) {
+        if (intent.getTransactionId() == null) {
+            return Optional.empty();
+        }
+        return transactionRepository.findById(intent.getTransactionId())
+            .filter(record -> record.getStatus() == Transaction.TransactionStatus.PENDING);
+    }
+
+    private String toJson(OutboxPayloads.Payload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize transaction intent payload", e);
+        }
+    }
+}
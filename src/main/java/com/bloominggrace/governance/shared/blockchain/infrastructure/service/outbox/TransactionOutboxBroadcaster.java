@@ -0,0 +1,325 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox;
+
+import com.bloominggrace.governance.blockchain.domain.exception.NonceTooLowException;
+import com.bloominggrace.governance.blockchain.domain.exception.TransactionRejectedException;
+import com.bloominggrace.governance.blockchain.infrastructure.config.TransactionOutboxProperties;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator.SignedTransaction;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator.TransactionResult;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation.TransactionConfirmationTracker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 아웃박스 브로드캐스터
+ * 유휴 워커 수만큼만 의도를 점유해 워커 풀에서 서명/브로드캐스트하고, 실패 시 지수 백오프로 재시도합니다.
+ * 서명 트랜잭션은 브로드캐스트 전에 의도에 저장하고, 이후 재시도(점유 만료 후 재점유 포함)는 다시 서명하지 않고 같은 바이트를 재전송합니다.
+ * 서명 후 최대 시도 횟수를 넘기면 전파 여부를 알 수 없으므로 실패 처리하지 않고 저장된 해시를 확인 추적기에 맡깁니다.
+ * 노드가 서명 트랜잭션을 거부했다면 전파되지 않았으므로 저장 내용을 지우고 nonce를 반납해, 다음 시도에서 다시 서명합니다.
+ */
+@Slf4j
+@Component
+public class TransactionOutboxBroadcaster {
+
+    private final TransactionOutbox outbox;
+    private final TransactionOrchestrator transactionOrchestrator;
+    private final List<TransactionIntentListener> listeners;
+    private final TransactionOutboxProperties properties;
+    private final TransactionConfirmationTracker confirmationTracker;
+    private final ExecutorService workers;
+    private final Semaphore idleWorkers;
+
+    public TransactionOutboxBroadcaster(TransactionOutbox outbox,
+                                        TransactionOrchestrator transactionOrchestrator,
+                                        List<TransactionIntentListener> listeners,
+                                        TransactionOutboxProperties properties,
+                                        TransactionConfirmationTracker confirmationTracker) {
+        this.outbox = outbox;
+        this.transactionOrchestrator = transactionOrchestrator;
+        this.listeners = listeners;
+        this.properties = properties;
+        this.confirmationTracker = confirmationTracker;
+        int workerCount = Math.max(1, properties.getWorkers());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "tx-outbox-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.idleWorkers = new Semaphore(workerCount);
+    }
+
+    /**
+     * 처리 시각이 도래한 의도를 유휴 워커 수만큼 점유해 워커 풀에 넘깁니다.
+     */
+    @Scheduled(fixedDelayString = "${blockchain.outbox.poll-interval-ms:500}")
+    public void dispatchDueIntents() {
+        int capacity = Math.min(properties.getBatchSize(), idleWorkers.availablePermits());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<TransactionIntent> claimed;
+        try {
+            claimed = outbox.claimDue(capacity, Duration.ofMillis(properties.getLockMs()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to claim transaction intents: {}", e.getMessage());
+            return;
+        }
+
+        for (TransactionIntent intent : claimed) {
+            idleWorkers.acquireUninterruptibly();
+            try {
+                workers.execute(() -> {
+                    try {
+                        process(intent);
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 점유 만료 후 다시 처리됩니다.
+                idleWorkers.release();
+                log.warn("Broadcaster is shutting down, intent left for lock expiry - TrackingId: {}", intent.getId());
+            }
+        }
+    }
+
+    /**
+     * 의도 하나를 서명/브로드캐스트하고 결과에 따라 상태를 전이합니다.
+     * 이미 서명 트랜잭션이 저장된 의도는 같은 바이트를 재전송합니다.
+     */
+    void process(TransactionIntent intent) {
+        AtomicReference<SignedTransaction> recorded = new AtomicReference<>();
+        AtomicBoolean claimLost = new AtomicBoolean();
+        Consumer<SignedTransaction> beforeBroadcast = signedTransaction -> {
+            if (!outbox.recordSigned(intent.getId(), intent.getAttempts(), signedTransaction)) {
+                claimLost.set(true);
+                throw new IllegalStateException("Transaction intent was reclaimed before broadcast: " + intent.getId());
+            }
+            recorded.set(signedTransaction);
+        };
+
+        TransactionResult result;
+        try {
+            result = intent.hasSignedTransaction() ? rebroadcast(intent) : execute(intent, beforeBroadcast);
+        } catch (RuntimeException e) {
+            log.error("Transaction intent execution failed - TrackingId: {}", intent.getId(), e);
+            result = TransactionResult.failure(UUID.randomUUID(), intent.getFromAddress(), intent.getNetworkType().name(), e.getMessage());
+        }
+
+        if (claimLost.get()) {
+            // 다른 워커가 다시 점유한 의도이므로 상태를 건드리지 않고 그 워커에 맡깁니다.
+            log.warn("Transaction intent reclaimed by another worker, skipping broadcast - TrackingId: {}", intent.getId());
+            return;
+        }
+        // 이번 시도 이전에 저장되었거나 이번 시도에서 저장된 서명 트랜잭션 (있으면 이미 전파되었을 수 있음)
+        boolean signed = intent.hasSignedTransaction() || recorded.get() != null;
+        String signedHash = intent.hasSignedTransaction() ? intent.getTransactionHash()
+            : recorded.get() != null ? recorded.get().transactionHash() : null;
+
+        try {
+            if (result.isSuccess()) {
+                recordSent(intent, result.getTransactionHash());
+            } else if (signed && result.isRejected()) {
+                discardRejected(intent, result, recorded.get());
+            } else if (signed && intent.getAttempts() >= properties.getMaxAttempts()
+                    && signedHash != null && confirmationTracker.isTracked(intent.getNetworkType())) {
+                // 서명 트랜잭션이 이미 전파되었을 수 있으므로 실패 처리(동결 해제 등)하지 않고 영수증으로 결과를 판단합니다.
+                log.warn("Transaction intent outcome unknown after {} attempts, tracking signed hash - TrackingId: {}, Hash: {}, Error: {}",
+                    intent.getAttempts(), intent.getId(), signedHash, result.getErrorMessage());
+                recordSent(intent, signedHash);
+            } else if (result.isReverted() || intent.getAttempts() >= properties.getMaxAttempts()) {
+                // 시뮬레이션에서 revert된 의도는 재시도해도 같은 결과이므로 바로 실패 처리합니다.
+                TransactionIntent failed = outbox.markFailed(intent.getId(), result.getErrorMessage());
+                log.error("Transaction intent failed after {} attempts - TrackingId: {}, Error: {}",
+                    failed.getAttempts(), failed.getId(), failed.getLastError());
+                notifyListeners(failed, false);
+            } else {
+                long delayMs = retryDelayMs(intent.getAttempts(), properties.getRetryBaseDelayMs(), properties.getRetryMaxDelayMs());
+                outbox.markRetry(intent.getId(), result.getErrorMessage(), LocalDateTime.now().plus(Duration.ofMillis(delayMs)));
+                log.warn("Transaction intent attempt {} failed, retrying in {}ms - TrackingId: {}, Signed: {}, Error: {}",
+                    intent.getAttempts(), delayMs, intent.getId(), signed, result.getErrorMessage());
+            }
+        } catch (RuntimeException e) {
+            // 서명이 저장된 의도는 점유 만료 후 같은 바이트로 재전송되므로 다시 서명되지 않습니다.
+            log.error("Failed to record transaction intent result - TrackingId: {}", intent.getId(), e);
+        }
+    }
+
+    /**
+     * 노드가 거부한 서명 트랜잭션을 지우고 재시도(최대 시도 횟수를 넘겼으면 실패) 처리합니다.
+     * 이번 시도에서 발급된 nonce는 저장 내용을 지운 뒤에만 반납합니다.
+     * 이전 시도에서 저장된 트랜잭션의 nonce는 이미 완료 처리되었으므로 빈 nonce 점검에 맡깁니다.
+     */
+    private void discardRejected(TransactionIntent intent, TransactionResult result, SignedTransaction recordedNow) {
+        boolean discarded = false;
+        try {
+            if (intent.getAttempts() >= properties.getMaxAttempts()) {
+                TransactionIntent failed = outbox.markFailed(intent.getId(), result.getErrorMessage());
+                log.error("Signed transaction rejected after {} attempts - TrackingId: {}, Error: {}",
+                    failed.getAttempts(), failed.getId(), failed.getLastError());
+                discarded = true;
+                notifyListeners(failed, false);
+            } else {
+                long delayMs = retryDelayMs(intent.getAttempts(), properties.getRetryBaseDelayMs(), properties.getRetryMaxDelayMs());
+                outbox.markRejected(intent.getId(), result.getErrorMessage(), LocalDateTime.now().plus(Duration.ofMillis(delayMs)));
+                discarded = true;
+                log.warn("Signed transaction rejected, re-signing in {}ms - TrackingId: {}, Error: {}",
+                    delayMs, intent.getId(), result.getErrorMessage());
+            }
+        } finally {
+            if (recordedNow != null) {
+                transactionOrchestrator.releaseRejectedNonce(intent.getNetworkType(), intent.getFromAddress(),
+                    recordedNow.nonce(), discarded);
+            }
+        }
+    }
+
+    private void recordSent(TransactionIntent intent, String transactionHash) {
+        TransactionIntent sent = outbox.markSent(intent.getId(), transactionHash);
+        log.info("Transaction intent sent - TrackingId: {}, Hash: {}", sent.getId(), sent.getTransactionHash());
+        notifyListeners(sent, true);
+        confirmationTracker.track(sent.getNetworkType(), sent.getTransactionHash());
+    }
+
+    /**
+     * 저장된 서명 트랜잭션을 재전송합니다.
+     * nonce가 이미 사용되었다면 이 트랜잭션이 채굴되었거나 다른 트랜잭션이 nonce를 차지한 것이므로, 저장된 해시를 확인 추적기에 맡깁니다.
+     */
+    private TransactionResult rebroadcast(TransactionIntent intent) {
+        String walletAddress = intent.getFromAddress();
+        String networkType = intent.getNetworkType().name();
+        try {
+            String txHash = transactionOrchestrator.rebroadcast(intent.getNetworkType(), intent.getSignedTransaction());
+            log.info("Rebroadcast signed transaction - TrackingId: {}, Nonce: {}, Hash: {}", intent.getId(), intent.getNonce(), txHash);
+            return TransactionResult.success(UUID.randomUUID(), txHash, walletAddress, networkType, "Rebroadcast signed transaction");
+        } catch (NonceTooLowException e) {
+            if (intent.getTransactionHash() == null) {
+                return TransactionResult.failure(UUID.randomUUID(), walletAddress, networkType, e.getMessage());
+            }
+            log.info("Nonce {} already used, tracking stored hash - TrackingId: {}, Hash: {}",
+                intent.getNonce(), intent.getId(), intent.getTransactionHash());
+            return TransactionResult.success(UUID.randomUUID(), intent.getTransactionHash(), walletAddress, networkType,
+                "Signed transaction nonce already used");
+        } catch (TransactionRejectedException e) {
+            return TransactionResult.rejected(UUID.randomUUID(), walletAddress, networkType, "Rebroadcast rejected: " + e.getMessage());
+        } catch (RuntimeException e) {
+            return TransactionResult.failure(UUID.randomUUID(), walletAddress, networkType, "Rebroadcast failed: " + e.getMessage());
+        }
+    }
+
+    private TransactionResult execute(TransactionIntent intent, Consumer<SignedTransaction> beforeBroadcast) {
+        switch (intent.getIntentType()) {
+            case TRANSFER: {
+                OutboxPayloads.Transfer payload = outbox.readPayload(intent, OutboxPayloads.Transfer.class);
+                return transactionOrchestrator.executeTransfer(
+                    intent.getFromAddress(),
+                    payload.toAddress(),
+                    intent.getNetworkType(),
+                    payload.amount(),
+                    payload.tokenContract(),
+                    beforeBroadcast
+                );
+            }
+            case MULTI_TRANSFER: {
+                OutboxPayloads.MultiTransfer payload = outbox.readPayload(intent, OutboxPayloads.MultiTransfer.class);
+                return transactionOrchestrator.executeMultiTransfer(
+                    intent.getFromAddress(),
+                    intent.getNetworkType(),
+                    payload.tokenContract(),
+                    payload.multisendContract(),
+                    payload.transfers(),
+                    beforeBroadcast
+                );
+            }
+            case PROPOSAL_CREATION: {
+                OutboxPayloads.ProposalCreation payload = outbox.readPayload(intent, OutboxPayloads.ProposalCreation.class);
+                return transactionOrchestrator.executeProposalCreation(
+                    payload.proposalId(),
+                    payload.title(),
+                    payload.description(),
+                    intent.getFromAddress(),
+                    intent.getNetworkType(),
+                    payload.proposalFee(),
+                    payload.votingStartDate(),
+                    payload.votingEndDate(),
+                    payload.requiredQuorum(),
+                    beforeBroadcast
+                );
+            }
+            case VOTE_CREATION: {
+                OutboxPayloads.VoteCreation payload = outbox.readPayload(intent, OutboxPayloads.VoteCreation.class);
+                return transactionOrchestrator.executeVoteCreation(
+                    payload.proposalCount(),
+                    payload.proposalId(),
+                    intent.getFromAddress(),
+                    payload.voteType(),
+                    payload.votingPower(),
+                    payload.reason(),
+                    intent.getNetworkType(),
+                    beforeBroadcast
+                );
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported transaction intent type: " + intent.getIntentType());
+        }
+    }
+
+    private void notifyListeners(TransactionIntent intent, boolean sent) {
+        for (TransactionIntentListener listener : listeners) {
+            if (!listener.supports(intent.getReferenceType())) {
+                continue;
+            }
+            try {
+                if (sent) {
+                    listener.onSent(intent);
+                } else {
+                    listener.onFailed(intent);
+                }
+            } catch (RuntimeException e) {
+                log.error("Transaction intent listener failed - TrackingId: {}, Reference: {}:{}",
+                    intent.getId(), intent.getReferenceType(), intent.getReferenceId(), e);
+            }
+        }
+    }
+
+    /**
+     * 시도 횟수에 따른 재시도 대기 시간 (기본 대기 × 2^(시도-1), 최대 대기로 제한)
+     */
+    static long retryDelayMs(int attempts, long baseDelayMs, long maxDelayMs) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long delay = baseDelayMs * (1L << exponent);
+        return delay < 0 ? maxDelayMs : Math.min(delay, maxDelayMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.simulation;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.exception.TransactionRevertedException;
+import com.bloominggrace.governance.blockchain.domain.service.AsyncBlockchainClient;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.config.SimulationProperties;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
+import com.bloominggrace.governance.shared.blockchain.domain.model.ethereum.UnsignedEvmTransaction;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 브로드캐스트 전 트랜잭션 시뮬레이터
+ * 서명 전 EVM 트랜잭션을 pending 블록 기준 eth_call로 실행해 revert되면 가스와 nonce를 쓰기 전에 실패시킵니다.
+ * 결과는 (블록 번호, 발신자, 수신자, 금액, 호출 데이터)별로 메모이즈하므로 같은 블록 안의 동일한 요청은 한 번만 시뮬레이션합니다.
+ * 시뮬레이션 자체가 실패(RPC 오류)하면 브로드캐스트를 막지 않습니다.
+ * 비동기 경로(verifyAsync)는 AsyncBlockchainClient로 조회해 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+ *
+ * 메트릭: cache.gets (cache=tx-simulations), blockchain.tx.simulation.reverted, blockchain.tx.simulation.errors
+ */
+@Slf4j
+@Component
+public class TransactionSimulator {
+
+    private static final String CACHE_NAME = "tx-simulations";
+
+    private final BlockchainClientFactory blockchainClientFactory;
+    private final SimulationProperties properties;
+    private final Cache<Key, Outcome> outcomes;
+    private final Counter revertedCounter;
+    private final Counter errorCounter;
+
+    public TransactionSimulator(BlockchainClientFactory blockchainClientFactory,
+                                SimulationProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.blockchainClientFactory = blockchainClientFactory;
+        this.properties = properties;
+        this.outcomes = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxEntries())
+            .expireAfterWrite(Duration.ofMillis(properties.getTtlMs()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, outcomes, CACHE_NAME);
+        this.revertedCounter = Counter.builder("blockchain.tx.simulation.reverted")
+            .description("Transactions rejected before broadcast because the simulation reverted")
+            .register(meterRegistry);
+        this.errorCounter = Counter.builder("blockchain.tx.simulation.errors")
+            .description("Simulations that could not be run and were skipped")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 트랜잭션이 revert되지 않는지 확인합니다. EVM 트랜잭션이 아니거나 시뮬레이션이 꺼져 있으면 아무것도 하지 않습니다.
+     *
+     * @throws TransactionRevertedException 시뮬레이션이 revert된 경우
+     */
+    public void verify(NetworkType networkType, TransactionBody<?> transactionBody) {
+        if (!properties.isEnabled() || !(transactionBody.getNetworkSpecificData() instanceof UnsignedEvmTransaction transaction)) {
+            return;
+        }
+
+        Outcome outcome;
+        try {
+            BlockchainClient client = blockchainClientFactory.getClient(networkType);
+            Key key = new Key(networkType, client.getLatestBlockNumber(), lower(transaction.from()), lower(transaction.to()),
+                transaction.value(), transaction.dataHex());
+            // 같은 키의 동시 요청은 하나의 시뮬레이션 결과를 기다립니다.
+            outcome = outcomes.get(key, k -> simulate(client, transaction));
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("Transaction simulation skipped - To: {}, Error: {}", transaction.to(), e.getMessage());
+            return;
+        }
+
+        check(transaction, outcome);
+    }
+
+    /**
+     * verify의 비동기 버전. revert되면 TransactionRevertedException으로 완료되고, 시뮬레이션 자체가 실패하면 정상 완료됩니다.
+     * 같은 키의 동시 요청은 결과가 메모이즈되기 전까지 각각 시뮬레이션할 수 있습니다.
+     */
+    public CompletableFuture<Void> verifyAsync(AsyncBlockchainClient client, TransactionBody<?> transactionBody) {
+        if (!properties.isEnabled() || !(transactionBody.getNetworkSpecificData() instanceof UnsignedEvmTransaction transaction)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return client.getLatestBlockNumber()
+            .thenCompose(blockNumber -> {
+                Key key = new Key(client.getNetworkType(), blockNumber, lower(transaction.from()), lower(transaction.to()),
+                    transaction.value(), transaction.dataHex());
+                Outcome cached = outcomes.getIfPresent(key);
+                if (cached != null) {
+                    return CompletableFuture.completedFuture(cached);
+                }
+                return simulateAsync(client, transaction).thenApply(outcome -> {
+                    outcomes.put(key, outcome);
+                    return outcome;
+                });
+            })
+            .handle((outcome, error) -> {
+                if (error != null) {
+                    errorCounter.increment();
+                    log.warn("Transaction simulation skipped - To: {}, Error: {}", transaction.to(), unwrap(error).getMessage());
+                    return null;
+                }
+                check(transaction, outcome);
+                return null;
+            });
+    }
+
+    private void check(UnsignedEvmTransaction transaction, Outcome outcome) {
+        if (outcome.reverted()) {
+            revertedCounter.increment();
+            log.warn("Transaction simulation reverted - From: {}, To: {}, Reason: {}",
+                transaction.from(), transaction.to(), outcome.reason());
+            throw new TransactionRevertedException(outcome.reason(), outcome.errorName(), outcome.revertData());
+        }
+    }
+
+    private CompletableFuture<Outcome> simulateAsync(AsyncBlockchainClient client, UnsignedEvmTransaction transaction) {
+        return client.simulateCall(transaction.from(), transaction.to(), transaction.value(), transaction.dataHex())
+            .handle((result, error) -> {
+                if (error == null) {
+                    return Outcome.SUCCESS;
+                }
+                if (unwrap(error) instanceof TransactionRevertedException e) {
+                    return new Outcome(true, e.getReason(), e.getErrorName(), e.getRevertData());
+                }
+                throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+            });
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause() : throwable;
+    }
+
+    private Outcome simulate(BlockchainClient client, UnsignedEvmTransaction transaction) {
+        try {
+            client.simulateCall(transaction.from(), transaction.to(), transaction.value(), transaction.dataHex());
+            return Outcome.SUCCESS;
+        } catch (TransactionRevertedException e) {
+            return new Outcome(true, e.getReason(), e.getErrorName(), e.getRevertData());
+        }
+    }
+
+    private static String lower(String address) {
+        return address == null ? null : address.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 메모이즈 키 (블록 번호가 바뀌면 다시 시뮬레이션합니다)
+     */
+    private record Key(NetworkType networkType, String blockNumber, String from, String to, BigInteger value, String data) {
+    }
+
+    /**
+     * 시뮬레이션 결과
+     */
+    private record Outcome(boolean reverted, String reason, String errorName, String revertData) {
+
+        static final Outcome SUCCESS = new Outcome(false, null, null, null);
+    }
+}
@@ -0,0 +1,88 @@
+package com.bloominggrace.governance.shared.blockchain.util;
+
+import java.math.BigInteger;
+
+/**
+ * JSON-RPC hex quantity("0x1a2b") 파싱 유틸리티 클래스
+ * 부분 문자열이나 BigInteger를 만들지 않고 원본 문자열에서 바로 값을 읽습니다.
+ */
+public final class HexQuantity {
+
+    /**
+     * long으로 바로 파싱할 수 있는 최대 hex 자릿수 (부호 비트 제외)
+     */
+    private static final int MAX_LONG_DIGITS = 15;
+
+    private HexQuantity() {
+        // 유틸리티 클래스는 인스턴스화 불가
+    }
+
+    /**
+     * hex quantity를 long으로 변환합니다.
+     *
+     * @param hex hex 문자열 (0x 접두사 포함 가능)
+     * @return long 값 (null 또는 빈 값이면 0)
+     * @throws ArithmeticException long 범위를 초과하는 경우
+     */
+    public static long toLong(String hex) {
+        int start = digitsStart(hex);
+        if (start < 0) {
+            return 0L;
+        }
+        int digits = hex.length() - start;
+        if (digits > MAX_LONG_DIGITS + 1) {
+            throw new ArithmeticException("Hex quantity exceeds long range: " + hex);
+        }
+        long value = Long.parseUnsignedLong(hex, start, hex.length(), 16);
+        if (value < 0) {
+            throw new ArithmeticException("Hex quantity exceeds long range: " + hex);
+        }
+        return value;
+    }
+
+    /**
+     * hex quantity를 BigInteger로 변환합니다.
+     * long 범위 안의 값은 BigInteger.valueOf로 변환하여 중간 문자열을 만들지 않습니다.
+     *
+     * @param hex hex 문자열 (0x 접두사 포함 가능)
+     * @return BigInteger 값 (null 또는 빈 값이면 0)
+     */
+    public static BigInteger toBigInteger(String hex) {
+        int start = digitsStart(hex);
+        if (start < 0) {
+            return BigInteger.ZERO;
+        }
+        if (hex.length() - start <= MAX_LONG_DIGITS) {
+            return BigInteger.valueOf(Long.parseLong(hex, start, hex.length(), 16));
+        }
+        return new BigInteger(hex.substring(start), 16);
+    }
+
+    /**
+     * hex quantity를 10진수 문자열로 변환합니다.
+     *
+     * @param hex hex 문자열 (0x 접두사 포함 가능)
+     * @return 10진수 문자열 (null 또는 빈 값이면 "0")
+     */
+    public static String toDecimalString(String hex) {
+        int start = digitsStart(hex);
+        if (start < 0) {
+            return "0";
+        }
+        if (hex.length() - start <= MAX_LONG_DIGITS) {
+            return Long.toString(Long.parseLong(hex, start, hex.length(), 16));
+        }
+        return new BigInteger(hex.substring(start), 16).toString();
+    }
+
+    /**
+     * 숫자가 시작하는 위치를 반환합니다. 숫자가 없으면 -1을 반환합니다.
+     */
+    private static int digitsStart(String hex) {
+        if (hex == null) {
+            return -1;
+        }
+        int start = hex.startsWith("0x") || hex.startsWith("0X") ? 2 : 0;
+        return start < hex.length() ? start : -1;
+    }
+}
@@ -1,18 +1,32 @@
 package com.bloominggrace.governance.shared.blockchain.util;
 
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcError;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcRequest;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JSON-RPC 통신을 위한 재사용 가능한 클라이언트
@@ -21,11 +35,33 @@ import java.util.Map;
 @Component
 public class JsonRpcClient {
     
+    /**
+     * 한 번의 HTTP 요청에 담을 수 있는 최대 배치 크기 (RPC 제공자별 제한을 고려한 보수적인 값)
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+    
+    /**
+     * 배치 응답에서 해당 id의 응답이 누락된 경우 사용하는 에러 코드 (JSON-RPC Internal error)
+     */
+    public static final int MISSING_RESPONSE_ERROR_CODE = -32603;
+    
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final JsonRpcResponseDecoder responseDecoder;
+    
+    /**
+     * 응답 타입별 ObjectReader 캐시 (호출마다 JavaType/ObjectReader를 다시 만들지 않도록 재사용)
+     */
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    
+    /**
+     * 배치 응답 타입별 result 디코더 캐시
+     */
+    private final Map<Type, JsonRpcResponseDecoder.ResultDecoder<?>> batchResultDecoders = new ConcurrentHashMap<>();
     
     public JsonRpcClient(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        this.responseDecoder = new JsonRpcResponseDecoder(objectMapper);
         this.httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(30))
             .build();
@@ -45,33 +81,291 @@ public class JsonRpcClient {
     public <T> T sendRequest(String rpcUrl, Object request, TypeReference<T> typeReference) 
             throws IOException, InterruptedException {
         
-        String requestBody = objectMapper.writeValueAsString(request);
-        log.debug("Sending JSON-RPC request to {}: {}", rpcUrl, requestBody);
+        try (InputStream responseBody = post(rpcUrl, objectMapper.writeValueAsBytes(request))) {
+            return readerFor(typeReference).readValue(responseBody);
+        } catch (IOException e) {
+            log.error("Failed to parse JSON-RPC response from {}: {}", rpcUrl, e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * JSON-RPC 요청을 전송하고 응답 스트림에서 result를 바로 디코딩합니다.
+     * 응답 전체를 문자열이나 Map으로 만들지 않으므로 큰 블록/영수증 조회에 사용합니다.
+     * 
+     * @param rpcUrl JSON-RPC 서버 URL
+     * @param request JSON-RPC 요청 객체
+     * @param resultDecoder result 디코더
+     * @param <T> result 타입
+     * @return JSON-RPC 응답
+     * @throws IOException HTTP 통신 오류 또는 응답 형식 오류
+     * @throws InterruptedException 인터럽트 오류
+     */
+    public <T> BlockchainRpcResponse<T> sendRequestStreaming(String rpcUrl, Object request, 
+                                                             JsonRpcResponseDecoder.ResultDecoder<T> resultDecoder)
+            throws IOException, InterruptedException {
         
-        // HTTP 요청 생성
-        HttpRequest httpRequest = HttpRequest.newBuilder()
-            .uri(URI.create(rpcUrl))
-            .header("Content-Type", "application/json")
-            .header("Accept", "application/json")
-            .POST(HttpRequest.BodyPublishers.ofString(requestBody, StandardCharsets.UTF_8))
-            .timeout(Duration.ofSeconds(30))
-            .build();
+        try (InputStream responseBody = post(rpcUrl, objectMapper.writeValueAsBytes(request))) {
+            return responseDecoder.decode(responseBody, resultDecoder);
+        }
+    }
+    
+    /**
+     * JSON-RPC 요청을 전송하고 result JSON 바이트를 그대로 반환합니다 (pass-through 모드).
+     * 
+     * @param rpcUrl JSON-RPC 서버 URL
+     * @param request JSON-RPC 요청 객체
+     * @return result JSON 바이트를 담은 JSON-RPC 응답 (result가 null이면 null)
+     * @throws IOException HTTP 통신 오류 또는 응답 형식 오류
+     * @throws InterruptedException 인터럽트 오류
+     */
+    public BlockchainRpcResponse<byte[]> sendRequestRaw(String rpcUrl, Object request) 
+            throws IOException, InterruptedException {
+        
+        try (InputStream responseBody = post(rpcUrl, objectMapper.writeValueAsBytes(request))) {
+            return responseDecoder.decodeRaw(responseBody);
+        }
+    }
+    
+    /**
+     * JSON-RPC 요청을 비동기로 전송합니다.
+     * HttpClient.sendAsync를 사용하므로 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+     * 
+     * @param rpcUrl JSON-RPC 서버 URL
+     * @param request JSON-RPC 요청 객체
+     * @param typeReference 응답 타입 참조
+     * @param <T> 응답 타입
+     * @return JSON-RPC 응답 Future (HTTP 통신 또는 파싱 오류 시 예외로 완료)
+     */
+    public <T> CompletableFuture<T> sendRequestAsync(String rpcUrl, Object request, TypeReference<T> typeReference) {
+        byte[] requestBody;
+        try {
+            requestBody = objectMapper.writeValueAsBytes(request);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        
+        ObjectReader reader = readerFor(typeReference);
+        return postAsync(rpcUrl, requestBody).thenApply(responseBody -> {
+            try {
+                return reader.<T>readValue(responseBody);
+            } catch (IOException e) {
+                log.error("Failed to parse JSON-RPC response from {}: {}", rpcUrl, e.getMessage());
+                throw new CompletionException(e);
+            }
+        });
+    }
+    
+    /**
+     * sendRequestStreaming의 비동기 버전
+     * 응답 본문을 바이트로 받은 뒤 result를 중간 Map 없이 지정한 디코더로 바로 디코딩합니다.
+     * 
+     * @param rpcUrl JSON-RPC 서버 URL
+     * @param request JSON-RPC 요청 객체
+     * @param resultDecoder result 디코더
+     * @param <T> result 타입
+     * @return JSON-RPC 응답 Future (HTTP 통신 또는 파싱 오류 시 예외로 완료)
+     */
+    public <T> CompletableFuture<BlockchainRpcResponse<T>> sendRequestStreamingAsync(String rpcUrl, Object request,
+                                                                                  JsonRpcResponseDecoder.ResultDecoder<T> resultDecoder) {
+        byte[] requestBody;
+        try {
+            requestBody = objectMapper.writeValueAsBytes(request);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        
+        return postAsync(rpcUrl, requestBody).thenApply(responseBody -> {
+            try {
+                return responseDecoder.decode(new ByteArrayInputStream(responseBody), resultDecoder);
+            } catch (IOException e) {
+                log.error("Failed to parse JSON-RPC response from {}: {}", rpcUrl, e.getMessage());
+                throw new CompletionException(e);
+            }
+        });
+    }
+    
+    /**
+     * sendRequestRaw의 비동기 버전 (result JSON 바이트를 그대로 반환하는 pass-through 모드)
+     * 
+     * @param rpcUrl JSON-RPC 서버 URL
+     * @param request JSON-RPC 요청 객체
+     * @return result JSON 바이트를 담은 JSON-RPC 응답 Future (result가 null이면 null)
+     */
+    public CompletableFuture<BlockchainRpcResponse<byte[]>> sendRequestRawAsync(String rpcUrl, Object request) {
+        return sendRequestStreamingAsync(rpcUrl, request, responseDecoder.rawResultDecoder());
+    }
+    
+    /**
+     * 여러 JSON-RPC 요청을 하나의 배열 페이로드로 묶어 전송합니다.
+     * 요청 id는 배치 안에서 1부터 다시 부여되며, 응답은 id로 매칭하여 요청과 같은 순서로 반환합니다.
+     * 요청 수가 {@link #MAX_BATCH_SIZE}를 넘으면 여러 번의 HTTP 요청으로 나누어 전송합니다.
+     * 응답 배열은 트리로 만들지 않고 스트리밍 디코더로 각 result를 바로 디코딩합니다.
+     * 
+     * @param rpcUrl JSON-RPC 서버 URL
+     * @param requests JSON-RPC 요청 목록
+     * @param typeReference 배치 응답 타입 참조 (개별 result 타입을 정하는 데 사용)
+     * @param <T> 개별 응답의 result 타입
+     * @return 요청 순서와 같은 응답 목록 (개별 요청의 실패는 각 응답의 error로 전달)
+     * @throws IOException HTTP 통신 오류 또는 배치 전체가 거부된 경우
+     * @throws InterruptedException 인터럽트 오류
+     */
+    public <T> List<BlockchainRpcResponse<T>> sendBatchRequest(String rpcUrl, 
+                                                              List<BlockchainRpcRequest> requests,
+                                                              TypeReference<List<BlockchainRpcResponse<T>>> typeReference)
+            throws IOException, InterruptedException {
+        
+        JsonRpcResponseDecoder.ResultDecoder<T> resultDecoder = batchResultDecoderFor(typeReference);
+        List<BlockchainRpcResponse<T>> responses = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += MAX_BATCH_SIZE) {
+            List<BlockchainRpcRequest> chunk = renumber(requests.subList(from, Math.min(from + MAX_BATCH_SIZE, requests.size())));
+            try (InputStream responseBody = post(rpcUrl, objectMapper.writeValueAsBytes(chunk))) {
+                responses.addAll(matchResponses(chunk, responseDecoder.decodeBatch(responseBody, resultDecoder)));
+            }
+        }
+        return responses;
+    }
+    
+    /**
+     * 여러 JSON-RPC 요청을 배치로 전송하고 각 result JSON 바이트를 그대로 반환합니다 (pass-through 모드).
+     * 응답을 중간 트리나 Map으로 만들지 않고 스트림에서 바로 복사합니다.
+     * 
+     * @param rpcUrl JSON-RPC 서버 URL
+     * @param requests JSON-RPC 요청 목록
+     * @return 요청 순서와 같은 응답 목록 (result가 null이면 null, 개별 요청의 실패는 각 응답의 error로 전달)
+     * @throws IOException HTTP 통신 오류 또는 배치 전체가 거부된 경우
+     * @throws InterruptedException 인터럽트 오류
+     */
+    public List<BlockchainRpcResponse<byte[]>> sendBatchRequestRaw(String rpcUrl, List<BlockchainRpcRequest> requests)
+            throws IOException, InterruptedException {
+        
+        List<BlockchainRpcResponse<byte[]>> responses = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += MAX_BATCH_SIZE) {
+            List<BlockchainRpcRequest> chunk = renumber(requests.subList(from, Math.min(from + MAX_BATCH_SIZE, requests.size())));
+            try (InputStream responseBody = post(rpcUrl, objectMapper.writeValueAsBytes(chunk))) {
+                responses.addAll(matchResponses(chunk, responseDecoder.decodeBatchRaw(responseBody)));
+            }
+        }
+        return responses;
+    }
+    
+    /**
+     * 배치 요청의 id를 1부터 순서대로 다시 부여한 사본을 생성합니다.
+     */
+    static List<BlockchainRpcRequest> renumber(List<BlockchainRpcRequest> requests) {
+        List<BlockchainRpcRequest> renumbered = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            BlockchainRpcRequest request = requests.get(i);
+            renumbered.add(BlockchainRpcRequest.of(request.getMethod(), request.getParams(), i + 1));
+        }
+        return renumbered;
+    }
+    
+    /**
+     * 배치 응답을 id 기준으로 요청 순서에 맞게 정렬합니다.
+     * JSON-RPC 서버는 배치 응답의 순서를 보장하지 않으므로 id로 매칭하며,
+     * 응답이 누락된 요청에는 에러 응답을 채워 넣습니다.
+     */
+    static <T> List<BlockchainRpcResponse<T>> matchResponses(List<BlockchainRpcRequest> requests,
+                                                            List<BlockchainRpcResponse<T>> responses) {
+        Map<Integer, BlockchainRpcResponse<T>> responsesById = new HashMap<>();
+        for (BlockchainRpcResponse<T> response : responses) {
+            responsesById.put(response.getId(), response);
+        }
+        
+        List<BlockchainRpcResponse<T>> ordered = new ArrayList<>(requests.size());
+        for (BlockchainRpcRequest request : requests) {
+            BlockchainRpcResponse<T> response = responsesById.get(request.getId());
+            if (response == null) {
+                log.warn("No response in JSON-RPC batch for id: {}, method: {}", request.getId(), request.getMethod());
+                response = new BlockchainRpcResponse<>(
+                    "2.0", 
+                    request.getId(), 
+                    null, 
+                    new BlockchainRpcError(MISSING_RESPONSE_ERROR_CODE, "No response for request id " + request.getId(), null)
+                );
+            }
+            ordered.add(response);
+        }
+        return ordered;
+    }
+    
+    /**
+     * 응답 타입에 대한 ObjectReader를 캐시에서 가져옵니다.
+     */
+    private ObjectReader readerFor(TypeReference<?> typeReference) {
+        return readers.computeIfAbsent(typeReference.getType(), type -> objectMapper.readerFor(typeReference));
+    }
+    
+    /**
+     * 배치 응답 타입(List&lt;BlockchainRpcResponse&lt;T&gt;&gt;)에서 result 타입 T의 디코더를 캐시에서 가져옵니다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> JsonRpcResponseDecoder.ResultDecoder<T> batchResultDecoderFor(TypeReference<List<BlockchainRpcResponse<T>>> typeReference) {
+        return (JsonRpcResponseDecoder.ResultDecoder<T>) batchResultDecoders.computeIfAbsent(typeReference.getType(), type -> {
+            JavaType resultType = objectMapper.getTypeFactory().constructType(type).getContentType().containedType(0);
+            ObjectReader reader = objectMapper.readerFor(resultType);
+            return parser -> reader.readValue(parser);
+        });
+    }
+    
+    /**
+     * JSON 본문을 비동기 POST로 전송하고 응답 본문을 반환합니다.
+     */
+    private CompletableFuture<byte[]> postAsync(String rpcUrl, byte[] requestBody) {
+        if (log.isDebugEnabled()) {
+            log.debug("Sending async JSON-RPC request to {}: {}", rpcUrl, new String(requestBody, StandardCharsets.UTF_8));
+        }
+        
+        return httpClient.sendAsync(newHttpRequest(rpcUrl, requestBody), HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(response -> {
+                log.debug("Received HTTP response status: {}", response.statusCode());
+                
+                if (response.statusCode() != 200) {
+                    String body = new String(response.body(), StandardCharsets.UTF_8);
+                    log.error("HTTP request failed with status: {} and body: {}", response.statusCode(), body);
+                    throw new CompletionException(new RpcHttpException(response.statusCode(), body));
+                }
+                return response.body();
+            });
+    }
+    
+    /**
+     * JSON 본문을 POST로 전송하고 응답 본문 스트림을 반환합니다.
+     * 호출자는 반환된 스트림을 닫아야 합니다.
+     */
+    private InputStream post(String rpcUrl, byte[] requestBody) throws IOException, InterruptedException {
+        if (log.isDebugEnabled()) {
+            log.debug("Sending JSON-RPC request to {}: {}", rpcUrl, new String(requestBody, StandardCharsets.UTF_8));
+        }
         
         // 요청 전송
-        HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-        log.debug("Received HTTP response status: {}, body: {}", response.statusCode(), response.body());
+        HttpResponse<InputStream> response = httpClient.send(newHttpRequest(rpcUrl, requestBody), HttpResponse.BodyHandlers.ofInputStream());
+        log.debug("Received HTTP response status: {}", response.statusCode());
         
         if (response.statusCode() != 200) {
-            log.error("HTTP request failed with status: {} and body: {}", response.statusCode(), response.body());
-            throw new IOException("HTTP request failed with status: " + response.statusCode() + ", body: " + response.body());
+            String body;
+            try (InputStream errorBody = response.body()) {
+                body = new String(errorBody.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            log.error("HTTP request failed with status: {} and body: {}", response.statusCode(), body);
+            throw new RpcHttpException(response.statusCode(), body);
         }
         
-        try {
-            return objectMapper.readValue(response.body(), typeReference);
-        } catch (Exception e) {
-            log.error("Failed to parse JSON-RPC response: {}", response.body(), e);
-            throw e;
-        }
+        return response.body();
+    }
+    
+    /**
+     * JSON-RPC POST 요청을 생성합니다.
+     */
+    private HttpRequest newHttpRequest(String rpcUrl, byte[] requestBody) {
+        return HttpRequest.newBuilder()
+            .uri(URI.create(rpcUrl))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody))
+            .timeout(Duration.ofSeconds(30))
+            .build();
     }
     
     /**
@@ -0,0 +1,180 @@
+package com.bloominggrace.governance.shared.blockchain.util;
+
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcError;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON-RPC 응답 스트리밍 디코더
+ * 응답 InputStream을 Jackson 토큰 API로 읽어 result를 중간 Map이나 문자열 없이 바로 디코딩합니다.
+ */
+public class JsonRpcResponseDecoder {
+
+    /**
+     * result 값을 디코딩하는 함수
+     * 호출 시 파서는 result 값의 첫 토큰에 위치하며, 반환 시 값의 마지막 토큰에 위치해야 합니다.
+     */
+    @FunctionalInterface
+    public interface ResultDecoder<T> {
+        T decode(JsonParser parser) throws IOException;
+    }
+
+    private final JsonFactory jsonFactory;
+    private final ObjectReader errorReader;
+
+    public JsonRpcResponseDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.errorReader = objectMapper.readerFor(BlockchainRpcError.class);
+    }
+
+    /**
+     * 응답 스트림을 읽어 result를 지정한 디코더로 변환합니다.
+     *
+     * @param in 응답 본문 스트림
+     * @param resultDecoder result 디코더
+     * @param <T> result 타입
+     * @return JSON-RPC 응답 (result가 null이면 디코더를 호출하지 않음)
+     * @throws IOException 응답 형식이 올바르지 않은 경우
+     */
+    public <T> BlockchainRpcResponse<T> decode(InputStream in, ResultDecoder<T> resultDecoder) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected JSON-RPC response object but got: " + parser.currentToken());
+            }
+            return readResponse(parser, resultDecoder);
+        }
+    }
+
+    /**
+     * 배치 응답 스트림을 읽어 각 응답의 result를 지정한 디코더로 변환합니다.
+     * 응답은 서버가 보낸 순서 그대로 반환하므로 호출자가 id로 요청과 매칭해야 합니다.
+     *
+     * @param in 응답 본문 스트림
+     * @param resultDecoder result 디코더
+     * @param <T> result 타입
+     * @return JSON-RPC 응답 목록
+     * @throws IOException 응답 형식이 올바르지 않거나 배치 전체가 단일 에러로 거부된 경우
+     */
+    public <T> List<BlockchainRpcResponse<T>> decodeBatch(InputStream in, ResultDecoder<T> resultDecoder) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                // 배치를 지원하지 않거나 페이로드 전체가 거부된 경우 단일 에러 객체가 반환됩니다.
+                BlockchainRpcError error = readResponse(parser, resultDecoder).getError();
+                throw new IOException("JSON-RPC batch request rejected: " + (error == null ? "non-array response" : error.getMessage()));
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("Expected JSON-RPC batch response array but got: " + token);
+            }
+
+            List<BlockchainRpcResponse<T>> responses = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                responses.add(readResponse(parser, resultDecoder));
+            }
+            return responses;
+        }
+    }
+
+    /**
+     * 배치 응답의 각 result 값을 그대로 바이트 배열로 복사합니다.
+     *
+     * @param in 응답 본문 스트림
+     * @return result JSON 바이트를 담은 JSON-RPC 응답 목록
+     * @throws IOException 응답 형식이 올바르지 않거나 배치 전체가 단일 에러로 거부된 경우
+     */
+    public List<BlockchainRpcResponse<byte[]>> decodeBatchRaw(InputStream in) throws IOException {
+        return decodeBatch(in, rawResultDecoder());
+    }
+
+    /**
+     * result 값을 그대로 바이트 배열로 복사하는 디코더를 반환합니다.
+     */
+    public ResultDecoder<byte[]> rawResultDecoder() {
+        return this::copyCurrentValue;
+    }
+
+    /**
+     * START_OBJECT에 위치한 파서에서 응답 객체 하나를 읽습니다. 반환 시 파서는 END_OBJECT에 위치합니다.
+     */
+    private <T> BlockchainRpcResponse<T> readResponse(JsonParser parser, ResultDecoder<T> resultDecoder) throws IOException {
+        BlockchainRpcResponse<T> response = new BlockchainRpcResponse<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "jsonrpc":
+                    response.setJsonrpc(textOrNull(parser));
+                    break;
+                case "id":
+                    response.setId(value == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : parser.getValueAsInt());
+                    break;
+                case "result":
+                    response.setResult(value == JsonToken.VALUE_NULL ? null : resultDecoder.decode(parser));
+                    break;
+                case "error":
+                    response.setError(value == JsonToken.VALUE_NULL ? null : errorReader.readValue(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return response;
+    }
+
+    /**
+     * result 값을 그대로 바이트 배열로 복사하는 pass-through 디코딩을 수행합니다.
+     * 호출자가 result JSON을 그대로 전달하거나 직접 파싱할 때 사용합니다.
+     *
+     * @param in 응답 본문 스트림
+     * @return result JSON 바이트를 담은 JSON-RPC 응답
+     * @throws IOException 응답 형식이 올바르지 않은 경우
+     */
+    public BlockchainRpcResponse<byte[]> decodeRaw(InputStream in) throws IOException {
+        return decode(in, this::copyCurrentValue);
+    }
+
+    private byte[] copyCurrentValue(JsonParser parser) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return out.toByteArray();
+    }
+
+    // ===== result 디코더 작성을 위한 헬퍼 =====
+
+    /**
+     * 현재 토큰의 문자열 값을 반환합니다. null 토큰이면 null을 반환합니다.
+     */
+    public static String textOrNull(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    /**
+     * 현재 위치의 배열 요소 수를 세고 요소 내용은 건너뜁니다.
+     * 배열이 아니면 값을 건너뛰고 0을 반환합니다.
+     */
+    public static int countArrayElements(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return 0;
+        }
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bloominggrace.governance.shared.blockchain.util;
+
+import java.io.IOException;
+
+/**
+ * JSON-RPC 엔드포인트가 200 이외의 HTTP 상태를 반환했을 때 발생하는 예외
+ */
+public class RpcHttpException extends IOException {
+
+    private final int statusCode;
+
+    public RpcHttpException(int statusCode, String body) {
+        super("HTTP request failed with status: " + statusCode + ", body: " + body);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * 잠시 후 다시 시도하면 성공할 수 있는 상태인지 확인합니다 (429, 502, 503, 504).
+     */
+    public boolean isRetryable() {
+        return statusCode == 429 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+    }
+}
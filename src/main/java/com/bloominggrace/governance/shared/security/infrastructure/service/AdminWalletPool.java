@@ -0,0 +1,485 @@
+package com.bloominggrace.governance.shared.security.infrastructure.service;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.service.AsyncBlockchainClient;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.shared.blockchain.domain.model.BlockchainTransactionType;
+import com.bloominggrace.governance.shared.blockchain.domain.model.Transaction;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation.TransactionConfirmationListener;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.OutboxPayloads;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionIntentListener;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionOutbox;
+import com.bloominggrace.governance.shared.domain.UserId;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.bloominggrace.governance.wallet.infrastructure.config.AdminWalletPoolProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관리자 핫월렛 풀
+ * 지급 트랜잭션마다 대기 중인 지급이 가장 적고 잔액이 충분한 관리자 지갑을 골라,
+ * 지갑별 nonce 순서에 막히지 않고 여러 지급이 병렬로 채굴되도록 합니다.
+ * 선택한 지갑에는 지급 금액을 예약해 두고, 아웃박스/확인 추적 결과에 따라 예약을 옮기거나 해제합니다.
+ * 예약은 호출자 트랜잭션이 커밋될 때만 유지되고 롤백되면 바로 해제됩니다.
+ * 대기 지급 수는 아웃박스에 기록된 진행 중 의도 수(모든 인스턴스 공유)와 이 인스턴스의 예약 중 큰 값을 사용합니다.
+ * 잔액 예약은 인스턴스별 근사값이며, 주기적인 체인 잔액 조회로 보정됩니다.
+ * 토큰 지급은 가스비를 낼 네이티브 코인 잔액이 최소 가스 잔액 이상인 지갑만 선택합니다.
+ * 잔액이 한쪽으로 쏠리면 풀 내부 전송으로 재분배합니다.
+ *
+ * 메트릭: wallet.admin.pool.selections, wallet.admin.pool.rebalances, wallet.admin.pool.reservations
+ */
+@Slf4j
+@Component
+public class AdminWalletPool implements TransactionIntentListener, TransactionConfirmationListener {
+
+    public static final String REBALANCE = "ADMIN_POOL_REBALANCE";
+
+    private static final String NATIVE = "native";
+    private static final String TRANSACTION_KEY_PREFIX = "tx:";
+
+    private final AdminWalletService adminWalletService;
+    private final BlockchainClientFactory blockchainClientFactory;
+    private final TransactionOutbox transactionOutbox;
+    private final AdminWalletPoolProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter rebalances;
+
+    // 자산별 지갑 잔액 (마지막 조회 값에서 확인된 지급을 차감)
+    private final Map<Asset, Map<String, BigDecimal>> balances = new ConcurrentHashMap<>();
+    // 예약 키 (의도 참조 → 브로드캐스트 후 트랜잭션 해시) → 예약
+    private final Map<String, Reservation> reservations = new ConcurrentHashMap<>();
+
+    public AdminWalletPool(AdminWalletService adminWalletService,
+                           BlockchainClientFactory blockchainClientFactory,
+                           TransactionOutbox transactionOutbox,
+                           AdminWalletPoolProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.adminWalletService = adminWalletService;
+        this.blockchainClientFactory = blockchainClientFactory;
+        this.transactionOutbox = transactionOutbox;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.rebalances = Counter.builder("wallet.admin.pool.rebalances")
+            .description("Transfers enqueued to rebalance admin pool wallets")
+            .register(meterRegistry);
+        Gauge.builder("wallet.admin.pool.reservations", reservations, Map::size)
+            .description("Payouts reserved against admin pool wallets and not yet settled")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 지급에 사용할 관리자 지갑을 선택하고 금액을 예약합니다.
+     * 잔액이 충분한(또는 아직 모르는) 지갑 중 대기 지급이 가장 적은 지갑을, 동률이면 여유 잔액이 큰 지갑을 고릅니다.
+     * 호출자 트랜잭션 안에서 호출되면 롤백 시 예약을 해제합니다.
+     * @param tokenContract 토큰 컨트랙트 주소 (네이티브 코인이면 null)
+     * @return 송신 지갑 주소
+     */
+    public synchronized String select(NetworkType networkType, String tokenContract, BigDecimal amount,
+                                      String referenceType, String referenceId) {
+        List<String> wallets = adminWalletService.getAdminWalletAddresses(networkType);
+        if (wallets.size() <= 1) {
+            return wallets.get(0);
+        }
+        expireReservations();
+
+        Asset asset = Asset.of(networkType, tokenContract);
+        Map<String, BigDecimal> known = balances.computeIfAbsent(asset, key -> new ConcurrentHashMap<>());
+        BigDecimal required = amount != null ? amount : BigDecimal.ZERO;
+        Map<String, Long> sharedPending = transactionOutbox.countActiveIntentsByFromAddress(networkType);
+
+        String selected = null;
+        long selectedPending = Long.MAX_VALUE;
+        BigDecimal selectedFree = null;
+        for (String wallet : wallets) {
+            BigDecimal free = freeBalance(asset, wallet, known.get(wallet));
+            if (free != null && free.compareTo(required) < 0) {
+                continue;
+            }
+            if (tokenContract != null && !hasGas(networkType, wallet)) {
+                continue;
+            }
+            long pending = pendingCount(networkType, wallet, sharedPending);
+            if (selected == null || pending < selectedPending
+                || (pending == selectedPending && compareFree(free, selectedFree) > 0)) {
+                selected = wallet;
+                selectedPending = pending;
+                selectedFree = free;
+            }
+        }
+        if (selected == null) {
+            // 어느 지갑도 잔액이 충분하지 않으면 (가스비가 있는 지갑 중) 여유 잔액이 가장 큰 지갑에 맡기고 재분배를 기다립니다.
+            List<String> fallback = tokenContract == null ? wallets
+                : wallets.stream().filter(wallet -> hasGas(networkType, wallet)).toList();
+            selected = (fallback.isEmpty() ? wallets : fallback).stream()
+                .max(Comparator.comparing(wallet -> freeBalance(asset, wallet, known.get(wallet)),
+                    Comparator.nullsFirst(Comparator.naturalOrder())))
+                .orElseThrow();
+            log.warn("No admin pool wallet has {} {} available - Network: {}, falling back to {}",
+                required, asset.label(), networkType, selected);
+        }
+
+        String key = intentKey(referenceType, referenceId);
+        Reservation reservation = new Reservation(asset, selected, required, Instant.now());
+        reservations.put(key, reservation);
+        releaseOnRollback(key, reservation);
+        Counter.builder("wallet.admin.pool.selections")
+            .description("Payouts assigned to each admin pool wallet")
+            .tag("network", networkType.name())
+            .tag("wallet", selected)
+            .register(meterRegistry)
+            .increment();
+        log.debug("Admin pool wallet {} selected for {}:{} - Pending: {}", selected, referenceType, referenceId, selectedPending);
+        return selected;
+    }
+
+    /**
+     * 의도 기록에 실패한 지급의 예약을 해제합니다.
+     */
+    public void release(String referenceType, String referenceId) {
+        reservations.remove(intentKey(referenceType, referenceId));
+    }
+
+    /**
+     * 지갑의 대기 중인 지급 수 (아웃박스의 진행 중 의도 포함)
+     */
+    public long pendingCount(NetworkType networkType, String walletAddress) {
+        return pendingCount(networkType, walletAddress, transactionOutbox.countActiveIntentsByFromAddress(networkType));
+    }
+
+    /**
+     * 브로드캐스트 전 지급은 아웃박스 의도 수(다른 인스턴스 포함)와 이 인스턴스의 의도 예약(커밋 전 포함) 중 큰 값으로,
+     * 브로드캐스트 후 확인 대기 지급은 이 인스턴스의 예약으로 셉니다.
+     */
+    private long pendingCount(NetworkType networkType, String walletAddress, Map<String, Long> sharedPending) {
+        long intentReservations = 0;
+        long transactionReservations = 0;
+        for (Map.Entry<String, Reservation> entry : reservations.entrySet()) {
+            Reservation reservation = entry.getValue();
+            if (reservation.asset().networkType() != networkType || !reservation.wallet().equalsIgnoreCase(walletAddress)) {
+                continue;
+            }
+            if (entry.getKey().startsWith(TRANSACTION_KEY_PREFIX)) {
+                transactionReservations++;
+            } else {
+                intentReservations++;
+            }
+        }
+        long shared = sharedPending.getOrDefault(walletAddress.toLowerCase(Locale.ROOT), 0L);
+        return Math.max(intentReservations, shared) + transactionReservations;
+    }
+
+    /**
+     * 토큰 전송 가스비를 낼 네이티브 코인이 남아 있는지 확인합니다 (잔액을 아직 모르면 통과).
+     */
+    private boolean hasGas(NetworkType networkType, String wallet) {
+        Map<String, BigDecimal> nativeBalances = balances.get(Asset.of(networkType, null));
+        BigDecimal balance = nativeBalances != null ? nativeBalances.get(wallet) : null;
+        return balance == null || balance.compareTo(properties.getMinGasBalance()) >= 0;
+    }
+
+    /**
+     * 호출자 트랜잭션이 롤백되면 의도가 기록되지 않으므로 예약을 바로 해제합니다 (TTL까지 대기 깊이를 차지하지 않도록).
+     */
+    private void releaseOnRollback(String key, Reservation reservation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    reservations.remove(key, reservation);
+                }
+            }
+        });
+    }
+
+    // ========== 아웃박스 / 확인 추적 ==========
+
+    @Override
+    public boolean supports(String referenceType) {
+        return true;
+    }
+
+    @Override
+    public void onSent(TransactionIntent intent) {
+        Reservation reservation = reservations.remove(intentKey(intent.getReferenceType(), intent.getReferenceId()));
+        if (reservation != null && intent.getTransactionHash() != null) {
+            reservations.put(transactionKey(intent.getTransactionHash()), reservation);
+        }
+    }
+
+    @Override
+    public void onFailed(TransactionIntent intent) {
+        reservations.remove(intentKey(intent.getReferenceType(), intent.getReferenceId()));
+    }
+
+    @Override
+    public Collection<String> unconfirmedTransactions(NetworkType networkType) {
+        return List.of();
+    }
+
+    @Override
+    public void onConfirmed(Set<String> transactionHashes) {
+        for (String transactionHash : transactionHashes) {
+            Reservation reservation = reservations.remove(transactionKey(transactionHash));
+            if (reservation == null) {
+                continue;
+            }
+            Map<String, BigDecimal> known = balances.get(reservation.asset());
+            if (known != null) {
+                known.computeIfPresent(reservation.wallet(), (wallet, balance) -> balance.subtract(reservation.amount()));
+            }
+        }
+    }
+
+    @Override
+    public void onFailed(Set<String> transactionHashes) {
+        for (String transactionHash : transactionHashes) {
+            reservations.remove(transactionKey(transactionHash));
+        }
+    }
+
+    @Override
+    public void onReplaced(String previousHash, String replacementHash) {
+        Reservation reservation = reservations.remove(transactionKey(previousHash));
+        if (reservation != null) {
+            reservations.put(transactionKey(replacementHash), reservation);
+        }
+    }
+
+    // ========== 잔액 조회 / 재분배 ==========
+
+    /**
+     * 풀 지갑의 잔액을 다시 조회합니다. 지갑이 하나뿐인 네트워크는 선택할 필요가 없으므로 건너뜁니다.
+     * 조회에 실패한 지갑은 0으로 기록하지 않고 이전에 알던 잔액을 유지합니다 (처음이면 모르는 잔액으로 둡니다).
+     */
+    @Scheduled(initialDelayString = "${wallet.admin-pool.balance-refresh-interval-ms:15000}",
+               fixedDelayString = "${wallet.admin-pool.balance-refresh-interval-ms:15000}")
+    public void refreshBalances() {
+        for (NetworkType networkType : properties.getWallets().keySet()) {
+            List<String> wallets = adminWalletService.getAdminWalletAddresses(networkType);
+            if (wallets.size() <= 1) {
+                continue;
+            }
+            balances.computeIfAbsent(Asset.of(networkType, null), key -> new ConcurrentHashMap<>());
+            for (Asset asset : List.copyOf(balances.keySet())) {
+                if (asset.networkType() != networkType) {
+                    continue;
+                }
+                try {
+                    Map<String, BigDecimal> fetched = fetchBalances(asset, wallets);
+                    Map<String, BigDecimal> previous = balances.getOrDefault(asset, Map.of());
+                    Map<String, BigDecimal> updated = new ConcurrentHashMap<>();
+                    for (String wallet : wallets) {
+                        BigDecimal balance = fetched.containsKey(wallet) ? fetched.get(wallet) : previous.get(wallet);
+                        if (balance != null) {
+                            updated.put(wallet, balance);
+                        }
+                    }
+                    if (fetched.size() < wallets.size()) {
+                        log.warn("Admin pool balance read failed for {} of {} wallets, keeping previous balances - Network: {}, Asset: {}",
+                            wallets.size() - fetched.size(), wallets.size(), networkType, asset.label());
+                    }
+                    balances.put(asset, updated);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh admin pool balances - Network: {}, Asset: {}, Error: {}",
+                        networkType, asset.label(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 여유 잔액이 평균의 기준 비율 아래로 떨어진 지갑에 가장 여유 있는 지갑에서 잔액을 옮깁니다.
+     */
+    @Scheduled(initialDelayString = "${wallet.admin-pool.rebalance-interval-ms:300000}",
+               fixedDelayString = "${wallet.admin-pool.rebalance-interval-ms:300000}")
+    public void rebalance() {
+        if (!properties.isRebalanceEnabled()) {
+            return;
+        }
+        for (Asset asset : List.copyOf(balances.keySet())) {
+            try {
+                rebalance(asset);
+            } catch (RuntimeException e) {
+                log.warn("Failed to rebalance admin pool - Network: {}, Asset: {}, Error: {}",
+                    asset.networkType(), asset.label(), e.getMessage());
+            }
+        }
+    }
+
+    synchronized void rebalance(Asset asset) {
+        List<String> wallets = adminWalletService.getAdminWalletAddresses(asset.networkType());
+        Map<String, BigDecimal> known = balances.get(asset);
+        if (wallets.size() <= 1 || known == null || !known.keySet().containsAll(wallets)) {
+            return;
+        }
+        expireReservations();
+
+        String poorest = null;
+        String richest = null;
+        BigDecimal total = BigDecimal.ZERO;
+        Map<String, BigDecimal> free = new HashMap<>();
+        for (String wallet : wallets) {
+            BigDecimal balance = freeBalance(asset, wallet, known.get(wallet));
+            free.put(wallet, balance);
+            total = total.add(balance);
+            if (poorest == null || balance.compareTo(free.get(poorest)) < 0) {
+                poorest = wallet;
+            }
+            if (richest == null || balance.compareTo(free.get(richest)) > 0) {
+                richest = wallet;
+            }
+        }
+        BigDecimal average = total.divide(BigDecimal.valueOf(wallets.size()), 18, RoundingMode.DOWN);
+        BigDecimal threshold = average.multiply(BigDecimal.valueOf(properties.getRebalanceThresholdPercent()))
+            .divide(BigDecimal.valueOf(100), 18, RoundingMode.DOWN);
+        if (free.get(poorest).compareTo(threshold) >= 0) {
+            return;
+        }
+        BigDecimal amount = average.subtract(free.get(poorest)).min(free.get(richest).subtract(average))
+            .setScale(6, RoundingMode.DOWN);
+        if (amount.compareTo(properties.getMinRebalanceAmount()) < 0) {
+            return;
+        }
+
+        String referenceId = asset.label() + ":" + poorest;
+        if (transactionOutbox.hasActiveIntent(REBALANCE, referenceId)) {
+            log.debug("Admin pool rebalance already in flight - {}", referenceId);
+            return;
+        }
+        Transaction transaction = new Transaction(
+            new UserId(adminWalletService.getAdminUserId()),
+            BlockchainTransactionType.TOKEN_TRANSFER,
+            asset.networkType(),
+            amount,
+            richest,
+            poorest,
+            "Admin pool rebalance: " + asset.label()
+        );
+        transactionOutbox.enqueue(
+            transaction,
+            new OutboxPayloads.Transfer(poorest, amount, asset.tokenContract()),
+            REBALANCE,
+            referenceId
+        );
+        reservations.put(intentKey(REBALANCE, referenceId), new Reservation(asset, richest, amount, Instant.now()));
+        rebalances.increment();
+        log.info("Admin pool rebalance enqueued - Network: {}, Asset: {}, From: {} To: {} Amount: {}",
+            asset.networkType(), asset.label(), richest, poorest, amount);
+    }
+
+    /**
+     * 조회에 성공한 지갑의 잔액만 반환합니다.
+     * 동기 클라이언트의 단건 잔액 조회는 오류 시 "0"을 반환하므로, 네이티브 잔액은 오류를 예외로 전달하는 비동기 클라이언트가 있으면 그것을 사용합니다.
+     */
+    private Map<String, BigDecimal> fetchBalances(Asset asset, List<String> wallets) {
+        BlockchainClient client = blockchainClientFactory.getClient(asset.networkType());
+        int decimals = asset.networkType() == NetworkType.ETHEREUM ? 18 : 9;
+        Map<String, BigDecimal> fetched = new LinkedHashMap<>();
+        Optional<AsyncBlockchainClient> asyncClient = asset.tokenContract() == null
+            ? blockchainClientFactory.getAsyncClient(asset.networkType()) : Optional.empty();
+        if (asyncClient.isPresent()) {
+            Map<String, CompletableFuture<String>> requests = new LinkedHashMap<>();
+            for (String wallet : wallets) {
+                requests.put(wallet, asyncClient.get().getBalance(wallet));
+            }
+            requests.forEach((wallet, request) -> {
+                try {
+                    fetched.put(wallet, new BigDecimal(request.join()).movePointLeft(decimals));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to read admin pool native balance - Wallet: {}, Error: {}", wallet, e.getMessage());
+                }
+            });
+        } else if (asset.tokenContract() == null) {
+            for (String wallet : wallets) {
+                fetched.put(wallet, new BigDecimal(client.getBalance(wallet)).movePointLeft(decimals));
+            }
+        } else {
+            List<String> addresses = new ArrayList<>(wallets);
+            client.getTokenBalances(asset.tokenContract(), addresses).forEach((wallet, balance) -> {
+                if (balance != null) {
+                    fetched.put(wallet, new BigDecimal(balance).movePointLeft(decimals));
+                }
+            });
+        }
+        return fetched;
+    }
+
+    /**
+     * 잔액에서 아직 확인되지 않은 예약 금액을 뺀 여유 잔액 (잔액을 모르면 null)
+     */
+    private BigDecimal freeBalance(Asset asset, String wallet, BigDecimal balance) {
+        if (balance == null) {
+            return null;
+        }
+        BigDecimal reserved = reservations.values().stream()
+            .filter(reservation -> reservation.asset().equals(asset) && reservation.wallet().equalsIgnoreCase(wallet))
+            .map(Reservation::amount)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return balance.subtract(reserved);
+    }
+
+    private void expireReservations() {
+        Instant cutoff = Instant.now().minus(Duration.ofMillis(properties.getReservationTtlMs()));
+        reservations.values().removeIf(reservation -> reservation.createdAt().isBefore(cutoff));
+    }
+
+    private static int compareFree(BigDecimal left, BigDecimal right) {
+        // 잔액을 모르는 지갑은 잔액을 아는 지갑보다 뒤로 둡니다.
+        if (left == null || right == null) {
+            return left == null ? (right == null ? 0 : -1) : 1;
+        }
+        return left.compareTo(right);
+    }
+
+    private static String intentKey(String referenceType, String referenceId) {
+        return "ref:" + referenceType + ":" + referenceId;
+    }
+
+    private static String transactionKey(String transactionHash) {
+        return TRANSACTION_KEY_PREFIX + transactionHash.toLowerCase();
+    }
+
+    /**
+     * 네트워크별 자산 (네이티브 코인이면 tokenContract가 null)
+     */
+    record Asset(NetworkType networkType, String tokenContract) {
+
+        static Asset of(NetworkType networkType, String tokenContract) {
+            return new Asset(networkType, tokenContract == null ? null : tokenContract.toLowerCase());
+        }
+
+        String label() {
+            return networkType.name() + ":" + (tokenContract == null ? NATIVE : tokenContract);
+        }
+    }
+
+    private record Reservation(Asset asset, String wallet, BigDecimal amount, Instant createdAt) {
+    }
+}
@@ -4,6 +4,7 @@ import com.bloominggrace.governance.blockchain.application.service.BlockchainCli
 import com.bloominggrace.governance.blockchain.infrastructure.service.ethereum.EthereumBlockchainClient;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import com.bloominggrace.governance.wallet.domain.model.Wallet;
+import com.bloominggrace.governance.wallet.infrastructure.config.AdminWalletPoolProperties;
 import com.bloominggrace.governance.wallet.infrastructure.repository.WalletRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -23,6 +26,7 @@ public class AdminWalletService {
     // 의존성 주입
     private final BlockchainClientFactory blockchainClientFactory;
     private final WalletRepository walletRepository;
+    private final AdminWalletPoolProperties poolProperties;
 
     // 간단한 캐시
     private final Map<NetworkType, BigInteger> proposalCountCache = new ConcurrentHashMap<>();
@@ -99,6 +103,35 @@ public class AdminWalletService {
         }
     }
 
+    /**
+     * Admin 사용자 ID
+     */
+    public UUID getAdminUserId() {
+        return UUID.fromString(ADMIN_USER_ID);
+    }
+
+    /**
+     * 관리자 지갑 풀의 주소 목록 (기본 Admin 지갑이 첫 번째, 중복 제외)
+     */
+    public List<String> getAdminWalletAddresses(NetworkType networkType) {
+        List<String> addresses = new ArrayList<>();
+        addresses.add(getAdminWallet(networkType).getWalletAddress());
+        for (String address : poolProperties.walletsFor(networkType)) {
+            if (addresses.stream().noneMatch(existing -> sameAddress(networkType, existing, address))) {
+                addresses.add(address);
+            }
+        }
+        return addresses;
+    }
+
+    /**
+     * 관리자 지갑 풀에 속한 주소인지 확인
+     */
+    public boolean isAdminWallet(NetworkType networkType, String walletAddress) {
+        return walletAddress != null && getAdminWalletAddresses(networkType).stream()
+                .anyMatch(address -> sameAddress(networkType, address, walletAddress));
+    }
+
     /**
      * Admin 지갑 로딩 (DB → Hardcoded 순서)
      */
@@ -188,6 +221,13 @@ public class AdminWalletService {
 
     // ========== 유틸리티 ==========
 
+    /**
+     * Ethereum 주소는 대소문자를 구분하지 않고, Solana(Base58) 주소는 구분합니다.
+     */
+    private boolean sameAddress(NetworkType networkType, String left, String right) {
+        return networkType == NetworkType.ETHEREUM ? left.equalsIgnoreCase(right) : left.equals(right);
+    }
+
     /**
      * 지갑 주소 마스킹
      */
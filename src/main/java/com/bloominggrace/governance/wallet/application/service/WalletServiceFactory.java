@@ -4,6 +4,7 @@ import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import com.bloominggrace.governance.wallet.domain.service.WalletService;
 import com.bloominggrace.governance.wallet.infrastructure.repository.WalletRepository;
 import com.bloominggrace.governance.wallet.infrastructure.service.ethereum.EthereumWallet;
+import com.bloominggrace.governance.wallet.infrastructure.service.signing.SigningKeyCache;
 import com.bloominggrace.governance.wallet.infrastructure.service.solana.SolanaWalletService;
 import com.bloominggrace.governance.shared.security.domain.service.EncryptionService;
 import com.bloominggrace.governance.user.infrastructure.repository.UserRepository;
@@ -23,6 +24,7 @@ public class WalletServiceFactory {
     private final WalletRepository walletRepository;
     private final EncryptionService encryptionService;
     private final UserRepository userRepository;
+    private final SigningKeyCache signingKeyCache;
 
     /**
      * 네트워크 타입에 따라 적절한 지갑 서비스를 반환합니다.
@@ -34,9 +36,9 @@ public class WalletServiceFactory {
     public WalletService getWalletService(NetworkType networkType) {
         switch (networkType) {
             case ETHEREUM:
-                return new EthereumWallet(applicationContext, walletRepository, encryptionService, userRepository);
+                return new EthereumWallet(applicationContext, walletRepository, encryptionService, userRepository, signingKeyCache);
             case SOLANA:
-                return new SolanaWalletService(applicationContext, walletRepository, encryptionService, userRepository);
+                return new SolanaWalletService(applicationContext, walletRepository, encryptionService, userRepository, signingKeyCache);
             default:
                 throw new IllegalArgumentException("Unsupported network type: " + networkType);
         }
@@ -100,6 +100,17 @@ public abstract class WalletService {
      */
     public abstract <T> byte[] sign(TransactionBody<T> transactionBody, String privateKey);
 
+    /**
+     * 지갑 주소의 개인키를 복호화해 서명합니다.
+     * 구현체는 핫 월렛에 대해 캐시된 서명 키를 사용하도록 재정의할 수 있습니다.
+     *
+     * @param walletAddress 서명할 지갑 주소
+     * @return 서명 결과 (byte[])
+     */
+    public <T> byte[] signWithWallet(TransactionBody<T> transactionBody, String walletAddress) {
+        return sign(transactionBody, getDecryptedPrivateKey(walletAddress));
+    }
+
 
 
     /**
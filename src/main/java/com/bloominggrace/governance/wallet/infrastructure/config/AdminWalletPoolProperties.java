@@ -0,0 +1,134 @@
+package com.bloominggrace.governance.wallet.infrastructure.config;
+
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 핫 월렛 풀 설정
+ * 기본 관리자 지갑에 더해 네트워크별 추가 관리자 지갑으로 지급 트랜잭션을 분산합니다.
+ * 추가 지갑은 DB에 등록된(서명 가능한) 지갑이어야 합니다.
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "wallet.admin-pool")
+public class AdminWalletPoolProperties {
+
+    /**
+     * 기본 관리자 지갑 외에 풀에 포함할 네트워크별 지갑 주소
+     */
+    private Map<NetworkType, List<String>> wallets = new EnumMap<>(NetworkType.class);
+
+    /**
+     * 지갑별 잔액을 다시 조회하는 주기 (ms)
+     */
+    private long balanceRefreshIntervalMs = 15000;
+
+    /**
+     * 지급 예약을 보관하는 최대 시간 (ms). 의도가 기록되지 못한 예약이 대기 깊이를 계속 차지하지 않도록 합니다.
+     */
+    private long reservationTtlMs = 1800000;
+
+    /**
+     * 지갑 간 잔액 재분배 사용 여부
+     */
+    private boolean rebalanceEnabled = true;
+
+    /**
+     * 지갑 간 잔액 재분배 점검 주기 (ms)
+     */
+    private long rebalanceIntervalMs = 300000;
+
+    /**
+     * 여유 잔액이 풀 평균의 이 비율(%) 아래로 떨어진 지갑을 평균까지 채웁니다.
+     */
+    private double rebalanceThresholdPercent = 50.0;
+
+    /**
+     * 이보다 작은 재분배 전송은 하지 않습니다 (토큰 단위).
+     */
+    private BigDecimal minRebalanceAmount = BigDecimal.ONE;
+
+    /**
+     * 토큰 지급에 선택할 지갑이 가져야 하는 최소 네이티브 코인 잔액 (가스비용)
+     */
+    private BigDecimal minGasBalance = new BigDecimal("0.005");
+
+    /**
+     * 풀에 포함할 지갑 주소 목록
+     */
+    public List<String> walletsFor(NetworkType networkType) {
+        return wallets.getOrDefault(networkType, new ArrayList<>());
+    }
+
+    public Map<NetworkType, List<String>> getWallets() {
+        return wallets;
+    }
+
+    public void setWallets(Map<NetworkType, List<String>> wallets) {
+        this.wallets = wallets;
+    }
+
+    public long getBalanceRefreshIntervalMs() {
+        return balanceRefreshIntervalMs;
+    }
+
+    public void setBalanceRefreshIntervalMs(long balanceRefreshIntervalMs) {
+        this.balanceRefreshIntervalMs = balanceRefreshIntervalMs;
+    }
+
+    public long getReservationTtlMs() {
+        return reservationTtlMs;
+    }
+
+    public void setReservationTtlMs(long reservationTtlMs) {
+        this.reservationTtlMs = reservationTtlMs;
+    }
+
+    public boolean isRebalanceEnabled() {
+        return rebalanceEnabled;
+    }
+
+    public void setRebalanceEnabled(boolean rebalanceEnabled) {
+        this.rebalanceEnabled = rebalanceEnabled;
+    }
+
+    public long getRebalanceIntervalMs() {
+        return rebalanceIntervalMs;
+    }
+
+    public void setRebalanceIntervalMs(long rebalanceIntervalMs) {
+        this.rebalanceIntervalMs = rebalanceIntervalMs;
+    }
+
+    public double getRebalanceThresholdPercent() {
+        return rebalanceThresholdPercent;
+    }
+
+    public void setRebalanceThresholdPercent(double rebalanceThresholdPercent) {
+        this.rebalanceThresholdPercent = rebalanceThresholdPercent;
+    }
+
+    public BigDecimal getMinRebalanceAmount() {
+        return minRebalanceAmount;
+    }
+
+    public void setMinRebalanceAmount(BigDecimal minRebalanceAmount) {
+        this.minRebalanceAmount = minRebalanceAmount;
+    }
+
+    public BigDecimal getMinGasBalance() {
+        return minGasBalance;
+    }
+
+    public void setMinGasBalance(BigDecimal minGasBalance) {
+        this.minGasBalance = minGasBalance;
+    }
+}
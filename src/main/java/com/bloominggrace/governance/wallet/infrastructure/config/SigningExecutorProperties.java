@@ -0,0 +1,47 @@
+package com.bloominggrace.governance.wallet.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서명 전용 실행기 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "wallet.signing-executor")
+public class SigningExecutorProperties {
+
+    /**
+     * 서명 스레드 수 (0 이하면 사용 가능한 코어 수)
+     */
+    private int threads = 0;
+
+    /**
+     * 대기 큐 크기 (가득 차면 호출 스레드가 직접 서명해 유입 속도를 늦춤)
+     */
+    private int queueCapacity = 256;
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 실제 사용할 서명 스레드 수
+     */
+    public int resolvedThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
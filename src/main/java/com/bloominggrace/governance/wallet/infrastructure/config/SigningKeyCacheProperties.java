@@ -0,0 +1,82 @@
+package com.bloominggrace.governance.wallet.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 핫 월렛 서명 키 캐시 설정
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "wallet.signing-key-cache")
+public class SigningKeyCacheProperties {
+
+    /**
+     * 캐시 사용 여부 (false면 서명마다 개인키를 복호화)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시된 키의 유효 시간 (ms, 만료되면 키 바이트를 지우고 다시 복호화)
+     */
+    private long ttlMs = 300000;
+
+    /**
+     * 캐시할 최대 지갑 수
+     */
+    private int maxEntries = 32;
+
+    /**
+     * 관리자 지갑을 캐시 대상에 포함할지 여부
+     */
+    private boolean includeAdminWallets = true;
+
+    /**
+     * 캐시를 허용할 핫 월렛 주소 목록 (여기에 없는 지갑은 캐시하지 않음)
+     */
+    private List<String> hotWallets = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isIncludeAdminWallets() {
+        return includeAdminWallets;
+    }
+
+    public void setIncludeAdminWallets(boolean includeAdminWallets) {
+        this.includeAdminWallets = includeAdminWallets;
+    }
+
+    public List<String> getHotWallets() {
+        return hotWallets;
+    }
+
+    public void setHotWallets(List<String> hotWallets) {
+        this.hotWallets = hotWallets;
+    }
+}
@@ -1,29 +1,27 @@
 package com.bloominggrace.governance.wallet.infrastructure.service.ethereum;
 
 import com.bloominggrace.governance.shared.domain.UserId;
-import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
 import com.bloominggrace.governance.shared.security.domain.service.EncryptionService;
 import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import com.bloominggrace.governance.wallet.domain.model.Wallet;
 import com.bloominggrace.governance.wallet.domain.service.WalletService;
 import com.bloominggrace.governance.wallet.domain.service.KeyPairProvider;
 import com.bloominggrace.governance.wallet.infrastructure.repository.WalletRepository;
+import com.bloominggrace.governance.wallet.infrastructure.service.signing.SigningKeyCache;
 import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
-import lombok.RequiredArgsConstructor;
+import com.bloominggrace.governance.shared.blockchain.domain.model.ethereum.UnsignedEvmTransaction;
 import org.springframework.stereotype.Service;
 import com.bloominggrace.governance.user.domain.model.User;
 import com.bloominggrace.governance.user.infrastructure.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.web3j.crypto.Credentials;
+import org.web3j.crypto.ECKeyPair;
 import org.web3j.crypto.RawTransaction;
 import org.web3j.crypto.TransactionEncoder;
 
 import java.util.List;
 import java.util.Optional;
-import java.math.BigInteger;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.context.ApplicationContext;
 
 @Slf4j
@@ -33,16 +31,19 @@ public class EthereumWallet extends WalletService {
     private final WalletRepository walletRepository;
     private final EncryptionService encryptionService;
     private final UserRepository userRepository;
+    private final SigningKeyCache signingKeyCache;
 
     public EthereumWallet(
             ApplicationContext applicationContext,
             WalletRepository walletRepository,
             EncryptionService encryptionService,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            SigningKeyCache signingKeyCache) {
         super(applicationContext);
         this.walletRepository = walletRepository;
         this.encryptionService = encryptionService;
         this.userRepository = userRepository;
+        this.signingKeyCache = signingKeyCache;
     }
 
     @Override
@@ -103,55 +104,57 @@ public class EthereumWallet extends WalletService {
                 .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
     }
     /**
-     * 주어진 메시지에 대해 개인키로 서명합니다.
+     * 주어진 트랜잭션 본문의 UnsignedEvmTransaction을 개인키로 서명합니다.
      */
     @Override
     public <T> byte[] sign(TransactionBody<T> transactionBody, String privateKey) {
-        try {
-            // 1. RawTransaction JSON에서 nonce를 직접 파싱
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rawTransactionJson = objectMapper.readTree(transactionBody.getData());
+        return sign(transactionBody, Credentials.create(privateKey));
+    }
 
-            // JSON에서 nonce 추출 (문자열로 저장되어 있으므로 BigInteger로 변환)
-            BigInteger nonce;
-            JsonNode nonceNode = rawTransactionJson.get("nonce");
-            if (nonceNode.isTextual()) {
-                nonce = new BigInteger(nonceNode.asText());
-            } else if (nonceNode.isNumber()) {
-                nonce = BigInteger.valueOf(nonceNode.asLong());
+    /**
+     * 핫 월렛은 캐시된 키 쌍으로, 그 외 지갑은 개인키를 복호화해 서명합니다.
+     */
+    @Override
+    public <T> byte[] signWithWallet(TransactionBody<T> transactionBody, String walletAddress) {
+        if (!signingKeyCache.isHotWallet(NetworkType.ETHEREUM, walletAddress)) {
+            return super.signWithWallet(transactionBody, walletAddress);
+        }
+        ECKeyPair keyPair = signingKeyCache.ethereumKeyPair(walletAddress, () -> getDecryptedPrivateKey(walletAddress));
+        return sign(transactionBody, Credentials.create(keyPair));
+    }
+
+    private <T> byte[] sign(TransactionBody<T> transactionBody, Credentials credentials) {
+        if (!(transactionBody.getNetworkSpecificData() instanceof UnsignedEvmTransaction transaction)) {
+            throw new IllegalArgumentException("Ethereum transaction body must carry an UnsignedEvmTransaction");
+        }
+        try {
+            // Web3j RawTransaction 생성 (maxFeePerGas가 있으면 EIP-1559, 없으면 레거시)
+            RawTransaction rawTransaction;
+            if (transaction.isEip1559()) {
+                rawTransaction = RawTransaction.createTransaction(
+                    transaction.chainId(),
+                    transaction.nonce(),
+                    transaction.gasLimit(),
+                    transaction.to(),
+                    transaction.value(),
+                    transaction.dataHex(),
+                    transaction.maxPriorityFeePerGas(),
+                    transaction.maxFeePerGas()
+                );
             } else {
-                throw new IllegalArgumentException("Invalid nonce format in transaction data");
+                rawTransaction = RawTransaction.createTransaction(
+                    transaction.nonce(),
+                    transaction.gasPrice(),
+                    transaction.gasLimit(),
+                    transaction.to(),
+                    transaction.value(),
+                    transaction.dataHex()
+                );
             }
 
-            log.info("Parsed nonce from RawTransaction JSON: {}", nonce);
-
-            // 2. JSON에서 필요한 필드들 추출
-            String toAddress = rawTransactionJson.get("toAddress").asText();
-            String value = rawTransactionJson.get("value").asText();
-            String data = rawTransactionJson.has("data") ? rawTransactionJson.get("data").asText() : "0x";
-            String gas_limit = rawTransactionJson.get("gasLimit").asText();
-            String gas_price = rawTransactionJson.get("gasPrice").asText();
-
-
-            // 3. Web3j RawTransaction 생성
-            RawTransaction rawTransaction = RawTransaction.createTransaction(
-                nonce,
-                new BigInteger(gas_price),
-                new BigInteger(gas_limit),
-                toAddress,
-                new BigInteger(value),
-                data
-            );
+            byte[] signedMessage = TransactionEncoder.signMessage(rawTransaction, transaction.chainId(), credentials);
 
-            // 4. Credentials 생성
-            Credentials credentials = Credentials.create(privateKey);
-
-            // 5. 트랜잭션 서명 (EIP-1559 형식)
-            long chainId = getChainId(); // 메서드로 분리
-            byte[] signedMessage = TransactionEncoder.signMessage(rawTransaction, chainId, credentials);
-
-
-            log.info("Transaction signed successfully with nonce: {}", nonce);
+            log.info("Transaction signed successfully with nonce: {}", transaction.nonce());
             return signedMessage;
         } catch (Exception e) {
             throw new RuntimeException("Ethereum sign error", e);
@@ -236,8 +239,4 @@ public class EthereumWallet extends WalletService {
             return UnlockResult.failure(walletAddress, "Unexpected error: " + e.getMessage());
         }
     }
-
-    private long getChainId() {
-        // 환경변수나 설정파일에서 읽어오도록 개선 가능
-        return EthereumConstants.Network.CHAIN_ID; // 기본값 사용
-    }}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.bloominggrace.governance.wallet.infrastructure.service.signing;
+
+import com.bloominggrace.governance.wallet.infrastructure.config.SigningExecutorProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 서명 전용 실행기
+ * secp256k1/Ed25519 서명은 CPU 바운드이므로 코어 수만큼의 고정 스레드와 제한된 큐에서 실행합니다.
+ * 큐가 가득 차면 호출 스레드가 직접 서명하므로(CallerRuns) 유입 속도가 서명 처리량에 맞춰집니다.
+ *
+ * 메트릭: wallet.signing.duration, wallet.signing.queue.size, wallet.signing.active, wallet.signing.caller.runs
+ */
+@Slf4j
+@Component
+public class SigningExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer signingTimer;
+    private final Counter callerRuns;
+
+    public SigningExecutor(SigningExecutorProperties properties, MeterRegistry meterRegistry) {
+        int threads = properties.resolvedThreads();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.callerRuns = Counter.builder("wallet.signing.caller.runs")
+            .description("Signatures run on the submitting thread because the signing queue was full")
+            .register(meterRegistry);
+        ThreadPoolExecutor.CallerRunsPolicy callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "wallet-signer-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, pool) -> {
+                callerRuns.increment();
+                callerRunsPolicy.rejectedExecution(runnable, pool);
+            }
+        );
+        this.executor.prestartAllCoreThreads();
+        this.signingTimer = Timer.builder("wallet.signing.duration")
+            .description("Time spent signing a transaction body")
+            .register(meterRegistry);
+        Gauge.builder("wallet.signing.queue.size", executor, pool -> pool.getQueue().size())
+            .description("Signing tasks waiting for a signer thread")
+            .register(meterRegistry);
+        Gauge.builder("wallet.signing.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Signer threads currently signing")
+            .register(meterRegistry);
+        log.info("Signing executor started with {} threads (queue capacity {})", threads, properties.getQueueCapacity());
+    }
+
+    /**
+     * 서명 작업을 서명 스레드에 제출합니다.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> signingTask) {
+        return CompletableFuture.supplyAsync(() -> signingTimer.record(signingTask), executor);
+    }
+
+    /**
+     * 서명 작업을 서명 스레드에 제출하고 완료를 기다립니다.
+     */
+    public <T> T sign(Supplier<T> signingTask) {
+        return join(submit(signingTask));
+    }
+
+    /**
+     * 여러 서명 작업을 병렬로 실행하고 제출 순서대로 결과를 반환합니다.
+     * 하나라도 실패하면 나머지 완료를 기다린 뒤 첫 번째 실패를 그대로 던집니다.
+     */
+    public <T> List<T> signAll(List<? extends Supplier<T>> signingTasks) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(signingTasks.size());
+        for (Supplier<T> signingTask : signingTasks) {
+            futures.add(submit(signingTask));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).exceptionally(error -> null).join();
+
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            results.add(join(future));
+        }
+        return results;
+    }
+
+    /**
+     * 서명 스레드 수
+     */
+    public int getThreads() {
+        return executor.getCorePoolSize();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.bloominggrace.governance.wallet.infrastructure.service.signing;
+
+import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletService;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.bloominggrace.governance.wallet.infrastructure.config.SigningKeyCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 핫 월렛 서명 키 캐시
+ * 허용 목록에 있는 지갑만 복호화한 개인키 바이트와 미리 계산한 공개키를 TTL/최대 개수 제한 안에서 보관합니다.
+ * 만료, 용량 초과, 무효화로 제거되는 즉시 키 바이트를 0으로 지웁니다.
+ *
+ * 메트릭: cache.gets/evictions (cache=signing-keys), signing.key.cache.load (복호화+공개키 계산 시간),
+ * signing.key.cache.time.saved (적중 × 평균 로드 시간)
+ */
+@Slf4j
+@Component
+public class SigningKeyCache {
+
+    private static final String CACHE_NAME = "signing-keys";
+
+    private final SigningKeyCacheProperties properties;
+    private final ObjectProvider<AdminWalletService> adminWalletService;
+    private final Set<String> hotWallets;
+    private final Cache<String, CachedKey> cache;
+    private final Timer loadTimer;
+
+    public SigningKeyCache(SigningKeyCacheProperties properties,
+                           ObjectProvider<AdminWalletService> adminWalletService,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.adminWalletService = adminWalletService;
+        this.hotWallets = properties.getHotWallets().stream()
+            .map(address -> address.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxEntries())
+            .expireAfterWrite(Duration.ofMillis(properties.getTtlMs()))
+            .executor(Runnable::run)
+            .<String, CachedKey>removalListener((key, value, cause) -> {
+                if (value != null) {
+                    value.wipe();
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.loadTimer = Timer.builder("signing.key.cache.load")
+            .description("Time spent decrypting and deriving signing keys on cache misses")
+            .register(meterRegistry);
+        FunctionCounter.builder("signing.key.cache.time.saved", this, SigningKeyCache::timeSavedSeconds)
+            .description("Estimated decrypt and key derivation time saved by cache hits")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 서명 키를 캐시할 수 있는 핫 월렛인지 확인합니다.
+     */
+    public boolean isHotWallet(NetworkType networkType, String walletAddress) {
+        if (!properties.isEnabled() || walletAddress == null) {
+            return false;
+        }
+        if (hotWallets.contains(walletAddress.toLowerCase(Locale.ROOT))) {
+            return true;
+        }
+        return properties.isIncludeAdminWallets() && isAdminWallet(networkType, walletAddress);
+    }
+
+    /**
+     * Ethereum 서명 키 쌍을 반환합니다. 캐시에 없으면 privateKeyLoader로 복호화하고 공개키를 계산해 보관합니다.
+     */
+    public ECKeyPair ethereumKeyPair(String walletAddress, Supplier<String> privateKeyLoader) {
+        return get(NetworkType.ETHEREUM, walletAddress, privateKeyLoader, CachedKey::toEcKeyPair, secret ->
+            Sign.publicKeyFromPrivate(new BigInteger(1, secret)));
+    }
+
+    /**
+     * Solana(Ed25519) 서명 키를 반환합니다. 캐시에 없으면 privateKeyLoader로 복호화해 보관합니다.
+     */
+    public Ed25519PrivateKeyParameters ed25519PrivateKey(String walletAddress, Supplier<String> privateKeyLoader) {
+        return get(NetworkType.SOLANA, walletAddress, privateKeyLoader, CachedKey::toEd25519PrivateKey, secret -> null);
+    }
+
+    /**
+     * 캐시된 키를 제거하고 키 바이트를 지웁니다 (키 교체 등).
+     */
+    public void invalidate(NetworkType networkType, String walletAddress) {
+        cache.invalidate(key(networkType, walletAddress));
+    }
+
+    /**
+     * 모든 캐시된 키를 제거하고 키 바이트를 지웁니다.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public Snapshot snapshot() {
+        CacheStats stats = cache.stats();
+        return new Snapshot(cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+            Math.round(loadTimer.mean(TimeUnit.MILLISECONDS) * 1000) / 1000.0, timeSavedSeconds());
+    }
+
+    private <K> K get(NetworkType networkType, String walletAddress, Supplier<String> privateKeyLoader,
+                      Function<CachedKey, K> keyMapper, Function<byte[], BigInteger> publicKeyDeriver) {
+        String key = key(networkType, walletAddress);
+        while (true) {
+            CachedKey cached = cache.get(key, ignored -> load(privateKeyLoader, publicKeyDeriver));
+            K signingKey = keyMapper.apply(cached);
+            if (signingKey != null) {
+                return signingKey;
+            }
+            // 조회 직후 만료로 지워진 항목이면 제거하고 다시 로드합니다.
+            cache.asMap().remove(key, cached);
+        }
+    }
+
+    private CachedKey load(Supplier<String> privateKeyLoader, Function<byte[], BigInteger> publicKeyDeriver) {
+        long start = System.nanoTime();
+        byte[] secret = Numeric.hexStringToByteArray(privateKeyLoader.get());
+        CachedKey cached = new CachedKey(secret, publicKeyDeriver.apply(secret));
+        loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return cached;
+    }
+
+    private double timeSavedSeconds() {
+        return cache.stats().hitCount() * loadTimer.mean(TimeUnit.SECONDS);
+    }
+
+    private boolean isAdminWallet(NetworkType networkType, String walletAddress) {
+        try {
+            return adminWalletService.getObject().isAdminWallet(networkType, walletAddress);
+        } catch (RuntimeException e) {
+            log.debug("Admin wallet lookup failed for {}: {}", networkType, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String key(NetworkType networkType, String walletAddress) {
+        // Ethereum 주소는 대소문자를 구분하지 않고, Solana(Base58) 주소는 구분합니다.
+        String address = networkType == NetworkType.ETHEREUM ? walletAddress.toLowerCase(Locale.ROOT) : walletAddress;
+        return networkType.name() + ":" + address;
+    }
+
+    /**
+     * 캐시된 서명 키 (개인키 바이트는 제거 시 0으로 지움)
+     */
+    static final class CachedKey {
+
+        private final byte[] secret;
+        private final BigInteger publicKey;
+        private boolean wiped;
+
+        CachedKey(byte[] secret, BigInteger publicKey) {
+            this.secret = secret;
+            this.publicKey = publicKey;
+        }
+
+        synchronized ECKeyPair toEcKeyPair() {
+            return wiped ? null : new ECKeyPair(new BigInteger(1, secret), publicKey);
+        }
+
+        synchronized Ed25519PrivateKeyParameters toEd25519PrivateKey() {
+            return wiped ? null : new Ed25519PrivateKeyParameters(secret, 0);
+        }
+
+        synchronized void wipe() {
+            Arrays.fill(secret, (byte) 0);
+            wiped = true;
+        }
+
+        synchronized boolean isWiped() {
+            return wiped;
+        }
+    }
+
+    /**
+     * 서명 키 캐시 상태
+     */
+    public record Snapshot(
+        long size,
+        long hits,
+        long misses,
+        double hitRate,
+        double meanLoadMs,
+        double timeSavedSeconds
+    ) {
+    }
+}
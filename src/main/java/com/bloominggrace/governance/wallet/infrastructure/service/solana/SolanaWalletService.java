@@ -7,6 +7,7 @@ import com.bloominggrace.governance.wallet.domain.model.Wallet;
 import com.bloominggrace.governance.wallet.domain.service.WalletService;
 import com.bloominggrace.governance.wallet.domain.service.KeyPairProvider;
 import com.bloominggrace.governance.wallet.infrastructure.repository.WalletRepository;
+import com.bloominggrace.governance.wallet.infrastructure.service.signing.SigningKeyCache;
 import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
 import com.bloominggrace.governance.shared.blockchain.domain.model.SignedTransaction;
 import com.bloominggrace.governance.shared.blockchain.domain.model.solana.SolanaTransactionData;
@@ -39,16 +40,19 @@ public class SolanaWalletService extends WalletService {
     private final WalletRepository walletRepository;
     private final EncryptionService encryptionService;
     private final UserRepository userRepository;
+    private final SigningKeyCache signingKeyCache;
     
     public SolanaWalletService(
             ApplicationContext applicationContext,
             WalletRepository walletRepository,
             EncryptionService encryptionService,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            SigningKeyCache signingKeyCache) {
         super(applicationContext);
         this.walletRepository = walletRepository;
         this.encryptionService = encryptionService;
         this.userRepository = userRepository;
+        this.signingKeyCache = signingKeyCache;
     }
     
     @Override
@@ -100,8 +104,23 @@ public class SolanaWalletService extends WalletService {
     
 
 
-        @Override
+    @Override
     public <T> byte[] sign(TransactionBody<T> transactionBody, String privateKey) {
+        return sign(transactionBody, new Ed25519PrivateKeyParameters(hexStringToByteArray(privateKey), 0));
+    }
+
+    /**
+     * 핫 월렛은 캐시된 Ed25519 키로, 그 외 지갑은 개인키를 복호화해 서명합니다.
+     */
+    @Override
+    public <T> byte[] signWithWallet(TransactionBody<T> transactionBody, String walletAddress) {
+        if (!signingKeyCache.isHotWallet(NetworkType.SOLANA, walletAddress)) {
+            return super.signWithWallet(transactionBody, walletAddress);
+        }
+        return sign(transactionBody, signingKeyCache.ed25519PrivateKey(walletAddress, () -> getDecryptedPrivateKey(walletAddress)));
+    }
+
+    private <T> byte[] sign(TransactionBody<T> transactionBody, Ed25519PrivateKeyParameters privateKeyParams) {
         try {
             // 1. Solana 특화 필드들을 동적으로 설정
             SolanaTransactionData solanaData = createSolanaTransactionData(transactionBody);
@@ -110,9 +129,6 @@ public class SolanaWalletService extends WalletService {
             byte[] messageBytes = createSolanaMessage(solanaData);
             
             // 3. Ed25519 서명 생성
-            Ed25519PrivateKeyParameters privateKeyParams = new Ed25519PrivateKeyParameters(
-                hexStringToByteArray(privateKey), 0
-            );
             Ed25519Signer signer = new Ed25519Signer();
             signer.init(true, privateKeyParams);
             signer.update(messageBytes, 0, messageBytes.length);
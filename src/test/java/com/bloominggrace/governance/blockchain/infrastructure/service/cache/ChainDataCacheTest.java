@@ -0,0 +1,53 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.cache;
+
+import com.bloominggrace.governance.blockchain.infrastructure.config.ChainCacheProperties;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChainDataCache 테스트")
+class ChainDataCacheTest {
+
+    private static final String BLOCK_HASH = "0xAB" + "0".repeat(62);
+
+    @TempDir
+    Path diskPath;
+
+    @Test
+    @DisplayName("해시 대소문자와 관계없이 같은 엔트리를 조회한다")
+    void normalizesHashKeys() {
+        // given
+        ChainDataCache cache = new ChainDataCache(new ChainCacheProperties(), new SimpleMeterRegistry());
+        cache.put(NetworkType.ETHEREUM, ChainDataCache.Region.BLOCK_BY_HASH, BLOCK_HASH, "{\"number\":\"0x1\"}");
+
+        // when & then
+        assertThat(cache.get(NetworkType.ETHEREUM, ChainDataCache.Region.BLOCK_BY_HASH, BLOCK_HASH.toLowerCase()))
+            .contains("{\"number\":\"0x1\"}");
+        assertThat(cache.get(NetworkType.ETHEREUM, ChainDataCache.Region.RECEIPT, BLOCK_HASH)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("디스크 계층에 저장된 엔트리는 새 캐시 인스턴스에서도 조회된다")
+    void survivesRestartWithDiskTier() {
+        // given
+        ChainCacheProperties properties = new ChainCacheProperties();
+        properties.setDiskPath(diskPath.toString());
+        new ChainDataCache(properties, new SimpleMeterRegistry())
+            .put(NetworkType.ETHEREUM, ChainDataCache.Region.RECEIPT, BLOCK_HASH, "{\"status\":\"0x1\"}");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // when
+        ChainDataCache restarted = new ChainDataCache(properties, meterRegistry);
+
+        // then
+        assertThat(restarted.get(NetworkType.ETHEREUM, ChainDataCache.Region.RECEIPT, BLOCK_HASH))
+            .contains("{\"status\":\"0x1\"}");
+        assertThat(meterRegistry.counter("chain.cache.disk.hits").count()).isEqualTo(1.0);
+    }
+}
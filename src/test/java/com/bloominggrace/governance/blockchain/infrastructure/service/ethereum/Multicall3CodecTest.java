@@ -0,0 +1,70 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.ethereum;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Multicall3Codec 테스트")
+class Multicall3CodecTest {
+
+    private static final String TOKEN = "0xd2Dfe16C1F31493530D297D58E32c337fd27615D";
+
+    @Test
+    @DisplayName("aggregate3 호출 데이터를 ABI 규칙대로 인코딩한다")
+    void encodeAggregate3() {
+        // given
+        Multicall3Codec.Call call = new Multicall3Codec.Call(TOKEN, "0x70a08231", true);
+
+        // when
+        String encoded = Multicall3Codec.encodeAggregate3(List.of(call));
+
+        // then
+        assertThat(encoded).isEqualTo(Multicall3Codec.AGGREGATE3_SELECTOR
+            + word("20")                                        // 배열 오프셋
+            + word("1")                                         // 배열 길이
+            + word("20")                                        // 튜플 0 오프셋
+            + word(TOKEN.substring(2).toLowerCase())            // target
+            + word("1")                                         // allowFailure
+            + word("60")                                        // callData 오프셋
+            + word("4")                                         // callData 길이
+            + "70a08231" + "0".repeat(56));                     // callData (32바이트 패딩)
+    }
+
+    @Test
+    @DisplayName("aggregate3 반환 데이터를 호출 순서대로 디코딩한다")
+    void decodeAggregate3() {
+        // given: [(true, uint256(5)), (false, 0x)]
+        String returnData = "0x"
+            + word("20") + word("2")
+            + word("40") + word("c0")
+            + word("1") + word("40") + word("20") + word("5")
+            + word("0") + word("40") + word("0");
+
+        // when
+        List<Multicall3Codec.Result> results = Multicall3Codec.decodeAggregate3(returnData);
+
+        // then
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).success()).isTrue();
+        assertThat(results.get(0).firstWordAsUint()).isEqualTo(BigInteger.valueOf(5));
+        assertThat(results.get(1).success()).isFalse();
+        assertThat(results.get(1).returnData()).isEqualTo("0x");
+        assertThat(results.get(1).firstWordAsUint()).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 반환 데이터(Multicall3 미배포)는 예외를 던진다")
+    void decodeEmptyReturnData() {
+        assertThatThrownBy(() -> Multicall3Codec.decodeAggregate3("0x"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String word(String hex) {
+        return "0".repeat(64 - hex.length()) + hex;
+    }
+}
@@ -0,0 +1,77 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.ethereum;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.Hash;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RevertReasonDecoder 테스트")
+class RevertReasonDecoderTest {
+
+    private static final String VOTER = "1111111111111111111111111111111111111111";
+
+    @Test
+    @DisplayName("Error(string) revert 데이터에서 require 메시지를 꺼낸다")
+    void decodeErrorString() {
+        // given
+        String message = "Already voted";
+        String data = RevertReasonDecoder.ERROR_SELECTOR
+            + word("20")
+            + word(Integer.toHexString(message.length()))
+            + padRight(HexFormat.of().formatHex(message.getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        RevertReasonDecoder.Decoded decoded = RevertReasonDecoder.decode(data, "execution reverted");
+
+        // then
+        assertThat(decoded.errorName()).isEqualTo("Error");
+        assertThat(decoded.reason()).isEqualTo("Already voted");
+    }
+
+    @Test
+    @DisplayName("Panic(uint256) 코드를 설명으로 변환한다")
+    void decodePanic() {
+        // when
+        RevertReasonDecoder.Decoded decoded = RevertReasonDecoder.decode(RevertReasonDecoder.PANIC_SELECTOR + word("11"), null);
+
+        // then
+        assertThat(decoded.errorName()).isEqualTo("Panic");
+        assertThat(decoded.reason()).isEqualTo("arithmetic overflow or underflow (0x11)");
+    }
+
+    @Test
+    @DisplayName("거버넌스 커스텀 에러를 이름과 인자로 디코딩한다")
+    void decodeCustomError() {
+        // given
+        String selector = Hash.sha3String("GovernorAlreadyCastVote(address)").substring(0, 10);
+
+        // when
+        RevertReasonDecoder.Decoded decoded = RevertReasonDecoder.decode(selector + word(VOTER), "execution reverted");
+
+        // then
+        assertThat(decoded.errorName()).isEqualTo("GovernorAlreadyCastVote");
+        assertThat(decoded.reason()).isEqualTo("GovernorAlreadyCastVote(0x" + VOTER + ")");
+    }
+
+    @Test
+    @DisplayName("revert 데이터가 없거나 잘렸으면 노드 메시지를 사유로 사용한다")
+    void fallbackToNodeMessage() {
+        // when & then
+        assertThat(RevertReasonDecoder.decode(null, "execution reverted: Voting closed").reason()).isEqualTo("Voting closed");
+        assertThat(RevertReasonDecoder.decode(RevertReasonDecoder.ERROR_SELECTOR + word("20"), "execution reverted").reason())
+            .isEqualTo("execution reverted (" + RevertReasonDecoder.ERROR_SELECTOR + ")");
+    }
+
+    private String word(String hex) {
+        return "0".repeat(64 - hex.length()) + hex;
+    }
+
+    private String padRight(String hex) {
+        int padded = (hex.length() + 63) / 64 * 64;
+        return hex + "0".repeat(padded - hex.length());
+    }
+}
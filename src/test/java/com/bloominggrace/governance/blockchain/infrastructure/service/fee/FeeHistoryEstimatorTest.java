@@ -0,0 +1,97 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.fee;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FeeHistoryEstimator 테스트")
+class FeeHistoryEstimatorTest {
+
+    private static final BigInteger GWEI = BigInteger.valueOf(1_000_000_000L);
+
+    @Test
+    @DisplayName("다음 블록 base fee와 블록별 보상 중앙값으로 등급별 수수료를 계산한다")
+    void estimateTiers() {
+        // given: base fee 10 → 12 gwei (마지막 값이 다음 블록), 보상 [slow, standard, fast]
+        List<String> baseFees = List.of(hexGwei(10), hexGwei(11), hexGwei(12));
+        List<List<String>> reward = List.of(
+            List.of(hexGwei(1), hexGwei(2), hexGwei(5)),
+            List.of(hexGwei(1), hexGwei(3), hexGwei(6))
+        );
+
+        // when
+        FeeSuggestion suggestion = FeeHistoryEstimator.estimate(baseFees, reward, gwei(15), 2, 1000L);
+
+        // then
+        assertThat(suggestion.isEip1559()).isTrue();
+        assertThat(suggestion.baseFeePerGas()).isEqualTo(gwei(12));
+        assertThat(suggestion.gasPrice()).isEqualTo(gwei(15));
+        assertThat(suggestion.slow().maxPriorityFeePerGas()).isEqualTo(gwei(1));
+        assertThat(suggestion.standard().maxPriorityFeePerGas()).isEqualTo(gwei(3));
+        assertThat(suggestion.fast().maxPriorityFeePerGas()).isEqualTo(gwei(6));
+        assertThat(suggestion.tier(FeeSpeed.FAST).maxFeePerGas()).isEqualTo(gwei(24 + 6));
+        assertThat(suggestion.observedAtMillis()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("빈 블록의 0 보상은 제외하고, 샘플이 없으면 가스 가격에서 base fee를 뺀 값을 팁으로 사용한다")
+    void fallbackTipWhenNoRewards() {
+        // given
+        List<String> baseFees = List.of(hexGwei(10), hexGwei(10));
+        List<List<String>> reward = List.of(List.of("0x0", "0x0", "0x0"));
+
+        // when
+        FeeSuggestion suggestion = FeeHistoryEstimator.estimate(baseFees, reward, gwei(12), 2, 0L);
+
+        // then
+        assertThat(suggestion.standard().maxPriorityFeePerGas()).isEqualTo(gwei(2));
+        assertThat(suggestion.standard().maxFeePerGas()).isEqualTo(gwei(22));
+    }
+
+    @Test
+    @DisplayName("등급이 높을수록 팁이 낮아지지 않는다")
+    void tiersAreMonotonic() {
+        // given
+        List<String> baseFees = List.of(hexGwei(10));
+        List<List<String>> reward = List.of(List.of(hexGwei(4), hexGwei(2), hexGwei(1)));
+
+        // when
+        FeeSuggestion suggestion = FeeHistoryEstimator.estimate(baseFees, reward, null, 2, 0L);
+
+        // then
+        assertThat(suggestion.standard().maxPriorityFeePerGas()).isEqualTo(gwei(4));
+        assertThat(suggestion.fast().maxPriorityFeePerGas()).isEqualTo(gwei(4));
+        assertThat(suggestion.gasPrice()).isEqualTo(gwei(14));
+    }
+
+    @Test
+    @DisplayName("base fee가 없는 체인은 레거시 가스 가격만 제안한다")
+    void legacyChain() {
+        // when
+        FeeSuggestion suggestion = FeeHistoryEstimator.estimate(List.of(), List.of(), gwei(20), 2, 0L);
+
+        // then
+        assertThat(suggestion.isEip1559()).isFalse();
+        assertThat(suggestion.gasPrice()).isEqualTo(gwei(20));
+    }
+
+    @Test
+    @DisplayName("base fee와 가스 가격이 모두 없으면 예외가 발생한다")
+    void noDataThrows() {
+        assertThatThrownBy(() -> FeeHistoryEstimator.estimate(List.of(), List.of(), null, 2, 0L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BigInteger gwei(long value) {
+        return GWEI.multiply(BigInteger.valueOf(value));
+    }
+
+    private static String hexGwei(long value) {
+        return "0x" + gwei(value).toString(16);
+    }
+}
@@ -0,0 +1,138 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.gas;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.config.GasModelProperties;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GasLimitModel 테스트")
+class GasLimitModelTest {
+
+    private static final String FROM = "0x1111111111111111111111111111111111111111";
+    private static final String CONTRACT = "0x2222222222222222222222222222222222222222";
+    // vote(uint256,uint8)
+    private static final String VOTE_DATA = "0x0121b93f"
+        + "0000000000000000000000000000000000000000000000000000000000000001"
+        + "0000000000000000000000000000000000000000000000000000000000000001";
+    private static final BigInteger FALLBACK = BigInteger.valueOf(500_000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private BlockchainClientFactory blockchainClientFactory;
+
+    @Mock
+    private BlockchainClient blockchainClient;
+
+    private GasModelProperties properties;
+    private GasLimitModel model;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GasModelProperties();
+        properties.setMinSamples(3);
+        properties.setMarginPercent(20);
+        model = new GasLimitModel(blockchainClientFactory, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("처음 보는 호출 형태는 eth_estimateGas를 한 번만 호출하고 캐시된 추정값에 여유를 더한다")
+    void unseenShapeUsesCachedEstimate() {
+        // given
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.estimateGas(FROM, CONTRACT, VOTE_DATA)).thenReturn("100000");
+
+        // when
+        BigInteger first = model.gasLimit(FROM, CONTRACT, VOTE_DATA, FALLBACK);
+        BigInteger second = model.gasLimit(FROM, CONTRACT, VOTE_DATA, FALLBACK);
+
+        // then
+        assertThat(first).isEqualTo(BigInteger.valueOf(120_000));
+        assertThat(second).isEqualTo(first);
+        verify(blockchainClient, times(1)).estimateGas(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("확정 영수증이 충분히 쌓이면 gasUsed 백분위수에 여유를 더해 RPC 없이 계산한다")
+    void learnedShapeUsesPercentileOfReceipts() throws Exception {
+        // given
+        long[] gasUsed = {60_000, 62_000, 70_000};
+        for (int i = 0; i < gasUsed.length; i++) {
+            String hash = "0xhash" + i;
+            model.expect(hash, CONTRACT, VOTE_DATA);
+            model.observe(hash, receipt(gasUsed[i], "0x1"));
+        }
+
+        // when
+        BigInteger gasLimit = model.gasLimit(FROM, CONTRACT, VOTE_DATA, FALLBACK);
+
+        // then
+        assertThat(model.sampleCount(CONTRACT, VOTE_DATA)).isEqualTo(3);
+        assertThat(gasLimit).isEqualTo(BigInteger.valueOf(84_000));
+        verify(blockchainClientFactory, never()).getClient(any());
+    }
+
+    @Test
+    @DisplayName("revert된 영수증과 등록되지 않은 해시는 학습하지 않는다")
+    void observeIgnoresRevertedAndUnknownTransactions() throws Exception {
+        // given
+        model.expect("0xreverted", CONTRACT, VOTE_DATA);
+
+        // when
+        model.observe("0xreverted", receipt(30_000, "0x0"));
+        model.observe("0xunknown", receipt(30_000, "0x1"));
+
+        // then
+        assertThat(model.sampleCount(CONTRACT, VOTE_DATA)).isZero();
+    }
+
+    @Test
+    @DisplayName("추정에 실패하면 고정 가스 한도를 사용하고 실패 결과는 캐시하지 않는다")
+    void failedEstimateFallsBackWithoutCaching() {
+        // given
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.estimateGas(FROM, CONTRACT, VOTE_DATA)).thenReturn("0");
+
+        // when
+        BigInteger first = model.gasLimit(FROM, CONTRACT, VOTE_DATA, FALLBACK);
+        BigInteger second = model.gasLimit(FROM, CONTRACT, VOTE_DATA, FALLBACK);
+
+        // then
+        assertThat(first).isEqualTo(FALLBACK);
+        assertThat(second).isEqualTo(FALLBACK);
+        verify(blockchainClient, times(2)).estimateGas(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("호출 형태는 컨트랙트, 셀렉터, 인자 워드 수로 구분하고 셀렉터가 없으면 모델을 쓰지 않는다")
+    void shapeOfIncludesSelectorAndArgumentWords() {
+        // when & then
+        assertThat(GasLimitModel.shapeOf(CONTRACT.toUpperCase().replace("0X", "0x"), VOTE_DATA))
+            .isEqualTo(CONTRACT + ":0121b93f:2");
+        assertThat(GasLimitModel.shapeOf(CONTRACT, "0x")).isNull();
+        assertThat(model.gasLimit(FROM, CONTRACT, "0x", FALLBACK)).isEqualTo(FALLBACK);
+    }
+
+    private JsonNode receipt(long gasUsed, String status) throws Exception {
+        return objectMapper.readTree("{\"gasUsed\":\"0x" + Long.toHexString(gasUsed) + "\",\"status\":\"" + status + "\"}");
+    }
+}
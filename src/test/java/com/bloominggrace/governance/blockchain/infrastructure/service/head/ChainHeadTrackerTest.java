@@ -0,0 +1,88 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.head;
+
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChainHeadTracker 테스트")
+class ChainHeadTrackerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final ChainHeadTracker tracker = new ChainHeadTracker(
+        NetworkType.ETHEREUM,
+        () -> head(100 + fetches.incrementAndGet(), "0xfetched"),
+        4,
+        5_000,
+        now::get
+    );
+
+    @Test
+    @DisplayName("허용 지연 안에서는 노드를 조회하지 않고 메모리의 헤드를 반환한다")
+    void servesFreshHeadFromMemory() {
+        // given
+        tracker.update(head(10, "0xa"));
+        now.addAndGet(4_000);
+
+        // when
+        ChainHead current = tracker.current();
+
+        // then
+        assertThat(current.number()).isEqualTo(10);
+        assertThat(fetches.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("허용 지연을 넘으면 노드에서 다시 조회한다")
+    void refreshesStaleHead() {
+        // given
+        tracker.update(head(10, "0xa"));
+        now.addAndGet(6_000);
+
+        // when
+        ChainHead current = tracker.current();
+
+        // then
+        assertThat(current.number()).isEqualTo(101);
+        assertThat(fetches.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("링 버퍼는 최근 N개의 헤더만 보관한다")
+    void keepsLastNHeaders() {
+        // when
+        for (long number = 1; number <= 6; number++) {
+            tracker.update(head(number, "0x" + number));
+        }
+
+        // then
+        assertThat(tracker.recent()).extracting(ChainHead::number).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(tracker.find(2)).isEmpty();
+        assertThat(tracker.find(5)).map(ChainHead::hash).contains("0x5");
+    }
+
+    @Test
+    @DisplayName("같은 높이에 다른 해시가 들어오면 재구성으로 보고 이후 헤더를 교체한다")
+    void replacesHeadersOnReorg() {
+        // given
+        tracker.update(head(1, "0x1"));
+        tracker.update(head(2, "0x2"));
+        tracker.update(head(3, "0x3"));
+
+        // when
+        tracker.update(head(2, "0x2b"));
+
+        // then
+        assertThat(tracker.recent()).extracting(ChainHead::hash).containsExactly("0x1", "0x2b");
+        assertThat(tracker.current().hash()).isEqualTo("0x2b");
+    }
+
+    private ChainHead head(long number, String hash) {
+        return new ChainHead(number, hash, null, number * 12, 0L);
+    }
+}
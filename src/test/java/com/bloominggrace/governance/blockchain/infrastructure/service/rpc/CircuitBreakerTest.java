@@ -0,0 +1,67 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.rpc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, 1000, now::get);
+
+    @Test
+    @DisplayName("연속 실패가 임계값에 도달하면 서킷이 열린다")
+    void opensAfterConsecutiveFailures() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.tryAcquirePermission();
+            circuitBreaker.onFailure();
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 시험 요청 한 건만 허용하고, 성공하면 닫힌다")
+    void halfOpenAllowsSingleProbe() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+        now.addAndGet(1_000_000_000L);
+
+        // when
+        boolean probe = circuitBreaker.tryAcquirePermission();
+        boolean concurrent = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(probe).isTrue();
+        assertThat(concurrent).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 요청이 실패하면 다시 열린다")
+    void reopensWhenProbeFails() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+        now.addAndGet(1_000_000_000L);
+        circuitBreaker.tryAcquirePermission();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+}
@@ -0,0 +1,226 @@
+package com.bloominggrace.governance.blockchain.infrastructure.service.rpc;
+
+import com.bloominggrace.governance.blockchain.domain.exception.RpcUnavailableException;
+import com.bloominggrace.governance.blockchain.infrastructure.config.RpcPoolProperties;
+import com.bloominggrace.governance.shared.blockchain.util.RpcHttpException;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RpcEndpointPool 테스트")
+class RpcEndpointPoolTest {
+
+    private static final String PRIMARY = "http://primary";
+    private static final String SECONDARY = "http://secondary";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final RpcPoolProperties properties = new RpcPoolProperties();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("쓰기 요청은 통신 오류 시 같은 페이로드로 다음 엔드포인트에 페일오버한다")
+    void writeFailsOverWithSamePayload() throws Exception {
+        // given
+        RpcEndpointPool pool = new RpcEndpointPool("test", List.of(PRIMARY, SECONDARY), properties, executor);
+        String payload = "0xsigned";
+        List<String> sent = new ArrayList<>();
+
+        // when
+        String result = pool.write(url -> {
+            sent.add(url + "|" + payload);
+            if (sent.size() == 1) {
+                throw new IOException("connection reset");
+            }
+            return url;
+        });
+
+        // then
+        assertThat(sent).hasSize(2);
+        assertThat(sent).allMatch(entry -> entry.endsWith("|" + payload));
+        assertThat(result).isNotEqualTo(sent.get(0).split("\\|")[0]);
+        assertThat(pool.snapshot().failovers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모든 엔드포인트가 실패하고 재시도가 소진되면 RpcUnavailableException을 던진다")
+    void writeThrowsWhenAllEndpointsFail() {
+        // given
+        RpcEndpointPool pool = new RpcEndpointPool("test", List.of(PRIMARY, SECONDARY), properties, executor);
+
+        // when & then
+        assertThatThrownBy(() -> pool.write(url -> {
+            throw new IOException("down: " + url);
+        })).isInstanceOf(RpcUnavailableException.class)
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("실패가 기록된 엔드포인트는 순위가 뒤로 밀린다")
+    void failingEndpointIsRankedLast() throws Exception {
+        // given
+        RpcEndpointPool pool = new RpcEndpointPool("test", List.of(PRIMARY, SECONDARY), properties, executor);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            pool.write(url -> {
+                if (url.equals(PRIMARY)) {
+                    throw new IOException("primary down");
+                }
+                return url;
+            });
+        }
+
+        // then
+        assertThat(pool.ranked().get(0).getUrl()).isEqualTo(SECONDARY);
+    }
+
+    @Test
+    @DisplayName("주 엔드포인트가 헤지 지연을 넘기면 두 번째 엔드포인트 응답을 사용한다")
+    void hedgedReadUsesFasterEndpoint() throws Exception {
+        // given
+        properties.setHedgeMinDelayMs(10);
+        properties.setHedgeMaxDelayMs(10);
+        RpcEndpointPool pool = new RpcEndpointPool("test", List.of(PRIMARY, SECONDARY), properties, executor);
+        String primary = pool.ranked().get(0).getUrl();
+
+        // when
+        String result = pool.<String>readAsync(url -> url.equals(primary)
+                ? new CompletableFuture<>()
+                : CompletableFuture.completedFuture(url))
+            .get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isNotEqualTo(primary);
+        assertThat(pool.snapshot().hedges()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("429 응답은 백오프 후 재시도한다")
+    void retriesRateLimitedRequest() throws Exception {
+        // given
+        properties.setRetryBaseDelayMs(1);
+        properties.setRetryMaxDelayMs(5);
+        RpcEndpointPool pool = new RpcEndpointPool("test", List.of(PRIMARY), properties, executor);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = pool.read(url -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new RpcHttpException(429, "Too Many Requests");
+            }
+            return "0x1";
+        });
+
+        // then
+        assertThat(result).isEqualTo("0x1");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(pool.snapshot().retries()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 HTTP 오류는 재시도 없이 그대로 던진다")
+    void doesNotRetryClientError() {
+        // given
+        RpcEndpointPool pool = new RpcEndpointPool("test", List.of(PRIMARY), properties, executor);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> pool.read(url -> {
+            calls.incrementAndGet();
+            throw new RpcHttpException(401, "Unauthorized");
+        })).isInstanceOf(RpcHttpException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 역직렬화 오류는 재시도 없이 그대로 던진다")
+    void doesNotRetryMalformedResponse() {
+        // given
+        RpcEndpointPool pool = new RpcEndpointPool("test", List.of(PRIMARY), properties, executor);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> pool.read(url -> {
+            calls.incrementAndGet();
+            throw new JsonParseException(null, "Unexpected character");
+        })).isInstanceOf(JsonParseException.class);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(pool.snapshot().retries()).isZero();
+    }
+
+    @Test
+    @DisplayName("서킷이 열리면 엔드포인트를 호출하지 않고 RpcUnavailableException을 던진다")
+    void openCircuitFailsFast() {
+        // given
+        properties.setCircuitFailureThreshold(2);
+        properties.setMaxAttempts(1);
+        RpcEndpointPool pool = new RpcEndpointPool("test", List.of(PRIMARY), properties, executor);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> pool.read(url -> {
+                throw new IOException("down");
+            })).isInstanceOf(RpcUnavailableException.class);
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> pool.read(url -> {
+            calls.incrementAndGet();
+            return url;
+        })).isInstanceOf(RpcUnavailableException.class);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("헤지 실행기가 포화되면 조회를 요청 스레드에서 직접 실행한다")
+    void readRunsOnCallerWhenHedgeExecutorSaturated() throws Exception {
+        // given
+        ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new SynchronousQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        saturated.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        RpcEndpointPool pool = new RpcEndpointPool("test", List.of(PRIMARY, SECONDARY), properties, saturated);
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        try {
+            // when
+            String result = pool.read(url -> {
+                threads.add(Thread.currentThread());
+                return url;
+            });
+
+            // then
+            assertThat(result).isNotNull();
+            assertThat(threads).containsExactly(caller);
+        } finally {
+            release.countDown();
+            saturated.shutdownNow();
+        }
+    }
+}
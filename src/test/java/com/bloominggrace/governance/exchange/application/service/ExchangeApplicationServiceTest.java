@@ -7,25 +7,33 @@ import com.bloominggrace.governance.exchange.infrastructure.repository.ExchangeR
 import com.bloominggrace.governance.point.application.service.PointManagementService;
 import com.bloominggrace.governance.point.domain.model.PointAmount;
 import com.bloominggrace.governance.shared.domain.UserId;
-import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletService;
-import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator;
+import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletPool;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.OutboxPayloads;
+import com.bloominggrace.governance.shared.blockchain.domain.model.Transaction;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionOutbox;
 import com.bloominggrace.governance.token.application.service.TokenAccountApplicationService;
+import com.bloominggrace.governance.token.domain.model.TokenAccount;
 import com.bloominggrace.governance.token.infrastructure.repository.TokenAccountRepository;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,13 +50,13 @@ class ExchangeApplicationServiceTest {
     private TokenAccountApplicationService tokenAccountApplicationService;
 
     @Mock
-    private TransactionOrchestrator transactionOrchestrator;
+    private TokenAccountRepository tokenAccountRepository;
 
     @Mock
-    private TokenAccountRepository tokenAccountRepository;
+    private AdminWalletPool adminWalletPool;
 
     @Mock
-    private AdminWalletService adminWalletService;
+    private TransactionOutbox transactionOutbox;
 
     @InjectMocks
     private ExchangeApplicationService exchangeApplicationService;
@@ -298,4 +306,203 @@ class ExchangeApplicationServiceTest {
         verify(pointManagementService).getPointBalance(testUserId.getValue());
         verify(exchangeRequestRepository).save(any(ExchangeRequest.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("정산 윈도우는 조건부 갱신으로 점유한 요청만 포인트를 동결하고 멀티센드 의도를 한 번 기록한다")
+    void claimSettlementWindowEnqueuesClaimedRequests() {
+        // given
+        ExchangeRequest other = new ExchangeRequest(UUID.randomUUID(), PointAmount.of(new BigDecimal("500")), "0xABCD");
+        ExchangeRequest taken = new ExchangeRequest(UUID.randomUUID(), PointAmount.of(new BigDecimal("300")), "0xbeef");
+        when(exchangeRequestRepository.findByStatusAndWalletAddressStartingWithOrderByCreatedAtAsc(eq(ExchangeStatus.REQUESTED), eq("0x"), any()))
+            .thenReturn(List.of(testExchangeRequest, other, taken));
+        when(pointManagementService.getPointBalance(any())).thenReturn(testPointBalance);
+        when(exchangeRequestRepository.claimForSettlement(eq(testExchangeRequest.getId()), eq(ExchangeStatus.REQUESTED), eq(ExchangeStatus.PROCESSING), any()))
+            .thenReturn(1);
+        when(exchangeRequestRepository.claimForSettlement(eq(other.getId()), eq(ExchangeStatus.REQUESTED), eq(ExchangeStatus.PROCESSING), any()))
+            .thenReturn(1);
+        when(exchangeRequestRepository.claimForSettlement(eq(taken.getId()), eq(ExchangeStatus.REQUESTED), eq(ExchangeStatus.PROCESSING), any()))
+            .thenReturn(0);
+
+        // when
+        List<ExchangeRequest> claimed = exchangeApplicationService.claimSettlementWindow("0x", 10, "0xadmin", "0xmultisend");
+
+        // then
+        assertThat(claimed).containsExactly(testExchangeRequest, other);
+        verify(pointManagementService).freezePoints(any(), eq(testExchangeRequest.getPointAmount()), anyString());
+        verify(pointManagementService).freezePoints(any(), eq(other.getPointAmount()), anyString());
+        verify(pointManagementService, never()).freezePoints(any(), eq(taken.getPointAmount()), anyString());
+
+        ArgumentCaptor<OutboxPayloads.Payload> payload = ArgumentCaptor.forClass(OutboxPayloads.Payload.class);
+        verify(transactionOutbox).enqueue(any(), payload.capture(), eq(ExchangeSettlementIntentListener.EXCHANGE_SETTLEMENT), anyString());
+        OutboxPayloads.MultiTransfer multiTransfer = (OutboxPayloads.MultiTransfer) payload.getValue();
+        assertThat(multiTransfer.multisendContract()).isEqualTo("0xmultisend");
+        assertThat(multiTransfer.transfers()).containsOnlyKeys(testWalletAddress, "0xabcd");
+    }
+
+    @Test
+    @DisplayName("다른 처리기가 먼저 가져간 요청만 있으면 멀티센드 의도를 기록하지 않는다")
+    void claimSettlementWindowSkipsTakenRequests() {
+        // given
+        when(exchangeRequestRepository.findByStatusAndWalletAddressStartingWithOrderByCreatedAtAsc(eq(ExchangeStatus.REQUESTED), eq("0x"), any()))
+            .thenReturn(List.of(testExchangeRequest));
+        when(pointManagementService.getPointBalance(testUserId.getValue())).thenReturn(testPointBalance);
+        when(exchangeRequestRepository.claimForSettlement(eq(testExchangeRequest.getId()), eq(ExchangeStatus.REQUESTED), eq(ExchangeStatus.PROCESSING), any()))
+            .thenReturn(0);
+
+        // when
+        List<ExchangeRequest> claimed = exchangeApplicationService.claimSettlementWindow("0x", 10, "0xadmin", "0xmultisend");
+
+        // then
+        assertThat(claimed).isEmpty();
+        verify(pointManagementService, never()).freezePoints(any(), any(), anyString());
+        verify(transactionOutbox, never()).enqueue(any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("포인트가 부족한 요청은 REQUESTED 상태일 때만 실패 처리하고 윈도우에서 제외한다")
+    void claimSettlementWindowFailsInsufficientPoints() {
+        // given
+        ExchangeRequest tooLarge = new ExchangeRequest(testUserId.getValue(), PointAmount.of(new BigDecimal("5000")), testWalletAddress);
+        when(exchangeRequestRepository.findByStatusAndWalletAddressStartingWithOrderByCreatedAtAsc(eq(ExchangeStatus.REQUESTED), eq("0x"), any()))
+            .thenReturn(List.of(tooLarge));
+        when(pointManagementService.getPointBalance(testUserId.getValue())).thenReturn(testPointBalance);
+        when(exchangeRequestRepository.transition(tooLarge.getId(), ExchangeStatus.REQUESTED, ExchangeStatus.FAILED)).thenReturn(1);
+
+        // when
+        List<ExchangeRequest> claimed = exchangeApplicationService.claimSettlementWindow("0x", 10, "0xadmin", "0xmultisend");
+
+        // then
+        assertThat(claimed).isEmpty();
+        verify(exchangeRequestRepository, never()).claimForSettlement(any(), any(), any(), any());
+        verify(transactionOutbox, never()).enqueue(any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("이미 다른 처리기가 가져간 요청은 처리 시작 시 예외가 발생한다")
+    void processExchangeRequestAlreadyClaimed() {
+        // given
+        when(exchangeRequestRepository.findById(testExchangeRequestId)).thenReturn(Optional.of(testExchangeRequest));
+        when(exchangeRequestRepository.transition(testExchangeRequestId, ExchangeStatus.REQUESTED, ExchangeStatus.PROCESSING))
+            .thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> exchangeApplicationService.processExchangeRequest(testExchangeRequestId))
+            .isInstanceOf(IllegalStateException.class);
+
+        verify(pointManagementService, never()).freezePoints(any(), any(), anyString());
+        verify(transactionOutbox, never()).enqueue(any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("교환 처리 시 포인트를 동결하고 풀 지갑에서 보내는 토큰 전송 의도를 기록한다")
+    void processExchangeRequestEnqueuesTokenTransfer() {
+        // given
+        UUID trackingId = UUID.randomUUID();
+        when(exchangeRequestRepository.findById(testExchangeRequestId)).thenReturn(Optional.of(testExchangeRequest));
+        when(exchangeRequestRepository.transition(testExchangeRequestId, ExchangeStatus.REQUESTED, ExchangeStatus.PROCESSING))
+            .thenReturn(1);
+        when(adminWalletPool.select(eq(NetworkType.ETHEREUM), anyString(), any(), eq(ExchangeTransactionIntentListener.EXCHANGE), anyString()))
+            .thenReturn("0xadmin");
+        when(transactionOutbox.enqueue(any(), any(), eq(ExchangeTransactionIntentListener.EXCHANGE), anyString()))
+            .thenReturn(trackingId);
+
+        // when
+        UUID result = exchangeApplicationService.processExchangeRequest(testExchangeRequestId);
+
+        // then
+        assertThat(result).isEqualTo(trackingId);
+        verify(pointManagementService).freezePoints(testUserId.getValue(), testExchangeRequest.getPointAmount(),
+            testExchangeRequestId.getValue().toString());
+
+        ArgumentCaptor<Transaction> transaction = ArgumentCaptor.forClass(Transaction.class);
+        ArgumentCaptor<OutboxPayloads.Payload> payload = ArgumentCaptor.forClass(OutboxPayloads.Payload.class);
+        verify(transactionOutbox).enqueue(transaction.capture(), payload.capture(),
+            eq(ExchangeTransactionIntentListener.EXCHANGE), eq(testExchangeRequest.getId().getValue().toString()));
+        assertThat(transaction.getValue().getFromAddress()).isEqualTo("0xadmin");
+        OutboxPayloads.Transfer transfer = (OutboxPayloads.Transfer) payload.getValue();
+        assertThat(transfer.toAddress()).isEqualTo(testWalletAddress);
+        assertThat(transfer.amount()).isEqualByComparingTo(ExchangeApplicationService.toTokenAmount(testExchangeRequest.getPointAmount()));
+        verify(adminWalletPool, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 전송 의도 기록에 실패하면 풀 지갑 예약을 해제한다")
+    void processExchangeRequestReleasesPoolReservationOnEnqueueFailure() {
+        // given
+        when(exchangeRequestRepository.findById(testExchangeRequestId)).thenReturn(Optional.of(testExchangeRequest));
+        when(exchangeRequestRepository.transition(testExchangeRequestId, ExchangeStatus.REQUESTED, ExchangeStatus.PROCESSING))
+            .thenReturn(1);
+        when(adminWalletPool.select(eq(NetworkType.ETHEREUM), anyString(), any(), eq(ExchangeTransactionIntentListener.EXCHANGE), anyString()))
+            .thenReturn("0xadmin");
+        when(transactionOutbox.enqueue(any(), any(), eq(ExchangeTransactionIntentListener.EXCHANGE), anyString()))
+            .thenThrow(new IllegalStateException("outbox unavailable"));
+
+        // when & then
+        assertThatThrownBy(() -> exchangeApplicationService.processExchangeRequest(testExchangeRequestId))
+            .isInstanceOf(IllegalStateException.class);
+
+        verify(adminWalletPool).release(ExchangeTransactionIntentListener.EXCHANGE, testExchangeRequest.getId().getValue().toString());
+    }
+
+    @Test
+    @DisplayName("체인에서 확인된 전송의 교환은 토큰 계정에 반영하고 완료 처리한다")
+    void confirmExchangeTransfersCompletesRequests() {
+        // given
+        testExchangeRequest.process();
+        testExchangeRequest.submit("0xhash");
+        when(exchangeRequestRepository.findByStatusAndTransactionSignatureIn(ExchangeStatus.PROCESSING, List.of("0xhash")))
+            .thenReturn(List.of(testExchangeRequest));
+        TokenAccount tokenAccount = mock(TokenAccount.class);
+        when(tokenAccount.getTotalBalance()).thenReturn(BigDecimal.ZERO);
+        when(tokenAccountApplicationService.getOrCreateTokenAccount(any(UserId.class), eq(testWalletAddress), eq(NetworkType.ETHEREUM), anyString(), anyString()))
+            .thenReturn(tokenAccount);
+
+        // when
+        int confirmed = exchangeApplicationService.confirmExchangeTransfers(List.of("0xhash"));
+
+        // then
+        assertThat(confirmed).isEqualTo(1);
+        assertThat(testExchangeRequest.getStatus()).isEqualTo(ExchangeStatus.COMPLETED);
+        assertThat(testExchangeRequest.getTransactionSignature()).isEqualTo("0xhash");
+        verify(tokenAccount).receiveTokens(eq(ExchangeApplicationService.toTokenAmount(testExchangeRequest.getPointAmount())), anyString());
+        verify(tokenAccountRepository).save(tokenAccount);
+        verify(exchangeRequestRepository).save(testExchangeRequest);
+    }
+
+    @Test
+    @DisplayName("체인에서 실패한 전송의 교환은 실패 처리하고 동결한 포인트를 해제한다")
+    void failExchangeTransfersReleasesPoints() {
+        // given
+        testExchangeRequest.process();
+        testExchangeRequest.submit("0xhash");
+        when(exchangeRequestRepository.findByStatusAndTransactionSignatureIn(ExchangeStatus.PROCESSING, List.of("0xhash")))
+            .thenReturn(List.of(testExchangeRequest));
+
+        // when
+        int failed = exchangeApplicationService.failExchangeTransfers(List.of("0xhash"));
+
+        // then
+        assertThat(failed).isEqualTo(1);
+        assertThat(testExchangeRequest.getStatus()).isEqualTo(ExchangeStatus.FAILED);
+        verify(exchangeRequestRepository).save(testExchangeRequest);
+        verify(pointManagementService).unfreezePoints(testUserId.getValue(), testExchangeRequest.getPointAmount(),
+            testExchangeRequest.getId().getValue().toString());
+        verify(tokenAccountRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("처리 중인 교환과 연결되지 않은 해시는 아무것도 바꾸지 않는다")
+    void confirmExchangeTransfersIgnoresUnknownHashes() {
+        // given
+        when(exchangeRequestRepository.findByStatusAndTransactionSignatureIn(ExchangeStatus.PROCESSING, List.of("0xother")))
+            .thenReturn(List.of());
+
+        // when
+        int confirmed = exchangeApplicationService.confirmExchangeTransfers(List.of("0xother"));
+
+        // then
+        assertThat(confirmed).isZero();
+        verify(exchangeRequestRepository, never()).save(any(ExchangeRequest.class));
+        verifyNoInteractions(tokenAccountApplicationService);
+    }
+}
@@ -0,0 +1,103 @@
+package com.bloominggrace.governance.exchange.application.service;
+
+import com.bloominggrace.governance.exchange.domain.model.ExchangeRequest;
+import com.bloominggrace.governance.exchange.infrastructure.config.ExchangeSettlementProperties;
+import com.bloominggrace.governance.exchange.infrastructure.repository.ExchangeRequestRepository;
+import com.bloominggrace.governance.point.domain.model.PointAmount;
+import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletService;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExchangeSettlementService 테스트")
+class ExchangeSettlementServiceTest {
+
+    private static final String ADMIN_WALLET = "0xadmin";
+
+    @Mock
+    private ExchangeApplicationService exchangeApplicationService;
+
+    @Mock
+    private ExchangeRequestRepository exchangeRequestRepository;
+
+    @Mock
+    private AdminWalletService adminWalletService;
+
+    private ExchangeSettlementProperties properties;
+    private ExchangeSettlementService settlementService;
+    private List<ExchangeRequest> window;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExchangeSettlementProperties();
+        settlementService = new ExchangeSettlementService(exchangeApplicationService, exchangeRequestRepository,
+            adminWalletService, properties);
+        window = List.of(
+            exchangeRequest("0xAAAA", "1000"),
+            exchangeRequest("0xbbbb", "500"),
+            exchangeRequest("0xaaaa", "200")
+        );
+    }
+
+    @Test
+    @DisplayName("같은 지갑으로 가는 요청은 대소문자와 관계없이 금액을 합산한다")
+    void netTransfers() {
+        // when
+        Map<String, BigDecimal> transfers = ExchangeApplicationService.netTransfers(window);
+
+        // then
+        assertThat(transfers).containsOnlyKeys("0xaaaa", "0xbbbb");
+        assertThat(transfers.get("0xaaaa")).isEqualByComparingTo("12");
+        assertThat(transfers.get("0xbbbb")).isEqualByComparingTo("5");
+    }
+
+    @Test
+    @DisplayName("윈도우를 확보하면 관리자 지갑과 멀티센드 컨트랙트로 정산 의도를 기록한다")
+    void settleWindowEnqueuesSettlement() {
+        // given
+        when(adminWalletService.getAdminWallet(NetworkType.ETHEREUM))
+            .thenReturn(new AdminWalletService.AdminWalletInfo(ADMIN_WALLET, "encrypted", "test"));
+        when(exchangeApplicationService.claimSettlementWindow("0x", properties.getMaxBatchSize(), ADMIN_WALLET, properties.getMultisendAddress()))
+            .thenReturn(window);
+
+        // when
+        int settled = settlementService.settleWindow();
+
+        // then
+        assertThat(settled).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("정산할 요청이 없으면 0을 반환한다")
+    void settleEmptyWindow() {
+        // given
+        when(adminWalletService.getAdminWallet(NetworkType.ETHEREUM))
+            .thenReturn(new AdminWalletService.AdminWalletInfo(ADMIN_WALLET, "encrypted", "test"));
+        when(exchangeApplicationService.claimSettlementWindow(anyString(), anyInt(), anyString(), anyString())).thenReturn(List.of());
+
+        // when
+        int settled = settlementService.settleWindow();
+
+        // then
+        assertThat(settled).isZero();
+    }
+
+    private ExchangeRequest exchangeRequest(String walletAddress, String points) {
+        return new ExchangeRequest(UUID.randomUUID(), PointAmount.of(new BigDecimal(points)), walletAddress);
+    }
+}
@@ -0,0 +1,79 @@
+package com.bloominggrace.governance.exchange.application.service;
+
+import com.bloominggrace.governance.exchange.domain.model.ExchangeRequestId;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation.TransactionConfirmationTracker;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExchangeTransactionIntentListener 테스트")
+class ExchangeTransactionIntentListenerTest {
+
+    @Mock
+    private ExchangeApplicationService exchangeApplicationService;
+
+    @Mock
+    private TransactionConfirmationTracker confirmationTracker;
+
+    private ExchangeTransactionIntentListener listener;
+    private UUID exchangeRequestId;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ExchangeTransactionIntentListener(exchangeApplicationService, confirmationTracker);
+        exchangeRequestId = UUID.randomUUID();
+    }
+
+    private TransactionIntent sentIntent(NetworkType networkType) {
+        TransactionIntent intent = mock(TransactionIntent.class);
+        when(intent.getNetworkType()).thenReturn(networkType);
+        when(intent.getReferenceId()).thenReturn(exchangeRequestId.toString());
+        when(intent.getTransactionHash()).thenReturn("0xhash");
+        return intent;
+    }
+
+    @Test
+    @DisplayName("확인 추적 대상 네트워크는 해시만 기록하고 체인 확인을 기다린다")
+    void trackedNetworkWaitsForConfirmation() {
+        // given
+        TransactionIntent intent = sentIntent(NetworkType.ETHEREUM);
+        when(confirmationTracker.isTracked(NetworkType.ETHEREUM)).thenReturn(true);
+
+        // when
+        listener.onSent(intent);
+
+        // then
+        verify(exchangeApplicationService).submitExchangeTransfer(new ExchangeRequestId(exchangeRequestId), "0xhash");
+        verify(exchangeApplicationService, never()).completeExchangeTransfer(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("확인 추적 대상이 아닌 네트워크는 브로드캐스트 시점에 교환을 완료한다")
+    void untrackedNetworkCompletesOnBroadcast() {
+        // given
+        TransactionIntent intent = sentIntent(NetworkType.SOLANA);
+        when(confirmationTracker.isTracked(NetworkType.SOLANA)).thenReturn(false);
+
+        // when
+        listener.onSent(intent);
+
+        // then
+        verify(exchangeApplicationService).completeExchangeTransfer(new ExchangeRequestId(exchangeRequestId), "0xhash");
+        verify(exchangeApplicationService, never()).submitExchangeTransfer(any(), anyString());
+    }
+}
@@ -0,0 +1,49 @@
+package com.bloominggrace.governance.governance.application.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProposalSummaryPage 테스트")
+class ProposalSummaryPageTest {
+
+    @Test
+    @DisplayName("커서는 마지막 제안의 생성 시각과 ID로 되돌릴 수 있다")
+    void cursorRoundTrip() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123456000);
+        UUID id = UUID.randomUUID();
+
+        // when
+        ProposalSummaryPage.Cursor cursor = ProposalSummaryPage.decodeCursor(ProposalSummaryPage.encodeCursor(createdAt, id));
+
+        // then
+        assertThat(cursor.createdAt()).isEqualTo(createdAt);
+        assertThat(cursor.id()).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거부한다")
+    void invalidCursorIsRejected() {
+        // when & then
+        assertThatThrownBy(() -> ProposalSummaryPage.decodeCursor("not-a-cursor"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다음 커서가 없으면 마지막 페이지다")
+    void lastPageHasNoNext() {
+        // when
+        ProposalSummaryPage page = new ProposalSummaryPage(List.of(), null);
+
+        // then
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,232 @@
+package com.bloominggrace.governance.governance.application.service;
+
+import com.bloominggrace.governance.governance.domain.model.Proposal;
+import com.bloominggrace.governance.governance.domain.model.ProposalId;
+import com.bloominggrace.governance.governance.domain.model.Vote;
+import com.bloominggrace.governance.governance.domain.model.VoteResults;
+import com.bloominggrace.governance.governance.domain.model.VoteType;
+import com.bloominggrace.governance.governance.infrastructure.cache.ProposalDetailCache;
+import com.bloominggrace.governance.governance.infrastructure.config.ProposalDetailCacheProperties;
+import com.bloominggrace.governance.governance.infrastructure.config.VoteTallyProperties;
+import com.bloominggrace.governance.governance.infrastructure.repository.ProposalRepository;
+import com.bloominggrace.governance.governance.infrastructure.repository.VoteRepository;
+import com.bloominggrace.governance.shared.domain.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteTallyAccumulator 테스트")
+class VoteTallyAccumulatorTest {
+
+    @Mock
+    private ProposalRepository proposalRepository;
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VoteTallyProperties properties;
+    private VoteTallyAccumulator accumulator;
+    private ProposalId proposalId;
+
+    @BeforeEach
+    void setUp() {
+        properties = new VoteTallyProperties();
+        properties.setEnabled(true);
+        properties.setFlushThreshold(100);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProposalDetailCache proposalDetailCache = new ProposalDetailCache(new ProposalDetailCacheProperties(), meterRegistry);
+        accumulator = new VoteTallyAccumulator(proposalRepository, voteRepository, properties, proposalDetailCache,
+            transactionManager, meterRegistry);
+        proposalId = new ProposalId();
+    }
+
+    private Vote vote(VoteType voteType, long votingPower) {
+        return new Vote(proposalId, new UserId(UUID.randomUUID()), voteType, votingPower, null, false);
+    }
+
+    private Proposal proposalWith(VoteResults stored) {
+        Proposal proposal = mock(Proposal.class);
+        when(proposal.getId()).thenReturn(proposalId);
+        when(proposal.getVoteResults()).thenReturn(stored);
+        return proposal;
+    }
+
+    @Test
+    @DisplayName("반영 전 투표는 저장된 집계에 더해 현재 집계로 조회된다")
+    void liveResultsIncludeUnflushedVotes() {
+        // given
+        accumulator.record(vote(VoteType.YES, 10));
+        accumulator.record(vote(VoteType.NO, 3));
+        accumulator.record(vote(VoteType.ABSTAIN, 2));
+
+        // when
+        VoteResults live = accumulator.liveResults(proposalWith(new VoteResults(5, 5, 0, 0)));
+
+        // then
+        assertThat(live.getYesVotes()).isEqualTo(15);
+        assertThat(live.getNoVotes()).isEqualTo(3);
+        assertThat(live.getAbstainVotes()).isEqualTo(2);
+        assertThat(live.getTotalVotes()).isEqualTo(20);
+        verify(proposalRepository, never()).addVotingTallies(any(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("주기 반영은 투표 유형별 차이를 한 번에 더하고 투표를 반영 완료로 표시한다")
+    void flushAppliesDeltasOnce() {
+        // given
+        Vote first = vote(VoteType.YES, 10);
+        Vote second = vote(VoteType.YES, 5);
+        Vote third = vote(VoteType.NO, 4);
+        accumulator.record(first);
+        accumulator.record(second);
+        accumulator.record(third);
+        when(proposalRepository.addVotingTallies(eq(proposalId), anyLong(), anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        accumulator.flushAll();
+
+        // then
+        verify(proposalRepository).addVotingTallies(proposalId, 15, 4, 0);
+        verify(voteRepository).markTallied(List.of(first.getId(), second.getId(), third.getId()));
+        VoteResults live = accumulator.liveResults(proposalWith(new VoteResults(19, 15, 4, 0)));
+        assertThat(live.getTotalVotes()).isEqualTo(19);
+        assertThat(accumulator.pendingVotes()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 투표를 다시 대기열에 넣는다")
+    void failedFlushRequeues() {
+        // given
+        accumulator.record(vote(VoteType.YES, 10));
+        when(proposalRepository.addVotingTallies(eq(proposalId), anyLong(), anyLong(), anyLong()))
+            .thenThrow(new IllegalStateException("db down"));
+
+        // when
+        accumulator.flushAll();
+
+        // then
+        assertThat(accumulator.pendingVotes()).isEqualTo(1);
+        VoteResults live = accumulator.liveResults(proposalWith(new VoteResults(0, 0, 0, 0)));
+        assertThat(live.getYesVotes()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("투표 종료 전 제안 하나를 즉시 반영하고 남은 투표가 없으면 true를 반환한다")
+    void flushProposalBeforeEndVoting() {
+        // given
+        accumulator.record(vote(VoteType.YES, 7));
+        when(proposalRepository.addVotingTallies(eq(proposalId), anyLong(), anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        boolean flushed = accumulator.flush(proposalId);
+
+        // then
+        assertThat(flushed).isTrue();
+        verify(proposalRepository).addVotingTallies(proposalId, 7, 0, 0);
+        assertThat(accumulator.pendingVotes()).isZero();
+    }
+
+    @Test
+    @DisplayName("즉시 반영에 실패하면 false를 반환해 투표 종료를 미룬다")
+    void flushProposalFailureDefersEndVoting() {
+        // given
+        accumulator.record(vote(VoteType.NO, 3));
+        when(proposalRepository.addVotingTallies(eq(proposalId), anyLong(), anyLong(), anyLong()))
+            .thenThrow(new IllegalStateException("db down"));
+
+        // when
+        boolean flushed = accumulator.flush(proposalId);
+
+        // then
+        assertThat(flushed).isFalse();
+        assertThat(accumulator.pendingVotes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영 대기 투표가 임계치에 도달하면 주기를 기다리지 않고 반영한다")
+    void thresholdTriggersFlush() {
+        // given
+        properties.setFlushThreshold(2);
+        accumulator.record(vote(VoteType.NO, 1));
+        when(proposalRepository.addVotingTallies(eq(proposalId), anyLong(), anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        accumulator.record(vote(VoteType.NO, 1));
+
+        // then
+        verify(proposalRepository).addVotingTallies(proposalId, 0, 2, 0);
+    }
+
+    @Test
+    @DisplayName("재시작 시 반영되지 않은 투표를 다시 읽어 반영한다")
+    void replayUntalliedVotes() {
+        // given
+        Vote untallied = vote(VoteType.ABSTAIN, 7);
+        when(voteRepository.findUntallied()).thenReturn(List.of(untallied));
+        when(proposalRepository.addVotingTallies(eq(proposalId), anyLong(), anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        accumulator.replayUntallied();
+
+        // then
+        verify(proposalRepository).addVotingTallies(proposalId, 0, 0, 7);
+        verify(voteRepository).markTallied(List.of(untallied.getId()));
+    }
+
+    @Test
+    @DisplayName("투표가 종료된 뒤 반영되는 투표는 집계에 더하지 않고 삭제한 뒤 누산 상태를 버린다")
+    void lateVoteAfterVotingEndedIsDiscarded() {
+        // given
+        Vote late = vote(VoteType.YES, 9);
+        accumulator.record(late);
+        when(proposalRepository.addVotingTallies(eq(proposalId), anyLong(), anyLong(), anyLong())).thenReturn(0);
+
+        // when
+        boolean flushed = accumulator.flush(proposalId);
+
+        // then
+        assertThat(flushed).isTrue();
+        verify(voteRepository).delete(late.getId());
+        verify(voteRepository, never()).markTallied(any());
+        VoteResults stored = new VoteResults(4, 4, 0, 0);
+        assertThat(accumulator.liveResults(proposalId, stored)).isSameAs(stored);
+    }
+
+    @Test
+    @DisplayName("투표 종료 후 누산 상태를 버리면 더 이상 현재 집계에 더하지 않는다")
+    void releaseDropsTallyAfterVotingEnded() {
+        // given
+        accumulator.record(vote(VoteType.NO, 2));
+        when(proposalRepository.addVotingTallies(eq(proposalId), anyLong(), anyLong(), anyLong())).thenReturn(1);
+        accumulator.flush(proposalId);
+
+        // when
+        accumulator.release(proposalId);
+
+        // then
+        VoteResults stored = new VoteResults(2, 0, 2, 0);
+        assertThat(accumulator.liveResults(proposalId, stored)).isSameAs(stored);
+        assertThat(accumulator.pendingVotes()).isZero();
+    }
+}
@@ -0,0 +1,44 @@
+package com.bloominggrace.governance.governance.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("VoteResults 테스트")
+class VoteResultsTest {
+
+    @Test
+    @DisplayName("비율은 조회할 때 집계 값으로 계산한다")
+    void percentagesAreComputedOnRead() {
+        // given
+        VoteResults voteResults = new VoteResults(3, 2, 1, 0);
+
+        // when & then
+        assertThat(voteResults.getYesPercentage()).isEqualByComparingTo("66.67");
+        assertThat(voteResults.getNoPercentage()).isEqualByComparingTo("33.33");
+        assertThat(voteResults.getAbstainPercentage()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("투표가 없으면 비율은 0이다")
+    void percentagesAreZeroWithoutVotes() {
+        // given
+        VoteResults voteResults = new VoteResults(0, 0, 0, 0);
+
+        // when & then
+        assertThat(voteResults.getYesPercentage()).isEqualByComparingTo("0");
+        assertThat(voteResults.getNoPercentage()).isEqualByComparingTo("0");
+        assertThat(voteResults.getAbstainPercentage()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("전체 투표 수가 항목별 합과 다르면 생성할 수 없다")
+    void totalMustMatchSum() {
+        // when & then
+        assertThatThrownBy(() -> new VoteResults(5, 2, 1, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Total votes must equal sum of individual vote types");
+    }
+}
@@ -0,0 +1,85 @@
+package com.bloominggrace.governance.governance.infrastructure.cache;
+
+import com.bloominggrace.governance.governance.application.dto.ProposalDetailResponse;
+import com.bloominggrace.governance.governance.domain.model.ProposalId;
+import com.bloominggrace.governance.governance.infrastructure.config.ProposalDetailCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProposalDetailCache 테스트")
+class ProposalDetailCacheTest {
+
+    private final ProposalId proposalId = new ProposalId();
+
+    private Function<ProposalId, ProposalDetailResponse> countingLoader(AtomicInteger loads) {
+        return id -> {
+            loads.incrementAndGet();
+            return ProposalDetailResponse.builder().proposalId(id.getValue()).build();
+        };
+    }
+
+    @Test
+    @DisplayName("무효화 전까지는 같은 제안의 상세를 다시 조립하지 않는다")
+    void reusesCachedDetailUntilEvicted() {
+        // given
+        ProposalDetailCache cache = new ProposalDetailCache(new ProposalDetailCacheProperties(), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(proposalId, countingLoader(loads));
+
+        // when
+        cache.get(proposalId, countingLoader(loads));
+        cache.evict(proposalId);
+        cache.get(proposalId, countingLoader(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 전에 다시 캐시된 상세도 커밋 후 버린다")
+    void evictsAgainAfterCommit() {
+        // given
+        ProposalDetailCache cache = new ProposalDetailCache(new ProposalDetailCacheProperties(), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(proposalId);
+            // 커밋 전 다른 조회가 이전 데이터로 다시 캐시한 상황
+            cache.get(proposalId, countingLoader(loads));
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.get(proposalId, countingLoader(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 상세를 조립한다")
+    void bypassesWhenDisabled() {
+        // given
+        ProposalDetailCacheProperties properties = new ProposalDetailCacheProperties();
+        properties.setEnabled(false);
+        ProposalDetailCache cache = new ProposalDetailCache(properties, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(proposalId, countingLoader(loads));
+        cache.get(proposalId, countingLoader(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
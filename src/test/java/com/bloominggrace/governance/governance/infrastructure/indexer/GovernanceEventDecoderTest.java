@@ -0,0 +1,116 @@
+package com.bloominggrace.governance.governance.infrastructure.indexer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GovernanceEventDecoder 테스트")
+class GovernanceEventDecoderTest {
+
+    private static final String PROPOSER = "0x1111111111111111111111111111111111111111";
+    private static final String DELEGATEE = "0x2222222222222222222222222222222222222222";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    static String word(long value) {
+        return String.format("%064x", value);
+    }
+
+    static String addressTopic(String address) {
+        return "0x" + "0".repeat(24) + address.substring(2);
+    }
+
+    static String encodeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        String hex = HexFormat.of().formatHex(bytes);
+        int padded = ((hex.length() + 63) / 64) * 64;
+        return word(bytes.length) + hex + "0".repeat(padded - hex.length());
+    }
+
+    static JsonNode log(ObjectMapper objectMapper, List<String> topics, String data) {
+        ObjectNode log = objectMapper.createObjectNode();
+        log.putArray("topics").addAll(topics.stream().map(objectMapper.getNodeFactory()::textNode).toList());
+        log.put("data", data);
+        log.put("blockNumber", "0x64");
+        log.put("logIndex", "0x2");
+        log.put("transactionHash", "0xabc");
+        log.put("removed", false);
+        return log;
+    }
+
+    @Test
+    @DisplayName("ProposalCreated 로그의 인덱스 토픽과 동적 문자열을 디코딩한다")
+    void decodeProposalCreated() {
+        // given
+        String title = encodeString("Title");
+        String description = encodeString("설명");
+        String data = "0x" + word(0x80) + word(0x80 + title.length() / 2) + word(110) + word(200) + title + description;
+        JsonNode log = log(objectMapper, List.of(GovernanceEventDecoder.PROPOSAL_CREATED_TOPIC, "0x" + word(7), addressTopic(PROPOSER)), data);
+
+        // when
+        Optional<GovernanceEvent> event = GovernanceEventDecoder.decode(log);
+
+        // then
+        assertThat(event).containsInstanceOf(GovernanceEvent.ProposalCreated.class);
+        GovernanceEvent.ProposalCreated created = (GovernanceEvent.ProposalCreated) event.get();
+        assertThat(created.proposalId()).isEqualTo(BigInteger.valueOf(7));
+        assertThat(created.proposer()).isEqualTo(PROPOSER);
+        assertThat(created.title()).isEqualTo("Title");
+        assertThat(created.description()).isEqualTo("설명");
+        assertThat(created.startBlock()).isEqualTo(BigInteger.valueOf(110));
+        assertThat(created.endBlock()).isEqualTo(BigInteger.valueOf(200));
+        assertThat(created.blockNumber()).isEqualTo(100);
+        assertThat(created.logIndex()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DelegateChanged 로그는 세 주소 토픽을 디코딩한다")
+    void decodeDelegateChanged() {
+        // given
+        JsonNode log = log(objectMapper, List.of(GovernanceEventDecoder.DELEGATE_CHANGED_TOPIC,
+            addressTopic(PROPOSER), addressTopic(PROPOSER), addressTopic(DELEGATEE)), "0x");
+
+        // when
+        Optional<GovernanceEvent> event = GovernanceEventDecoder.decode(log);
+
+        // then
+        assertThat(event).contains(new GovernanceEvent.DelegateChanged(PROPOSER, PROPOSER, DELEGATEE, 100, 2, "0xabc"));
+    }
+
+    @Test
+    @DisplayName("체인 재구성으로 제거된 로그와 알 수 없는 이벤트는 건너뛴다")
+    void skipRemovedAndUnknownLogs() {
+        // given
+        ObjectNode removed = (ObjectNode) log(objectMapper, List.of(GovernanceEventDecoder.DELEGATE_CHANGED_TOPIC,
+            addressTopic(PROPOSER), addressTopic(PROPOSER), addressTopic(DELEGATEE)), "0x");
+        removed.put("removed", true);
+        JsonNode unknown = log(objectMapper, List.of("0x" + word(1)), "0x");
+
+        // when & then
+        assertThat(GovernanceEventDecoder.decode(removed)).isEmpty();
+        assertThat(GovernanceEventDecoder.decode(unknown)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알려진 이벤트의 데이터가 잘리면 예외를 던진다")
+    void malformedDataThrows() {
+        // given
+        JsonNode log = log(objectMapper, List.of(GovernanceEventDecoder.VOTE_CAST_TOPIC, addressTopic(PROPOSER)), "0x" + word(1));
+
+        // when & then
+        assertThatThrownBy(() -> GovernanceEventDecoder.decode(log))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Malformed log");
+    }
+}
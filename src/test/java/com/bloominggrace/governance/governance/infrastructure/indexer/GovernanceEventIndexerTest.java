@@ -0,0 +1,168 @@
+package com.bloominggrace.governance.governance.infrastructure.indexer;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.exception.LogRangeTooLargeException;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.governance.infrastructure.config.GovernanceIndexerProperties;
+import com.bloominggrace.governance.shared.blockchain.domain.constants.EthereumConstants;
+import com.bloominggrace.governance.shared.blockchain.domain.model.LogIndexCheckpoint;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.repository.LogIndexCheckpointRepository;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GovernanceEventIndexer 테스트")
+class GovernanceEventIndexerTest {
+
+    private static final String GOVERNANCE = EthereumConstants.Contracts.GOVERNANCE_CONTRACT_ADDRESS;
+    private static final String TOKEN = EthereumConstants.Contracts.ERC20_CONTRACT_ADDRESS;
+    private static final String VOTER = "0x1111111111111111111111111111111111111111";
+
+    @Mock
+    private BlockchainClientFactory blockchainClientFactory;
+
+    @Mock
+    private BlockchainClient blockchainClient;
+
+    @Mock
+    private GovernanceEventApplier eventApplier;
+
+    @Mock
+    private LogIndexCheckpointRepository checkpointRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GovernanceIndexerProperties properties;
+    private GovernanceEventIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GovernanceIndexerProperties();
+        properties.setEnabled(true);
+        properties.setConfirmations(2);
+        properties.setInitialBlockRange(100);
+        properties.setMinBlockRange(25);
+        properties.setMaxBlockRange(1000);
+        indexer = new GovernanceEventIndexer(blockchainClientFactory, eventApplier, checkpointRepository,
+            properties, objectMapper, new SimpleMeterRegistry());
+    }
+
+    private AdaptiveBlockRange range() {
+        return new AdaptiveBlockRange(properties.getInitialBlockRange(), properties.getMinBlockRange(),
+            properties.getMaxBlockRange(), properties.getSparseLogThreshold());
+    }
+
+    private static String voteCastLog(long proposalId, int support, BigInteger weight) {
+        return "{\"topics\":[\"" + GovernanceEventDecoder.VOTE_CAST_TOPIC + "\",\""
+            + GovernanceEventDecoderTest.addressTopic(VOTER) + "\"],"
+            + "\"data\":\"0x" + GovernanceEventDecoderTest.word(proposalId) + GovernanceEventDecoderTest.word(support)
+            + String.format("%064x", weight) + GovernanceEventDecoderTest.word(0x80) + GovernanceEventDecoderTest.word(0) + "\","
+            + "\"blockNumber\":\"0x3ed\",\"logIndex\":\"0x0\",\"transactionHash\":\"0xabc\",\"removed\":false}";
+    }
+
+    @Test
+    @DisplayName("노드가 범위를 거부하면 절반으로 줄여 다시 조회하고, 로그가 드물면 범위를 다시 늘린다")
+    void scanShrinksAndGrowsRange() {
+        // given
+        when(blockchainClient.getLogs(anyList(), anyList(), eq(0L), eq(99L)))
+            .thenThrow(new LogRangeTooLargeException(0, 99, "query returned more than 10000 results"));
+        when(blockchainClient.getLogs(anyList(), anyList(), eq(0L), eq(49L))).thenReturn("[]");
+        when(blockchainClient.getLogs(anyList(), anyList(), eq(50L), eq(149L))).thenReturn("[]");
+        List<Long> handled = new ArrayList<>();
+
+        // when
+        indexer.scan(blockchainClient, GOVERNANCE, List.of(GovernanceEventDecoder.VOTE_CAST_TOPIC), 0, 149, range(),
+            (events, toBlock) -> {
+                handled.add(toBlock);
+                return events.size();
+            });
+
+        // then
+        assertThat(handled).containsExactly(49L, 149L);
+    }
+
+    @Test
+    @DisplayName("범위를 하한까지 줄여도 거부되면 예외를 그대로 던진다")
+    void scanFailsAtMinimumRange() {
+        // given
+        properties.setInitialBlockRange(25);
+        when(blockchainClient.getLogs(anyList(), anyList(), anyLong(), anyLong()))
+            .thenThrow(new LogRangeTooLargeException(0, 24, "block range is too large"));
+
+        // when & then
+        assertThatThrownBy(() -> indexer.scan(blockchainClient, GOVERNANCE, List.of(), 0, 100, range(),
+            (events, toBlock) -> 0))
+            .isInstanceOf(LogRangeTooLargeException.class);
+    }
+
+    @Test
+    @DisplayName("체크포인트 다음 블록부터 확정된 블록까지 스캔하고 디코딩한 이벤트를 체크포인트와 함께 반영한다")
+    void pollResumesFromCheckpoint() {
+        // given
+        properties.setStartBlock(5000);
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getLatestBlockNumber()).thenReturn("1012");
+        when(checkpointRepository.findById(LogIndexCheckpoint.idOf(NetworkType.ETHEREUM, GOVERNANCE)))
+            .thenReturn(Optional.of(new LogIndexCheckpoint(NetworkType.ETHEREUM, GOVERNANCE, 1000)));
+        when(checkpointRepository.findById(LogIndexCheckpoint.idOf(NetworkType.ETHEREUM, TOKEN)))
+            .thenReturn(Optional.empty());
+        BigInteger weight = BigInteger.TEN.pow(18).multiply(BigInteger.valueOf(3));
+        when(blockchainClient.getLogs(eq(List.of(GOVERNANCE)), anyList(), eq(1001L), eq(1010L)))
+            .thenReturn("[" + voteCastLog(7, 1, weight) + "]");
+
+        // when
+        indexer.poll();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GovernanceEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventApplier).applyRange(events.capture(), any(), eq(NetworkType.ETHEREUM), eq(GOVERNANCE), eq(1010L));
+        assertThat(events.getValue()).containsExactly(
+            new GovernanceEvent.VoteCast(VOTER, BigInteger.valueOf(7), 1, weight, 1005, 0, "0xabc"));
+        verify(eventApplier, never()).applyRange(anyList(), any(), any(), eq(TOKEN), anyLong());
+    }
+
+    @Test
+    @DisplayName("백필은 구간을 나눠 제안 생성, 투표, 위임 순으로 반영하고 체크포인트를 전진시킨다")
+    void backfillProcessesChunksByPhase() {
+        // given
+        properties.setBackfillChunkBlocks(100);
+        properties.setBackfillThreads(2);
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getLogs(anyList(), anyList(), anyLong(), anyLong())).thenReturn("[]");
+
+        // when
+        int applied = indexer.backfill(0, 199);
+
+        // then
+        assertThat(applied).isZero();
+        verify(blockchainClient).getLogs(List.of(GOVERNANCE), List.of(GovernanceEventDecoder.PROPOSAL_CREATED_TOPIC), 0, 99);
+        verify(blockchainClient).getLogs(List.of(GOVERNANCE), List.of(GovernanceEventDecoder.PROPOSAL_CREATED_TOPIC), 100, 199);
+        verify(blockchainClient).getLogs(List.of(GOVERNANCE), List.of(GovernanceEventDecoder.VOTE_CAST_TOPIC), 0, 99);
+        verify(blockchainClient).getLogs(List.of(TOKEN), List.of(GovernanceEventDecoder.DELEGATE_CHANGED_TOPIC), 100, 199);
+        verify(eventApplier).advanceAfterBackfill(NetworkType.ETHEREUM, GOVERNANCE, 0, 199, 0);
+        verify(eventApplier).advanceAfterBackfill(NetworkType.ETHEREUM, TOKEN, 0, 199, 0);
+    }
+}
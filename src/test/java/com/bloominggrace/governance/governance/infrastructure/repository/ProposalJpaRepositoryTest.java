@@ -0,0 +1,151 @@
+package com.bloominggrace.governance.governance.infrastructure.repository;
+
+import com.bloominggrace.governance.governance.domain.model.Proposal;
+import com.bloominggrace.governance.governance.domain.model.ProposalId;
+import com.bloominggrace.governance.governance.domain.model.ProposalStatus;
+import com.bloominggrace.governance.governance.domain.model.Vote;
+import com.bloominggrace.governance.governance.domain.model.VoteResults;
+import com.bloominggrace.governance.governance.domain.model.VoteType;
+import com.bloominggrace.governance.governance.domain.model.VotingPeriod;
+import com.bloominggrace.governance.shared.domain.UserId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("ProposalJpaRepository 투표 집계 테스트")
+class ProposalJpaRepositoryTest {
+
+    @Autowired
+    private ProposalJpaRepository proposalJpaRepository;
+
+    @Autowired
+    private VoteJpaRepository voteJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Proposal saveProposal(boolean startVoting, LocalDateTime endDate) {
+        LocalDateTime now = LocalDateTime.now();
+        Proposal proposal = new Proposal(UserId.generate(), "제안", "설명",
+            new VotingPeriod(now.minusHours(1), now.plusHours(1)), 100);
+        proposal.activate();
+        if (startVoting) {
+            proposal.startVoting();
+        }
+        proposal.updateVotingPeriod(new VotingPeriod(now.minusHours(2), endDate));
+        return proposalJpaRepository.saveAndFlush(proposal);
+    }
+
+    private int increment(ProposalId id, long yesVotes) {
+        return proposalJpaRepository.incrementVotes(id, yesVotes, 0, 0, ProposalStatus.VOTING, LocalDateTime.now());
+    }
+
+    private VoteResults reloadResults(ProposalId id) {
+        entityManager.clear();
+        return proposalJpaRepository.findById(id).orElseThrow().getVoteResults();
+    }
+
+    @Test
+    @DisplayName("투표 중인 제안의 집계를 DB에서 증가시킨다")
+    void incrementVotesUpdatesVotingProposal() {
+        // given
+        Proposal proposal = saveProposal(true, LocalDateTime.now().plusHours(1));
+
+        // when
+        int updated = increment(proposal.getId(), 10);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        VoteResults results = reloadResults(proposal.getId());
+        assertThat(results.getYesVotes()).isEqualTo(10);
+        assertThat(results.getTotalVotes()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("투표 중이 아닌 제안은 집계를 바꾸지 않고 0을 반환한다")
+    void incrementVotesSkipsProposalNotVoting() {
+        // given
+        Proposal proposal = saveProposal(false, LocalDateTime.now().plusHours(1));
+
+        // when
+        int updated = increment(proposal.getId(), 10);
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(reloadResults(proposal.getId()).getTotalVotes()).isZero();
+    }
+
+    @Test
+    @DisplayName("투표 기간이 끝난 제안은 집계를 바꾸지 않고 0을 반환한다")
+    void incrementVotesSkipsEndedProposal() {
+        // given
+        Proposal proposal = saveProposal(true, LocalDateTime.now().minusMinutes(1));
+
+        // when
+        int updated = increment(proposal.getId(), 10);
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(reloadResults(proposal.getId()).getTotalVotes()).isZero();
+    }
+
+    @Test
+    @DisplayName("이전에 읽은 제안을 저장해도 DB에서 증가시킨 집계를 덮어쓰지 않는다")
+    void savingStaleProposalKeepsCounters() {
+        // given
+        Proposal proposal = saveProposal(true, LocalDateTime.now().plusHours(1));
+        increment(proposal.getId(), 10);
+
+        // when
+        proposal.setTxHash("0xabc");
+        proposalJpaRepository.saveAndFlush(proposal);
+
+        // then
+        entityManager.clear();
+        Proposal reloaded = proposalJpaRepository.findById(proposal.getId()).orElseThrow();
+        assertThat(reloaded.getTxHash()).isEqualTo("0xabc");
+        assertThat(reloaded.getVoteResults().getYesVotes()).isEqualTo(10);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("같은 투표자의 중복 투표는 유니크 제약으로 실패하고 집계 증가까지 롤백된다")
+    void duplicateVoteRollsBackIncrement() {
+        // given
+        Proposal proposal = saveProposal(true, LocalDateTime.now().plusHours(1));
+        UserId voter = UserId.generate();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            voteJpaRepository.saveAndFlush(new Vote(proposal.getId(), voter, VoteType.YES, 10, null));
+            increment(proposal.getId(), 10);
+        });
+
+        // when / then
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+            increment(proposal.getId(), 10);
+            voteJpaRepository.saveAndFlush(new Vote(proposal.getId(), voter, VoteType.YES, 10, null));
+        })).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(proposalJpaRepository.findById(proposal.getId()).orElseThrow().getVoteResults().getYesVotes())
+            .isEqualTo(10);
+        assertThat(voteJpaRepository.findByProposalId(proposal.getId())).hasSize(1);
+    }
+}
@@ -0,0 +1,170 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.exception.NonceTooLowException;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.config.FeeBumpProperties;
+import com.bloominggrace.governance.blockchain.infrastructure.config.TransactionConfirmationProperties;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
+import com.bloominggrace.governance.shared.blockchain.domain.model.ethereum.UnsignedEvmTransaction;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StuckTransactionMonitor 테스트")
+class StuckTransactionMonitorTest {
+
+    private static final String STUCK_HASH = "0xstuck";
+    private static final String FROM = "0x00000000000000000000000000000000000000ad";
+    private static final BigInteger CAP = BigInteger.valueOf(500_000_000_000L);
+    private static final String PENDING_1559 = "{\"nonce\":\"0x7\",\"gas\":\"0x186a0\",\"maxFeePerGas\":\"0x3b9aca00\","
+        + "\"maxPriorityFeePerGas\":\"0x3b9aca00\",\"from\":\"" + FROM + "\",\"to\":\"0x00000000000000000000000000000000000000aa\","
+        + "\"value\":\"0x0\",\"input\":\"0xdeadbeef\",\"chainId\":\"0xaa36a7\",\"blockNumber\":null}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private TransactionConfirmationTracker confirmationTracker;
+
+    @Mock
+    private TransactionConfirmationRecorder recorder;
+
+    @Mock
+    private BlockchainClientFactory blockchainClientFactory;
+
+    @Mock
+    private BlockchainClient blockchainClient;
+
+    @Mock
+    private TransactionOrchestrator transactionOrchestrator;
+
+    private StuckTransactionMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new StuckTransactionMonitor(confirmationTracker, recorder, new TransactionConfirmationProperties(),
+            new FeeBumpProperties(), blockchainClientFactory, transactionOrchestrator, objectMapper, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("EIP-1559 트랜잭션은 같은 nonce로 maxFee와 tip을 모두 상향한다")
+    void replacementBumpsEip1559Fees() throws Exception {
+        // given
+        JsonNode pending = objectMapper.readTree(PENDING_1559);
+
+        // when
+        UnsignedEvmTransaction replacement = StuckTransactionMonitor.replacementFor(pending, BigInteger.ONE, 12.5, CAP);
+
+        // then
+        assertThat(replacement.nonce()).isEqualTo(BigInteger.valueOf(7));
+        assertThat(replacement.chainId()).isEqualTo(11155111L);
+        assertThat(replacement.maxFeePerGas()).isEqualTo(BigInteger.valueOf(1_125_000_000L));
+        assertThat(replacement.maxPriorityFeePerGas()).isEqualTo(BigInteger.valueOf(1_125_000_000L));
+        assertThat(replacement.dataHex()).isEqualTo("0xdeadbeef");
+        assertThat(replacement.from()).isEqualTo(FROM);
+    }
+
+    @Test
+    @DisplayName("레거시 트랜잭션은 상향한 가격과 현재 네트워크 가격 중 큰 값을 사용한다")
+    void replacementUsesNetworkGasPriceWhenHigher() throws Exception {
+        // given
+        JsonNode pending = objectMapper.readTree("{\"nonce\":\"0x1\",\"gas\":\"0x5208\",\"gasPrice\":\"0x64\","
+            + "\"to\":\"0x00000000000000000000000000000000000000aa\",\"value\":\"0xa\",\"input\":\"0x\"}");
+
+        // when
+        UnsignedEvmTransaction replacement = StuckTransactionMonitor.replacementFor(pending, BigInteger.valueOf(500), 12.5, CAP);
+
+        // then
+        assertThat(replacement.isEip1559()).isFalse();
+        assertThat(replacement.gasPrice()).isEqualTo(BigInteger.valueOf(500));
+        assertThat(replacement.value()).isEqualTo(BigInteger.TEN);
+    }
+
+    @Test
+    @DisplayName("상향은 올림 처리하고 최소 1 wei 증가하며 상한을 넘으면 교체하지 않는다")
+    void bumpRoundsUpAndRespectsCap() throws Exception {
+        // when & then
+        assertThat(StuckTransactionMonitor.bump(BigInteger.valueOf(3), 12.5)).isEqualTo(BigInteger.valueOf(4));
+        assertThat(StuckTransactionMonitor.bump(BigInteger.ZERO, 12.5)).isEqualTo(BigInteger.ONE);
+        assertThatThrownBy(() -> StuckTransactionMonitor.replacementFor(objectMapper.readTree(PENDING_1559),
+            BigInteger.ONE, 12.5, BigInteger.valueOf(1_000_000_000L)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("멈춘 트랜잭션을 재서명해 브로드캐스트하고 교체 체인을 기록한다")
+    void replaceSignsBroadcastsAndRecords() {
+        // given
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getTransactionByHash(STUCK_HASH)).thenReturn(PENDING_1559);
+        when(blockchainClient.getGasPrice()).thenReturn("1000");
+        when(transactionOrchestrator.signAndBroadcast(any(), eq(NetworkType.ETHEREUM), eq(FROM))).thenReturn("0xreplacement");
+
+        // when
+        String replacementHash = monitor.replace(NetworkType.ETHEREUM, STUCK_HASH);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<TransactionBody<?>> body = ArgumentCaptor.forClass(TransactionBody.class);
+        verify(transactionOrchestrator).signAndBroadcast(body.capture(), eq(NetworkType.ETHEREUM), eq(FROM));
+        assertThat(body.getValue().getNonce()).isEqualTo(7);
+        assertThat(replacementHash).isEqualTo("0xreplacement");
+        verify(confirmationTracker).replace(NetworkType.ETHEREUM, STUCK_HASH, "0xreplacement");
+        verify(recorder).recordReplacement(STUCK_HASH, "0xreplacement");
+    }
+
+    @Test
+    @DisplayName("이미 채굴된 트랜잭션은 교체하지 않는다")
+    void skipsMinedTransaction() {
+        // given
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getTransactionByHash(STUCK_HASH)).thenReturn(PENDING_1559.replace("\"blockNumber\":null", "\"blockNumber\":\"0x10\""));
+
+        // when
+        String replacementHash = monitor.replace(NetworkType.ETHEREUM, STUCK_HASH);
+
+        // then
+        assertThat(replacementHash).isNull();
+        verify(transactionOrchestrator, never()).signAndBroadcast(any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("교체 중 nonce가 이미 사용되었으면 교체 체인을 기록하지 않는다")
+    void skipsWhenNonceAlreadyUsed() {
+        // given
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getTransactionByHash(STUCK_HASH)).thenReturn(PENDING_1559);
+        when(blockchainClient.getGasPrice()).thenReturn("1000");
+        when(transactionOrchestrator.signAndBroadcast(any(), eq(NetworkType.ETHEREUM), eq(FROM)))
+            .thenThrow(new NonceTooLowException("nonce too low"));
+
+        // when
+        String replacementHash = monitor.replace(NetworkType.ETHEREUM, STUCK_HASH);
+
+        // then
+        assertThat(replacementHash).isNull();
+        verify(confirmationTracker, never()).replace(any(), any(), any());
+        verify(recorder, never()).recordReplacement(any(), any());
+    }
+}
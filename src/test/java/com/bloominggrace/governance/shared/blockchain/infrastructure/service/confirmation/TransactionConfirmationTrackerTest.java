@@ -0,0 +1,207 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.config.TransactionConfirmationProperties;
+import com.bloominggrace.governance.blockchain.infrastructure.service.gas.GasLimitModel;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation.TransactionConfirmationTracker.Outcome;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionConfirmationTracker 테스트")
+class TransactionConfirmationTrackerTest {
+
+    private static final long DROP_TIMEOUT_MS = 60_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private BlockchainClientFactory blockchainClientFactory;
+
+    @Mock
+    private BlockchainClient blockchainClient;
+
+    @Mock
+    private TransactionConfirmationRecorder recorder;
+
+    @Mock
+    private GasLimitModel gasLimitModel;
+
+    private TransactionConfirmationTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        TransactionConfirmationProperties properties = new TransactionConfirmationProperties();
+        properties.setDepth(12);
+        tracker = new TransactionConfirmationTracker(blockchainClientFactory, recorder, properties, objectMapper, gasLimitModel);
+    }
+
+    @Test
+    @DisplayName("확인 깊이에 도달한 성공 영수증은 확인으로 분류한다")
+    void classifyConfirmed() throws Exception {
+        // given
+        JsonNode receipt = receipt("0x64", "0x1");
+
+        // when & then
+        assertThat(TransactionConfirmationTracker.classify(receipt, 111, 12, 0, DROP_TIMEOUT_MS)).isEqualTo(Outcome.CONFIRMED);
+        assertThat(TransactionConfirmationTracker.classify(receipt, 110, 12, 0, DROP_TIMEOUT_MS)).isEqualTo(Outcome.PENDING);
+    }
+
+    @Test
+    @DisplayName("확인 깊이에 도달한 revert 영수증은 실패로 분류한다")
+    void classifyReverted() throws Exception {
+        // given
+        JsonNode receipt = receipt("0x64", "0x0");
+
+        // when
+        Outcome outcome = TransactionConfirmationTracker.classify(receipt, 200, 12, 0, DROP_TIMEOUT_MS);
+
+        // then
+        assertThat(outcome).isEqualTo(Outcome.FAILED);
+    }
+
+    @Test
+    @DisplayName("영수증이 없으면 드롭 제한 시간이 지난 뒤에만 실패로 분류한다")
+    void classifyMissingReceipt() {
+        assertThat(TransactionConfirmationTracker.classify(null, 200, 12, DROP_TIMEOUT_MS - 1, DROP_TIMEOUT_MS)).isEqualTo(Outcome.PENDING);
+        assertThat(TransactionConfirmationTracker.classify(null, 200, 12, DROP_TIMEOUT_MS + 1, DROP_TIMEOUT_MS)).isEqualTo(Outcome.FAILED);
+    }
+
+    @Test
+    @DisplayName("한 번의 배치 조회 결과로 확인/실패를 기록하고 미확인 해시만 추적 목록에 남긴다")
+    void pollRecordsResolvedHashes() {
+        // given
+        tracker.track(NetworkType.ETHEREUM, "0xok");
+        tracker.track(NetworkType.ETHEREUM, "0xreverted");
+        tracker.track(NetworkType.ETHEREUM, "0xwaiting");
+        Map<String, String> receipts = new HashMap<>();
+        receipts.put("0xok", "{\"blockNumber\":\"0x64\",\"status\":\"0x1\"}");
+        receipts.put("0xreverted", "{\"blockNumber\":\"0x64\",\"status\":\"0x0\"}");
+        receipts.put("0xwaiting", null);
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getLatestBlockNumber()).thenReturn("120");
+        when(blockchainClient.getTransactionReceipts(any())).thenReturn(receipts);
+
+        // when
+        tracker.pollReceipts();
+
+        // then
+        verify(recorder).record(Set.of("0xok"), Set.of("0xreverted"));
+        assertThat(tracker.pendingCount(NetworkType.ETHEREUM)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결정된 해시가 없으면 기록하지 않는다")
+    void pollWithoutResolvedHashes() {
+        // given
+        tracker.track(NetworkType.ETHEREUM, "0xwaiting");
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getLatestBlockNumber()).thenReturn("120");
+        when(blockchainClient.getTransactionReceipts(List.of("0xwaiting"))).thenReturn(new HashMap<>());
+
+        // when
+        tracker.pollReceipts();
+
+        // then
+        verify(recorder, never()).record(any(), any());
+        assertThat(tracker.pendingCount(NetworkType.ETHEREUM)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("교체 전 해시가 먼저 채굴되면 기록을 그 해시로 되돌리고 교체 해시는 추적에서 제거한다")
+    void pollAdoptsMinedReplacedHash() {
+        // given
+        tracker.track(NetworkType.ETHEREUM, "0xoriginal");
+        tracker.replace(NetworkType.ETHEREUM, "0xoriginal", "0xreplacement");
+        Map<String, String> receipts = new HashMap<>();
+        receipts.put("0xoriginal", "{\"blockNumber\":\"0x64\",\"status\":\"0x1\"}");
+        receipts.put("0xreplacement", null);
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getLatestBlockNumber()).thenReturn("120");
+        when(blockchainClient.getTransactionReceipts(any())).thenReturn(receipts);
+
+        // when
+        tracker.pollReceipts();
+
+        // then
+        verify(recorder).recordReplacement("0xreplacement", "0xoriginal");
+        verify(recorder).record(Set.of("0xoriginal"), Set.of());
+        assertThat(tracker.pendingCount(NetworkType.ETHEREUM)).isZero();
+    }
+
+    @Test
+    @DisplayName("미확인 해시가 배치 크기보다 많으면 주기마다 다음 해시들을 이어서 조회한다")
+    void pollRotatesBatchAcrossTicks() {
+        // given
+        TransactionConfirmationProperties properties = new TransactionConfirmationProperties();
+        properties.setBatchSize(2);
+        tracker = new TransactionConfirmationTracker(blockchainClientFactory, recorder, properties, objectMapper, gasLimitModel);
+        tracker.track(NetworkType.ETHEREUM, "0xa");
+        tracker.track(NetworkType.ETHEREUM, "0xb");
+        tracker.track(NetworkType.ETHEREUM, "0xc");
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getLatestBlockNumber()).thenReturn("120");
+        when(blockchainClient.getTransactionReceipts(any())).thenReturn(new HashMap<>());
+
+        // when
+        tracker.pollReceipts();
+        tracker.pollReceipts();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> batches = ArgumentCaptor.forClass(List.class);
+        verify(blockchainClient, times(2)).getTransactionReceipts(batches.capture());
+        assertThat(batches.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSize(2));
+        Set<String> polled = new HashSet<>();
+        batches.getAllValues().forEach(polled::addAll);
+        assertThat(polled).containsExactlyInAnyOrder("0xa", "0xb", "0xc");
+    }
+
+    @Test
+    @DisplayName("교체된 해시는 멈춘 트랜잭션 후보에서 제외하고 교체 횟수를 센다")
+    void stuckTransactionsExcludeReplacedHashes() {
+        // given
+        tracker.track(NetworkType.ETHEREUM, "0xoriginal");
+        tracker.replace(NetworkType.ETHEREUM, "0xoriginal", "0xreplacement");
+
+        // when & then
+        assertThat(tracker.stuckTransactions(NetworkType.ETHEREUM, -1)).containsExactly("0xreplacement");
+        assertThat(tracker.replacementCount(NetworkType.ETHEREUM, "0xreplacement")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추적 대상이 아닌 네트워크의 해시는 무시한다")
+    void trackIgnoresUnconfiguredNetwork() {
+        // when
+        tracker.track(NetworkType.SOLANA, "signature");
+
+        // then
+        assertThat(tracker.pendingCount(NetworkType.SOLANA)).isZero();
+    }
+
+    private JsonNode receipt(String blockNumber, String status) throws Exception {
+        return objectMapper.readTree("{\"blockNumber\":\"" + blockNumber + "\",\"status\":\"" + status + "\"}");
+    }
+}
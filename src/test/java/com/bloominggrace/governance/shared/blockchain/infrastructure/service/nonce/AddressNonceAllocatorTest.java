@@ -0,0 +1,123 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.nonce;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AddressNonceAllocator 테스트")
+class AddressNonceAllocatorTest {
+
+    private static final String ADDRESS = "0xabc";
+
+    @Test
+    @DisplayName("체인 nonce로 한 번 초기화한 뒤 동시 요청에 중복 없이 연속된 nonce를 발급한다")
+    void allocateConcurrently() throws Exception {
+        // given
+        AtomicLong chainCalls = new AtomicLong();
+        AddressNonceAllocator allocator = new AddressNonceAllocator(ADDRESS, () -> {
+            chainCalls.incrementAndGet();
+            return 10L;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<Long> nonces = ConcurrentHashMap.newKeySet();
+
+        // when
+        List<Future<Boolean>> futures = IntStream.range(0, 200)
+            .mapToObj(i -> executor.submit(() -> nonces.add(allocator.allocate())))
+            .toList();
+        for (Future<Boolean> future : futures) {
+            assertThat(future.get()).isTrue();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(nonces).hasSize(200);
+        assertThat(nonces).allMatch(nonce -> nonce >= 10 && nonce < 210);
+        assertThat(chainCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 nonce를 반납하면 카운터를 되돌리고, 중간 nonce는 다음 할당에서 재사용한다")
+    void releaseNonce() {
+        // given
+        AddressNonceAllocator allocator = new AddressNonceAllocator(ADDRESS, () -> 5L);
+        long first = allocator.allocate();
+        long second = allocator.allocate();
+        long third = allocator.allocate();
+
+        // when
+        allocator.release(third);
+        allocator.release(first);
+
+        // then
+        assertThat(allocator.peekNext()).isEqualTo(7L);
+        assertThat(allocator.allocate()).isEqualTo(first);
+        assertThat(allocator.allocate()).isEqualTo(7L);
+        assertThat(second).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("nonce too low 재동기화는 체인 nonce로 카운터를 앞당긴다")
+    void resyncAdvancesCounter() {
+        // given
+        AtomicLong chainNonce = new AtomicLong(3);
+        AddressNonceAllocator allocator = new AddressNonceAllocator(ADDRESS, chainNonce::get);
+        allocator.allocate();
+
+        // when: 다른 곳에서 같은 주소로 트랜잭션을 보낸 경우
+        chainNonce.set(9);
+        long next = allocator.resync();
+
+        // then
+        assertThat(next).isEqualTo(9L);
+        assertThat(allocator.allocate()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("같은 빈 nonce가 연속 두 번 관측되면 다음 할당이 그 nonce를 채운다")
+    void repairGap() {
+        // given: nonce 0~2를 브로드캐스트했지만 1이 멤풀에서 사라져 체인 pending nonce가 1에 머무는 경우
+        AtomicLong chainNonce = new AtomicLong(0);
+        AddressNonceAllocator allocator = new AddressNonceAllocator(ADDRESS, chainNonce::get);
+        for (int i = 0; i < 3; i++) {
+            allocator.confirm(allocator.allocate());
+        }
+        chainNonce.set(1);
+
+        // when
+        boolean firstCheck = allocator.repairGaps();
+        boolean secondCheck = allocator.repairGaps();
+
+        // then
+        assertThat(firstCheck).isFalse();
+        assertThat(secondCheck).isTrue();
+        assertThat(allocator.allocate()).isEqualTo(1L);
+        assertThat(allocator.allocate()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("발급 중인 nonce는 빈 nonce로 취급하지 않는다")
+    void inFlightNonceIsNotGap() {
+        // given
+        AddressNonceAllocator allocator = new AddressNonceAllocator(ADDRESS, () -> 0L);
+        allocator.allocate();
+
+        // when
+        allocator.repairGaps();
+        boolean repaired = allocator.repairGaps();
+
+        // then
+        assertThat(repaired).isFalse();
+        assertThat(allocator.inFlightCount()).isEqualTo(1);
+    }
+}
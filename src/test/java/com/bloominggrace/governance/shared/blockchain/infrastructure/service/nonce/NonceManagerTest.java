@@ -0,0 +1,83 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.nonce;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.service.AsyncBlockchainClient;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NonceManager 테스트")
+class NonceManagerTest {
+
+    private static final String ADDRESS = "0xAbC";
+
+    @Mock
+    private BlockchainClientFactory blockchainClientFactory;
+
+    @Mock
+    private AsyncBlockchainClient asyncClient;
+
+    private NonceManager nonceManager;
+
+    @BeforeEach
+    void setUp() {
+        nonceManager = new NonceManager(blockchainClientFactory);
+    }
+
+    @Test
+    @DisplayName("주소별로 체인 nonce를 한 번만 조회하고 이후에는 로컬 카운터로 발급한다")
+    void allocateFromChainNonceOnce() {
+        // given
+        when(blockchainClientFactory.getAsyncClient(NetworkType.ETHEREUM)).thenReturn(Optional.of(asyncClient));
+        when(asyncClient.getNonce(ADDRESS)).thenReturn(CompletableFuture.completedFuture("7"));
+
+        // when
+        long first = nonceManager.allocate(NetworkType.ETHEREUM, ADDRESS);
+        long second = nonceManager.allocate(NetworkType.ETHEREUM, ADDRESS.toLowerCase());
+
+        // then
+        assertThat(first).isEqualTo(7);
+        assertThat(second).isEqualTo(8);
+        verify(asyncClient, times(1)).getNonce(ADDRESS);
+    }
+
+    @Test
+    @DisplayName("체인 nonce 조회가 실패하면 0으로 초기화하지 않고 예외를 던지며, 다음 요청에서 다시 조회한다")
+    void failInsteadOfSeedingZero() {
+        // given
+        when(blockchainClientFactory.getAsyncClient(NetworkType.ETHEREUM)).thenReturn(Optional.of(asyncClient));
+        when(asyncClient.getNonce(ADDRESS))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("rpc error")))
+            .thenReturn(CompletableFuture.completedFuture("3"));
+
+        // when & then
+        assertThatThrownBy(() -> nonceManager.allocate(NetworkType.ETHEREUM, ADDRESS))
+            .hasRootCauseMessage("rpc error");
+        assertThat(nonceManager.allocate(NetworkType.ETHEREUM, ADDRESS)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("오류를 구분할 수 있는 비동기 클라이언트가 없는 네트워크는 nonce를 발급하지 않는다")
+    void rejectNetworkWithoutAsyncClient() {
+        // given
+        when(blockchainClientFactory.getAsyncClient(NetworkType.SOLANA)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> nonceManager.allocate(NetworkType.SOLANA, ADDRESS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,371 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox;
+
+import com.bloominggrace.governance.blockchain.domain.exception.NonceTooLowException;
+import com.bloominggrace.governance.blockchain.domain.exception.TransactionRejectedException;
+import com.bloominggrace.governance.blockchain.infrastructure.config.TransactionOutboxProperties;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntentType;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator.SignedTransaction;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.TransactionOrchestrator.TransactionResult;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.confirmation.TransactionConfirmationTracker;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionOutboxBroadcaster 테스트")
+class TransactionOutboxBroadcasterTest {
+
+    private static final String ADMIN_WALLET = "0xadmin";
+    private static final String RECIPIENT = "0xrecipient";
+
+    @Mock
+    private TransactionOutbox outbox;
+
+    @Mock
+    private TransactionOrchestrator transactionOrchestrator;
+
+    @Mock
+    private TransactionIntentListener listener;
+
+    @Mock
+    private TransactionConfirmationTracker confirmationTracker;
+
+    private TransactionOutboxProperties properties;
+    private TransactionOutboxBroadcaster broadcaster;
+    private TransactionIntent intent;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TransactionOutboxProperties();
+        properties.setMaxAttempts(3);
+        properties.setRetryBaseDelayMs(1000);
+        properties.setRetryMaxDelayMs(5000);
+        broadcaster = new TransactionOutboxBroadcaster(outbox, transactionOrchestrator, List.of(listener), properties, confirmationTracker);
+
+        intent = new TransactionIntent(TransactionIntentType.TRANSFER, NetworkType.ETHEREUM, ADMIN_WALLET,
+            "{}", "EXCHANGE", UUID.randomUUID().toString(), UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("브로드캐스트에 성공하면 의도를 전송 완료로 기록하고 리스너에 알린 뒤 확인 추적을 시작한다")
+    void processSuccess() {
+        // given
+        stubTransferPayload(intent);
+        TransactionIntent sent = mock(TransactionIntent.class);
+        when(sent.getReferenceType()).thenReturn("EXCHANGE");
+        when(sent.getNetworkType()).thenReturn(NetworkType.ETHEREUM);
+        when(sent.getTransactionHash()).thenReturn("0xhash");
+        when(transactionOrchestrator.executeTransfer(eq(ADMIN_WALLET), eq(RECIPIENT), eq(NetworkType.ETHEREUM),
+                eq(new BigDecimal("10")), eq("0xtoken"), any()))
+            .thenReturn(TransactionResult.success(UUID.randomUUID(), "0xhash", ADMIN_WALLET, "ETHEREUM", "transfer"));
+        when(outbox.markSent(intent.getId(), "0xhash")).thenReturn(sent);
+        when(listener.supports("EXCHANGE")).thenReturn(true);
+
+        // when
+        broadcaster.process(intent);
+
+        // then
+        verify(outbox).markSent(intent.getId(), "0xhash");
+        verify(listener).onSent(sent);
+        verify(confirmationTracker).track(NetworkType.ETHEREUM, "0xhash");
+        verify(outbox, never()).markRetry(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수 전의 실패는 백오프 후 재시도하도록 되돌린다")
+    void processRetry() {
+        // given
+        stubTransferPayload(intent);
+        when(transactionOrchestrator.executeTransfer(any(), any(), any(), any(), any(), any()))
+            .thenReturn(TransactionResult.failure(UUID.randomUUID(), ADMIN_WALLET, "ETHEREUM", "rpc unavailable"));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        broadcaster.process(intent);
+
+        // then
+        verify(outbox).markRetry(eq(intent.getId()), eq("rpc unavailable"),
+            argThat(next -> !next.isBefore(before)));
+        verify(outbox, never()).markFailed(any(), anyString());
+        verify(listener, never()).onFailed(any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 실패는 최종 실패로 기록하고 리스너에 알린다")
+    void processFailure() {
+        // given
+        TransactionIntent exhausted = mock(TransactionIntent.class);
+        when(exhausted.getId()).thenReturn(intent.getId());
+        when(exhausted.getIntentType()).thenReturn(TransactionIntentType.TRANSFER);
+        when(exhausted.getFromAddress()).thenReturn(ADMIN_WALLET);
+        when(exhausted.getNetworkType()).thenReturn(NetworkType.ETHEREUM);
+        when(exhausted.getAttempts()).thenReturn(3);
+        stubTransferPayload(exhausted);
+        when(transactionOrchestrator.executeTransfer(any(), any(), any(), any(), any(), any()))
+            .thenReturn(TransactionResult.failure(UUID.randomUUID(), ADMIN_WALLET, "ETHEREUM", "insufficient funds"));
+        TransactionIntent failed = mock(TransactionIntent.class);
+        when(failed.getReferenceType()).thenReturn("EXCHANGE");
+        when(outbox.markFailed(intent.getId(), "insufficient funds")).thenReturn(failed);
+        when(listener.supports("EXCHANGE")).thenReturn(true);
+
+        // when
+        broadcaster.process(exhausted);
+
+        // then
+        verify(outbox).markFailed(intent.getId(), "insufficient funds");
+        verify(listener).onFailed(failed);
+        verify(outbox, never()).markRetry(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("시뮬레이션에서 revert된 의도는 재시도하지 않고 바로 최종 실패로 기록한다")
+    void processRevertedFailsWithoutRetry() {
+        // given
+        stubTransferPayload(intent);
+        when(transactionOrchestrator.executeTransfer(any(), any(), any(), any(), any(), any()))
+            .thenReturn(TransactionResult.failure(UUID.randomUUID(), ADMIN_WALLET, "ETHEREUM",
+                "ERC20 transfer failed: Transaction would revert: transfer amount exceeds balance", "transfer amount exceeds balance"));
+        TransactionIntent failed = mock(TransactionIntent.class);
+        when(failed.getReferenceType()).thenReturn("EXCHANGE");
+        when(outbox.markFailed(eq(intent.getId()), anyString())).thenReturn(failed);
+        when(listener.supports("EXCHANGE")).thenReturn(true);
+
+        // when
+        broadcaster.process(intent);
+
+        // then
+        verify(outbox).markFailed(eq(intent.getId()), anyString());
+        verify(listener).onFailed(failed);
+        verify(outbox, never()).markRetry(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("브로드캐스트 전에 서명 트랜잭션을 점유 시점의 시도 횟수와 함께 저장한다")
+    void processRecordsSignedTransactionBeforeBroadcast() {
+        // given
+        stubTransferPayload(intent);
+        SignedTransaction signed = new SignedTransaction(7, "0xraw", "0xhash");
+        when(transactionOrchestrator.executeTransfer(any(), any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> {
+                Consumer<SignedTransaction> beforeBroadcast = invocation.getArgument(5);
+                beforeBroadcast.accept(signed);
+                return TransactionResult.failure(UUID.randomUUID(), ADMIN_WALLET, "ETHEREUM", "broadcast timed out");
+            });
+        when(outbox.recordSigned(intent.getId(), intent.getAttempts(), signed)).thenReturn(true);
+
+        // when
+        broadcaster.process(intent);
+
+        // then
+        verify(outbox).recordSigned(intent.getId(), intent.getAttempts(), signed);
+        verify(outbox).markRetry(eq(intent.getId()), eq("broadcast timed out"), any());
+    }
+
+    @Test
+    @DisplayName("브로드캐스트 전에 다른 워커가 다시 점유했으면 브로드캐스트하지 않고 상태도 바꾸지 않는다")
+    void processSkipsWhenReclaimed() {
+        // given
+        stubTransferPayload(intent);
+        when(transactionOrchestrator.executeTransfer(any(), any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> {
+                Consumer<SignedTransaction> beforeBroadcast = invocation.getArgument(5);
+                try {
+                    beforeBroadcast.accept(new SignedTransaction(7, "0xraw", "0xhash"));
+                } catch (RuntimeException e) {
+                    return TransactionResult.failure(UUID.randomUUID(), ADMIN_WALLET, "ETHEREUM", e.getMessage());
+                }
+                return TransactionResult.success(UUID.randomUUID(), "0xhash", ADMIN_WALLET, "ETHEREUM", "transfer");
+            });
+        when(outbox.recordSigned(eq(intent.getId()), anyInt(), any())).thenReturn(false);
+
+        // when
+        broadcaster.process(intent);
+
+        // then
+        verify(outbox, never()).markSent(any(), anyString());
+        verify(outbox, never()).markRetry(any(), anyString(), any());
+        verify(outbox, never()).markFailed(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("서명이 저장된 의도는 다시 서명하지 않고 같은 바이트를 재전송한다")
+    void processRebroadcastsStoredSignedTransaction() {
+        // given
+        TransactionIntent signed = signedIntent();
+        when(transactionOrchestrator.rebroadcast(NetworkType.ETHEREUM, "0xraw")).thenReturn("0xhash");
+        TransactionIntent sent = sentIntent();
+        when(outbox.markSent(intent.getId(), "0xhash")).thenReturn(sent);
+
+        // when
+        broadcaster.process(signed);
+
+        // then
+        verify(outbox).markSent(intent.getId(), "0xhash");
+        verify(confirmationTracker).track(NetworkType.ETHEREUM, "0xhash");
+        verify(transactionOrchestrator, never()).executeTransfer(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("재전송한 서명 트랜잭션의 nonce가 이미 사용되었으면 저장된 해시를 확인 추적에 맡긴다")
+    void processTracksStoredHashWhenNonceAlreadyUsed() {
+        // given
+        TransactionIntent signed = signedIntent();
+        when(transactionOrchestrator.rebroadcast(NetworkType.ETHEREUM, "0xraw"))
+            .thenThrow(new NonceTooLowException("nonce too low"));
+        TransactionIntent sent = sentIntent();
+        when(outbox.markSent(intent.getId(), "0xhash")).thenReturn(sent);
+
+        // when
+        broadcaster.process(signed);
+
+        // then
+        verify(outbox).markSent(intent.getId(), "0xhash");
+        verify(outbox, never()).markFailed(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("서명 후 최대 시도 횟수에 도달하면 실패 처리하지 않고 저장된 해시를 확인 추적에 맡긴다")
+    void processTracksStoredHashWhenExhaustedAfterSigning() {
+        // given
+        TransactionIntent signed = signedIntent();
+        when(signed.getAttempts()).thenReturn(3);
+        when(transactionOrchestrator.rebroadcast(NetworkType.ETHEREUM, "0xraw"))
+            .thenThrow(new IllegalStateException("rpc unavailable"));
+        when(confirmationTracker.isTracked(NetworkType.ETHEREUM)).thenReturn(true);
+        TransactionIntent sent = sentIntent();
+        when(outbox.markSent(intent.getId(), "0xhash")).thenReturn(sent);
+
+        // when
+        broadcaster.process(signed);
+
+        // then
+        verify(outbox).markSent(intent.getId(), "0xhash");
+        verify(outbox, never()).markFailed(any(), anyString());
+        verify(listener, never()).onFailed(any());
+    }
+
+    @Test
+    @DisplayName("노드가 거부한 서명 트랜잭션은 지우고 nonce를 반납해, 다음 시도에서 재전송하지 않고 다시 서명한다")
+    void processResignsAfterRejection() {
+        // given
+        stubTransferPayload(intent);
+        SignedTransaction signed = new SignedTransaction(7, "0xraw", "0xhash");
+        when(transactionOrchestrator.executeTransfer(any(), any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> {
+                Consumer<SignedTransaction> beforeBroadcast = invocation.getArgument(5);
+                beforeBroadcast.accept(signed);
+                return TransactionResult.rejected(UUID.randomUUID(), ADMIN_WALLET, "ETHEREUM", "insufficient funds for gas");
+            })
+            .thenReturn(TransactionResult.success(UUID.randomUUID(), "0xresigned", ADMIN_WALLET, "ETHEREUM", "transfer"));
+        when(outbox.recordSigned(intent.getId(), intent.getAttempts(), signed)).thenReturn(true);
+        broadcaster.process(intent);
+
+        // 거부 후 저장 내용이 지워진 상태로 다시 점유된 의도
+        TransactionIntent retried = mock(TransactionIntent.class);
+        when(retried.getId()).thenReturn(intent.getId());
+        when(retried.getIntentType()).thenReturn(TransactionIntentType.TRANSFER);
+        when(retried.getFromAddress()).thenReturn(ADMIN_WALLET);
+        when(retried.getNetworkType()).thenReturn(NetworkType.ETHEREUM);
+        stubTransferPayload(retried);
+        TransactionIntent sent = sentIntent();
+        when(outbox.markSent(intent.getId(), "0xresigned")).thenReturn(sent);
+
+        // when
+        broadcaster.process(retried);
+
+        // then
+        verify(outbox).markRejected(eq(intent.getId()), eq("insufficient funds for gas"), any());
+        verify(transactionOrchestrator).releaseRejectedNonce(NetworkType.ETHEREUM, ADMIN_WALLET, 7, true);
+        verify(outbox, never()).markRetry(any(), anyString(), any());
+        verify(transactionOrchestrator, never()).rebroadcast(any(), anyString());
+        verify(outbox).markSent(intent.getId(), "0xresigned");
+        verify(outbox, never()).markSent(intent.getId(), "0xhash");
+    }
+
+    @Test
+    @DisplayName("재전송한 서명 트랜잭션이 거부되면 저장된 해시를 추적하지 않고 지운 뒤 다시 서명하도록 되돌린다")
+    void processDiscardsRejectedRebroadcast() {
+        // given
+        TransactionIntent signed = signedIntent();
+        when(signed.getAttempts()).thenReturn(3);
+        when(transactionOrchestrator.rebroadcast(NetworkType.ETHEREUM, "0xraw"))
+            .thenThrow(new TransactionRejectedException("insufficient funds for gas"));
+        TransactionIntent failed = mock(TransactionIntent.class);
+        when(failed.getReferenceType()).thenReturn("EXCHANGE");
+        when(outbox.markFailed(eq(intent.getId()), anyString())).thenReturn(failed);
+        when(listener.supports("EXCHANGE")).thenReturn(true);
+
+        // when
+        broadcaster.process(signed);
+
+        // then
+        verify(outbox, never()).markSent(any(), anyString());
+        verify(listener).onFailed(failed);
+        verify(transactionOrchestrator, never()).releaseRejectedNonce(any(), anyString(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 두 배로 늘고 최대 대기 시간으로 제한된다")
+    void retryDelay() {
+        assertThat(TransactionOutboxBroadcaster.retryDelayMs(1, 1000, 5000)).isEqualTo(1000);
+        assertThat(TransactionOutboxBroadcaster.retryDelayMs(2, 1000, 5000)).isEqualTo(2000);
+        assertThat(TransactionOutboxBroadcaster.retryDelayMs(3, 1000, 5000)).isEqualTo(4000);
+        assertThat(TransactionOutboxBroadcaster.retryDelayMs(4, 1000, 5000)).isEqualTo(5000);
+        assertThat(TransactionOutboxBroadcaster.retryDelayMs(100, 1000, 5000)).isEqualTo(5000);
+    }
+
+    private TransactionIntent signedIntent() {
+        TransactionIntent signed = mock(TransactionIntent.class);
+        when(signed.getId()).thenReturn(intent.getId());
+        when(signed.getFromAddress()).thenReturn(ADMIN_WALLET);
+        when(signed.getNetworkType()).thenReturn(NetworkType.ETHEREUM);
+        when(signed.hasSignedTransaction()).thenReturn(true);
+        when(signed.getSignedTransaction()).thenReturn("0xraw");
+        when(signed.getTransactionHash()).thenReturn("0xhash");
+        return signed;
+    }
+
+    private TransactionIntent sentIntent() {
+        TransactionIntent sent = mock(TransactionIntent.class);
+        when(sent.getReferenceType()).thenReturn("EXCHANGE");
+        when(sent.getNetworkType()).thenReturn(NetworkType.ETHEREUM);
+        when(sent.getTransactionHash()).thenReturn("0xhash");
+        return sent;
+    }
+
+    private void stubTransferPayload(TransactionIntent target) {
+        when(outbox.readPayload(target, OutboxPayloads.Transfer.class))
+            .thenReturn(new OutboxPayloads.Transfer(RECIPIENT, new BigDecimal("10"), "0xtoken"));
+    }
+}
@@ -0,0 +1,161 @@
+package com.bloominggrace.governance.shared.blockchain.infrastructure.service.simulation;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.exception.TransactionRevertedException;
+import com.bloominggrace.governance.blockchain.domain.service.AsyncBlockchainClient;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.blockchain.infrastructure.config.SimulationProperties;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
+import com.bloominggrace.governance.shared.blockchain.domain.model.ethereum.UnsignedEvmTransaction;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionSimulator 테스트")
+class TransactionSimulatorTest {
+
+    private static final String VOTER = "0x1111111111111111111111111111111111111111";
+    private static final String GOVERNANCE = "0x2222222222222222222222222222222222222222";
+    private static final String VOTE_DATA = "0x0121b93f";
+
+    @Mock
+    private BlockchainClientFactory blockchainClientFactory;
+
+    @Mock
+    private BlockchainClient blockchainClient;
+
+    @Mock
+    private AsyncBlockchainClient asyncBlockchainClient;
+
+    private SimulationProperties properties;
+    private TransactionSimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SimulationProperties();
+        simulator = new TransactionSimulator(blockchainClientFactory, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("revert되는 트랜잭션은 디코딩된 사유와 함께 TransactionRevertedException으로 실패한다")
+    void verifyThrowsOnRevert() {
+        // given
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getLatestBlockNumber()).thenReturn("100");
+        when(blockchainClient.simulateCall(VOTER, GOVERNANCE, BigInteger.ZERO, VOTE_DATA))
+            .thenThrow(new TransactionRevertedException("Already voted", "Error", "0x08c379a0"));
+
+        // when & then
+        assertThatThrownBy(() -> simulator.verify(NetworkType.ETHEREUM, voteBody(0)))
+            .isInstanceOf(TransactionRevertedException.class)
+            .hasMessageContaining("Already voted");
+    }
+
+    @Test
+    @DisplayName("같은 블록의 동일한 호출은 nonce가 달라도 한 번만 시뮬레이션하고, 블록이 바뀌면 다시 시뮬레이션한다")
+    void verifyMemoizesPerBlock() {
+        // given
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getLatestBlockNumber()).thenReturn("100", "100", "101");
+        when(blockchainClient.simulateCall(VOTER, GOVERNANCE, BigInteger.ZERO, VOTE_DATA))
+            .thenThrow(new TransactionRevertedException("Already voted", "Error", null));
+
+        // when & then
+        assertThatThrownBy(() -> simulator.verify(NetworkType.ETHEREUM, voteBody(0))).isInstanceOf(TransactionRevertedException.class);
+        assertThatThrownBy(() -> simulator.verify(NetworkType.ETHEREUM, voteBody(1))).isInstanceOf(TransactionRevertedException.class);
+        verify(blockchainClient, times(1)).simulateCall(any(), any(), any(), any());
+
+        assertThatThrownBy(() -> simulator.verify(NetworkType.ETHEREUM, voteBody(2))).isInstanceOf(TransactionRevertedException.class);
+        verify(blockchainClient, times(2)).simulateCall(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("시뮬레이션 RPC가 실패하면 브로드캐스트를 막지 않는다")
+    void verifySkipsOnRpcError() {
+        // given
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getLatestBlockNumber()).thenReturn("100");
+        when(blockchainClient.simulateCall(any(), any(), any(), any())).thenThrow(new IllegalStateException("timeout"));
+
+        // when & then
+        assertThatCode(() -> simulator.verify(NetworkType.ETHEREUM, voteBody(0))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("시뮬레이션이 꺼져 있으면 RPC를 호출하지 않는다")
+    void verifyDisabled() {
+        // given
+        properties.setEnabled(false);
+
+        // when & then
+        assertThatCode(() -> simulator.verify(NetworkType.ETHEREUM, voteBody(0))).doesNotThrowAnyException();
+        verify(blockchainClientFactory, times(0)).getClient(any());
+    }
+
+    @Test
+    @DisplayName("비동기 검증은 revert되면 TransactionRevertedException으로 완료되고 같은 블록에서는 결과를 재사용한다")
+    void verifyAsyncFailsOnRevertAndMemoizes() {
+        // given
+        when(asyncBlockchainClient.getNetworkType()).thenReturn(NetworkType.ETHEREUM);
+        when(asyncBlockchainClient.getLatestBlockNumber()).thenReturn(CompletableFuture.completedFuture("100"));
+        when(asyncBlockchainClient.simulateCall(VOTER, GOVERNANCE, BigInteger.ZERO, VOTE_DATA))
+            .thenReturn(CompletableFuture.failedFuture(new TransactionRevertedException("Already voted", "Error", "0x08c379a0")));
+
+        // when
+        CompletableFuture<Void> first = simulator.verifyAsync(asyncBlockchainClient, voteBody(0));
+        CompletableFuture<Void> second = simulator.verifyAsync(asyncBlockchainClient, voteBody(1));
+
+        // then
+        assertThatThrownBy(first::join).hasCauseInstanceOf(TransactionRevertedException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(TransactionRevertedException.class);
+        verify(asyncBlockchainClient, times(1)).simulateCall(any(), any(), any(), any());
+        verify(blockchainClientFactory, times(0)).getClient(any());
+    }
+
+    @Test
+    @DisplayName("비동기 시뮬레이션 RPC가 실패하면 정상 완료되어 브로드캐스트를 막지 않는다")
+    void verifyAsyncSkipsOnRpcError() {
+        // given
+        when(asyncBlockchainClient.getNetworkType()).thenReturn(NetworkType.ETHEREUM);
+        when(asyncBlockchainClient.getLatestBlockNumber()).thenReturn(CompletableFuture.completedFuture("100"));
+        when(asyncBlockchainClient.simulateCall(any(), any(), any(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+
+        // when
+        CompletableFuture<Void> result = simulator.verifyAsync(asyncBlockchainClient, voteBody(0));
+
+        // then
+        assertThat(result).isCompleted();
+        assertThatCode(result::join).doesNotThrowAnyException();
+    }
+
+    private TransactionBody<UnsignedEvmTransaction> voteBody(long nonce) {
+        UnsignedEvmTransaction transaction = UnsignedEvmTransaction.of(11155111L, BigInteger.valueOf(nonce), BigInteger.valueOf(100_000),
+            BigInteger.TEN, null, null, VOTER, GOVERNANCE, BigInteger.ZERO, VOTE_DATA);
+        return TransactionBody.<UnsignedEvmTransaction>builder()
+            .type(TransactionBody.TransactionType.PROPOSAL_VOTE)
+            .fromAddress(VOTER)
+            .toAddress(GOVERNANCE)
+            .networkType(NetworkType.ETHEREUM.name())
+            .networkSpecificData(transaction)
+            .nonce(nonce)
+            .build();
+    }
+}
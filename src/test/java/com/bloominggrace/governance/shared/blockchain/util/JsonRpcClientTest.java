@@ -0,0 +1,80 @@
+package com.bloominggrace.governance.shared.blockchain.util;
+
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcRequest;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JsonRpcClient 배치 요청 테스트")
+class JsonRpcClientTest {
+
+    @Test
+    @DisplayName("배치 요청의 id는 1부터 순서대로 다시 부여된다")
+    void renumberAssignsSequentialIds() {
+        // given
+        List<BlockchainRpcRequest> requests = Arrays.asList(
+            BlockchainRpcRequest.of("eth_getTransactionCount", Arrays.asList("0xa", "pending")),
+            BlockchainRpcRequest.of("eth_getTransactionCount", Arrays.asList("0xb", "pending")),
+            BlockchainRpcRequest.of("eth_blockNumber", Arrays.asList())
+        );
+
+        // when
+        List<BlockchainRpcRequest> renumbered = JsonRpcClient.renumber(requests);
+
+        // then
+        assertThat(renumbered).extracting(BlockchainRpcRequest::getId).containsExactly(1, 2, 3);
+        assertThat(renumbered).extracting(BlockchainRpcRequest::getMethod)
+            .containsExactly("eth_getTransactionCount", "eth_getTransactionCount", "eth_blockNumber");
+        assertThat(renumbered.get(1).getParams()).containsExactly("0xb", "pending");
+    }
+
+    @Test
+    @DisplayName("순서가 뒤섞인 배치 응답은 id 기준으로 요청 순서에 맞게 정렬된다")
+    void matchResponsesOrdersById() {
+        // given
+        List<BlockchainRpcRequest> requests = JsonRpcClient.renumber(Arrays.asList(
+            BlockchainRpcRequest.of("eth_getTransactionCount", Arrays.asList("0xa", "pending")),
+            BlockchainRpcRequest.of("eth_getTransactionCount", Arrays.asList("0xb", "pending")),
+            BlockchainRpcRequest.of("eth_getTransactionCount", Arrays.asList("0xc", "pending"))
+        ));
+        List<BlockchainRpcResponse<String>> responses = Arrays.asList(
+            new BlockchainRpcResponse<>("2.0", 3, "0x3", null),
+            new BlockchainRpcResponse<>("2.0", 1, "0x1", null),
+            new BlockchainRpcResponse<>("2.0", 2, "0x2", null)
+        );
+
+        // when
+        List<BlockchainRpcResponse<String>> matched = JsonRpcClient.matchResponses(requests, responses);
+
+        // then
+        assertThat(matched).extracting(BlockchainRpcResponse::getResult).containsExactly("0x1", "0x2", "0x3");
+    }
+
+    @Test
+    @DisplayName("응답이 누락된 요청에는 에러 응답이 채워진다")
+    void matchResponsesFillsMissingWithError() {
+        // given
+        List<BlockchainRpcRequest> requests = JsonRpcClient.renumber(Arrays.asList(
+            BlockchainRpcRequest.of("eth_getBalance", Arrays.asList("0xa", "latest")),
+            BlockchainRpcRequest.of("eth_getBalance", Arrays.asList("0xb", "latest"))
+        ));
+        List<BlockchainRpcResponse<String>> responses = Arrays.asList(
+            new BlockchainRpcResponse<>("2.0", 1, "0x10", null)
+        );
+
+        // when
+        List<BlockchainRpcResponse<String>> matched = JsonRpcClient.matchResponses(requests, responses);
+
+        // then
+        assertThat(matched).hasSize(2);
+        assertThat(matched.get(0).hasError()).isFalse();
+        assertThat(matched.get(1).hasError()).isTrue();
+        assertThat(matched.get(1).getId()).isEqualTo(2);
+        assertThat(matched.get(1).getError().getCode()).isEqualTo(JsonRpcClient.MISSING_RESPONSE_ERROR_CODE);
+    }
+}
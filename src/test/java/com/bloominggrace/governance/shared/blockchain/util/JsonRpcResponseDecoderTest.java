@@ -0,0 +1,161 @@
+package com.bloominggrace.governance.shared.blockchain.util;
+
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.BlockchainRpcResponse;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.EthBlockHeader;
+import com.bloominggrace.governance.blockchain.infrastructure.service.dto.EthTransactionReceipt;
+import com.bloominggrace.governance.blockchain.infrastructure.service.ethereum.EthereumResultDecoders;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JsonRpcResponseDecoder 테스트")
+class JsonRpcResponseDecoderTest {
+
+    private final JsonRpcResponseDecoder decoder = new JsonRpcResponseDecoder(new ObjectMapper());
+
+    @Test
+    @DisplayName("블록 응답을 트랜잭션 목록 없이 블록 헤더로 디코딩한다")
+    void decodeBlockHeader() throws IOException {
+        // given
+        String body = "{\"jsonrpc\":\"2.0\",\"id\":7,\"result\":{"
+            + "\"number\":\"0x10\",\"hash\":\"0xabc\",\"parentHash\":\"0xdef\",\"timestamp\":\"0x5f5e100\","
+            + "\"gasLimit\":\"0x1c9c380\",\"gasUsed\":\"0x5208\",\"baseFeePerGas\":null,"
+            + "\"uncles\":[],\"transactions\":[{\"hash\":\"0x1\",\"input\":\"0x\"},{\"hash\":\"0x2\"}]}}";
+
+        // when
+        BlockchainRpcResponse<EthBlockHeader> response = decoder.decode(stream(body), EthereumResultDecoders::blockHeader);
+
+        // then
+        assertThat(response.getId()).isEqualTo(7);
+        assertThat(response.hasError()).isFalse();
+        EthBlockHeader header = response.getResult();
+        assertThat(header.number()).isEqualTo(16L);
+        assertThat(header.hash()).isEqualTo("0xabc");
+        assertThat(header.timestamp()).isEqualTo(100_000_000L);
+        assertThat(header.gasUsed()).isEqualTo(BigInteger.valueOf(21000));
+        assertThat(header.baseFeePerGas()).isNull();
+        assertThat(header.transactionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("영수증 응답에서 상태와 로그 수를 디코딩한다")
+    void decodeTransactionReceipt() throws IOException {
+        // given
+        String body = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+            + "\"transactionHash\":\"0xaaa\",\"blockNumber\":\"0x2a\",\"status\":\"0x1\",\"to\":null,"
+            + "\"gasUsed\":\"0x5208\",\"logs\":[{\"topics\":[\"0x1\"]},{\"topics\":[]},{\"topics\":[]}]}}";
+
+        // when
+        BlockchainRpcResponse<EthTransactionReceipt> response = decoder.decode(stream(body), EthereumResultDecoders::transactionReceipt);
+
+        // then
+        EthTransactionReceipt receipt = response.getResult();
+        assertThat(receipt.transactionHash()).isEqualTo("0xaaa");
+        assertThat(receipt.blockNumber()).isEqualTo(42L);
+        assertThat(receipt.success()).isTrue();
+        assertThat(receipt.to()).isNull();
+        assertThat(receipt.logCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("result가 null이면 디코더를 호출하지 않고 null을 반환한다")
+    void decodeNullResult() throws IOException {
+        // given
+        String body = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":null}";
+
+        // when
+        BlockchainRpcResponse<EthTransactionReceipt> response = decoder.decode(stream(body), EthereumResultDecoders::transactionReceipt);
+
+        // then
+        assertThat(response.hasError()).isFalse();
+        assertThat(response.getResult()).isNull();
+    }
+
+    @Test
+    @DisplayName("에러 응답은 error 필드로 디코딩된다")
+    void decodeError() throws IOException {
+        // given
+        String body = "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32000,\"message\":\"nonce too low\"}}";
+
+        // when
+        BlockchainRpcResponse<String> response = decoder.decode(stream(body), EthereumResultDecoders::decimalQuantity);
+
+        // then
+        assertThat(response.hasError()).isTrue();
+        assertThat(response.getError().getCode()).isEqualTo(-32000);
+        assertThat(response.getError().getMessage()).isEqualTo("nonce too low");
+    }
+
+    @Test
+    @DisplayName("pass-through 모드는 result JSON을 바이트 그대로 반환한다")
+    void decodeRaw() throws IOException {
+        // given
+        String body = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"number\":\"0x10\",\"transactions\":[\"0x1\",\"0x2\"]}}";
+
+        // when
+        BlockchainRpcResponse<byte[]> response = decoder.decodeRaw(stream(body));
+
+        // then
+        assertThat(new String(response.getResult(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"number\":\"0x10\",\"transactions\":[\"0x1\",\"0x2\"]}");
+    }
+
+    @Test
+    @DisplayName("배치 pass-through 모드는 각 응답의 result JSON을 바이트 그대로 반환한다")
+    void decodeBatchRaw() throws IOException {
+        // given
+        String body = "[{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":null},"
+            + "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"status\":\"0x1\",\"logs\":[]}},"
+            + "{\"jsonrpc\":\"2.0\",\"id\":3,\"error\":{\"code\":-32000,\"message\":\"unknown\"}}]";
+
+        // when
+        List<BlockchainRpcResponse<byte[]>> responses = decoder.decodeBatchRaw(stream(body));
+
+        // then
+        assertThat(responses).extracting(BlockchainRpcResponse::getId).containsExactly(2, 1, 3);
+        assertThat(responses.get(0).getResult()).isNull();
+        assertThat(new String(responses.get(1).getResult(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"status\":\"0x1\",\"logs\":[]}");
+        assertThat(responses.get(2).hasError()).isTrue();
+    }
+
+    @Test
+    @DisplayName("배치 응답의 각 result를 트리 없이 지정한 디코더로 디코딩한다")
+    void decodeBatchWithResultDecoder() throws IOException {
+        // given
+        String body = "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x10\"},"
+            + "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"0x2a\"}]";
+
+        // when
+        List<BlockchainRpcResponse<String>> responses = decoder.decodeBatch(stream(body), EthereumResultDecoders::decimalQuantity);
+
+        // then
+        assertThat(responses).extracting(BlockchainRpcResponse::getResult).containsExactly("16", "42");
+    }
+
+    @Test
+    @DisplayName("배치 요청이 단일 에러 객체로 거부되면 IOException을 던진다")
+    void decodeBatchRejected() {
+        // given
+        String body = "{\"jsonrpc\":\"2.0\",\"id\":null,\"error\":{\"code\":-32600,\"message\":\"batch not supported\"}}";
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decodeBatchRaw(stream(body)))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("batch not supported");
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,287 @@
+package com.bloominggrace.governance.shared.security.infrastructure.service;
+
+import com.bloominggrace.governance.blockchain.application.service.BlockchainClientFactory;
+import com.bloominggrace.governance.blockchain.domain.service.BlockchainClient;
+import com.bloominggrace.governance.shared.blockchain.domain.model.Transaction;
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionIntent;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.OutboxPayloads;
+import com.bloominggrace.governance.shared.blockchain.infrastructure.service.outbox.TransactionOutbox;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.bloominggrace.governance.wallet.infrastructure.config.AdminWalletPoolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdminWalletPool 테스트")
+class AdminWalletPoolTest {
+
+    private static final String PRIMARY = "0x1111111111111111111111111111111111111111";
+    private static final String SECONDARY = "0x2222222222222222222222222222222222222222";
+    private static final String TOKEN = "0x3333333333333333333333333333333333333333";
+    private static final BigDecimal WEI = BigDecimal.TEN.pow(18);
+
+    @Mock
+    private AdminWalletService adminWalletService;
+
+    @Mock
+    private BlockchainClientFactory blockchainClientFactory;
+
+    @Mock
+    private BlockchainClient blockchainClient;
+
+    @Mock
+    private TransactionOutbox transactionOutbox;
+
+    private AdminWalletPoolProperties properties;
+    private AdminWalletPool pool;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdminWalletPoolProperties();
+        properties.setWallets(Map.of(NetworkType.ETHEREUM, List.of(SECONDARY)));
+        pool = new AdminWalletPool(adminWalletService, blockchainClientFactory, transactionOutbox, properties, new SimpleMeterRegistry());
+    }
+
+    private void givenWallets(String... wallets) {
+        when(adminWalletService.getAdminWalletAddresses(NetworkType.ETHEREUM)).thenReturn(List.of(wallets));
+    }
+
+    private void givenTokenBalances(long primary, long secondary) {
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getBalance(anyString())).thenReturn(WEI.toPlainString());
+        when(blockchainClient.getTokenBalances(eq(TOKEN), any())).thenReturn(Map.of(
+            PRIMARY, WEI.multiply(BigDecimal.valueOf(primary)).toPlainString(),
+            SECONDARY, WEI.multiply(BigDecimal.valueOf(secondary)).toPlainString()
+        ));
+    }
+
+    @Test
+    @DisplayName("연속된 지급은 대기 지급이 적은 지갑으로 나누어 배정한다")
+    void selectSpreadsPayoutsAcrossWallets() {
+        // given
+        givenWallets(PRIMARY, SECONDARY);
+
+        // when
+        String first = pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "a");
+        String second = pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "b");
+
+        // then
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder(PRIMARY, SECONDARY);
+        assertThat(pool.pendingCount(NetworkType.ETHEREUM, PRIMARY)).isEqualTo(1);
+        assertThat(pool.pendingCount(NetworkType.ETHEREUM, SECONDARY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여유 잔액이 부족한 지갑은 대기 지급이 적어도 선택하지 않는다")
+    void selectSkipsWalletWithoutBalance() {
+        // given
+        givenWallets(PRIMARY, SECONDARY);
+        String busy = pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "a");
+        givenTokenBalances(100, 0);
+        pool.refreshBalances();
+
+        // when
+        String selected = pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.TEN, "EXCHANGE", "b");
+
+        // then
+        assertThat(busy).isEqualTo(PRIMARY);
+        assertThat(selected).isEqualTo(PRIMARY);
+        assertThat(pool.pendingCount(NetworkType.ETHEREUM, PRIMARY)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("브로드캐스트 후 확인되면 예약을 해제한다")
+    void confirmationReleasesReservation() {
+        // given
+        givenWallets(PRIMARY, SECONDARY);
+        String selected = pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "a");
+        TransactionIntent sent = mock(TransactionIntent.class);
+        when(sent.getReferenceType()).thenReturn("EXCHANGE");
+        when(sent.getReferenceId()).thenReturn("a");
+        when(sent.getTransactionHash()).thenReturn("0xABC");
+
+        // when
+        pool.onSent(sent);
+        long pendingAfterSend = pool.pendingCount(NetworkType.ETHEREUM, selected);
+        pool.onConfirmed(Set.of("0xabc"));
+
+        // then
+        assertThat(pendingAfterSend).isEqualTo(1);
+        assertThat(pool.pendingCount(NetworkType.ETHEREUM, selected)).isZero();
+    }
+
+    @Test
+    @DisplayName("의도 기록에 실패한 지급은 예약을 해제한다")
+    void releaseDropsReservation() {
+        // given
+        givenWallets(PRIMARY, SECONDARY);
+        String selected = pool.select(NetworkType.ETHEREUM, null, BigDecimal.ONE, "PROPOSAL_FEE", "p");
+
+        // when
+        pool.release("PROPOSAL_FEE", "p");
+
+        // then
+        assertThat(pool.pendingCount(NetworkType.ETHEREUM, selected)).isZero();
+    }
+
+    @Test
+    @DisplayName("지갑이 하나뿐이면 주 지갑을 그대로 사용하고 예약하지 않는다")
+    void singleWalletReturnsPrimary() {
+        // given
+        givenWallets(PRIMARY);
+
+        // when
+        String selected = pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "a");
+
+        // then
+        assertThat(selected).isEqualTo(PRIMARY);
+        assertThat(pool.pendingCount(NetworkType.ETHEREUM, PRIMARY)).isZero();
+    }
+
+    @Test
+    @DisplayName("잔액이 기준 비율 아래로 떨어진 지갑에 가장 여유 있는 지갑에서 재분배한다")
+    void rebalanceMovesFundsToPoorestWallet() {
+        // given
+        givenWallets(PRIMARY, SECONDARY);
+        pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "a");
+        pool.release("EXCHANGE", "a");
+        givenTokenBalances(100, 10);
+        when(adminWalletService.getAdminUserId()).thenReturn(UUID.randomUUID());
+        pool.refreshBalances();
+
+        // when
+        pool.rebalance();
+
+        // then
+        ArgumentCaptor<Transaction> transaction = ArgumentCaptor.forClass(Transaction.class);
+        ArgumentCaptor<OutboxPayloads.Payload> payload = ArgumentCaptor.forClass(OutboxPayloads.Payload.class);
+        verify(transactionOutbox).enqueue(transaction.capture(), payload.capture(), eq(AdminWalletPool.REBALANCE), anyString());
+        assertThat(transaction.getValue().getFromAddress()).isEqualTo(PRIMARY);
+        OutboxPayloads.Transfer transfer = (OutboxPayloads.Transfer) payload.getValue();
+        assertThat(transfer.toAddress()).isEqualTo(SECONDARY);
+        assertThat(transfer.tokenContract()).isEqualTo(TOKEN);
+        assertThat(transfer.amount()).isEqualByComparingTo("45");
+        assertThat(pool.pendingCount(NetworkType.ETHEREUM, PRIMARY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 재분배가 진행 중이면 다시 기록하지 않는다")
+    void rebalanceSkipsWhenInFlight() {
+        // given
+        givenWallets(PRIMARY, SECONDARY);
+        pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "a");
+        pool.release("EXCHANGE", "a");
+        givenTokenBalances(100, 0);
+        when(transactionOutbox.hasActiveIntent(eq(AdminWalletPool.REBALANCE), anyString())).thenReturn(true);
+        pool.refreshBalances();
+
+        // when
+        pool.rebalance();
+
+        // then
+        verify(transactionOutbox, never()).enqueue(any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("잔액 조회에 실패한 지갑은 0 잔액으로 기록하지 않아 재분배 대상이 되지 않는다")
+    void failedBalanceReadIsNotRecordedAsZero() {
+        // given
+        givenWallets(PRIMARY, SECONDARY);
+        pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "a");
+        pool.release("EXCHANGE", "a");
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getBalance(anyString())).thenReturn(WEI.toPlainString());
+        Map<String, String> tokenBalances = new HashMap<>();
+        tokenBalances.put(PRIMARY, WEI.multiply(BigDecimal.valueOf(100)).toPlainString());
+        tokenBalances.put(SECONDARY, null);
+        when(blockchainClient.getTokenBalances(eq(TOKEN), any())).thenReturn(tokenBalances);
+        pool.refreshBalances();
+
+        // when
+        pool.rebalance();
+
+        // then
+        verify(transactionOutbox, never()).enqueue(any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("호출자 트랜잭션이 롤백되면 예약을 해제한다")
+    void rollbackReleasesReservation() {
+        // given
+        givenWallets(PRIMARY, SECONDARY);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            String selected = pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "a");
+            long pendingBeforeRollback = pool.pendingCount(NetworkType.ETHEREUM, selected);
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            assertThat(pendingBeforeRollback).isEqualTo(1);
+            assertThat(pool.pendingCount(NetworkType.ETHEREUM, selected)).isZero();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 기록한 진행 중 의도가 많은 지갑은 피한다")
+    void selectUsesSharedPendingIntents() {
+        // given
+        givenWallets(PRIMARY, SECONDARY);
+        when(transactionOutbox.countActiveIntentsByFromAddress(NetworkType.ETHEREUM))
+            .thenReturn(Map.of(PRIMARY, 3L));
+
+        // when
+        String selected = pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "a");
+
+        // then
+        assertThat(selected).isEqualTo(SECONDARY);
+        assertThat(pool.pendingCount(NetworkType.ETHEREUM, PRIMARY)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("가스비로 쓸 네이티브 코인이 부족한 지갑은 토큰 지급에 선택하지 않는다")
+    void selectSkipsWalletWithoutGas() {
+        // given
+        givenWallets(PRIMARY, SECONDARY);
+        when(blockchainClientFactory.getClient(NetworkType.ETHEREUM)).thenReturn(blockchainClient);
+        when(blockchainClient.getBalance(PRIMARY)).thenReturn("0");
+        when(blockchainClient.getBalance(SECONDARY)).thenReturn(WEI.toPlainString());
+        pool.refreshBalances();
+
+        // when
+        String first = pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "a");
+        String second = pool.select(NetworkType.ETHEREUM, TOKEN, BigDecimal.ONE, "EXCHANGE", "b");
+
+        // then
+        assertThat(first).isEqualTo(SECONDARY);
+        assertThat(second).isEqualTo(SECONDARY);
+    }
+}
@@ -0,0 +1,162 @@
+package com.bloominggrace.governance.wallet.infrastructure.service.ethereum;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
+import com.bloominggrace.governance.shared.blockchain.domain.model.ethereum.UnsignedEvmTransaction;
+import com.bloominggrace.governance.shared.security.domain.service.EncryptionService;
+import com.bloominggrace.governance.user.infrastructure.repository.UserRepository;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.bloominggrace.governance.wallet.infrastructure.repository.WalletRepository;
+import com.bloominggrace.governance.wallet.infrastructure.service.signing.SigningKeyCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.SignedRawTransaction;
+import org.web3j.crypto.TransactionDecoder;
+import org.web3j.crypto.transaction.type.Transaction1559;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EthereumWallet 서명 테스트")
+class EthereumWalletTest {
+
+    private static final String PRIVATE_KEY = "0x4c0883a69102937d6231471b5dbb6204fe5129617082792ae468d01a3f362318";
+    private static final String CONTRACT = "0x00000000000000000000000000000000000000aa";
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private WalletRepository walletRepository;
+
+    @Mock
+    private EncryptionService encryptionService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SigningKeyCache signingKeyCache;
+
+    private EthereumWallet ethereumWallet;
+    private String fromAddress;
+
+    @BeforeEach
+    void setUp() {
+        ethereumWallet = new EthereumWallet(applicationContext, walletRepository, encryptionService, userRepository, signingKeyCache);
+        fromAddress = Credentials.create(PRIVATE_KEY).getAddress();
+    }
+
+    @Test
+    @DisplayName("EIP-1559 트랜잭션을 JSON 변환 없이 서명하고 서명자와 필드가 보존된다")
+    void signEip1559Transaction() throws Exception {
+        // given
+        UnsignedEvmTransaction transaction = UnsignedEvmTransaction.of(11155111L, BigInteger.valueOf(7), BigInteger.valueOf(100_000),
+            BigInteger.valueOf(20), BigInteger.valueOf(30), BigInteger.valueOf(2), fromAddress, CONTRACT, BigInteger.ZERO, "0xdeadbeef");
+
+        // when
+        byte[] signed = ethereumWallet.sign(body(transaction), PRIVATE_KEY);
+
+        // then
+        SignedRawTransaction decoded = (SignedRawTransaction) TransactionDecoder.decode(Numeric.toHexString(signed));
+        assertThat(decoded.getFrom()).isEqualToIgnoringCase(fromAddress);
+        assertThat(decoded.getNonce()).isEqualTo(BigInteger.valueOf(7));
+        assertThat(decoded.getTo()).isEqualToIgnoringCase(CONTRACT);
+        assertThat(Numeric.cleanHexPrefix(decoded.getData())).isEqualTo("deadbeef");
+        assertThat(decoded.getTransaction()).isInstanceOf(Transaction1559.class);
+        assertThat(((Transaction1559) decoded.getTransaction()).getMaxFeePerGas()).isEqualTo(BigInteger.valueOf(30));
+    }
+
+    @Test
+    @DisplayName("maxFeePerGas가 없으면 레거시 트랜잭션으로 서명한다")
+    void signLegacyTransaction() {
+        // given
+        UnsignedEvmTransaction transaction = UnsignedEvmTransaction.of(11155111L, BigInteger.ONE, BigInteger.valueOf(21_000),
+            BigInteger.valueOf(20), null, null, fromAddress, CONTRACT, BigInteger.TEN, null);
+
+        // when
+        byte[] signed = ethereumWallet.sign(body(transaction), PRIVATE_KEY);
+
+        // then
+        SignedRawTransaction decoded = (SignedRawTransaction) TransactionDecoder.decode(Numeric.toHexString(signed));
+        assertThat(decoded.getGasPrice()).isEqualTo(BigInteger.valueOf(20));
+        assertThat(decoded.getValue()).isEqualTo(BigInteger.TEN);
+    }
+
+    @Test
+    @DisplayName("핫 월렛은 복호화 없이 캐시된 키 쌍으로 서명한다")
+    void signWithCachedHotWalletKey() {
+        // given
+        UnsignedEvmTransaction transaction = UnsignedEvmTransaction.of(11155111L, BigInteger.valueOf(3), BigInteger.valueOf(21_000),
+            BigInteger.valueOf(20), null, null, fromAddress, CONTRACT, BigInteger.ONE, null);
+        when(signingKeyCache.isHotWallet(NetworkType.ETHEREUM, fromAddress)).thenReturn(true);
+        when(signingKeyCache.ethereumKeyPair(eq(fromAddress), any())).thenReturn(Credentials.create(PRIVATE_KEY).getEcKeyPair());
+
+        // when
+        byte[] signed = ethereumWallet.signWithWallet(body(transaction), fromAddress);
+
+        // then
+        SignedRawTransaction decoded = (SignedRawTransaction) TransactionDecoder.decode(Numeric.toHexString(signed));
+        assertThat(signed).isEqualTo(ethereumWallet.sign(body(transaction), PRIVATE_KEY));
+        assertThat(decoded.getNonce()).isEqualTo(BigInteger.valueOf(3));
+        verifyNoInteractions(applicationContext, encryptionService);
+    }
+
+    @Test
+    @DisplayName("UnsignedEvmTransaction이 없는 본문은 거부한다")
+    void rejectBodyWithoutEvmTransaction() {
+        // given
+        TransactionBody<Object> body = TransactionBody.builder()
+            .type(TransactionBody.TransactionType.TOKEN_TRANSFER)
+            .fromAddress(fromAddress)
+            .toAddress(CONTRACT)
+            .data("{\"nonce\":\"1\"}")
+            .networkType(NetworkType.ETHEREUM.name())
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> ethereumWallet.sign(body, PRIVATE_KEY))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("호출 데이터 바이트는 방어적으로 복사된다")
+    void dataIsDefensivelyCopied() {
+        // given
+        byte[] data = {1, 2, 3};
+        UnsignedEvmTransaction transaction = new UnsignedEvmTransaction(1L, BigInteger.ZERO, BigInteger.ONE,
+            BigInteger.ONE, null, null, fromAddress, CONTRACT, null, data);
+
+        // when
+        data[0] = 9;
+        transaction.data()[1] = 9;
+
+        // then
+        assertThat(transaction.dataHex()).isEqualTo("0x010203");
+        assertThat(transaction.value()).isEqualTo(BigInteger.ZERO);
+    }
+
+    private TransactionBody<UnsignedEvmTransaction> body(UnsignedEvmTransaction transaction) {
+        return TransactionBody.<UnsignedEvmTransaction>builder()
+            .type(TransactionBody.TransactionType.TOKEN_TRANSFER)
+            .fromAddress(fromAddress)
+            .toAddress(transaction.to())
+            .networkType(NetworkType.ETHEREUM.name())
+            .networkSpecificData(transaction)
+            .nonce(transaction.nonce().longValueExact())
+            .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.bloominggrace.governance.wallet.infrastructure.service.signing;
+
+import com.bloominggrace.governance.wallet.infrastructure.config.SigningExecutorProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SigningExecutor 테스트")
+class SigningExecutorTest {
+
+    private SigningExecutor signingExecutor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        signingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 서명 작업의 결과를 제출 순서대로 반환한다")
+    void signAllPreservesOrder() {
+        // given
+        signingExecutor = executor(4, 16);
+        List<Supplier<Integer>> tasks = IntStream.range(0, 50)
+            .<Supplier<Integer>>mapToObj(i -> () -> {
+                sleep(50 - i);
+                return i;
+            })
+            .toList();
+
+        // when
+        List<Integer> results = signingExecutor.signAll(tasks);
+
+        // then
+        assertThat(results).containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+        assertThat(meterRegistry.get("wallet.signing.duration").timer().count()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("서명 실패는 원래 예외로 전달된다")
+    void signAllPropagatesFailure() {
+        // given
+        signingExecutor = executor(2, 4);
+        List<Supplier<String>> tasks = List.of(
+            () -> "ok",
+            () -> {
+                throw new IllegalArgumentException("bad body");
+            }
+        );
+
+        // when & then
+        assertThatThrownBy(() -> signingExecutor.signAll(tasks))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("bad body");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드가 직접 서명한다")
+    void callerRunsWhenQueueIsFull() throws Exception {
+        // given
+        signingExecutor = executor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocking = signingExecutor.submit(() -> {
+            started.countDown();
+            await(release);
+            return Thread.currentThread().getName();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = signingExecutor.submit(() -> Thread.currentThread().getName());
+
+        // when
+        String overflowThread = signingExecutor.sign(() -> Thread.currentThread().getName());
+        release.countDown();
+
+        // then
+        assertThat(overflowThread).isEqualTo(Thread.currentThread().getName());
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).startsWith("wallet-signer-");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).startsWith("wallet-signer-");
+        assertThat(meterRegistry.get("wallet.signing.caller.runs").counter().count()).isEqualTo(1.0);
+    }
+
+    private SigningExecutor executor(int threads, int queueCapacity) {
+        SigningExecutorProperties properties = new SigningExecutorProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        meterRegistry = new SimpleMeterRegistry();
+        return new SigningExecutor(properties, meterRegistry);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.bloominggrace.governance.wallet.infrastructure.service.signing;
+
+import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletService;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.bloominggrace.governance.wallet.infrastructure.config.SigningKeyCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.ECKeyPair;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SigningKeyCache 테스트")
+class SigningKeyCacheTest {
+
+    private static final String PRIVATE_KEY = "0x4c0883a69102937d6231471b5dbb6204fe5129617082792ae468d01a3f362318";
+    private static final String HOT_WALLET = "0x2c7536E3605D9C16a7a3D7b1898e529396a65c23";
+    private static final String ADMIN_WALLET = "0x00000000000000000000000000000000000000ad";
+
+    @Mock
+    private ObjectProvider<AdminWalletService> adminWalletServiceProvider;
+
+    @Mock
+    private AdminWalletService adminWalletService;
+
+    private SigningKeyCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SigningKeyCacheProperties();
+        properties.setHotWallets(List.of(HOT_WALLET));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("허용 목록과 Admin 지갑만 핫 월렛으로 취급한다")
+    void onlyAllowListedWalletsAreHot() {
+        // given
+        when(adminWalletServiceProvider.getObject()).thenReturn(adminWalletService);
+        when(adminWalletService.isAdminWallet(eq(NetworkType.ETHEREUM), anyString()))
+            .thenAnswer(invocation -> ADMIN_WALLET.equalsIgnoreCase(invocation.getArgument(1)));
+        SigningKeyCache cache = new SigningKeyCache(properties, adminWalletServiceProvider, meterRegistry);
+
+        // when & then
+        assertThat(cache.isHotWallet(NetworkType.ETHEREUM, HOT_WALLET.toLowerCase())).isTrue();
+        assertThat(cache.isHotWallet(NetworkType.ETHEREUM, ADMIN_WALLET.toUpperCase().replace("0X", "0x"))).isTrue();
+        assertThat(cache.isHotWallet(NetworkType.ETHEREUM, "0x00000000000000000000000000000000000000ff")).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시가 비활성화되면 허용 목록 지갑도 핫 월렛이 아니다")
+    void disabledCacheBypassesAllWallets() {
+        // given
+        properties.setEnabled(false);
+        SigningKeyCache cache = new SigningKeyCache(properties, adminWalletServiceProvider, meterRegistry);
+
+        // when & then
+        assertThat(cache.isHotWallet(NetworkType.ETHEREUM, HOT_WALLET)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 지갑의 키 쌍은 한 번만 복호화하고 적중 시 절약 시간을 기록한다")
+    void decryptsOncePerWallet() {
+        // given
+        SigningKeyCache cache = new SigningKeyCache(properties, adminWalletServiceProvider, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            return PRIVATE_KEY;
+        };
+
+        // when
+        ECKeyPair first = cache.ethereumKeyPair(HOT_WALLET, loader);
+        ECKeyPair second = cache.ethereumKeyPair(HOT_WALLET.toLowerCase(), loader);
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(first).isEqualTo(Credentials.create(PRIVATE_KEY).getEcKeyPair());
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.snapshot().hits()).isEqualTo(1);
+        assertThat(cache.snapshot().misses()).isEqualTo(1);
+        assertThat(meterRegistry.get("signing.key.cache.load").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("signing.key.cache.time.saved").functionCounter().count()).isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("무효화된 키는 다시 복호화한다")
+    void invalidateForcesReload() {
+        // given
+        SigningKeyCache cache = new SigningKeyCache(properties, adminWalletServiceProvider, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            return PRIVATE_KEY;
+        };
+        cache.ethereumKeyPair(HOT_WALLET, loader);
+
+        // when
+        cache.invalidate(NetworkType.ETHEREUM, HOT_WALLET);
+        cache.ethereumKeyPair(HOT_WALLET, loader);
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("제거된 키는 바이트가 0으로 지워지고 더 이상 키를 만들지 않는다")
+    void wipedKeyIsZeroized() {
+        // given
+        byte[] secret = {1, 2, 3, 4};
+        SigningKeyCache.CachedKey cachedKey = new SigningKeyCache.CachedKey(secret, null);
+
+        // when
+        cachedKey.wipe();
+
+        // then
+        assertThat(secret).containsOnly(0);
+        assertThat(cachedKey.isWiped()).isTrue();
+        assertThat(cachedKey.toEcKeyPair()).isNull();
+        assertThat(cachedKey.toEd25519PrivateKey()).isNull();
+    }
+}
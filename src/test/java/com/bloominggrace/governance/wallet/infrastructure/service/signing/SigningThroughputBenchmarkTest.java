@@ -0,0 +1,132 @@
+package com.bloominggrace.governance.wallet.infrastructure.service.signing;
+
+import com.bloominggrace.governance.shared.blockchain.domain.model.TransactionBody;
+import com.bloominggrace.governance.shared.blockchain.domain.model.ethereum.UnsignedEvmTransaction;
+import com.bloominggrace.governance.shared.security.domain.service.EncryptionService;
+import com.bloominggrace.governance.shared.security.infrastructure.service.AdminWalletService;
+import com.bloominggrace.governance.user.infrastructure.repository.UserRepository;
+import com.bloominggrace.governance.wallet.domain.model.NetworkType;
+import com.bloominggrace.governance.wallet.domain.service.WalletService;
+import com.bloominggrace.governance.wallet.infrastructure.config.SigningExecutorProperties;
+import com.bloominggrace.governance.wallet.infrastructure.config.SigningKeyCacheProperties;
+import com.bloominggrace.governance.wallet.infrastructure.repository.WalletRepository;
+import com.bloominggrace.governance.wallet.infrastructure.service.ethereum.EthereumWallet;
+import com.bloominggrace.governance.wallet.infrastructure.service.solana.SolanaWalletService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.web3j.crypto.Credentials;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 서명 처리량 벤치마크 (./gradlew benchmark 로 실행, 기본 test 태스크에서는 제외)
+ * 핫 월렛 경로(캐시된 키)로 곡선별 단일 스레드 처리량과 서명 실행기 병렬 처리량을 코어당 수치로 출력합니다.
+ */
+@Tag("benchmark")
+@DisplayName("서명 처리량 벤치마크")
+class SigningThroughputBenchmarkTest {
+
+    private static final String ETHEREUM_PRIVATE_KEY = "0x4c0883a69102937d6231471b5dbb6204fe5129617082792ae468d01a3f362318";
+    private static final String SOLANA_PRIVATE_KEY = "9d61b19deffd5a60ba844af492ec2cc44449c5697b326919703bac031cae7f60";
+    private static final String SOLANA_ADDRESS = "11111111111111111111111111111112";
+    private static final String CONTRACT = "0x00000000000000000000000000000000000000aa";
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 5_000;
+
+    @Test
+    @DisplayName("secp256k1(Ethereum) 코어당 초당 서명 수")
+    void secp256k1Throughput() {
+        String address = Credentials.create(ETHEREUM_PRIVATE_KEY).getAddress();
+        SigningKeyCache keyCache = keyCache(address);
+        EthereumWallet wallet = new EthereumWallet(mock(ApplicationContext.class), mock(WalletRepository.class),
+            mock(EncryptionService.class), mock(UserRepository.class), keyCache);
+        keyCache.ethereumKeyPair(address, () -> ETHEREUM_PRIVATE_KEY);
+
+        run("secp256k1", wallet, address, nonce -> TransactionBody.<UnsignedEvmTransaction>builder()
+            .type(TransactionBody.TransactionType.TOKEN_TRANSFER)
+            .fromAddress(address)
+            .toAddress(CONTRACT)
+            .networkType(NetworkType.ETHEREUM.name())
+            .networkSpecificData(UnsignedEvmTransaction.of(11155111L, BigInteger.valueOf(nonce), BigInteger.valueOf(100_000),
+                null, BigInteger.valueOf(30), BigInteger.valueOf(2), address, CONTRACT, BigInteger.ZERO, "0xa9059cbb"))
+            .nonce(nonce)
+            .build());
+    }
+
+    @Test
+    @DisplayName("Ed25519(Solana) 코어당 초당 서명 수")
+    void ed25519Throughput() {
+        SigningKeyCache keyCache = keyCache(SOLANA_ADDRESS);
+        SolanaWalletService wallet = new SolanaWalletService(mock(ApplicationContext.class), mock(WalletRepository.class),
+            mock(EncryptionService.class), mock(UserRepository.class), keyCache);
+        keyCache.ed25519PrivateKey(SOLANA_ADDRESS, () -> SOLANA_PRIVATE_KEY);
+
+        run("ed25519", wallet, SOLANA_ADDRESS, nonce -> TransactionBody.builder()
+            .type(TransactionBody.TransactionType.TOKEN_TRANSFER)
+            .fromAddress(SOLANA_ADDRESS)
+            .toAddress(SOLANA_ADDRESS)
+            .networkType(NetworkType.SOLANA.name())
+            .nonce(nonce)
+            .build());
+    }
+
+    private void run(String curve, WalletService wallet, String address, LongFunction<TransactionBody<?>> bodyFactory) {
+        List<TransactionBody<?>> bodies = new ArrayList<>(ITERATIONS);
+        for (int i = 0; i < ITERATIONS; i++) {
+            bodies.add(bodyFactory.apply(i));
+        }
+        for (int i = 0; i < WARMUP; i++) {
+            wallet.signWithWallet(bodies.get(i), address);
+        }
+
+        // 단일 스레드 (서명 실행기 없이 인라인)
+        long start = System.nanoTime();
+        for (TransactionBody<?> body : bodies) {
+            wallet.signWithWallet(body, address);
+        }
+        double singleThreadPerSecond = ITERATIONS / seconds(start);
+
+        // 서명 실행기 (코어 수만큼의 스레드)
+        SigningExecutor signingExecutor = new SigningExecutor(new SigningExecutorProperties(), new SimpleMeterRegistry());
+        try {
+            List<Supplier<byte[]>> tasks = bodies.stream()
+                .<Supplier<byte[]>>map(body -> () -> wallet.signWithWallet(body, address))
+                .toList();
+            signingExecutor.signAll(tasks.subList(0, WARMUP));
+            start = System.nanoTime();
+            List<byte[]> signed = signingExecutor.signAll(tasks);
+            double parallelPerSecond = ITERATIONS / seconds(start);
+            int threads = signingExecutor.getThreads();
+
+            System.out.printf("[benchmark] %-9s inline: %,10.0f sig/s | executor(%d threads): %,10.0f sig/s = %,10.0f sig/s/core%n",
+                curve, singleThreadPerSecond, threads, parallelPerSecond, parallelPerSecond / threads);
+            assertThat(signed).hasSize(ITERATIONS);
+        } finally {
+            signingExecutor.shutdown();
+        }
+    }
+
+    private static SigningKeyCache keyCache(String hotWallet) {
+        SigningKeyCacheProperties properties = new SigningKeyCacheProperties();
+        properties.setHotWallets(List.of(hotWallet));
+        properties.setIncludeAdminWallets(false);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<AdminWalletService> adminWalletService = mock(ObjectProvider.class);
+        return new SigningKeyCache(properties, adminWalletService, new SimpleMeterRegistry());
+    }
+
+    private static double seconds(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+}